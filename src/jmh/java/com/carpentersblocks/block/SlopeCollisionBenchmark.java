@@ -0,0 +1,87 @@
+package com.carpentersblocks.block;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.util.MovingObjectPosition;
+import net.minecraft.util.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.carpentersblocks.test.FakeWorld;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+/**
+ * Measures {@link BlockCarpentersSlope#collisionRayTrace} for every slope
+ * type, casting a ray that hits and a ray that misses at each one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SlopeCollisionBenchmark {
+
+    private FakeWorld world;
+    private List<TEBase> pieces;
+    private BlockCarpentersSlope block;
+    private Vec3[] start;
+    private Vec3[] end;
+
+    @Setup
+    public void setup()
+    {
+        TestBootstrap.init();
+
+        Fixture fixture = Fixture.create();
+        for (int slopeID = 0; slopeID < 65; ++slopeID) {
+            fixture.place(BlockRegistry.blockCarpentersSlope, slopeID * 2, 64, 0).setData(slopeID);
+        }
+
+        world = fixture.getWorld();
+        pieces = fixture.getPieces();
+        block = (BlockCarpentersSlope) BlockRegistry.blockCarpentersSlope;
+
+        /* One ray looking down into the block and one passing over its corner. */
+
+        start = new Vec3[pieces.size() * 2];
+        end = new Vec3[pieces.size() * 2];
+        for (int idx = 0; idx < pieces.size(); ++idx) {
+            TEBase TE = pieces.get(idx);
+            start[idx * 2] = Vec3.createVectorHelper(TE.xCoord + 0.3D, TE.yCoord + 2.0D, TE.zCoord - 1.0D);
+            end[idx * 2] = Vec3.createVectorHelper(TE.xCoord + 0.7D, TE.yCoord - 1.0D, TE.zCoord + 2.0D);
+            start[idx * 2 + 1] = Vec3.createVectorHelper(TE.xCoord - 1.0D, TE.yCoord + 1.5D, TE.zCoord - 1.0D);
+            end[idx * 2 + 1] = Vec3.createVectorHelper(TE.xCoord + 2.0D, TE.yCoord + 1.2D, TE.zCoord + 2.0D);
+        }
+    }
+
+    /**
+     * Returns number of rays that hit.
+     */
+    @Benchmark
+    public int collisionRayTrace()
+    {
+        int hits = 0;
+
+        for (int idx = 0; idx < start.length; ++idx) {
+            TEBase TE = pieces.get(idx / 2);
+            MovingObjectPosition hit = block.collisionRayTrace(world, TE.xCoord, TE.yCoord, TE.zCoord, start[idx], end[idx]);
+            if (hit != null) {
+                ++hits;
+            }
+        }
+
+        return hits;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.carpentersblocks.data;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.minecraftforge.common.util.ForgeDirection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+/**
+ * Measures {@link AbstractMultiBlock#getBlocks} for each piece of a
+ * 500-piece garage door.
+ * <p>
+ * Server worlds return the cached structure; client worlds locate
+ * every piece on each call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MultiBlockBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean isRemote;
+
+    private List<TEBase> pieces;
+
+    @Setup
+    public void setup()
+    {
+        TestBootstrap.init();
+        pieces = Fixture.create(isRemote).garageDoor(0, 100, 0, 25, 20, ForgeDirection.NORTH).getPieces();
+    }
+
+    /**
+     * Looks up door from its first piece, as when the door is toggled.
+     */
+    @Benchmark
+    public int getBlocks()
+    {
+        return GarageDoor.INSTANCE.getBlocks(pieces.get(0), BlockRegistry.blockCarpentersGarageDoor).size();
+    }
+
+    /**
+     * Looks up door from every piece, as when each piece is updated
+     * by a redstone change along the door.
+     */
+    @Benchmark
+    public int getBlocksFromEveryPiece()
+    {
+        int size = 0;
+
+        for (TEBase TE : pieces) {
+            size += GarageDoor.INSTANCE.getBlocks(TE, BlockRegistry.blockCarpentersGarageDoor).size();
+        }
+
+        return size;
+    }
+
+}
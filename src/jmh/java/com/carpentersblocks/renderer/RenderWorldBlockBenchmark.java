@@ -0,0 +1,135 @@
+package com.carpentersblocks.renderer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.block.Block;
+import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.client.ForgeHooksClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.carpentersblocks.renderer.helper.QuadCache;
+import com.carpentersblocks.renderer.helper.RenderContext;
+import com.carpentersblocks.test.FakeWorld;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.test.TestTessellator;
+import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+/**
+ * Measures {@link BlockHandlerBase#renderWorldBlock} over a 16x16x2 field
+ * of covered blocks, drawn to a tessellator that is never flushed.
+ * <p>
+ * Reports time per field; divide by 512 for time per block.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RenderWorldBlockBenchmark {
+
+    @Param({ "block", "slope", "stairs" })
+    public String shape;
+
+    private FakeWorld world;
+    private List<TEBase> pieces;
+    private BlockHandlerBase handler;
+    private RenderBlocks renderBlocks;
+    private Tessellator tessellator;
+
+    @Setup
+    public void setup()
+    {
+        TestBootstrap.init();
+        ForgeHooksClient.setRenderPass(0);
+
+        Fixture fixture = Fixture.create(true).cover(new ItemStack(Blocks.planks, 1, 1));
+        Block block;
+
+        if ("slope".equals(shape)) {
+            block = BlockRegistry.blockCarpentersSlope;
+            handler = new BlockHandlerCarpentersSlope();
+        } else if ("stairs".equals(shape)) {
+            block = BlockRegistry.blockCarpentersStairs;
+            handler = new BlockHandlerCarpentersStairs();
+        } else {
+            block = BlockRegistry.blockCarpentersBlock;
+            handler = new BlockHandlerCarpentersBlock();
+        }
+
+        /* Vary shapes so that neighbors cull some faces and not others. */
+
+        fixture.fill(block, 0, 64, 0, 15, 65, 15);
+        for (TEBase TE : fixture.getPieces()) {
+            int idx = TE.xCoord * 16 + TE.zCoord + TE.yCoord;
+            if (block == BlockRegistry.blockCarpentersSlope) {
+                TE.setData(idx % 65);
+            } else if (block == BlockRegistry.blockCarpentersStairs) {
+                TE.setData(idx % 28);
+            }
+        }
+
+        world = fixture.getWorld();
+        pieces = fixture.getPieces();
+        renderBlocks = new RenderBlocks(world);
+        tessellator = TestTessellator.create();
+        RenderContext.get().tessellator = tessellator;
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        RenderContext.get().tessellator = null;
+    }
+
+    /**
+     * Draws field with faces replayed from {@link QuadCache}, as when
+     * a section is rebuilt with no changes to the blocks in it.
+     */
+    @Benchmark
+    public int cached()
+    {
+        return render();
+    }
+
+    /**
+     * Draws field with an empty {@link QuadCache}, as when blocks are
+     * first drawn or after textures are reloaded.
+     */
+    @Benchmark
+    public int uncached()
+    {
+        QuadCache.clear();
+        return render();
+    }
+
+    /**
+     * Returns number of vertices drawn.
+     */
+    private int render()
+    {
+        TestTessellator.rewind(tessellator);
+
+        for (TEBase TE : pieces) {
+            handler.renderWorldBlock(world, TE.xCoord, TE.yCoord, TE.zCoord, TE.getBlockType(), 0, renderBlocks);
+        }
+
+        return TestTessellator.getVertexCount(tessellator);
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.carpentersblocks.renderer.entity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.util.MathHelper;
+import net.minecraftforge.common.util.ForgeDirection;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.carpentersblocks.entity.item.EntityCarpentersTile;
+import com.carpentersblocks.renderer.helper.RenderContext;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.test.TestTessellator;
+
+/**
+ * Measures building tile vertices for a wall of 1,000 or 10,000 tiles,
+ * baked per chunk section by {@link TileBatcher} and, for comparison,
+ * one tile at a time as each tile used to be drawn.
+ * <p>
+ * Display lists need a GL context, so only vertex building is timed.
+ * The number of draw calls each approach issues per world render pass
+ * is reported alongside as the <code>drawCalls</code> counter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TileBatcherBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int tileCount;
+
+    private List<EntityCarpentersTile> tiles;
+    private Tessellator tessellator;
+
+    /**
+     * Draw calls per world render pass for the last invocation.
+     * <p>
+     * Set rather than accumulated, so each iteration reports calls per pass.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class DrawCalls {
+
+        public long drawCalls;
+
+        @Setup(Level.Iteration)
+        public void reset()
+        {
+            drawCalls = 0;
+        }
+
+    }
+
+    @Setup
+    public void setup()
+    {
+        TestBootstrap.init();
+
+        int width = tileCount == 1000 ? 40 : 100;
+        tiles = Fixture.create(true).tileWall(0, 64, 0, width, tileCount / width, ForgeDirection.SOUTH, "").getTiles();
+        tessellator = TestTessellator.create();
+        RenderContext.get().tessellator = tessellator;
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        RenderContext.get().tessellator = null;
+    }
+
+    /**
+     * Bakes every section, as after textures are reloaded.
+     */
+    @Benchmark
+    public int bakeSections(DrawCalls counter)
+    {
+        TestTessellator.rewind(tessellator);
+        counter.drawCalls = TileBatcher.bake(tiles, tessellator);
+        return TestTessellator.getVertexCount(tessellator);
+    }
+
+    /**
+     * Builds each tile on its own, drawn with one call per tile.
+     */
+    @Benchmark
+    public int buildEachTile(DrawCalls counter)
+    {
+        for (EntityCarpentersTile tile : tiles) {
+            TestTessellator.rewind(tessellator);
+            tessellator.setBrightness(tile.getBrightnessForRender(0.0F));
+            RenderCarpentersTile.renderTile(tessellator, tile, MathHelper.floor_double(tile.posX), MathHelper.floor_double(tile.posY), MathHelper.floor_double(tile.posZ));
+        }
+
+        counter.drawCalls = tiles.size();
+        return TestTessellator.getVertexCount(tessellator);
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.carpentersblocks.renderer.helper;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.carpentersblocks.test.FakeWorld;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.test.TestTessellator;
+import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.registry.BlockRegistry;
+import com.carpentersblocks.util.registry.IconRegistry;
+
+/**
+ * Measures {@link LightingHelper} setting up lighting and color for all
+ * six faces of each block in a 16x16 field under uneven light.
+ * <p>
+ * The fake world is not a {@link net.minecraft.world.ChunkCache}, so
+ * {@link LightingCache} passes every lookup through to the world.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LightingHelperBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean ambientOcclusion;
+
+    private List<TEBase> pieces;
+    private ItemStack cover;
+    private LightingHelper lightingHelper;
+
+    @Setup
+    public void setup()
+    {
+        TestBootstrap.init();
+
+        cover = new ItemStack(Blocks.planks);
+        Fixture fixture = Fixture.create(true).cover(cover).fill(BlockRegistry.blockCarpentersBlock, 0, 64, 0, 15, 64, 15);
+        FakeWorld world = fixture.getWorld();
+        pieces = fixture.getPieces();
+
+        Random random = new Random(42L);
+        for (int x = -1; x <= 16; ++x) {
+            for (int y = 63; y <= 65; ++y) {
+                for (int z = -1; z <= 16; ++z) {
+                    world.setLight(x, y, z, random.nextInt(16), random.nextInt(16));
+                }
+            }
+        }
+
+        RenderBlocks renderBlocks = new RenderBlocks(world);
+        renderBlocks.enableAO = ambientOcclusion;
+        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
+        lightingHelper = new LightingHelper(renderBlocks);
+
+        RenderContext.get().tessellator = TestTessellator.create();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        RenderContext.get().tessellator = null;
+    }
+
+    /**
+     * Sets up brightness and ambient occlusion for each face.
+     */
+    @Benchmark
+    public int setupLighting()
+    {
+        int brightness = 0;
+
+        for (TEBase TE : pieces) {
+            int x = TE.xCoord;
+            int y = TE.yCoord;
+            int z = TE.zCoord;
+            brightness += lightingHelper.setupLightingYNeg(cover, x, y, z).brightness;
+            brightness += lightingHelper.setupLightingYPos(cover, x, y, z).brightness;
+            brightness += lightingHelper.setupLightingZNeg(cover, x, y, z).brightness;
+            brightness += lightingHelper.setupLightingZPos(cover, x, y, z).brightness;
+            brightness += lightingHelper.setupLightingXNeg(cover, x, y, z).brightness;
+            brightness += lightingHelper.setupLightingXPos(cover, x, y, z).brightness;
+        }
+
+        return brightness;
+    }
+
+    /**
+     * Sets up lighting for each face, then applies it with a tint.
+     */
+    @Benchmark
+    public int setupLightingAndColor()
+    {
+        int brightness = 0;
+
+        for (TEBase TE : pieces) {
+            int x = TE.xCoord;
+            int y = TE.yCoord;
+            int z = TE.zCoord;
+            lightingHelper.setupLightingYNeg(cover, x, y, z).setupColor(x, y, z, 0, 0x7fb238, IconRegistry.icon_uncovered_solid);
+            lightingHelper.setupLightingYPos(cover, x, y, z).setupColor(x, y, z, 1, 0x7fb238, IconRegistry.icon_uncovered_solid);
+            lightingHelper.setupLightingZNeg(cover, x, y, z).setupColor(x, y, z, 2, 0x7fb238, IconRegistry.icon_uncovered_solid);
+            lightingHelper.setupLightingZPos(cover, x, y, z).setupColor(x, y, z, 3, 0x7fb238, IconRegistry.icon_uncovered_solid);
+            lightingHelper.setupLightingXNeg(cover, x, y, z).setupColor(x, y, z, 4, 0x7fb238, IconRegistry.icon_uncovered_solid);
+            lightingHelper.setupLightingXPos(cover, x, y, z).setupColor(x, y, z, 5, 0x7fb238, IconRegistry.icon_uncovered_solid);
+            brightness += lightingHelper.brightness;
+        }
+
+        return brightness;
+    }
+
+}
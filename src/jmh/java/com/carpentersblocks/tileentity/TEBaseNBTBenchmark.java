@@ -0,0 +1,104 @@
+package com.carpentersblocks.tileentity;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.util.Attribute;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+/**
+ * Measures {@link TEBase#writeToNBT} and {@link TEBase#readFromNBT} for a
+ * block with covers, dyes, an overlay and designs, as saved with chunks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TEBaseNBTBenchmark {
+
+    private TEBase source;
+    private TEBase target;
+    private NBTTagCompound compact;
+    private NBTTagCompound legacy;
+
+    @Setup
+    public void setup()
+    {
+        TestBootstrap.init();
+
+        Fixture fixture = Fixture.create();
+        source = fixture.place(BlockRegistry.blockCarpentersBlock, 0, 64, 0);
+        target = fixture.place(BlockRegistry.blockCarpentersBlock, 1, 64, 0);
+
+        source.addAttribute(TEBase.ATTR_COVER[6], new ItemStack(Blocks.planks, 1, 2));
+        source.addAttribute(TEBase.ATTR_COVER[1], new ItemStack(Blocks.wool, 1, 14));
+        source.addAttribute(TEBase.ATTR_COVER[2], new ItemStack(Blocks.planks));
+        source.addAttribute(TEBase.ATTR_DYE[6], new ItemStack(Blocks.wool, 1, 3));
+        source.addAttribute(TEBase.ATTR_OVERLAY[1], new ItemStack(Blocks.glass));
+        source.cbChiselDesign[6] = "brick";
+        source.cbDesign = "flower";
+        source.cbOwner = "00000000-0000-0000-0000-000000000000";
+        source.cbMetadata = 0x0123;
+
+        compact = new NBTTagCompound();
+        source.writeToNBT(compact);
+        compact.setInteger("x", target.xCoord);
+
+        /* Same state in the attribute list layout used before compact NBT. */
+
+        legacy = (NBTTagCompound) compact.copy();
+        for (String key : new String[] { TEBase.TAG_VERSION, TEBase.TAG_ATTR_MASK, TEBase.TAG_ATTR_ITEMS, TEBase.TAG_ATTR_NAMES, TEBase.TAG_ATTR_NAME_IDX }) {
+            legacy.removeTag(key);
+        }
+
+        NBTTagList list = new NBTTagList();
+        for (int attrId = 0; attrId < TEBase.ATTR_COUNT; ++attrId) {
+            Attribute attribute = source.cbAttrs[attrId];
+            if (attribute != null) {
+                NBTTagCompound nbt = attribute.writeToNBT(new NBTTagCompound());
+                nbt.setByte(TEBase.TAG_ATTR, (byte) attrId);
+                list.appendTag(nbt);
+            }
+        }
+        legacy.setTag(TEBase.TAG_ATTR_LIST, list);
+    }
+
+    @Benchmark
+    public NBTTagCompound writeToNBT()
+    {
+        NBTTagCompound nbt = new NBTTagCompound();
+        source.writeToNBT(nbt);
+        return nbt;
+    }
+
+    @Benchmark
+    public int readFromNBT()
+    {
+        target.readFromNBT(compact);
+        return target.getAttributeMask();
+    }
+
+    @Benchmark
+    public int readFromLegacyNBT()
+    {
+        target.readFromNBT(legacy);
+        return target.getAttributeMask();
+    }
+
+}
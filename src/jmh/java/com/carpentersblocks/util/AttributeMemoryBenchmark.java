@@ -0,0 +1,114 @@
+package com.carpentersblocks.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+/**
+ * Reports heap held by a chunk section filled with 4,096 covered blocks,
+ * as the <code>bytesPerChunk</code> counter.
+ * <p>
+ * Blocks are covered with a few materials, each with a new stack as when
+ * covered by a player.  With <code>shared</code> covers, blocks share their
+ * {@link Attribute}.  With <code>distinct</code> covers, interning is
+ * bypassed, so that every tile entity holds a private attribute and stack,
+ * as each did before attributes were interned.  The difference between the
+ * two is what sharing saves.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AttributeMemoryBenchmark {
+
+    @Param({ "shared", "distinct" })
+    public String covers;
+
+    private ItemStack[] materials;
+    private MemoryMXBean memoryBean;
+
+    /**
+     * Heap held by section built in the last invocation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+
+        public long bytesPerChunk;
+
+    }
+
+    @Setup
+    public void setup()
+    {
+        TestBootstrap.init();
+
+        materials = new ItemStack[] {
+            new ItemStack(Blocks.planks, 1, 0),
+            new ItemStack(Blocks.planks, 1, 2),
+            new ItemStack(Blocks.wool, 1, 14),
+            new ItemStack(Blocks.stone)
+        };
+        memoryBean = ManagementFactory.getMemoryMXBean();
+        Attribute.interning = !"distinct".equals(covers);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        Attribute.interning = true;
+    }
+
+    @Benchmark
+    public Fixture loadChunk(Heap heap)
+    {
+        long before = usedHeap();
+        Fixture fixture = Fixture.create();
+
+        for (int idx = 0; idx < 4096; ++idx) {
+            fixture.cover(getCover(idx)).place(BlockRegistry.blockCarpentersBlock, idx & 15, 64 + (idx >> 8), idx >> 4 & 15);
+        }
+
+        heap.bytesPerChunk = usedHeap() - before;
+
+        return fixture;
+    }
+
+    /**
+     * Returns a new stack for block, as when covered by a player.
+     */
+    private ItemStack getCover(int idx)
+    {
+        return materials[idx % materials.length].copy();
+    }
+
+    private long usedHeap()
+    {
+        for (int pass = 0; pass < 3; ++pass) {
+            System.gc();
+        }
+
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+}
@@ -2,19 +2,31 @@ package com.carpentersblocks;
 
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
 import javax.imageio.ImageIO;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.resources.IResourceManager;
 import net.minecraft.client.resources.ResourcePackFileNotFoundException;
 import net.minecraft.client.resources.SimpleReloadableResourceManager;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.Level;
 import com.carpentersblocks.util.ModLogger;
 import com.carpentersblocks.util.handler.DesignHandler;
@@ -34,9 +46,13 @@ public class CarpentersBlocksCachedResources extends DummyModContainer {
     private String MODID = "CarpentersBlocksCachedResources";
     private String resourceDir = FilenameUtils.normalizeNoEndSeparator(Minecraft.getMinecraft().mcDataDir.getAbsolutePath()) + File.separator + "mods" + File.separator + CarpentersBlocks.MODID.toLowerCase();
     private static ZipFile resourcePackZipFile;
-    private static ArrayList<Object[]> resources = new ArrayList<Object[]>();
-    private final int RESOURCE_PATH  = 0;
-    private final int RESOURCE_IMAGE = 1;
+
+    /** Zip entry holding source texture hashes, see {@link #buildCache}. */
+    private final static String MANIFEST = "cache.manifest";
+
+    /** Manifest key holding version, increment when slicing changes. */
+    private final static String KEY_VERSION = "version";
+    private final static String MANIFEST_VERSION = "1";
 
     private CarpentersBlocksCachedResources()
     {
@@ -110,26 +126,25 @@ public class CarpentersBlocksCachedResources extends DummyModContainer {
     }
 
     /**
-     * Adds a resource to list to be added to resource pack.
+     * Returns zip entry name of a sliced bed design icon.
      */
-    public void addResource(String path, BufferedImage bufferedImage)
+    private String getBedEntryName(String iconName, int idx)
     {
-        resources.add(new Object[] { path, bufferedImage });
+        return "assets/" + MODID.toLowerCase() + "/textures/blocks/designs/bed/cache/" + iconName + "_" + idx + ".png";
     }
 
     /**
-     * Creates final resource pack zip file.
+     * Returns whether zip file holds every slice of a bed design.
      */
-    private void createResourceZipFile()
+    private boolean hasBedEntries(ZipFile zipFile, String iconName, int count)
     {
-        try {
-            if (createDirectory()) {
-                createZip(resourceDir, MODID + ".zip");
-                resourcePackZipFile = new ZipFile(getSource());
+        for (int idx = 0; idx < count; ++idx) {
+            if (zipFile.getEntry(getBedEntryName(iconName, idx)) == null) {
+                return false;
             }
-        } catch (Exception e) {
-            ModLogger.log(Level.WARN, "Cache rebuild failed: " + e.getMessage());
         }
+
+        return true;
     }
 
     /**
@@ -147,31 +162,269 @@ public class CarpentersBlocksCachedResources extends DummyModContainer {
     }
 
     /**
-     * Creates resource zip file.
+     * Reads manifest stored in resource zip file.
+     *
+     * @return the manifest, empty if missing or from an older version
+     */
+    private static Properties readManifest(ZipFile zipFile) throws IOException
+    {
+        Properties manifest = new Properties();
+        ZipEntry entry = zipFile.getEntry(MANIFEST);
+
+        if (entry != null) {
+            InputStream in = zipFile.getInputStream(entry);
+            try {
+                manifest.load(in);
+            } finally {
+                in.close();
+            }
+        }
+
+        if (!MANIFEST_VERSION.equals(manifest.getProperty(KEY_VERSION))) {
+            manifest.clear();
+        }
+
+        return manifest;
+    }
+
+    /**
+     * Reads source texture of each bed design.
+     * <p>
+     * Resource manager is not thread-safe, so this must run on the
+     * main thread.
+     *
+     * @param  resourceManager the {@link IResourceManager} to read designs from
+     * @return the source textures, keyed by icon name
      */
-    private void createZip(String dir, String fileName) throws Exception
+    private static Map<String, byte[]> readBedDesigns(IResourceManager resourceManager)
     {
-        File file = new File(dir, fileName);
-        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file));
+        Map<String, byte[]> sources = new LinkedHashMap<String, byte[]>();
 
-        for (Object[] object : resources) {
-            out.putNextEntry(new ZipEntry("assets/" + MODID.toLowerCase() + (String) object[RESOURCE_PATH] + ".png"));
-            ImageIO.write((BufferedImage) object[RESOURCE_IMAGE], "png", out);
-            out.closeEntry();
+        for (String iconName : DesignHandler.listBed) {
+            try {
+                InputStream in = resourceManager.getResource(DesignHandler.getBedResource(iconName)).getInputStream();
+                try {
+                    sources.put(iconName, IOUtils.toByteArray(in));
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                ModLogger.log(Level.WARN, String.format("Unable to read bed design \"%s\": %s", iconName, e.getMessage()));
+            }
         }
 
-        out.flush();
-        out.close();
+        return sources;
     }
 
     /**
-     * Refreshes dynamic resources and creates new resource pack.
+     * Builds resource zip file, slicing only bed designs whose source
+     * texture changed since zip file was last built.
+     *
+     * @param  sources the source textures, see {@link #readBedDesigns}
+     * @return the new zip file, or null if current zip file is up to date
+     */
+    private File buildCache(Map<String, byte[]> sources) throws Exception
+    {
+        if (!createDirectory()) {
+            return null;
+        }
+
+        /* Hash source textures. */
+
+        long startTime = System.nanoTime();
+        Properties manifest = new Properties();
+        manifest.setProperty(KEY_VERSION, MANIFEST_VERSION);
+
+        for (Map.Entry<String, byte[]> design : sources.entrySet()) {
+            manifest.setProperty(design.getKey(), DigestUtils.sha1Hex(design.getValue()));
+        }
+
+        long hashTime = System.nanoTime();
+
+        /* Compare against existing zip file. */
+
+        File source = getSource();
+        ZipFile previousZip = null;
+        Properties previous = new Properties();
+
+        if (source.exists()) {
+            try {
+                previousZip = new ZipFile(source);
+                previous = readManifest(previousZip);
+            } catch (IOException e) {
+                previous.clear();
+            }
+        }
+
+        try {
+
+            Properties slices = new Properties();
+
+            for (String iconName : sources.keySet()) {
+                String[] entry = previous.getProperty(iconName, "").split(":");
+                if (entry.length == 2 && entry[0].equals(manifest.getProperty(iconName)) && hasBedEntries(previousZip, iconName, Integer.parseInt(entry[1]))) {
+                    slices.setProperty(iconName, entry[1]);
+                }
+            }
+
+            if (slices.size() == sources.size() && previous.size() == sources.size() + 1) {
+                ModLogger.log(Level.INFO, String.format("Cache up to date: hashed %s bed designs in %s ms", sources.size(), (hashTime - startTime) / 1000000L));
+                return null;
+            }
+
+            /* Slice changed designs in parallel. */
+
+            ForkJoinPool pool = new ForkJoinPool();
+            Map<String, Future<byte[][]>> sliced = new HashMap<String, Future<byte[][]>>();
+
+            for (final Map.Entry<String, byte[]> design : sources.entrySet()) {
+                if (!slices.containsKey(design.getKey())) {
+                    sliced.put(design.getKey(), pool.submit(new Callable<byte[][]>() {
+                        @Override
+                        public byte[][] call() throws Exception
+                        {
+                            return sliceBedDesign(design.getValue());
+                        }
+                    }));
+                }
+            }
+
+            /* Write new zip file, copying unchanged slices. */
+
+            File file = File.createTempFile(MODID, ".tmp", new File(resourceDir));
+            ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file));
+
+            try {
+
+                for (Map.Entry<String, byte[]> design : sources.entrySet()) {
+
+                    String iconName = design.getKey();
+                    int count;
+
+                    if (slices.containsKey(iconName)) {
+                        count = Integer.parseInt(slices.getProperty(iconName));
+                        for (int idx = 0; idx < count; ++idx) {
+                            String entryName = getBedEntryName(iconName, idx);
+                            InputStream in = previousZip.getInputStream(previousZip.getEntry(entryName));
+                            try {
+                                out.putNextEntry(new ZipEntry(entryName));
+                                IOUtils.copy(in, out);
+                                out.closeEntry();
+                            } finally {
+                                in.close();
+                            }
+                        }
+                    } else {
+                        byte[][] images = sliced.get(iconName).get();
+                        count = images.length;
+                        for (int idx = 0; idx < count; ++idx) {
+                            out.putNextEntry(new ZipEntry(getBedEntryName(iconName, idx)));
+                            out.write(images[idx]);
+                            out.closeEntry();
+                        }
+                    }
+
+                    manifest.setProperty(iconName, manifest.getProperty(iconName) + ":" + count);
+
+                }
+
+                out.putNextEntry(new ZipEntry(MANIFEST));
+                manifest.store(out, null);
+                out.closeEntry();
+
+            } catch (Exception e) {
+                out.close();
+                FileUtils.deleteQuietly(file);
+                throw e;
+            } finally {
+                out.close();
+                pool.shutdownNow();
+            }
+
+            long endTime = System.nanoTime();
+
+            ModLogger.log(Level.INFO, String.format("Cache rebuilt: hashed %s bed designs in %s ms, sliced %s and wrote cache in %s ms", sources.size(), (hashTime - startTime) / 1000000L, sliced.size(), (endTime - hashTime) / 1000000L));
+
+            return file;
+
+        } finally {
+            if (previousZip != null) {
+                previousZip.close();
+            }
+        }
+    }
+
+    /**
+     * Slices bed design atlas and encodes each icon as PNG.
+     */
+    private static byte[][] sliceBedDesign(byte[] data) throws IOException
+    {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(data));
+        ArrayList<BufferedImage> images = image == null ? new ArrayList<BufferedImage>() : DesignHandler.getBedIcons(image);
+        byte[][] encoded = new byte[images.size()][];
+
+        for (int idx = 0; idx < encoded.length; ++idx) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(images.get(idx), "png", out);
+            encoded[idx] = out.toByteArray();
+        }
+
+        return encoded;
+    }
+
+    /**
+     * Serves new zip file in place of current one, or opens current zip
+     * file if none is open.
+     *
+     * @param file the new zip file, or null to keep current one
+     */
+    private static void installCache(File file)
+    {
+        File source = INSTANCE.getSource();
+
+        if (file != null) {
+            try {
+                if (resourcePackZipFile != null) {
+                    resourcePackZipFile.close();
+                    resourcePackZipFile = null;
+                }
+                FileUtils.deleteQuietly(source);
+                FileUtils.moveFile(file, source);
+            } catch (IOException e) {
+                ModLogger.log(Level.WARN, "Unable to replace cached resources: " + e.getMessage());
+            }
+        }
+
+        if (resourcePackZipFile == null && source.exists()) {
+            try {
+                resourcePackZipFile = new ZipFile(source);
+            } catch (IOException e) {
+                ModLogger.log(Level.WARN, "Unable to open cached resources: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Refreshes dynamic resources.
+     * <p>
+     * Only bed designs whose source texture changed are sliced, so this
+     * is cheap when designs are unchanged.
      */
     public void rebuildCache()
     {
-        DesignHandler.addResources(Minecraft.getMinecraft().getResourceManager());
-        createResourceZipFile();
-        resources.clear();
+        long startTime = System.nanoTime();
+        Map<String, byte[]> sources = readBedDesigns(Minecraft.getMinecraft().getResourceManager());
+        ModLogger.log(Level.INFO, String.format("Read %s bed designs in %s ms", sources.size(), (System.nanoTime() - startTime) / 1000000L));
+
+        File file = null;
+
+        try {
+            file = buildCache(sources);
+        } catch (Exception e) {
+            ModLogger.log(Level.WARN, "Cache rebuild failed: " + e.getMessage());
+        }
+
+        installCache(file);
     }
 
 }
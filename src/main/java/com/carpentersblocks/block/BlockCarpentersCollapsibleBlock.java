@@ -15,6 +15,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Collapsible;
 import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.RayTraceUtil;
 import com.carpentersblocks.util.collapsible.CollapsibleUtil;
 import com.carpentersblocks.util.handler.EventHandler;
 import com.carpentersblocks.util.registry.BlockRegistry;
@@ -391,41 +392,28 @@ public class BlockCarpentersCollapsibleBlock extends BlockSided {
     public MovingObjectPosition collisionRayTrace(World world, int x, int y, int z, Vec3 startVec, Vec3 endVec)
     {
         TEBase TE = getTileEntity(world, x, y, z);
-        MovingObjectPosition finalTrace = null;
 
         if (TE != null) {
 
-            double currDist = 0.0D;
-            double maxDist = 0.0D;
-
-            // Determine if ray trace is a hit on block
-            for (int quad = 0; quad < 4; ++quad)
-            {
-                float[] bounds = CollapsibleUtil.genBounds(TE, quad);
-
-                setBlockBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
-                MovingObjectPosition traceResult = super.collisionRayTrace(world, x, y, z, startVec, endVec);
-
-                if (traceResult != null)
-                {
-                    currDist = traceResult.hitVec.squareDistanceTo(endVec);
-                    if (currDist > maxDist) {
-                        finalTrace = traceResult;
-                        maxDist = currDist;
-                    }
-                }
+            float[][] boxes = new float[4][];
+            for (int quad = 0; quad < 4; ++quad) {
+                boxes[quad] = CollapsibleUtil.genBounds(TE, quad);
             }
 
             /* Determine true face hit since it's built of quadrants. */
 
-            if (finalTrace != null) {
-                setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F);
-                finalTrace = super.collisionRayTrace(world, x, y, z, startVec, endVec);
+            float maxDepth = CollapsibleUtil.getBoundsMaxDepth(TE);
+            float[] faceBounds;
+            if (Collapsible.INSTANCE.isPositive(TE)) {
+                faceBounds = new float[] { 0.0F, 0.0F, 0.0F, 1.0F, maxDepth, 1.0F };
+            } else {
+                faceBounds = new float[] { 0.0F, 1.0F - maxDepth, 0.0F, 1.0F, 1.0F, 1.0F };
             }
 
+            return RayTraceUtil.traceBoxes(x, y, z, startVec, endVec, boxes, faceBounds);
         }
 
-        return finalTrace;
+        return null;
     }
 
     @Override
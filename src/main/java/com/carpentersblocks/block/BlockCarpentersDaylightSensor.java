@@ -110,67 +110,70 @@ public class BlockCarpentersDaylightSensor extends BlockSided {
 
     /**
      * Calculates and saves the current light level at this space.
+     * <p>
+     * Neighbors are notified only if redstone output changes.
      *
-     * @param  world the {@link World}
-     * @param  x the x coordinate
-     * @param  y the y coordinate
-     * @param  z the z coordinate
+     * @param  TE the {@link TEBase}
+     * @param  angle the celestial angle in radians, shared by all sensors in world
+     * @param  isThundering whether world is thundering
      * @return nothing
      */
-    public void updateLightLevel(World world, int x, int y, int z)
+    public void updateLightLevel(TEBase TE, float angle, boolean isThundering)
     {
-        if (!world.provider.hasNoSky) {
-
-            TEBase TE = getTileEntity(world, x, y, z);
+        World world = TE.getWorldObj();
 
-            if (TE != null) {
+        if (!world.provider.hasNoSky) {
 
-                int temp = data.getLightLevel(TE);
-                float angle = world.getCelestialAngleRadians(1.0F);
+            int x = TE.xCoord;
+            int y = TE.yCoord;
+            int z = TE.zCoord;
 
-                int lightValue = world.getSavedLightValue(EnumSkyBlock.Sky, x, y, z) - world.skylightSubtracted;
-                int sensitivity = data.getSensitivity(TE);
+            int temp = data.getLightLevel(TE);
 
-                if (sensitivity == data.SENSITIVITY_DYNAMIC) {
+            int lightValue = world.getSavedLightValue(EnumSkyBlock.Sky, x, y, z) - world.skylightSubtracted;
+            int sensitivity = data.getSensitivity(TE);
 
-                    if (angle <= 1.67D || angle >= 4.62) {
+            if (sensitivity == data.SENSITIVITY_DYNAMIC) {
 
-                        /* Adjust strength based on sun exposure. */
+                if (angle <= 1.67D || angle >= 4.62) {
 
-                        switch (data.getDirection(TE)) {
-                            case UP:
-                                lightValue = getCelestialRedstoneOutput(world, x, y, z, lightValue, angle);
-                                break;
-                            case NORTH:
-                            case SOUTH:
-                                lightValue *= 0.6F;
-                                break;
-                            case EAST:
-                                lightValue = getCelestialRedstoneOutput(world, x, y, z, lightValue, (float) (angle + Math.PI / 2));
-                                break;
-                            case WEST:
-                                lightValue = getCelestialRedstoneOutput(world, x, y, z, lightValue, (float) (angle - Math.PI / 2));
-                                break;
-                            default: {}
-                        }
+                    /* Adjust strength based on sun exposure. */
 
-                    } else {
-                        lightValue = 0;
+                    switch (data.getDirection(TE)) {
+                        case UP:
+                            lightValue = getCelestialRedstoneOutput(world, x, y, z, lightValue, angle);
+                            break;
+                        case NORTH:
+                        case SOUTH:
+                            lightValue *= 0.6F;
+                            break;
+                        case EAST:
+                            lightValue = getCelestialRedstoneOutput(world, x, y, z, lightValue, (float) (angle + Math.PI / 2));
+                            break;
+                        case WEST:
+                            lightValue = getCelestialRedstoneOutput(world, x, y, z, lightValue, (float) (angle - Math.PI / 2));
+                            break;
+                        default: {}
                     }
 
-                } else if (sensitivity == data.SENSITIVITY_MONSTERS && world.isThundering()) {
+                } else {
+                    lightValue = 0;
+                }
 
-                    /* Override light value to trigger monster-spawn light threshold during thunderstorms. */
+            } else if (sensitivity == data.SENSITIVITY_MONSTERS && isThundering) {
 
-                    lightValue = 7;
+                /* Override light value to trigger monster-spawn light threshold during thunderstorms. */
 
-                }
+                lightValue = 7;
 
-                if (temp != lightValue) {
-                    data.setLightLevel(TE, lightValue);
-                    notifyBlocksOfPowerChange(TE.getWorldObj(), TE.xCoord, TE.yCoord, TE.zCoord);
-                }
+            }
 
+            if (temp != lightValue) {
+                int output = data.getRedstoneOutput(TE);
+                data.setLightLevel(TE, lightValue);
+                if (data.getRedstoneOutput(TE) != output) {
+                    notifyBlocksOfPowerChange(world, x, y, z);
+                }
             }
 
         }
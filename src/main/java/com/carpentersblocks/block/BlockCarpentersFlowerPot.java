@@ -418,13 +418,13 @@ public class BlockCarpentersFlowerPot extends BlockCoverable {
 
         if (TE != null) {
             if (TE.hasAttribute(TE.ATTR_FERTILIZER)) {
-                ret.add(TE.getAttribute(TE.ATTR_FERTILIZER));
+                ret.add(TE.getAttributeForDrop(TE.ATTR_FERTILIZER));
             }
             if (TE.hasAttribute(TE.ATTR_PLANT)) {
-                ret.add(TE.getAttribute(TE.ATTR_PLANT));
+                ret.add(TE.getAttributeForDrop(TE.ATTR_PLANT));
             }
             if (TE.hasAttribute(TE.ATTR_SOIL)) {
-                ret.add(TE.getAttribute(TE.ATTR_SOIL));
+                ret.add(TE.getAttributeForDrop(TE.ATTR_SOIL));
             }
         }
 
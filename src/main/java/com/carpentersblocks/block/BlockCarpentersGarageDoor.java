@@ -19,6 +19,7 @@ import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.CarpentersBlocks;
+import com.carpentersblocks.data.AbstractMultiBlock.Structure;
 import com.carpentersblocks.data.GarageDoor;
 import com.carpentersblocks.tileentity.TEBase;
 import com.carpentersblocks.tileentity.TECarpentersGarageDoor;
@@ -317,17 +318,11 @@ public class BlockCarpentersGarageDoor extends BlockCoverable {
                         int old_state = data.getState(TE);
                         int state = old_state;
 
+                        Structure structure = data.getStructure(TE, this);
+
                         if (data.isOpen(TE)) {
                             // Check if a garage door piece is still powered
-                            boolean garageHasPower = false;
-                            Set<TEBase> pieces = data.getBlocks(TE, this);
-                            for (TEBase piece : pieces) {
-                                if (world.isBlockIndirectlyGettingPowered(piece.xCoord, piece.yCoord, piece.zCoord)) {
-                                    garageHasPower = true;
-                                    break;
-                                }
-                            }
-                            if (!garageHasPower) {
+                            if (!structure.isAnyMemberPowered(world)) {
                                 state = data.STATE_CLOSED;
                             }
                         } else {
@@ -337,8 +332,7 @@ public class BlockCarpentersGarageDoor extends BlockCoverable {
                         if (state != old_state) {
                             data.setState(TE, state);
 
-                            Set<TEBase> pieces = data.getBlocks(TE, this);
-                            for (TEBase piece : pieces) {
+                            for (TEBase piece : structure.getMembers()) {
                                 data.setState(piece, state);
                             }
                         }
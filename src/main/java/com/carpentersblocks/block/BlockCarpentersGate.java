@@ -275,6 +275,17 @@ public class BlockCarpentersGate extends BlockCoverable {
         return true;
     }
 
+    @Override
+    @SideOnly(Side.CLIENT)
+    /**
+     * Returns true if the given side of this block type is not hidden by the adjacent block at the given
+     * coordinates.  Unlike {@link #shouldSideBeRendered}, block bounds are not considered.
+     */
+    public boolean isSideExposed(IBlockAccess blockAccess, int x, int y, int z, int side)
+    {
+        return true;
+    }
+
     @Override
     /**
      * The type of render function that is called for this block
@@ -19,9 +19,9 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.CarpentersBlocks;
 import com.carpentersblocks.data.Slope;
-import com.carpentersblocks.data.Slope.Type;
 import com.carpentersblocks.tileentity.TEBase;
 import com.carpentersblocks.util.EntityLivingUtil;
+import com.carpentersblocks.util.RayTraceUtil;
 import com.carpentersblocks.util.handler.EventHandler;
 import com.carpentersblocks.util.registry.BlockRegistry;
 import com.carpentersblocks.util.registry.IconRegistry;
@@ -41,7 +41,10 @@ public class BlockCarpentersSlope extends BlockCoverable {
     public final static int META_PRISM       = 3;
     public final static int META_PRISM_SLOPE = 4;
 
-    private boolean rayTracing;
+    /** Bounds used to determine hit face, matching selection bounds. */
+    private final static float[] BOUNDS_FULL      = { 0.0F, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F };
+    private final static float[] BOUNDS_PRISM_POS = { 0.0F, 0.0F, 0.0F, 1.0F, 0.5F, 1.0F };
+    private final static float[] BOUNDS_PRISM_NEG = { 0.0F, 0.5F, 0.0F, 1.0F, 1.0F, 1.0F };
 
     public BlockCarpentersSlope(Material material)
     {
@@ -123,33 +126,28 @@ public class BlockCarpentersSlope extends BlockCoverable {
      */
     public void setBlockBoundsBasedOnState(IBlockAccess blockAccess, int x, int y, int z)
     {
-        if (!rayTracing) {
-
-            TEBase TE = getTileEntity(blockAccess, x, y, z);
-
-            if (TE != null) {
-
-                Slope slope = Slope.getSlope(TE);
-
-                switch (slope.getPrimaryType()) {
-                    case PRISM:
-                    case PRISM_1P:
-                    case PRISM_2P:
-                    case PRISM_3P:
-                    case PRISM_4P:
-                        if (slope.isPositive) {
-                            setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 0.5F, 1.0F);
-                        } else {
-                            setBlockBounds(0.0F, 0.5F, 0.0F, 1.0F, 1.0F, 1.0F);
-                        }
-                        break;
-                    default:
-                        setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F);
-                        break;
-                }
+        TEBase TE = getTileEntity(blockAccess, x, y, z);
 
-            }
+        if (TE != null) {
+            float[] bounds = getFaceBounds(Slope.getSlope(TE));
+            setBlockBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
+        }
+    }
 
+    /**
+     * Returns bounds enclosing slope, used for selection and hit face.
+     */
+    private float[] getFaceBounds(Slope slope)
+    {
+        switch (slope.getPrimaryType()) {
+            case PRISM:
+            case PRISM_1P:
+            case PRISM_2P:
+            case PRISM_3P:
+            case PRISM_4P:
+                return slope.isPositive ? BOUNDS_PRISM_POS : BOUNDS_PRISM_NEG;
+            default:
+                return BOUNDS_FULL;
         }
     }
 
@@ -161,47 +159,14 @@ public class BlockCarpentersSlope extends BlockCoverable {
     public MovingObjectPosition collisionRayTrace(World world, int x, int y, int z, Vec3 startVec, Vec3 endVec)
     {
         TEBase TE = getTileEntity(world, x, y, z);
-        MovingObjectPosition finalTrace = null;
 
         if (TE != null) {
-
+            /* Sloped faces are two or more shared faces, so hit face is taken from enclosing bounds. */
             Slope slope = Slope.getSlope(TE);
-            SlopeUtil slopeUtil = new SlopeUtil();
-
-            int numPasses = slopeUtil.getNumPasses(slope);
-            int precision = slopeUtil.getNumBoxesPerPass(slope);
-
-            rayTracing = true;
-
-            /* Determine if ray trace is a hit on slope. */
-            for (int pass = 0; pass < numPasses; ++pass)
-            {
-                for (int slice = 0; slice < precision && finalTrace == null; ++slice)
-                {
-                    float[] box = slopeUtil.genBounds(slope, slice, precision, pass);
-
-                    if (box != null) {
-                        setBlockBounds(box[0], box[1], box[2], box[3], box[4], box[5]);
-                        finalTrace = super.collisionRayTrace(world, x, y, z, startVec, endVec);
-                    }
-                }
-                if (slope.type.equals(Type.OBLIQUE_EXT)) {
-                    --precision;
-                }
-            }
-
-            rayTracing = false;
-
-            /* Determine true face hit since sloped faces are two or more shared faces. */
-
-            if (finalTrace != null) {
-                setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F);
-                finalTrace = super.collisionRayTrace(world, x, y, z, startVec, endVec);
-            }
-
+            return RayTraceUtil.traceBoxes(x, y, z, startVec, endVec, SlopeUtil.getBoxes(slope), getFaceBounds(slope));
         }
 
-        return finalTrace;
+        return null;
     }
 
     @Override
@@ -215,33 +180,14 @@ public class BlockCarpentersSlope extends BlockCoverable {
 
         if (TE != null) {
 
-            AxisAlignedBB box = null;
-
-            Slope slope = Slope.getSlope(TE);
-            SlopeUtil slopeUtil = new SlopeUtil();
-
-            int precision = slopeUtil.getNumBoxesPerPass(slope);
-            int numPasses = slopeUtil.getNumPasses(slope);
-
-            for (int pass = 0; pass < numPasses; ++pass) {
-
-                for (int slice = 0; slice < precision; ++slice)
+            for (float[] box : SlopeUtil.getBoxes(Slope.getSlope(TE)))
+            {
+                if (axisAlignedBB.maxX > x + box[0] && axisAlignedBB.minX < x + box[3] &&
+                    axisAlignedBB.maxY > y + box[1] && axisAlignedBB.minY < y + box[4] &&
+                    axisAlignedBB.maxZ > z + box[2] && axisAlignedBB.minZ < z + box[5])
                 {
-                    float[] dim = slopeUtil.genBounds(slope, slice, precision, pass);
-
-                    if (dim != null) {
-                        box = AxisAlignedBB.getBoundingBox(x + dim[0], y + dim[1], z + dim[2], x + dim[3], y + dim[4], z + dim[5]);
-                    }
-
-                    if (box != null && axisAlignedBB.intersectsWith(box)) {
-                        list.add(box);
-                    }
-                }
-
-                if (slope.type.equals(Type.OBLIQUE_EXT)) {
-                    --precision;
+                    list.add(AxisAlignedBB.getBoundingBox(x + box[0], y + box[1], z + box[2], x + box[3], y + box[4], z + box[5]));
                 }
-
             }
 
         }
@@ -17,6 +17,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Stairs;
 import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.RayTraceUtil;
 import com.carpentersblocks.util.registry.BlockRegistry;
 import com.carpentersblocks.util.registry.IconRegistry;
 import com.carpentersblocks.util.registry.ItemRegistry;
@@ -164,42 +165,13 @@ public class BlockCarpentersStairs extends BlockCoverable {
     public MovingObjectPosition collisionRayTrace(World world, int x, int y, int z, Vec3 startVec, Vec3 endVec)
     {
         TEBase TE = getTileEntity(world, x, y, z);
-        MovingObjectPosition finalTrace = null;
 
         if (TE != null) {
-
             Stairs stairs = Stairs.stairsList[TE.getData()];
-            StairsUtil stairsUtil = new StairsUtil();
-
-            double currDist = 0.0D;
-            double maxDist = 0.0D;
-
-            // Determine if ray trace is a hit on stairs
-            for (int box = 0; box < 3; ++box)
-            {
-                float[] bounds = stairsUtil.genBounds(box, stairs);
-
-                if (bounds != null)
-                {
-                    setBlockBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
-                    MovingObjectPosition traceResult = super.collisionRayTrace(world, x, y, z, startVec, endVec);
-
-                    if (traceResult != null)
-                    {
-                        currDist = traceResult.hitVec.squareDistanceTo(endVec);
-                        if (currDist > maxDist) {
-                            finalTrace = traceResult;
-                            maxDist = currDist;
-                        }
-                    }
-                }
-            }
-
-            setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F);
-
+            return RayTraceUtil.traceBoxes(x, y, z, startVec, endVec, StairsUtil.getBoxes(stairs));
         }
 
-        return finalTrace;
+        return null;
     }
 
     @Override
@@ -215,12 +187,11 @@ public class BlockCarpentersStairs extends BlockCoverable {
 
             AxisAlignedBB colBox = null;
 
-            Stairs stairs = Stairs.stairsList[TE.getData()];
-            StairsUtil stairsUtil = new StairsUtil();
+            float[][] boxes = StairsUtil.getBoxes(Stairs.stairsList[TE.getData()]);
 
             for (int box = 0; box < 3; ++box) {
 
-                float[] bounds = stairsUtil.genBounds(box, stairs);
+                float[] bounds = boxes[box];
 
                 if (bounds != null) {
                     colBox = AxisAlignedBB.getBoundingBox(x + bounds[0], y + bounds[1], z + bounds[2], x + bounds[3], y + bounds[4], z + bounds[5]);
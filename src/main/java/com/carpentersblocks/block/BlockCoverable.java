@@ -553,7 +553,7 @@ public class BlockCoverable extends BlockContainer {
 
         if (!world.isRemote) {
             TEBase TE = getTileEntity(world, x, y, z);
-            if (TE != null) {
+            if (TE != null && TE.hasSideCovers()) {
                 for (int side = 0; side < 6; ++side) {
                     if (TE.hasAttribute(TE.ATTR_COVER[side])) {
                         if (!canCoverSide(TE, world, x, y, z, side)) {
@@ -584,13 +584,11 @@ public class BlockCoverable extends BlockContainer {
         /* Indirect power is provided by any cover. */
 
         if (TE != null) {
-            for (int idx = 0; idx < 7; ++idx) {
-                if (TE.hasAttribute(TE.ATTR_COVER[idx])) {
-                    Block block = BlockProperties.toBlock(BlockProperties.getCover(TE, idx));
-                    int tempPower = block.isProvidingWeakPower(blockAccess, x, y, z, side);
-                    if (tempPower > power) {
-                        power = tempPower;
-                    }
+            for (int mask = TE.getCoverMask(); mask != 0; mask &= mask - 1) {
+                Block block = BlockProperties.toBlock(BlockProperties.getCover(TE, Integer.numberOfTrailingZeros(mask)));
+                int tempPower = block.isProvidingWeakPower(blockAccess, x, y, z, side);
+                if (tempPower > power) {
+                    power = tempPower;
                 }
             }
         }
@@ -1145,7 +1143,7 @@ public class BlockCoverable extends BlockContainer {
         TEBase TE = getTileEntity(blockAccess, x, y, z);
 
         if (TE != null) {
-            return !TE.hasAttribute(TE.ATTR_COVER[6]) || BlockProperties.toBlock(BlockProperties.getCover(TE, 6)).isOpaqueCube();
+            return !TE.hasAttribute(TE.ATTR_COVER[6]) || BlockProperties.getCoverBlock(TE, 6).isOpaqueCube();
         } else {
             return false;
         }
@@ -1221,6 +1219,33 @@ public class BlockCoverable extends BlockContainer {
      * coordinates.  Args: world, x, y, z, side
      */
     public boolean shouldSideBeRendered(IBlockAccess blockAccess, int x, int y, int z, int side)
+    {
+        int sharedSide = getSharedSideVisibility(blockAccess, x, y, z, side);
+        return sharedSide < 0 ? super.shouldSideBeRendered(blockAccess, x, y, z, side) : sharedSide > 0;
+    }
+
+    @SideOnly(Side.CLIENT)
+    /**
+     * Returns true if the given side of this block type is not hidden by the adjacent block at the given
+     * coordinates.  Unlike {@link #shouldSideBeRendered}, block bounds are not considered.
+     * <p>
+     * Renderers compare their own render bounds instead, since block bounds
+     * are shared by all threads drawing this block type.
+     */
+    public boolean isSideExposed(IBlockAccess blockAccess, int x, int y, int z, int side)
+    {
+        int sharedSide = getSharedSideVisibility(blockAccess, x, y, z, side);
+        return sharedSide < 0 ? !blockAccess.getBlock(x, y, z).isOpaqueCube() : sharedSide > 0;
+    }
+
+    @SideOnly(Side.CLIENT)
+    /**
+     * Decides visibility of a side shared with an adjacent coverable block,
+     * based on their covers.
+     *
+     * @return 1 if side is visible, 0 if hidden, or -1 if side is not shared
+     */
+    private int getSharedSideVisibility(IBlockAccess blockAccess, int x, int y, int z, int side)
     {
         // Side checks in out-of-range areas will crash
         if (y > 0 && y < blockAccess.getHeight())
@@ -1237,18 +1262,18 @@ public class BlockCoverable extends BlockContainer {
 
                     if (shareFaces(TE_adj, TE_src, side_adj, side_src)) {
 
-                        Block block_adj = BlockProperties.toBlock(BlockProperties.getCover(TE_adj, 6));
-                        Block block_src = BlockProperties.toBlock(BlockProperties.getCover(TE_src, 6));
+                        Block block_adj = BlockProperties.getCoverBlock(TE_adj, 6);
+                        Block block_src = BlockProperties.getCoverBlock(TE_src, 6);
 
                         if (!TE_adj.hasAttribute(TE.ATTR_COVER[6])) {
-                            return TE_src.hasAttribute(TE.ATTR_COVER[6]);
+                            return TE_src.hasAttribute(TE.ATTR_COVER[6]) ? 1 : 0;
                         } else {
                             if (!TE_src.hasAttribute(TE.ATTR_COVER[6]) && block_adj.getRenderBlockPass() == 0) {
-                                return !block_adj.isOpaqueCube();
+                                return block_adj.isOpaqueCube() ? 0 : 1;
                             } else if (TE_src.hasAttribute(TE.ATTR_COVER[6]) && block_src.isOpaqueCube() == block_adj.isOpaqueCube() && block_src.getRenderBlockPass() == block_adj.getRenderBlockPass()) {
-                                return false;
+                                return 0;
                             } else {
-                                return true;
+                                return 1;
                             }
                         }
                     }
@@ -1256,7 +1281,7 @@ public class BlockCoverable extends BlockContainer {
             }
         }
 
-        return super.shouldSideBeRendered(blockAccess, x, y, z, side);
+        return -1;
     }
 
     @Override
@@ -1307,22 +1332,13 @@ public class BlockCoverable extends BlockContainer {
      */
     public boolean isOpaqueCube()
     {
-        if (FMLCommonHandler.instance().getEffectiveSide().isServer()) {
-            return false;
-        }
-
-        if (FeatureRegistry.enableRoutableFluids) {
-            // Server condition may fail, so don't throw error if performing server-side
-            try {
-                Class<?> clazz = RoutableFluidsHelper.getCallerClass();
-                if (clazz != null) {
-                    for (Class clazz1 : RoutableFluidsHelper.liquidClasses) {
-                        if (clazz.isAssignableFrom(clazz1)) {
-                            return true;
-                        }
-                    }
-                }
-            } catch (Exception e) {}
+        /*
+         * Fluid rendering sets a thread-local context, which is never
+         * set for server threads.  The physical side check keeps
+         * client-only classes from loading on a dedicated server.
+         */
+        if (FeatureRegistry.enableRoutableFluids && FMLCommonHandler.instance().getSide().isClient()) {
+            return RoutableFluidsHelper.isOpaqueToFluid();
         }
 
         return false;
@@ -1,8 +1,13 @@
 package com.carpentersblocks.data;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import net.minecraft.block.Block;
+import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.tileentity.TEBase;
 import com.carpentersblocks.util.BlockProperties;
@@ -10,6 +15,71 @@ import com.carpentersblocks.util.registry.FeatureRegistry;
 
 public abstract class AbstractMultiBlock {
 
+    /** Server-side structures, keyed by world and packed member coordinates. */
+    private final static Map<World, Map<Long, Structure>> registry = new WeakHashMap<World, Map<Long, Structure>>();
+
+    /** Source of structure ids. */
+    private static int nextId;
+
+    /**
+     * A connected group of blocks acting as a single entity.
+     */
+    public static class Structure {
+
+        public final int id;
+        private final Block block;
+        private final Set<TEBase> members;
+
+        private Structure(Block block, Set<TEBase> members)
+        {
+            this.id = nextId++;
+            this.block = block;
+            this.members = Collections.unmodifiableSet(members);
+        }
+
+        /**
+         * Gets all pieces in structure.
+         *
+         * @return a read-only {@link Set} of pieces
+         */
+        public Set<TEBase> getMembers()
+        {
+            return members;
+        }
+
+        /**
+         * Returns whether any piece is receiving redstone power.
+         *
+         * @param  world the {@link World}
+         * @return <code>true</code> if a piece is powered
+         */
+        public boolean isAnyMemberPowered(World world)
+        {
+            for (TEBase piece : members) {
+                if (world.isBlockIndirectlyGettingPowered(piece.xCoord, piece.yCoord, piece.zCoord)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Structures are discarded once a piece is removed or unloaded.
+         */
+        private boolean isValid()
+        {
+            for (TEBase piece : members) {
+                if (piece.isInvalid()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
+
     /**
      * Gathers adjacent blocks based on specific criteria, enabling
      * a group of blocks to act as a single entity when interacting
@@ -22,11 +92,119 @@ public abstract class AbstractMultiBlock {
      */
     public final Set<TEBase> getBlocks(TEBase TE, Block block)
     {
+        return getStructure(TE, block).getMembers();
+    }
+
+    /**
+     * Gets structure that piece belongs to.
+     * <p>
+     * Server-side, structures are cached and shared by all pieces until
+     * a piece is added, removed or changes direction.  Structures are
+     * only cached when all pieces share the same matching data, since
+     * only then does every piece locate the same set of blocks.
+     *
+     * @param  TE the {@link TEBase}
+     * @param  block the {@link Block} to match against
+     * @return the {@link Structure}
+     */
+    public final Structure getStructure(TEBase TE, Block block)
+    {
+        World world = TE.getWorldObj();
+        Map<Long, Structure> structures = world.isRemote ? null : getStructures(world);
+
+        if (structures != null) {
+            Structure structure = structures.get(getKey(TE.xCoord, TE.yCoord, TE.zCoord));
+            if (structure != null) {
+                if (structure.block == block && structure.members.contains(TE) && structure.isValid()) {
+                    return structure;
+                }
+                invalidate(structures, getKey(TE.xCoord, TE.yCoord, TE.zCoord));
+            }
+        }
+
         Set<TEBase> set = new HashSet<TEBase>();
         int matchData = getMatchingDataPattern(TE);
         ForgeDirection[] dirs = getLocateDirs(TE);
         addAndLocateBlocks(TE, block, matchData, dirs, set);
-        return set;
+        Structure structure = new Structure(block, set);
+
+        if (structures != null && set.size() <= FeatureRegistry.multiBlockSizeLimit && isUniform(set, matchData)) {
+            for (TEBase piece : set) {
+                structures.put(getKey(piece.xCoord, piece.yCoord, piece.zCoord), structure);
+            }
+        }
+
+        return structure;
+    }
+
+    /**
+     * Discards cached structures at and adjacent to coordinates.
+     * <p>
+     * Call when a piece is added, removed or unloaded, or when its
+     * matching data changes.
+     *
+     * @param world the {@link World}
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     */
+    public static void invalidate(World world, int x, int y, int z)
+    {
+        if (world == null || world.isRemote) {
+            return;
+        }
+
+        Map<Long, Structure> structures = getStructures(world);
+        invalidate(structures, getKey(x, y, z));
+
+        for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS) {
+            invalidate(structures, getKey(x + dir.offsetX, y + dir.offsetY, z + dir.offsetZ));
+        }
+    }
+
+    private static void invalidate(Map<Long, Structure> structures, Long key)
+    {
+        Structure structure = structures.get(key);
+
+        if (structure != null) {
+            for (TEBase piece : structure.members) {
+                Long pieceKey = getKey(piece.xCoord, piece.yCoord, piece.zCoord);
+                if (structures.get(pieceKey) == structure) {
+                    structures.remove(pieceKey);
+                }
+            }
+        }
+    }
+
+    private static Map<Long, Structure> getStructures(World world)
+    {
+        Map<Long, Structure> structures = registry.get(world);
+
+        if (structures == null) {
+            structures = new HashMap<Long, Structure>();
+            registry.put(world, structures);
+        }
+
+        return structures;
+    }
+
+    private static Long getKey(int x, int y, int z)
+    {
+        return ((long)x & 0x3FFFFFFL) << 38 | ((long)y & 0xFFFL) << 26 | ((long)z & 0x3FFFFFFL);
+    }
+
+    /**
+     * Returns whether all pieces share the same matching data.
+     */
+    private boolean isUniform(Set<TEBase> set, int matchData)
+    {
+        for (TEBase piece : set) {
+            if (getMatchingDataPattern(piece) != matchData) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -73,7 +73,12 @@ public class GarageDoor extends AbstractMultiBlock implements ISided {
     public boolean setDirection(TEBase TE, ForgeDirection dir)
     {
         int temp = (TE.getData() & ~0x70) | (dir.ordinal() << 4);
-        return TE.setData(temp);
+        if (TE.setData(temp)) {
+            invalidate(TE.getWorldObj(), TE.xCoord, TE.yCoord, TE.zCoord);
+            return true;
+        }
+
+        return false;
     }
 
     /**
@@ -335,6 +335,11 @@ public class Slope {
         return slopesList[slopeID];
     }
 
+    public static int getSlopeCount()
+    {
+        return slopesList.length;
+    }
+
     public static Slope getSlopeById(int slopeID)
     {
         if (slopeID >= slopesList.length) {
@@ -262,7 +262,7 @@ public class EntityCarpentersTile extends EntityBase {
 
     public boolean hasDesign()
     {
-        return DesignHandler.listTile.contains(getDesign());
+        return DesignHandler.getId("tile", getDesign()) >= 0;
     }
 
     public void setDesign(String tile)
@@ -277,8 +277,10 @@ public class EntityCarpentersTile extends EntityBase {
 
     public IIcon getIcon()
     {
-        if (hasDesign()) {
-            return IconRegistry.icon_design_tile.get(DesignHandler.listTile.indexOf(getDesign()));
+        int designId = DesignHandler.getId("tile", getDesign());
+
+        if (designId >= 0) {
+            return IconRegistry.icon_design_tile.get(designId);
         } else {
             return IconRegistry.icon_tile_blank;
         }
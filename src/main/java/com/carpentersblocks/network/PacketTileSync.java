@@ -0,0 +1,49 @@
+package com.carpentersblocks.network;
+
+import java.io.IOException;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import com.carpentersblocks.tileentity.TEBase;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+
+public class PacketTileSync extends TilePacket {
+
+    private TEBase TE;
+
+    public PacketTileSync() {}
+
+    /**
+     * Sends changed tile entity fields to clients.
+     */
+    public PacketTileSync(TEBase TE)
+    {
+        super(TE.xCoord, TE.yCoord, TE.zCoord);
+        this.TE = TE;
+    }
+
+    @Override
+    public void processData(EntityPlayer entityPlayer, ByteBufInputStream bbis) throws IOException
+    {
+        super.processData(entityPlayer, bbis);
+
+        // Sync packets only travel from server to client
+        if (!entityPlayer.worldObj.isRemote) {
+            return;
+        }
+
+        TileEntity tileEntity = entityPlayer.worldObj.getTileEntity(x, y, z);
+
+        if (tileEntity instanceof TEBase) {
+            ((TEBase) tileEntity).onSyncPacket(bbis);
+        }
+    }
+
+    @Override
+    public void appendData(ByteBuf buffer) throws IOException
+    {
+        super.appendData(buffer);
+        TE.writeSyncData(buffer);
+    }
+
+}
@@ -4,11 +4,15 @@ import net.minecraftforge.common.MinecraftForge;
 import com.carpentersblocks.CarpentersBlocksCachedResources;
 import com.carpentersblocks.entity.item.EntityCarpentersTile;
 import com.carpentersblocks.renderer.entity.RenderCarpentersTile;
+import com.carpentersblocks.renderer.entity.TileBatcher;
+import com.carpentersblocks.renderer.helper.QuadCache;
+import com.carpentersblocks.renderer.helper.RoutableFluidsHelper;
 import com.carpentersblocks.util.handler.OptifineHandler;
 import com.carpentersblocks.util.handler.ShadersHandler;
 import com.carpentersblocks.util.registry.IconRegistry;
 import cpw.mods.fml.client.FMLClientHandler;
 import cpw.mods.fml.client.registry.RenderingRegistry;
+import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.common.event.FMLInitializationEvent;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -21,6 +25,11 @@ public class ClientProxy extends CommonProxy {
     {
         super.init(event);
         MinecraftForge.EVENT_BUS.register(new IconRegistry());
+        MinecraftForge.EVENT_BUS.register(new RoutableFluidsHelper());
+        MinecraftForge.EVENT_BUS.register(new QuadCache());
+        TileBatcher tileBatcher = new TileBatcher();
+        MinecraftForge.EVENT_BUS.register(tileBatcher);
+        FMLCommonHandler.instance().bus().register(tileBatcher);
         CarpentersBlocksCachedResources.INSTANCE.init();
 
         if (FMLClientHandler.instance().hasOptifine()) {
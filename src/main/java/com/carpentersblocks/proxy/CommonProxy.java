@@ -10,14 +10,21 @@ import com.carpentersblocks.tileentity.TECarpentersFlowerPot;
 import com.carpentersblocks.tileentity.TECarpentersGarageDoor;
 import com.carpentersblocks.tileentity.TECarpentersSafe;
 import com.carpentersblocks.tileentity.TECarpentersTorch;
+import com.carpentersblocks.util.BlockProperties;
+import com.carpentersblocks.util.handler.DaylightSensorHandler;
 import com.carpentersblocks.util.handler.DesignHandler;
 import com.carpentersblocks.util.handler.EventHandler;
+import com.carpentersblocks.util.handler.LightUpdateHandler;
 import com.carpentersblocks.util.handler.OverlayHandler;
 import com.carpentersblocks.util.handler.PacketHandler;
+import com.carpentersblocks.util.handler.TileSyncHandler;
 import com.carpentersblocks.util.registry.BlockRegistry;
 import com.carpentersblocks.util.registry.FeatureRegistry;
 import com.carpentersblocks.util.registry.ItemRegistry;
+import com.carpentersblocks.util.slope.SlopeUtil;
+import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.common.event.FMLInitializationEvent;
+import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
 import cpw.mods.fml.common.registry.EntityRegistry;
 import cpw.mods.fml.common.registry.GameRegistry;
@@ -29,6 +36,7 @@ public class CommonProxy {
     public void preInit(FMLPreInitializationEvent event, Configuration config)
     {
         FeatureRegistry.preInit(event, config); // Do before block and item registration
+        SlopeUtil.init(); // Depends on slope smoothness
         BlockRegistry.preInit(event, config); // Do before item registration
         ItemRegistry.preInit(event, config);
         DesignHandler.preInit(event);
@@ -38,6 +46,9 @@ public class CommonProxy {
     {
         MinecraftForge.EVENT_BUS.register(new EventHandler());
         CarpentersBlocks.channel.register(new PacketHandler());
+        FMLCommonHandler.instance().bus().register(new TileSyncHandler());
+        FMLCommonHandler.instance().bus().register(new LightUpdateHandler());
+        FMLCommonHandler.instance().bus().register(new DaylightSensorHandler());
 
         /* Initialize blocks and items */
 
@@ -67,4 +78,15 @@ public class CommonProxy {
         }
     }
 
+    public void postInit(FMLPostInitializationEvent event)
+    {
+        /* Resolve configured item names once all items are registered */
+
+        if (FeatureRegistry.enableOverlays) {
+            OverlayHandler.postInit();
+        }
+
+        BlockProperties.postInit();
+    }
+
 }
@@ -8,6 +8,7 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.init.Blocks;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
@@ -19,12 +20,14 @@ import org.lwjgl.opengl.GL11;
 import com.carpentersblocks.block.BlockCoverable;
 import com.carpentersblocks.data.Slope;
 import com.carpentersblocks.renderer.helper.LightingHelper;
+import com.carpentersblocks.renderer.helper.QuadCache;
+import com.carpentersblocks.renderer.helper.RenderContext;
 import com.carpentersblocks.renderer.helper.RenderHelper;
 import com.carpentersblocks.renderer.helper.RoutableFluidsHelper;
 import com.carpentersblocks.renderer.helper.VertexHelper;
 import com.carpentersblocks.tileentity.TEBase;
 import com.carpentersblocks.util.BlockProperties;
-import com.carpentersblocks.util.handler.DesignHandler;
+import com.carpentersblocks.util.MetadataOverlayBlockAccess;
 import com.carpentersblocks.util.handler.DyeHandler;
 import com.carpentersblocks.util.handler.OptifineHandler;
 import com.carpentersblocks.util.handler.OverlayHandler;
@@ -66,6 +69,56 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
     /** 0-5 are side covers, with 6 being the block itself. */
     public int            coverRendering    = 6;
 
+    /**
+     * Handlers hold state for the block being drawn, so each is only used
+     * by the thread that created it.  Other threads are given their own copy
+     * of the handler, see {@link #renderWorldBlock}.
+     */
+    private final Thread owner = Thread.currentThread();
+
+    /** Copies of this handler for threads other than {@link #owner}. */
+    private final ThreadLocal<BlockHandlerBase> threadHandler = new ThreadLocal<BlockHandlerBase>() {
+        @Override
+        protected BlockHandlerBase initialValue()
+        {
+            try {
+                return BlockHandlerBase.this.getClass().newInstance();
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to create render handler for thread " + Thread.currentThread().getName(), e);
+            }
+        }
+    };
+
+    /** Render helper state for {@link #owner}. */
+    protected final RenderContext renderContext = RenderContext.get();
+
+    /** Stacks for blocks drawn as part of other blocks.  These are shared and must not be modified. */
+    protected final static ItemStack glass = new ItemStack(Blocks.glass);
+    protected final static ItemStack grass = new ItemStack(Blocks.grass);
+    protected final static ItemStack dirt  = new ItemStack(Blocks.dirt);
+    protected final static ItemStack iron  = new ItemStack(Blocks.iron_block);
+
+    /** Reused between renders, see {@link #getCoverForRendering()}. */
+    private ItemStack defaultCover;
+
+    /** Reused between renders, see {@link #getSideCoverRenderBounds}. */
+    private final int[] sideCoverOffset = new int[3];
+
+    /** Reused between renders, see {@link #getBlockColor}. */
+    private final MetadataOverlayBlockAccess colorBlockAccess = new MetadataOverlayBlockAccess(null, 0, 0, 0, 0);
+
+    /** Handler for slopes drawn beneath sloped rails, created when first needed. */
+    private BlockHandlerCarpentersSlope railSlopeHandler;
+
+    /** Sides of current block already tested against neighbours, see {@link #isSideExposed}. */
+    private int sideChecked;
+
+    /** Sides of current block found to be exposed, valid for sides in {@link #sideChecked}. */
+    private int sideExposed;
+
+    /** Render bounds of current block, see {@link #setRenderBoundsFromState}. */
+    private final double[] stateBounds = new double[6];
+
     @Override
     public void renderInventoryBlock(Block block, int metadata, int modelID, RenderBlocks renderBlocks)
     {
@@ -117,8 +170,11 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
     @Override
     public boolean renderWorldBlock(IBlockAccess blockAccess, int x, int y, int z, Block block, int modelID, RenderBlocks renderBlocks)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
-        VertexHelper.vertexCount = 0;
+        if (Thread.currentThread() != owner) {
+            return threadHandler.get().renderWorldBlock(blockAccess, x, y, z, block, modelID, renderBlocks);
+        }
+
+        renderContext.vertexCount = 0;
         renderPass = MinecraftForgeClient.getRenderPass();
         TileEntity TE_default = blockAccess.getTileEntity(x, y, z);
 
@@ -126,14 +182,25 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
 
             TE = (TEBase) TE_default;
             srcBlock = block;
+            sideChecked = 0;
             this.renderBlocks = renderBlocks;
-            lightingHelper = new LightingHelper(renderBlocks);
+            stateBounds[0] = renderBlocks.renderMinX;
+            stateBounds[1] = renderBlocks.renderMinY;
+            stateBounds[2] = renderBlocks.renderMinZ;
+            stateBounds[3] = renderBlocks.renderMaxX;
+            stateBounds[4] = renderBlocks.renderMaxY;
+            stateBounds[5] = renderBlocks.renderMaxZ;
+            if (lightingHelper == null) {
+                lightingHelper = new LightingHelper(renderBlocks);
+            } else {
+                lightingHelper.bind(renderBlocks);
+            }
 
-            renderCarpentersBlock(x, y, z);
+            renderCachedBlock(x, y, z);
             renderSideBlocks(x, y, z);
 
             if (FeatureRegistry.enableRoutableFluids) {
-                VertexHelper.vertexCount += RoutableFluidsHelper.render(TE, renderBlocks, x, y, z) ? 4 : 0;
+                renderContext.vertexCount += RoutableFluidsHelper.render(TE, renderBlocks, x, y, z) ? 4 : 0;
             }
 
             if (FeatureRegistry.enableRailSlopes)
@@ -143,7 +210,11 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
                 {
                     int metadata = ((BlockRailBase)blockYP).getBasicRailMetadata(blockAccess, null, x, y + 1, z);
 
-                    BlockHandlerCarpentersSlope slopeHandler = new BlockHandlerCarpentersSlope();
+                    if (railSlopeHandler == null) {
+                        railSlopeHandler = new BlockHandlerCarpentersSlope();
+                    }
+
+                    BlockHandlerCarpentersSlope slopeHandler = railSlopeHandler;
                     slopeHandler.renderBlocks = this.renderBlocks;
                     slopeHandler.TE = TE;
                     slopeHandler.lightingHelper = lightingHelper;
@@ -153,16 +224,16 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
                     switch (metadata)
                     {
                         case 2: // Sloping down -X (West)
-                            slopeHandler.renderSlope(getCoverForRendering(TE), Slope.WEDGE_POS_W, x, y + 1, z, true);
+                            slopeHandler.renderSlope(getCoverForRendering(), Slope.WEDGE_POS_W, x, y + 1, z, true);
                             break;
                         case 3: // Sloping down +X (East)
-                            slopeHandler.renderSlope(getCoverForRendering(TE), Slope.WEDGE_POS_E, x, y + 1, z, true);
+                            slopeHandler.renderSlope(getCoverForRendering(), Slope.WEDGE_POS_E, x, y + 1, z, true);
                             break;
                         case 4: // Sloping down +Z (South)
-                            slopeHandler.renderSlope(getCoverForRendering(TE), Slope.WEDGE_POS_S, x, y + 1, z, true);
+                            slopeHandler.renderSlope(getCoverForRendering(), Slope.WEDGE_POS_S, x, y + 1, z, true);
                             break;
                         case 5: // Sloping down -Z (North)
-                            slopeHandler.renderSlope(getCoverForRendering(TE), Slope.WEDGE_POS_N, x, y + 1, z, true);
+                            slopeHandler.renderSlope(getCoverForRendering(), Slope.WEDGE_POS_N, x, y + 1, z, true);
                             break;
                         default: {}
                     }
@@ -170,8 +241,7 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
             }
         }
 
-        org.lwjgl.opengl.GL11.glPopMatrix();
-        return VertexHelper.vertexCount > 0;
+        return renderContext.vertexCount > 0;
     }
 
     @Override
@@ -269,8 +339,36 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
      */
     protected ItemStack getCoverForRendering(TEBase ... TE)
     {
-        TEBase temp = TE.length == 0 ? this.TE : TE[0];
-        return BlockProperties.getCoverSafe(temp, coverRendering);
+        return getCoverOrDefault(TE.length == 0 ? this.TE : TE[0]);
+    }
+
+    /**
+     * Gets cover {@link ItemStack} for {@link #TE}.
+     *
+     * @return the {@link ItemStack}
+     * @see    #getCoverForRendering(TEBase...)
+     */
+    protected ItemStack getCoverForRendering()
+    {
+        return getCoverOrDefault(TE);
+    }
+
+    /**
+     * Uncovered blocks share a stack per handler rather than allocating
+     * one per call.  Rendering only ever marks it for default icons.
+     */
+    private ItemStack getCoverOrDefault(TEBase TE)
+    {
+        ItemStack itemStack = TE.getAttribute(TE.ATTR_COVER[coverRendering]);
+
+        if (itemStack == null) {
+            if (defaultCover == null || defaultCover.getItem() != Item.getItemFromBlock(TE.getBlockType())) {
+                defaultCover = new ItemStack(TE.getBlockType());
+            }
+            itemStack = defaultCover;
+        }
+
+        return itemStack;
     }
 
     /**
@@ -378,16 +476,20 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
      */
     protected int getTextureRotation(int side)
     {
-        int[] rotations = {
-                renderBlocks.uvRotateBottom,
-                renderBlocks.uvRotateTop,
-                renderBlocks.uvRotateNorth,
-                renderBlocks.uvRotateSouth,
-                renderBlocks.uvRotateWest,
-                renderBlocks.uvRotateEast
-        };
-
-        return rotations[side];
+        switch (side) {
+            case DOWN:
+                return renderBlocks.uvRotateBottom;
+            case UP:
+                return renderBlocks.uvRotateTop;
+            case NORTH:
+                return renderBlocks.uvRotateNorth;
+            case SOUTH:
+                return renderBlocks.uvRotateSouth;
+            case WEST:
+                return renderBlocks.uvRotateWest;
+            default:
+                return renderBlocks.uvRotateEast;
+        }
     }
 
     /**
@@ -443,6 +545,7 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
     /**
      * Sets up side cover rendering bounds.
      * Will return block location where side cover should be rendered.
+     * The returned array is reused by subsequent calls.
      */
     protected int[] getSideCoverRenderBounds(int x, int y, int z, int side)
     {
@@ -526,7 +629,11 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
                 break;
         }
 
-        return new int[] { x, y, z };
+        sideCoverOffset[0] = x;
+        sideCoverOffset[1] = y;
+        sideCoverOffset[2] = z;
+
+        return sideCoverOffset;
     }
 
     /**
@@ -534,19 +641,19 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
      */
     protected void renderSideBlocks(int x, int y, int z)
     {
-        renderBlocks.renderAllFaces = true;
+        if (!TE.hasSideCovers()) {
+            return;
+        }
 
-        srcBlock.setBlockBoundsBasedOnState(renderBlocks.blockAccess, x, y, z);
+        renderBlocks.renderAllFaces = true;
 
-        for (int side = 0; side < 6; ++side)
+        for (int mask = TE.getSideCoverMask(); mask != 0; mask &= mask - 1)
         {
-            if (TE.hasAttribute(TE.ATTR_COVER[side]))
-            {
-                coverRendering = side;
-                int[] renderOffset = getSideCoverRenderBounds(x, y, z, side);
-                renderBlock(getCoverForRendering(), renderOffset[0], renderOffset[1], renderOffset[2]);
-                renderBlocks.setRenderBoundsFromBlock(srcBlock);
-            }
+            int side = Integer.numberOfTrailingZeros(mask);
+            coverRendering = side;
+            setRenderBoundsFromState();
+            int[] renderOffset = getSideCoverRenderBounds(x, y, z, side);
+            renderBlock(getCoverForRendering(), renderOffset[0], renderOffset[1], renderOffset[2]);
         }
 
         renderBlocks.renderAllFaces = false;
@@ -610,9 +717,9 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
 
         if (renderPass == PASS_OPAQUE && block.equals(Blocks.grass) && side > 0 && !isPositiveFace(side)) {
             if (Minecraft.isFancyGraphicsEnabled()) {
-                setColorAndRender(new ItemStack(Blocks.grass), x, y, z, side, BlockGrass.getIconSideOverlay());
+                setColorAndRender(grass, x, y, z, side, BlockGrass.getIconSideOverlay());
             } else {
-                setColorAndRender(new ItemStack(Blocks.dirt), x, y, z, side, IconRegistry.icon_overlay_fast_grass_side);
+                setColorAndRender(dirt, x, y, z, side, IconRegistry.icon_overlay_fast_grass_side);
             }
         }
 
@@ -672,9 +779,8 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
      */
     protected void renderChiselDesign(int x, int y, int z, int side)
     {
-        String design = TE.getChiselDesign(coverRendering);
-        IIcon icon = renderBlocks.getIconSafe(IconRegistry.icon_design_chisel.get(DesignHandler.listChisel.indexOf(design)));
-        setColorAndRender(new ItemStack(Blocks.glass), x, y, z, side, icon);
+        IIcon icon = renderBlocks.getIconSafe(IconRegistry.icon_design_chisel.get(TE.getChiselDesignId(coverRendering)));
+        setColorAndRender(glass, x, y, z, side, icon);
     }
 
     /**
@@ -694,14 +800,29 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
      */
     public final void setColorAndRender(ItemStack itemStack, int x, int y, int z, int side, IIcon icon)
     {
-        int color = getBlockColor(BlockProperties.toBlock(itemStack), itemStack.getItemDamage(), x, y, z, side, icon);
+        Block block = BlockProperties.toBlock(itemStack);
+        boolean hasDye = !suppressDyeColor && (TE.hasAttribute(TE.ATTR_DYE[coverRendering]) || hasDyeOverride);
+        int color;
 
-        if (!suppressDyeColor && (TE.hasAttribute(TE.ATTR_DYE[coverRendering]) || hasDyeOverride)) {
+        if (hasDye) {
             color = hasDyeOverride ? dyeOverride : DyeHandler.getColor(TE.getAttribute(TE.ATTR_DYE[coverRendering]));
+        } else {
+            color = getBlockColor(block, itemStack.getItemDamage(), x, y, z, side, icon);
+        }
+
+        QuadCache.Recorder recorder = renderContext.recorder;
+
+        if (recorder != null) {
+            recorder.beginFace(lightingHelper, block, itemStack.getItemDamage(), x, y, z, side, icon, hasDye, color);
         }
 
         lightingHelper.setupColor(x, y, z, side, color, icon);
         render(x, y, z, side, icon);
+
+        if (recorder != null) {
+            recorder.endFace();
+        }
+
         VertexHelper.postRender();
     }
 
@@ -724,9 +845,8 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
             block = Blocks.dirt;
         }
 
-        TE.setMetadata(metadata);
-        int color = OptifineHandler.enableOptifineIntegration ? OptifineHandler.getColorMultiplier(block, TE.getWorldObj(), x, y, z) : block.colorMultiplier(TE.getWorldObj(), x, y, z);
-        TE.restoreMetadata();
+        IBlockAccess blockAccess = colorBlockAccess.set(renderBlocks.blockAccess, TE.xCoord, TE.yCoord, TE.zCoord, metadata);
+        int color = OptifineHandler.enableOptifineIntegration ? OptifineHandler.getColorMultiplier(block, blockAccess, x, y, z) : block.colorMultiplier(blockAccess, x, y, z);
 
         if (block.equals(Blocks.grass) && !isPositiveFace(side) && !icon.equals(BlockGrass.getIconSideOverlay())) {
             color = 16777215;
@@ -813,7 +933,7 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
      */
     private void doLightAndRenderSide(IIcon icon, int x, int y, int z, ForgeDirection facing, boolean enableAO)
     {
-        ItemStack itemStack = new ItemStack(Blocks.glass);
+        ItemStack itemStack = glass;
         int blockColor = getBlockColor(Blocks.glass, 0, x, y, z, facing.ordinal(), null);
 
         boolean hasAO = renderBlocks.enableAO;
@@ -865,6 +985,141 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
         renderBlock(getCoverForRendering(), x, y, z);
     }
 
+    /**
+     * Renders block through {@link QuadCache} if handler supports it,
+     * otherwise through {@link #renderCarpentersBlock}.
+     */
+    private void renderCachedBlock(int x, int y, int z)
+    {
+        long cullMask = canCacheFaces() ? getCullMask(x, y, z) : -1L;
+
+        if (cullMask < 0L) {
+            renderCarpentersBlock(x, y, z);
+            return;
+        }
+
+        QuadCache.Model model = QuadCache.getModel(TE, srcBlock);
+        long variant = QuadCache.getVariant(cullMask, renderPass);
+        QuadCache.Baked baked = model.get(variant);
+
+        if (baked != null) {
+            renderBaked(baked, x, y, z);
+            return;
+        }
+
+        renderContext.recorder = new QuadCache.Recorder(x, y, z);
+
+        try {
+            renderCarpentersBlock(x, y, z);
+            model.put(variant, renderContext.recorder.finish(renderBlocks, lightingHelper, renderContext.drawMode));
+        } finally {
+            renderContext.recorder = null;
+        }
+    }
+
+    /**
+     * Returns whether faces drawn in current environment may be cached.
+     * <p>
+     * Breaking animation, forced faces, handler overrides and Optifine,
+     * which may connect textures by position, are always drawn normally.
+     */
+    private boolean canCacheFaces()
+    {
+        return !renderBlocks.hasOverrideBlockTexture() &&
+               !renderBlocks.renderAllFaces &&
+               !suppressOverlay &&
+               !suppressChiselDesign &&
+               !suppressDyeColor &&
+               !hasDyeOverride &&
+               hasIconOverride.isEmpty() &&
+               !OptifineHandler.enableOptifineIntegration;
+    }
+
+    /**
+     * Returns sides of block that are drawn, as decided by neighbours,
+     * for {@link QuadCache}.
+     * <p>
+     * Handlers that draw faces depending only on tile entity state and
+     * the sides returned here may override this to have their faces cached.
+     * Lighting that is adjusted after being set up must be noted through
+     * {@link LightingHelper#setLightingSource}, and be set up again by
+     * {@link #setupLighting(ItemStack, int, int, int, int, int)}.
+     *
+     * @param  x the x coordinate
+     * @param  y the y coordinate
+     * @param  z the z coordinate
+     * @return a bitmask of drawn sides, or -1 if faces should not be cached
+     */
+    protected long getCullMask(int x, int y, int z)
+    {
+        return -1L;
+    }
+
+    /**
+     * Sets up lighting noted for a face recorded by {@link QuadCache}.
+     * <p>
+     * Handlers noting their own lighting sources must override this.
+     *
+     * @param itemStack the cover {@link ItemStack}
+     * @param source the lighting source, see {@link LightingHelper#setLightingSource}
+     * @param arg the value identifying lighting within source
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     */
+    protected void setupLighting(ItemStack itemStack, int source, int arg, int x, int y, int z)
+    {
+        switch (source) {
+            case DOWN:
+                lightingHelper.setupLightingYNeg(itemStack, x, y, z);
+                break;
+            case UP:
+                lightingHelper.setupLightingYPos(itemStack, x, y, z);
+                break;
+            case NORTH:
+                lightingHelper.setupLightingZNeg(itemStack, x, y, z);
+                break;
+            case SOUTH:
+                lightingHelper.setupLightingZPos(itemStack, x, y, z);
+                break;
+            case WEST:
+                lightingHelper.setupLightingXNeg(itemStack, x, y, z);
+                break;
+            case EAST:
+                lightingHelper.setupLightingXPos(itemStack, x, y, z);
+                break;
+        }
+    }
+
+    /**
+     * Draws faces recorded by {@link QuadCache}, setting up lighting
+     * and color again for block coordinates.
+     */
+    private void renderBaked(QuadCache.Baked baked, int x, int y, int z)
+    {
+        for (int idx = 0; idx < baked.size(); ++idx)
+        {
+            QuadCache.Face face = baked.getFace(idx);
+
+            face.restoreBounds(renderBlocks);
+            if (face.relight) {
+                setupLighting(face.sourceStack, face.source, face.sourceArg, x + face.sourceX, y + face.sourceY, z + face.sourceZ);
+            }
+            face.restoreOverrides(lightingHelper);
+
+            int faceX = x + face.x;
+            int faceY = y + face.y;
+            int faceZ = z + face.z;
+            int color = face.hasColor ? face.color : getBlockColor(face.block, face.metadata, faceX, faceY, faceZ, face.side, face.icon);
+
+            lightingHelper.setupColor(faceX, faceY, faceZ, face.side, color, face.icon);
+            renderContext.vertexCount += face.draw(renderBlocks, x, y, z);
+        }
+
+        baked.restoreState(renderBlocks, lightingHelper);
+        renderBlocks.enableAO = false;
+    }
+
     /**
      * Sets renderBlocks enableAO state to true depending on
      * rendering environment and block requirements.
@@ -875,6 +1130,85 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
         return Minecraft.isAmbientOcclusionEnabled() && !disableAO && block.getLightValue() == 0;
     }
 
+    /**
+     * Sets render bounds to those of current block, as set by
+     * {@link RenderBlocks} from block state before calling this handler.
+     * <p>
+     * Block bounds are shared by all threads drawing the block type, so
+     * are never read or changed while rendering.
+     */
+    protected void setRenderBoundsFromState()
+    {
+        renderBlocks.setRenderBounds(stateBounds[0], stateBounds[1], stateBounds[2], stateBounds[3], stateBounds[4], stateBounds[5]);
+    }
+
+    /**
+     * Returns whether side of current render bounds should be drawn.
+     * <p>
+     * Sides inside the block space are always drawn.  Sides on its edge
+     * are drawn if not hidden by the neighbour, see {@link #isSideExposed}.
+     *
+     * @param  x the x coordinate of block
+     * @param  y the y coordinate of block
+     * @param  z the z coordinate of block
+     * @param  side the side
+     * @return <code>true</code> if side should be drawn
+     */
+    protected boolean isSideVisible(int x, int y, int z, int side)
+    {
+        switch (side) {
+            case DOWN:
+                return renderBlocks.renderMinY > 0.0D || isSideExposed(x, y, z, side);
+            case UP:
+                return renderBlocks.renderMaxY < 1.0D || isSideExposed(x, y, z, side);
+            case NORTH:
+                return renderBlocks.renderMinZ > 0.0D || isSideExposed(x, y, z, side);
+            case SOUTH:
+                return renderBlocks.renderMaxZ < 1.0D || isSideExposed(x, y, z, side);
+            case WEST:
+                return renderBlocks.renderMinX > 0.0D || isSideExposed(x, y, z, side);
+            default:
+                return renderBlocks.renderMaxX < 1.0D || isSideExposed(x, y, z, side);
+        }
+    }
+
+    /**
+     * Returns whether side of block space at coordinates is not hidden by
+     * its neighbour, as decided by {@link BlockCoverable#isSideExposed}.
+     * <p>
+     * Blocks are often drawn as several boxes that each test the same
+     * neighbours, so results for the block being rendered are kept
+     * until the next block.
+     *
+     * @param  x the x coordinate of block
+     * @param  y the y coordinate of block
+     * @param  z the z coordinate of block
+     * @param  side the side
+     * @return <code>true</code> if neighbour does not hide side
+     */
+    protected boolean isSideExposed(int x, int y, int z, int side)
+    {
+        ForgeDirection dir = ForgeDirection.getOrientation(side);
+        BlockCoverable block = (BlockCoverable) srcBlock;
+
+        if (x != TE.xCoord || y != TE.yCoord || z != TE.zCoord) {
+            return block.isSideExposed(renderBlocks.blockAccess, x + dir.offsetX, y + dir.offsetY, z + dir.offsetZ, side);
+        }
+
+        int bit = 1 << side;
+
+        if ((sideChecked & bit) == 0) {
+            if (block.isSideExposed(renderBlocks.blockAccess, x + dir.offsetX, y + dir.offsetY, z + dir.offsetZ, side)) {
+                sideExposed |= bit;
+            } else {
+                sideExposed &= ~bit;
+            }
+            sideChecked |= bit;
+        }
+
+        return (sideExposed & bit) != 0;
+    }
+
     /**
      * Renders block.
      * Coordinates may change since side covers render here.
@@ -887,37 +1221,37 @@ public class BlockHandlerBase implements ISimpleBlockRenderingHandler {
 
         renderBlocks.enableAO = getEnableAO(itemStack);
 
-        if (renderBlocks.renderAllFaces || srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y - 1, z, DOWN) || renderBlocks.renderMinY > 0.0D)
+        if (renderBlocks.renderAllFaces || isSideVisible(x, y, z, DOWN))
         {
             lightingHelper.setupLightingYNeg(itemStack, x, y, z);
             delegateSideRender(itemStack, x, y, z, DOWN);
         }
 
-        if (renderBlocks.renderAllFaces || srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y + 1, z, UP) || renderBlocks.renderMaxY < 1.0D)
+        if (renderBlocks.renderAllFaces || isSideVisible(x, y, z, UP))
         {
             lightingHelper.setupLightingYPos(itemStack, x, y, z);
             delegateSideRender(itemStack, x, y, z, UP);
         }
 
-        if (renderBlocks.renderAllFaces || srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y, z - 1, NORTH) || renderBlocks.renderMinZ > 0.0D)
+        if (renderBlocks.renderAllFaces || isSideVisible(x, y, z, NORTH))
         {
             lightingHelper.setupLightingZNeg(itemStack, x, y, z);
             delegateSideRender(itemStack, x, y, z, NORTH);
         }
 
-        if (renderBlocks.renderAllFaces || srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y, z + 1, SOUTH) || renderBlocks.renderMaxZ < 1.0D)
+        if (renderBlocks.renderAllFaces || isSideVisible(x, y, z, SOUTH))
         {
             lightingHelper.setupLightingZPos(itemStack, x, y, z);
             delegateSideRender(itemStack, x, y, z, SOUTH);
         }
 
-        if (renderBlocks.renderAllFaces || srcBlock.shouldSideBeRendered(TE.getWorldObj(), x - 1, y, z, WEST) || renderBlocks.renderMinX > 0.0D)
+        if (renderBlocks.renderAllFaces || isSideVisible(x, y, z, WEST))
         {
             lightingHelper.setupLightingXNeg(itemStack, x, y, z);
             delegateSideRender(itemStack, x, y, z, WEST);
         }
 
-        if (renderBlocks.renderAllFaces || srcBlock.shouldSideBeRendered(TE.getWorldObj(), x + 1, y, z, EAST) || renderBlocks.renderMaxX < 1.0D)
+        if (renderBlocks.renderAllFaces || isSideVisible(x, y, z, EAST))
         {
             lightingHelper.setupLightingXPos(itemStack, x, y, z);
             delegateSideRender(itemStack, x, y, z, EAST);
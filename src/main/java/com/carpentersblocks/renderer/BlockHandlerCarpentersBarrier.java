@@ -42,7 +42,6 @@ public class BlockHandlerCarpentersBarrier extends BlockHandlerBase {
      */
     protected void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         int type = Barrier.getType(TE);
         ItemStack itemStack = getCoverForRendering();
 
@@ -61,7 +60,6 @@ public class BlockHandlerCarpentersBarrier extends BlockHandlerBase {
             default:
                 renderTypeVanilla(itemStack, x, y, z);
         }
-        org.lwjgl.opengl.GL11.glPopMatrix();
     }
 
     private void findBarriers(int x, int y, int z)
@@ -7,7 +7,6 @@ import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Bed;
 import com.carpentersblocks.renderer.helper.VertexHelper;
 import com.carpentersblocks.tileentity.TEBase;
-import com.carpentersblocks.util.handler.DesignHandler;
 import com.carpentersblocks.util.handler.DyeHandler;
 import com.carpentersblocks.util.registry.IconRegistry;
 import cpw.mods.fml.relauncher.Side;
@@ -16,6 +15,8 @@ import cpw.mods.fml.relauncher.SideOnly;
 @SideOnly(Side.CLIENT)
 public class BlockHandlerCarpentersBed extends BlockHandlerBase {
 
+    private final static int[] ROTATE_TOP = { 2, 0, 1, 3 };
+
     private IIcon[] icon_design;
 
     private ForgeDirection dir;
@@ -28,6 +29,9 @@ public class BlockHandlerCarpentersBed extends BlockHandlerBase {
     private TEBase TE_head;
     private TEBase TE_foot;
 
+    /** Reused for fabric components, damage is set before each use. */
+    private ItemStack wool = new ItemStack(Blocks.wool);
+
     @Override
     public boolean shouldRender3DInInventory(int modelId)
     {
@@ -66,7 +70,6 @@ public class BlockHandlerCarpentersBed extends BlockHandlerBase {
      */
     protected void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         renderBlocks.renderAllFaces = true;
 
         // Continue only if bed is complete
@@ -78,7 +81,7 @@ public class BlockHandlerCarpentersBed extends BlockHandlerBase {
 
         // Render mattress, pillow and blanket
 
-        renderFabricComponents(new ItemStack(Blocks.wool), x, y, z);
+        renderFabricComponents(wool, x, y, z);
 
         // Render frame with dye override
 
@@ -97,7 +100,6 @@ public class BlockHandlerCarpentersBed extends BlockHandlerBase {
         clearDyeOverride();
         suppressDyeColor = false;
         renderBlocks.renderAllFaces = false;
-        org.lwjgl.opengl.GL11.glPopMatrix();
     }
 
     /**
@@ -123,7 +125,7 @@ public class BlockHandlerCarpentersBed extends BlockHandlerBase {
         isOccupied = Bed.isOccupied(TE_head) || Bed.isOccupied(TE_foot);
 
         if (hasDesign) {
-            icon_design = IconRegistry.icon_design_bed.get(DesignHandler.listBed.indexOf(TE.getDesign()));
+            icon_design = IconRegistry.icon_design_bed.get(TE.getDesignId());
         }
     }
 
@@ -136,8 +138,8 @@ public class BlockHandlerCarpentersBed extends BlockHandlerBase {
         suppressOverlay = true;
         suppressChiselDesign = true;
 
-        int[] rotateTop = { 2, 0, 1, 3 };
-        renderBlocks.uvRotateTop = renderBlocks.uvRotateBottom = rotateTop[dir.ordinal() - 2];
+        itemStack.setItemDamage(0);
+        renderBlocks.uvRotateTop = renderBlocks.uvRotateBottom = ROTATE_TOP[dir.ordinal() - 2];
         renderPillow(itemStack, x, y, z);
         renderBlanket(itemStack, x, y, z);
         renderBlocks.uvRotateTop = renderBlocks.uvRotateBottom = 0;
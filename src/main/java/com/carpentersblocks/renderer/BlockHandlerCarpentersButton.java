@@ -23,11 +23,9 @@ public class BlockHandlerCarpentersButton extends BlockHandlerBase {
      */
     protected void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         renderBlocks.renderAllFaces = true;
         super.renderCarpentersBlock(x, y, z);
         renderBlocks.renderAllFaces = false;
-        org.lwjgl.opengl.GL11.glPopMatrix();
     }
 
 }
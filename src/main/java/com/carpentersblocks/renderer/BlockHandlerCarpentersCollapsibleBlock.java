@@ -111,22 +111,22 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
     protected void renderBaseBlock(ItemStack itemStack, int x, int y, int z)
     {
         renderBlocks.enableAO = getEnableAO(itemStack);
-        CollapsibleUtil.computeOffsets(TE);
+        RenderHelperCollapsible.computeOffsets(TE, renderContext);
 
         // Render sloped top or bottom face
 
         VertexHelper.startDrawing(GL11.GL_TRIANGLES);
-        isSideSloped = true;
+        renderContext.isSideSloped = true;
         if (Collapsible.INSTANCE.isPositive(TE)) {
-            if (srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y + 1, z, UP) || !CollapsibleUtil.isMax(TE)) {
+            if (isSideExposed(x, y, z, UP) || !CollapsibleUtil.isMax(TE)) {
                 prepareTopFace(itemStack, x, y, z);
             }
         } else {
-            if (srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y - 1, z, DOWN) || !CollapsibleUtil.isMax(TE)) {
+            if (isSideExposed(x, y, z, DOWN) || !CollapsibleUtil.isMax(TE)) {
                 prepareBottomFace(itemStack, x, y, z);
             }
         }
-        isSideSloped = false;
+        renderContext.isSideSloped = false;
 
         // Render all other faces
 
@@ -137,12 +137,12 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         // Render solid face at base of block
 
         if (Collapsible.INSTANCE.isPositive(TE)) {
-            if (srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y - 1, z, DOWN)) {
+            if (isSideVisible(x, y, z, DOWN)) {
                 lightingHelper.setupLightingYNeg(itemStack, x, y, z);
                 setIDAndRender(itemStack, NORMAL_YN, x, y, z, DOWN);
             }
         } else {
-            if (srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y + 1, z, UP)) {
+            if (isSideVisible(x, y, z, UP)) {
                 lightingHelper.setupLightingYPos(itemStack, x, y, z);
                 setIDAndRender(itemStack, NORMAL_YP, x, y, z, UP);
             }
@@ -153,29 +153,29 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         double stepDepth = 1.0D / 16.0D;
 
         /* NORTH FACE */
-        if (srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y, z - 1, NORTH)) {
-            if (CollapsibleUtil.offset_XZNN + CollapsibleUtil.offset_XZPN >= stepDepth) {
+        if (isSideVisible(x, y, z, NORTH)) {
+            if (renderContext.offset_XZNN + renderContext.offset_XZPN >= stepDepth) {
                 prepareFaceZNeg(itemStack, x, y, z);
             }
         }
 
         /* SOUTH FACE */
-        if (srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y, z + 1, SOUTH)) {
-            if (CollapsibleUtil.offset_XZNP + CollapsibleUtil.offset_XZPP >= stepDepth) {
+        if (isSideVisible(x, y, z, SOUTH)) {
+            if (renderContext.offset_XZNP + renderContext.offset_XZPP >= stepDepth) {
                 prepareFaceZPos(itemStack, x, y, z);
             }
         }
 
         /* WEST FACE */
-        if (srcBlock.shouldSideBeRendered(TE.getWorldObj(), x - 1, y, z, WEST)) {
-            if (CollapsibleUtil.offset_XZNN + CollapsibleUtil.offset_XZNP >= stepDepth) {
+        if (isSideVisible(x, y, z, WEST)) {
+            if (renderContext.offset_XZNN + renderContext.offset_XZNP >= stepDepth) {
                 prepareFaceXNeg(itemStack, x, y, z);
             }
         }
 
         /* EAST FACE */
-        if (srcBlock.shouldSideBeRendered(TE.getWorldObj(), x + 1, y, z, EAST)) {
-            if (CollapsibleUtil.offset_XZPN + CollapsibleUtil.offset_XZPP >= stepDepth) {
+        if (isSideVisible(x, y, z, EAST)) {
+            if (renderContext.offset_XZPN + renderContext.offset_XZPP >= stepDepth) {
                 prepareFaceXPos(itemStack, x, y, z);
             }
         }
@@ -192,23 +192,23 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
 
             switch (side) {
                 case NORTH: {
-                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(CollapsibleUtil.offset_XZNN - CollapsibleUtil.offset_XZPN);
-                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(CollapsibleUtil.CENTER_YMAX - (CollapsibleUtil.offset_XZPN + CollapsibleUtil.offset_XZNN) / 2.0F) * 2.0F;
+                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(renderContext.offset_XZNN - renderContext.offset_XZPN);
+                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(renderContext.CENTER_YMAX - (renderContext.offset_XZPN + renderContext.offset_XZNN) / 2.0F) * 2.0F;
                     return (float) (lightingHelper.LIGHTNESS[0] + (lightness_WE + lightness_NS) / 2.0F);
                 }
                 case SOUTH: {
-                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(CollapsibleUtil.offset_XZNP - CollapsibleUtil.offset_XZPP);
-                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(CollapsibleUtil.CENTER_YMAX - (CollapsibleUtil.offset_XZPP + CollapsibleUtil.offset_XZNP) / 2.0F) * 2.0F;
+                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(renderContext.offset_XZNP - renderContext.offset_XZPP);
+                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(renderContext.CENTER_YMAX - (renderContext.offset_XZPP + renderContext.offset_XZNP) / 2.0F) * 2.0F;
                     return (float) (lightingHelper.LIGHTNESS[0] + (lightness_WE + lightness_NS) / 2.0F);
                 }
                 case WEST: {
-                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(CollapsibleUtil.offset_XZNN - CollapsibleUtil.offset_XZNP);
-                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(CollapsibleUtil.CENTER_YMAX - (CollapsibleUtil.offset_XZNP + CollapsibleUtil.offset_XZNN) / 2.0F) * 2.0F;
+                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(renderContext.offset_XZNN - renderContext.offset_XZNP);
+                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(renderContext.CENTER_YMAX - (renderContext.offset_XZNP + renderContext.offset_XZNN) / 2.0F) * 2.0F;
                     return (float) (lightingHelper.LIGHTNESS[0] + (lightness_WE + lightness_NS) / 2.0F);
                 }
                 case EAST: {
-                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(CollapsibleUtil.offset_XZPP - CollapsibleUtil.offset_XZPN);
-                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(CollapsibleUtil.CENTER_YMAX - (CollapsibleUtil.offset_XZPP + CollapsibleUtil.offset_XZPN) / 2.0F) * 2.0F;
+                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(renderContext.offset_XZPP - renderContext.offset_XZPN);
+                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(renderContext.CENTER_YMAX - (renderContext.offset_XZPP + renderContext.offset_XZPN) / 2.0F) * 2.0F;
                     return (float) (lightingHelper.LIGHTNESS[0] + (lightness_WE + lightness_NS) / 2.0F);
                 }
                 default:
@@ -219,23 +219,23 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
 
             switch (side) {
                 case NORTH: {
-                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(CollapsibleUtil.offset_XZNN - CollapsibleUtil.offset_XZPN);
-                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(CollapsibleUtil.CENTER_YMAX - (CollapsibleUtil.offset_XZPN + CollapsibleUtil.offset_XZNN) / 2.0F) * 2.0F;
+                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(renderContext.offset_XZNN - renderContext.offset_XZPN);
+                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(renderContext.CENTER_YMAX - (renderContext.offset_XZPN + renderContext.offset_XZNN) / 2.0F) * 2.0F;
                     return (float) (lightingHelper.LIGHTNESS[1] - (lightness_WE + lightness_NS) / 2.0F);
                 }
                 case SOUTH: {
-                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(CollapsibleUtil.offset_XZNP - CollapsibleUtil.offset_XZPP);
-                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(CollapsibleUtil.CENTER_YMAX - (CollapsibleUtil.offset_XZPP + CollapsibleUtil.offset_XZNP) / 2.0F) * 2.0F;
+                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(renderContext.offset_XZNP - renderContext.offset_XZPP);
+                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(renderContext.CENTER_YMAX - (renderContext.offset_XZPP + renderContext.offset_XZNP) / 2.0F) * 2.0F;
                     return (float) (lightingHelper.LIGHTNESS[1] - (lightness_WE + lightness_NS) / 2.0F);
                 }
                 case WEST: {
-                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(CollapsibleUtil.offset_XZNN - CollapsibleUtil.offset_XZNP);
-                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(CollapsibleUtil.CENTER_YMAX - (CollapsibleUtil.offset_XZNP + CollapsibleUtil.offset_XZNN) / 2.0F) * 2.0F;
+                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(renderContext.offset_XZNN - renderContext.offset_XZNP);
+                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(renderContext.CENTER_YMAX - (renderContext.offset_XZNP + renderContext.offset_XZNN) / 2.0F) * 2.0F;
                     return (float) (lightingHelper.LIGHTNESS[1] - (lightness_WE + lightness_NS) / 2.0F);
                 }
                 case EAST: {
-                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(CollapsibleUtil.offset_XZPP - CollapsibleUtil.offset_XZPN);
-                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(CollapsibleUtil.CENTER_YMAX - (CollapsibleUtil.offset_XZPP + CollapsibleUtil.offset_XZPN) / 2.0F) * 2.0F;
+                    double lightness_WE = (1.0F - lightingHelper.LIGHTNESS[2]) * Math.abs(renderContext.offset_XZPP - renderContext.offset_XZPN);
+                    double lightness_NS = (1.0F - lightingHelper.LIGHTNESS[4]) * Math.abs(renderContext.CENTER_YMAX - (renderContext.offset_XZPP + renderContext.offset_XZPN) / 2.0F) * 2.0F;
                     return (float) (lightingHelper.LIGHTNESS[1] - (lightness_WE + lightness_NS) / 2.0F);
                 }
                 default:
@@ -252,35 +252,35 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
     {
         /* Compute CENTER_YMAX lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 0.5D, CollapsibleUtil.CENTER_YMAX, 0.5D);
+        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 0.5D, renderContext.CENTER_YMAX, 0.5D);
         lightingHelper.setupLightingYPos(itemStack, x, y, z);
         float aoCenter = lightingHelper.ao[SOUTHEAST];
         int brightnessCenter = renderBlocks.brightnessTopLeft;
 
         /* Compute XZPP corner lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, CollapsibleUtil.offset_XZPP, 1.0D);
+        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, renderContext.offset_XZPP, 1.0D);
         lightingHelper.setupLightingYPos(itemStack, x, y, z);
         float aoXZPP = lightingHelper.ao[SOUTHEAST];
         int brightnessXZPP = renderBlocks.brightnessTopLeft;
 
         /* Compute XZPN corner lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, CollapsibleUtil.offset_XZPN, 1.0D);
+        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, renderContext.offset_XZPN, 1.0D);
         lightingHelper.setupLightingYPos(itemStack, x, y, z);
         float aoXZPN = lightingHelper.ao[NORTHEAST];
         int brightnessXZPN = renderBlocks.brightnessBottomLeft;
 
         /* Compute XZNN corner lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, CollapsibleUtil.offset_XZNN, 1.0D);
+        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, renderContext.offset_XZNN, 1.0D);
         lightingHelper.setupLightingYPos(itemStack, x, y, z);
         float aoXZNN = lightingHelper.ao[NORTHWEST];
         int brightnessXZNN = renderBlocks.brightnessBottomRight;
 
         /* Compute XZNP corner lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, CollapsibleUtil.offset_XZNP, 1.0D);
+        renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, renderContext.offset_XZNP, 1.0D);
         lightingHelper.setupLightingYPos(itemStack, x, y, z);
         float aoXZNP = lightingHelper.ao[SOUTHWEST];
         int brightnessXZNP = renderBlocks.brightnessTopRight;
@@ -288,7 +288,7 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         /* Top North triangle. */
 
         lightingHelper.setLightnessOverride(getInterpolatedLightness(ForgeDirection.NORTH, 1));
-        renderBlocks.setRenderBounds(0.0D, Math.min(CollapsibleUtil.offset_XZNN, CollapsibleUtil.offset_XZPN), 0.0D, 1.0D, Math.max(CollapsibleUtil.offset_XZNN, CollapsibleUtil.offset_XZPN), 0.5D);
+        renderBlocks.setRenderBounds(0.0D, Math.min(renderContext.offset_XZNN, renderContext.offset_XZPN), 0.0D, 1.0D, Math.max(renderContext.offset_XZNN, renderContext.offset_XZPN), 0.5D);
         lightingHelper.ao[TOP_LEFT] = lightingHelper.ao[TOP_RIGHT] = aoCenter;
         renderBlocks.brightnessTopLeft = renderBlocks.brightnessTopRight = brightnessCenter;
         lightingHelper.ao[BOTTOM_LEFT] = aoXZPN;
@@ -300,7 +300,7 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         /* Top South triangle. */
 
         lightingHelper.setLightnessOverride(getInterpolatedLightness(ForgeDirection.SOUTH, 1));
-        renderBlocks.setRenderBounds(0.0D, Math.min(CollapsibleUtil.offset_XZNP, CollapsibleUtil.offset_XZPP), 0.5D, 1.0D, Math.max(CollapsibleUtil.offset_XZNP, CollapsibleUtil.offset_XZPP), 1.0D);
+        renderBlocks.setRenderBounds(0.0D, Math.min(renderContext.offset_XZNP, renderContext.offset_XZPP), 0.5D, 1.0D, Math.max(renderContext.offset_XZNP, renderContext.offset_XZPP), 1.0D);
         lightingHelper.ao[BOTTOM_LEFT] = lightingHelper.ao[BOTTOM_RIGHT] = aoCenter;
         renderBlocks.brightnessBottomLeft = renderBlocks.brightnessBottomRight = brightnessCenter;
         lightingHelper.ao[TOP_LEFT] = aoXZPP;
@@ -312,7 +312,7 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         /* Top West triangle. */
 
         lightingHelper.setLightnessOverride(getInterpolatedLightness(ForgeDirection.WEST, 1));
-        renderBlocks.setRenderBounds(0.0D, Math.min(CollapsibleUtil.offset_XZNN, CollapsibleUtil.offset_XZNP), 0.0D, 0.5D, Math.max(CollapsibleUtil.offset_XZNN, CollapsibleUtil.offset_XZNP), 1.0D);
+        renderBlocks.setRenderBounds(0.0D, Math.min(renderContext.offset_XZNN, renderContext.offset_XZNP), 0.0D, 0.5D, Math.max(renderContext.offset_XZNN, renderContext.offset_XZNP), 1.0D);
         lightingHelper.ao[TOP_LEFT] = lightingHelper.ao[BOTTOM_LEFT] = aoCenter;
         renderBlocks.brightnessTopLeft = renderBlocks.brightnessBottomLeft = brightnessCenter;
         lightingHelper.ao[TOP_RIGHT] = aoXZNP;
@@ -324,7 +324,7 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         /* Top East triangle. */
 
         lightingHelper.setLightnessOverride(getInterpolatedLightness(ForgeDirection.EAST, 1));
-        renderBlocks.setRenderBounds(0.5D, Math.min(CollapsibleUtil.offset_XZPN, CollapsibleUtil.offset_XZPP), 0.0D, 1.0D, Math.max(CollapsibleUtil.offset_XZPN, CollapsibleUtil.offset_XZPP), 1.0D);
+        renderBlocks.setRenderBounds(0.5D, Math.min(renderContext.offset_XZPN, renderContext.offset_XZPP), 0.0D, 1.0D, Math.max(renderContext.offset_XZPN, renderContext.offset_XZPP), 1.0D);
         lightingHelper.ao[TOP_RIGHT] = lightingHelper.ao[BOTTOM_RIGHT] = aoCenter;
         renderBlocks.brightnessTopRight = renderBlocks.brightnessBottomRight = brightnessCenter;
         lightingHelper.ao[TOP_LEFT] = aoXZPP;
@@ -343,35 +343,35 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
     {
         /* Compute CENTER_YMAX lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 1.0D - CollapsibleUtil.CENTER_YMAX, 0.0D, 0.5D, 1.0D, 0.5D);
+        renderBlocks.setRenderBounds(0.0D, 1.0D - renderContext.CENTER_YMAX, 0.0D, 0.5D, 1.0D, 0.5D);
         lightingHelper.setupLightingYNeg(itemStack, x, y, z);
         float aoCenter = lightingHelper.ao[SOUTHEAST];
         int brightnessCenter = renderBlocks.brightnessTopLeft;
 
         /* Compute XZPP corner lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 1.0D - CollapsibleUtil.offset_XZPP, 0.0D, 1.0D, 1.0D, 1.0D);
+        renderBlocks.setRenderBounds(0.0D, 1.0D - renderContext.offset_XZPP, 0.0D, 1.0D, 1.0D, 1.0D);
         lightingHelper.setupLightingYNeg(itemStack, x, y, z);
         float aoXZPP = lightingHelper.ao[SOUTHEAST];
         int brightnessXZPP = renderBlocks.brightnessTopLeft;
 
         /* Compute XZPN corner lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 1.0D - CollapsibleUtil.offset_XZPN, 0.0D, 1.0D, 1.0D, 1.0D);
+        renderBlocks.setRenderBounds(0.0D, 1.0D - renderContext.offset_XZPN, 0.0D, 1.0D, 1.0D, 1.0D);
         lightingHelper.setupLightingYNeg(itemStack, x, y, z);
         float aoXZPN = lightingHelper.ao[NORTHEAST];
         int brightnessXZPN = renderBlocks.brightnessBottomLeft;
 
         /* Compute XZNN corner lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 1.0D - CollapsibleUtil.offset_XZNN, 0.0D, 1.0D, 1.0D, 1.0D);
+        renderBlocks.setRenderBounds(0.0D, 1.0D - renderContext.offset_XZNN, 0.0D, 1.0D, 1.0D, 1.0D);
         lightingHelper.setupLightingYNeg(itemStack, x, y, z);
         float aoXZNN = lightingHelper.ao[NORTHWEST];
         int brightnessXZNN = renderBlocks.brightnessBottomRight;
 
         /* Compute XZNP corner lighting. */
 
-        renderBlocks.setRenderBounds(0.0D, 1.0D - CollapsibleUtil.offset_XZNP, 0.0D, 1.0D, 1.0D, 1.0D);
+        renderBlocks.setRenderBounds(0.0D, 1.0D - renderContext.offset_XZNP, 0.0D, 1.0D, 1.0D, 1.0D);
         lightingHelper.setupLightingYNeg(itemStack, x, y, z);
         float aoXZNP = lightingHelper.ao[SOUTHWEST];
         int brightnessXZNP = renderBlocks.brightnessTopRight;
@@ -379,7 +379,7 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         /* Top North triangle. */
 
         lightingHelper.setLightnessOverride(getInterpolatedLightness(ForgeDirection.NORTH, 0));
-        renderBlocks.setRenderBounds(0.0D, Math.min(CollapsibleUtil.offset_XZNN, CollapsibleUtil.offset_XZPN), 0.0D, 1.0D, Math.max(CollapsibleUtil.offset_XZNN, CollapsibleUtil.offset_XZPN), 0.5D);
+        renderBlocks.setRenderBounds(0.0D, Math.min(renderContext.offset_XZNN, renderContext.offset_XZPN), 0.0D, 1.0D, Math.max(renderContext.offset_XZNN, renderContext.offset_XZPN), 0.5D);
         lightingHelper.ao[TOP_LEFT] = lightingHelper.ao[TOP_RIGHT] = aoCenter;
         renderBlocks.brightnessTopLeft = renderBlocks.brightnessTopRight = brightnessCenter;
         lightingHelper.ao[BOTTOM_LEFT] = aoXZPN;
@@ -391,7 +391,7 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         /* Top South triangle. */
 
         lightingHelper.setLightnessOverride(getInterpolatedLightness(ForgeDirection.SOUTH, 0));
-        renderBlocks.setRenderBounds(0.0D, Math.min(CollapsibleUtil.offset_XZNP, CollapsibleUtil.offset_XZPP), 0.5D, 1.0D, Math.max(CollapsibleUtil.offset_XZNP, CollapsibleUtil.offset_XZPP), 1.0D);
+        renderBlocks.setRenderBounds(0.0D, Math.min(renderContext.offset_XZNP, renderContext.offset_XZPP), 0.5D, 1.0D, Math.max(renderContext.offset_XZNP, renderContext.offset_XZPP), 1.0D);
         lightingHelper.ao[BOTTOM_LEFT] = lightingHelper.ao[BOTTOM_RIGHT] = aoCenter;
         renderBlocks.brightnessBottomLeft = renderBlocks.brightnessBottomRight = brightnessCenter;
         lightingHelper.ao[TOP_LEFT] = aoXZPP;
@@ -403,7 +403,7 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         /* Top West triangle. */
 
         lightingHelper.setLightnessOverride(getInterpolatedLightness(ForgeDirection.WEST, 0));
-        renderBlocks.setRenderBounds(0.0D, Math.min(CollapsibleUtil.offset_XZNN, CollapsibleUtil.offset_XZNP), 0.0D, 0.5D, Math.max(CollapsibleUtil.offset_XZNN, CollapsibleUtil.offset_XZNP), 1.0D);
+        renderBlocks.setRenderBounds(0.0D, Math.min(renderContext.offset_XZNN, renderContext.offset_XZNP), 0.0D, 0.5D, Math.max(renderContext.offset_XZNN, renderContext.offset_XZNP), 1.0D);
         lightingHelper.ao[TOP_LEFT] = lightingHelper.ao[BOTTOM_LEFT] = aoCenter;
         renderBlocks.brightnessTopLeft = renderBlocks.brightnessBottomLeft = brightnessCenter;
         lightingHelper.ao[TOP_RIGHT] = aoXZNP;
@@ -415,7 +415,7 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
         /* Top East triangle. */
 
         lightingHelper.setLightnessOverride(getInterpolatedLightness(ForgeDirection.EAST, 0));
-        renderBlocks.setRenderBounds(0.5D, Math.min(CollapsibleUtil.offset_XZPN, CollapsibleUtil.offset_XZPP), 0.0D, 1.0D, Math.max(CollapsibleUtil.offset_XZPN, CollapsibleUtil.offset_XZPP), 1.0D);
+        renderBlocks.setRenderBounds(0.5D, Math.min(renderContext.offset_XZPN, renderContext.offset_XZPP), 0.0D, 1.0D, Math.max(renderContext.offset_XZPN, renderContext.offset_XZPP), 1.0D);
         lightingHelper.ao[TOP_RIGHT] = lightingHelper.ao[BOTTOM_RIGHT] = aoCenter;
         renderBlocks.brightnessTopRight = renderBlocks.brightnessBottomRight = brightnessCenter;
         lightingHelper.ao[TOP_LEFT] = aoXZPP;
@@ -436,11 +436,11 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
 
         if (renderBlocks.enableAO) {
             if (Collapsible.INSTANCE.isPositive(TE)) {
-                lightingHelper.ao[TOP_LEFT]  = (float) (ao[NORTH][BOTTOM_LEFT] + (ao[NORTH][TOP_LEFT] - ao[NORTH][BOTTOM_LEFT]) * CollapsibleUtil.offset_XZPN);
-                lightingHelper.ao[TOP_RIGHT] = (float) (ao[NORTH][BOTTOM_RIGHT] + (ao[NORTH][TOP_RIGHT] - ao[NORTH][BOTTOM_RIGHT]) * CollapsibleUtil.offset_XZNN);
+                lightingHelper.ao[TOP_LEFT]  = (float) (ao[NORTH][BOTTOM_LEFT] + (ao[NORTH][TOP_LEFT] - ao[NORTH][BOTTOM_LEFT]) * renderContext.offset_XZPN);
+                lightingHelper.ao[TOP_RIGHT] = (float) (ao[NORTH][BOTTOM_RIGHT] + (ao[NORTH][TOP_RIGHT] - ao[NORTH][BOTTOM_RIGHT]) * renderContext.offset_XZNN);
             } else {
-                lightingHelper.ao[BOTTOM_LEFT]  = (float) (ao[NORTH][TOP_LEFT] + (ao[NORTH][BOTTOM_LEFT] - ao[NORTH][TOP_LEFT]) * CollapsibleUtil.offset_XZPN);
-                lightingHelper.ao[BOTTOM_RIGHT] = (float) (ao[NORTH][TOP_RIGHT] + (ao[NORTH][BOTTOM_RIGHT] - ao[NORTH][TOP_RIGHT]) * CollapsibleUtil.offset_XZNN);
+                lightingHelper.ao[BOTTOM_LEFT]  = (float) (ao[NORTH][TOP_LEFT] + (ao[NORTH][BOTTOM_LEFT] - ao[NORTH][TOP_LEFT]) * renderContext.offset_XZPN);
+                lightingHelper.ao[BOTTOM_RIGHT] = (float) (ao[NORTH][TOP_RIGHT] + (ao[NORTH][BOTTOM_RIGHT] - ao[NORTH][TOP_RIGHT]) * renderContext.offset_XZNN);
             }
         }
 
@@ -456,11 +456,11 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
 
         if (renderBlocks.enableAO) {
             if (Collapsible.INSTANCE.isPositive(TE)) {
-                lightingHelper.ao[TOP_LEFT]  = (float) (ao[SOUTH][BOTTOM_LEFT] + (ao[SOUTH][TOP_LEFT] - ao[SOUTH][BOTTOM_LEFT]) * CollapsibleUtil.offset_XZNP);
-                lightingHelper.ao[TOP_RIGHT] = (float) (ao[SOUTH][BOTTOM_RIGHT] + (ao[SOUTH][TOP_RIGHT] - ao[SOUTH][BOTTOM_RIGHT]) * CollapsibleUtil.offset_XZPP);
+                lightingHelper.ao[TOP_LEFT]  = (float) (ao[SOUTH][BOTTOM_LEFT] + (ao[SOUTH][TOP_LEFT] - ao[SOUTH][BOTTOM_LEFT]) * renderContext.offset_XZNP);
+                lightingHelper.ao[TOP_RIGHT] = (float) (ao[SOUTH][BOTTOM_RIGHT] + (ao[SOUTH][TOP_RIGHT] - ao[SOUTH][BOTTOM_RIGHT]) * renderContext.offset_XZPP);
             } else {
-                lightingHelper.ao[BOTTOM_LEFT]  = (float) (ao[SOUTH][TOP_LEFT] + (ao[SOUTH][BOTTOM_LEFT] - ao[SOUTH][TOP_LEFT]) * CollapsibleUtil.offset_XZNP);
-                lightingHelper.ao[BOTTOM_RIGHT] = (float) (ao[SOUTH][TOP_RIGHT] + (ao[SOUTH][BOTTOM_RIGHT] - ao[SOUTH][TOP_RIGHT]) * CollapsibleUtil.offset_XZPP);
+                lightingHelper.ao[BOTTOM_LEFT]  = (float) (ao[SOUTH][TOP_LEFT] + (ao[SOUTH][BOTTOM_LEFT] - ao[SOUTH][TOP_LEFT]) * renderContext.offset_XZNP);
+                lightingHelper.ao[BOTTOM_RIGHT] = (float) (ao[SOUTH][TOP_RIGHT] + (ao[SOUTH][BOTTOM_RIGHT] - ao[SOUTH][TOP_RIGHT]) * renderContext.offset_XZPP);
             }
         }
 
@@ -476,11 +476,11 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
 
         if (renderBlocks.enableAO) {
             if (Collapsible.INSTANCE.isPositive(TE)) {
-                lightingHelper.ao[TOP_LEFT]  = (float) (ao[WEST][BOTTOM_LEFT] + (ao[WEST][TOP_LEFT] - ao[WEST][BOTTOM_LEFT]) * CollapsibleUtil.offset_XZNN);
-                lightingHelper.ao[TOP_RIGHT] = (float) (ao[WEST][BOTTOM_RIGHT] + (ao[WEST][TOP_RIGHT] - ao[WEST][BOTTOM_RIGHT]) * CollapsibleUtil.offset_XZNP);
+                lightingHelper.ao[TOP_LEFT]  = (float) (ao[WEST][BOTTOM_LEFT] + (ao[WEST][TOP_LEFT] - ao[WEST][BOTTOM_LEFT]) * renderContext.offset_XZNN);
+                lightingHelper.ao[TOP_RIGHT] = (float) (ao[WEST][BOTTOM_RIGHT] + (ao[WEST][TOP_RIGHT] - ao[WEST][BOTTOM_RIGHT]) * renderContext.offset_XZNP);
             } else {
-                lightingHelper.ao[BOTTOM_LEFT]  = (float) (ao[WEST][TOP_LEFT] + (ao[WEST][BOTTOM_LEFT] - ao[WEST][TOP_LEFT]) * CollapsibleUtil.offset_XZNN);
-                lightingHelper.ao[BOTTOM_RIGHT] = (float) (ao[WEST][TOP_RIGHT] + (ao[WEST][BOTTOM_RIGHT] - ao[WEST][TOP_RIGHT]) * CollapsibleUtil.offset_XZNP);
+                lightingHelper.ao[BOTTOM_LEFT]  = (float) (ao[WEST][TOP_LEFT] + (ao[WEST][BOTTOM_LEFT] - ao[WEST][TOP_LEFT]) * renderContext.offset_XZNN);
+                lightingHelper.ao[BOTTOM_RIGHT] = (float) (ao[WEST][TOP_RIGHT] + (ao[WEST][BOTTOM_RIGHT] - ao[WEST][TOP_RIGHT]) * renderContext.offset_XZNP);
             }
         }
 
@@ -496,11 +496,11 @@ public class BlockHandlerCarpentersCollapsibleBlock extends BlockHandlerSloped {
 
         if (renderBlocks.enableAO) {
             if (Collapsible.INSTANCE.isPositive(TE)) {
-                lightingHelper.ao[TOP_LEFT]  = (float) (ao[EAST][BOTTOM_LEFT] + (ao[EAST][TOP_LEFT] - ao[EAST][BOTTOM_LEFT]) * CollapsibleUtil.offset_XZPP);
-                lightingHelper.ao[TOP_RIGHT] = (float) (ao[EAST][BOTTOM_RIGHT] + (ao[EAST][TOP_RIGHT] - ao[EAST][BOTTOM_RIGHT]) * CollapsibleUtil.offset_XZPN);
+                lightingHelper.ao[TOP_LEFT]  = (float) (ao[EAST][BOTTOM_LEFT] + (ao[EAST][TOP_LEFT] - ao[EAST][BOTTOM_LEFT]) * renderContext.offset_XZPP);
+                lightingHelper.ao[TOP_RIGHT] = (float) (ao[EAST][BOTTOM_RIGHT] + (ao[EAST][TOP_RIGHT] - ao[EAST][BOTTOM_RIGHT]) * renderContext.offset_XZPN);
             } else {
-                lightingHelper.ao[BOTTOM_LEFT]  = (float) (ao[EAST][TOP_LEFT] + (ao[EAST][BOTTOM_LEFT] - ao[EAST][TOP_LEFT]) * CollapsibleUtil.offset_XZPP);
-                lightingHelper.ao[BOTTOM_RIGHT] = (float) (ao[EAST][TOP_RIGHT] + (ao[EAST][BOTTOM_RIGHT] - ao[EAST][TOP_RIGHT]) * CollapsibleUtil.offset_XZPN);
+                lightingHelper.ao[BOTTOM_LEFT]  = (float) (ao[EAST][TOP_LEFT] + (ao[EAST][BOTTOM_LEFT] - ao[EAST][TOP_LEFT]) * renderContext.offset_XZPP);
+                lightingHelper.ao[BOTTOM_RIGHT] = (float) (ao[EAST][TOP_RIGHT] + (ao[EAST][BOTTOM_RIGHT] - ao[EAST][TOP_RIGHT]) * renderContext.offset_XZPN);
             }
         }
 
@@ -5,7 +5,6 @@ import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.common.util.ForgeDirection;
-import com.carpentersblocks.block.BlockCarpentersDaylightSensor;
 import com.carpentersblocks.data.DaylightSensor;
 import com.carpentersblocks.util.registry.IconRegistry;
 import cpw.mods.fml.relauncher.Side;
@@ -67,7 +66,6 @@ public class BlockHandlerCarpentersDaylightSensor extends BlockHandlerBase {
      */
     protected void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         renderBlocks.renderAllFaces = true;
 
         suppressDyeColor = true;
@@ -75,7 +73,6 @@ public class BlockHandlerCarpentersDaylightSensor extends BlockHandlerBase {
         suppressChiselDesign = true;
 
         DaylightSensor data = new DaylightSensor();
-        ((BlockCarpentersDaylightSensor)srcBlock).setBlockBoundsBasedOnState(renderBlocks.blockAccess, x, y, z);
 
         ForgeDirection dir = data.getDirection(TE).getOpposite();
 
@@ -122,7 +119,6 @@ public class BlockHandlerCarpentersDaylightSensor extends BlockHandlerBase {
         renderBlockWithRotation(itemStack, x, y, z, 0.9375D, 0.0D, 0.75D, 1.0D, 1.0D, 1.0D, dir);
 
         renderBlocks.renderAllFaces = false;
-        org.lwjgl.opengl.GL11.glPopMatrix();
     }
 
 }
@@ -1,6 +1,5 @@
 package com.carpentersblocks.renderer;
 
-import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Hinge;
@@ -29,7 +28,6 @@ public class BlockHandlerCarpentersDoor extends BlockHandlerHinged {
      */
     public void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         renderBlocks.renderAllFaces = true;
 
         setParams();
@@ -55,7 +53,6 @@ public class BlockHandlerCarpentersDoor extends BlockHandlerHinged {
         }
 
         renderBlocks.renderAllFaces = false;
-        org.lwjgl.opengl.GL11.glPopMatrix();
     }
 
     /**
@@ -109,7 +106,7 @@ public class BlockHandlerCarpentersDoor extends BlockHandlerHinged {
             renderPartPane(IconRegistry.icon_door_french_glass_top, x, y, z);
         }
 
-        renderPartPullHandle(new ItemStack(Blocks.iron_block), x, y, z, true, true);
+        renderPartPullHandle(iron, x, y, z, true, true);
     }
 
     /**
@@ -135,7 +132,7 @@ public class BlockHandlerCarpentersDoor extends BlockHandlerHinged {
             renderPartPane(IconRegistry.icon_door_glass_top, x, y, z);
         }
 
-        renderPartPullHandle(new ItemStack(Blocks.iron_block), x, y, z, true, true);
+        renderPartPullHandle(iron, x, y, z, true, true);
     }
 
     /**
@@ -162,7 +159,7 @@ public class BlockHandlerCarpentersDoor extends BlockHandlerHinged {
             renderBlockWithRotation(itemStack, x, y, z, 0.3125D, 0.375D, 0.8125D, 0.6875D, 0.6875D, 1.0D, side);
         }
 
-        renderPartPullHandle(new ItemStack(Blocks.iron_block), x, y, z, true, true);
+        renderPartPullHandle(iron, x, y, z, true, true);
     }
 
     /**
@@ -186,7 +183,7 @@ public class BlockHandlerCarpentersDoor extends BlockHandlerHinged {
             renderPartPane(type == Hinge.TYPE_SCREEN_TALL ? IconRegistry.icon_door_screen_tall : IconRegistry.icon_door_glass_tall_top, x, y, z);
         }
 
-        renderPartPullHandle(new ItemStack(Blocks.iron_block), x, y, z, true, true);
+        renderPartPullHandle(iron, x, y, z, true, true);
     }
 
     /**
@@ -200,7 +197,7 @@ public class BlockHandlerCarpentersDoor extends BlockHandlerHinged {
     private void renderTypeHidden(ItemStack itemStack, int x, int y, int z)
     {
         renderBlockWithRotation(itemStack, x, y, z, 0.0D, 0.0D, 0.8125D, 1.0D, 1.0D, 1.0D, side);
-        renderPartPullHandle(new ItemStack(Blocks.iron_block), x, y, z, true, false);
+        renderPartPullHandle(iron, x, y, z, true, false);
     }
 
     /**
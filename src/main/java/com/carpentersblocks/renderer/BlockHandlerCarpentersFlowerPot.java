@@ -11,7 +11,6 @@ import com.carpentersblocks.renderer.helper.RenderHelperFlowerPot;
 import com.carpentersblocks.util.BlockProperties;
 import com.carpentersblocks.util.flowerpot.FlowerPotHandler;
 import com.carpentersblocks.util.flowerpot.FlowerPotProperties;
-import com.carpentersblocks.util.handler.DesignHandler;
 import com.carpentersblocks.util.registry.IconRegistry;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -85,7 +84,7 @@ public class BlockHandlerCarpentersFlowerPot extends BlockHandlerBase {
     public boolean renderPot(ItemStack itemStack, int x, int y, int z)
     {
         if (TE.hasDesign()) {
-            IIcon designIcon = IconRegistry.icon_design_flower_pot.get(DesignHandler.listFlowerPot.indexOf(TE.getDesign()));
+            IIcon designIcon = IconRegistry.icon_design_flower_pot.get(TE.getDesignId());
             setIconOverride(6, designIcon);
         }
 
@@ -144,7 +143,7 @@ public class BlockHandlerCarpentersFlowerPot extends BlockHandlerBase {
         /* Crop plants will use fully matured metadata. */
 
         if (block instanceof BlockCrops) {
-            itemStack.setItemDamage(7);
+            itemStack = new ItemStack(itemStack.getItem(), 1, 7);
         }
 
         Tessellator tessellator = Tessellator.instance;
@@ -194,7 +193,6 @@ public class BlockHandlerCarpentersFlowerPot extends BlockHandlerBase {
      */
     private void drawStackedBlocks(ItemStack itemStack, int x, int y, int z)
     {
-        TE.setMetadata(itemStack.getItemDamage());
         renderBlocks.setRenderBounds(0.375F, 0.0D, 0.375F, 0.625F, 0.25D, 0.625F);
         renderBlock(itemStack, x, y, z);
         renderBlocks.setRenderBounds(0.375F, 0.25D, 0.375F, 0.625F, 0.50D, 0.625F);
@@ -202,7 +200,6 @@ public class BlockHandlerCarpentersFlowerPot extends BlockHandlerBase {
         renderBlocks.setRenderBounds(0.375F, 0.50D, 0.375F, 0.625F, 0.75D, 0.625F);
         renderBlock(itemStack, x, y, z);
         renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
-        TE.restoreMetadata();
     }
 
 }
@@ -2,7 +2,6 @@ package com.carpentersblocks.renderer;
 
 import net.minecraft.block.Block;
 import net.minecraft.client.renderer.RenderBlocks;
-import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
@@ -12,7 +11,6 @@ import com.carpentersblocks.util.registry.IconRegistry;
 public class BlockHandlerCarpentersGarageDoor extends BlockHandlerBase {
 
     private GarageDoor data = new GarageDoor();
-    private ItemStack iron = new ItemStack(Blocks.iron_block);
     ForgeDirection dir;
     boolean isOpen;
 
@@ -37,7 +35,6 @@ public class BlockHandlerCarpentersGarageDoor extends BlockHandlerBase {
      */
     protected void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         if (data.isVisible(TE)) {
 
             renderBlocks.renderAllFaces = true;
@@ -66,7 +63,6 @@ public class BlockHandlerCarpentersGarageDoor extends BlockHandlerBase {
 
             renderBlocks.renderAllFaces = false;
         }
-        org.lwjgl.opengl.GL11.glPopMatrix();
     }
 
     /**
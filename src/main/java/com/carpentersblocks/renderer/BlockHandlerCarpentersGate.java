@@ -40,7 +40,6 @@ public class BlockHandlerCarpentersGate extends BlockHandlerBase implements ISim
      */
     protected void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         renderBlocks.renderAllFaces = true;
 
         setParams(x, y, z);
@@ -62,7 +61,6 @@ public class BlockHandlerCarpentersGate extends BlockHandlerBase implements ISim
         }
 
         renderBlocks.renderAllFaces = false;
-        org.lwjgl.opengl.GL11.glPopMatrix();
     }
 
     /**
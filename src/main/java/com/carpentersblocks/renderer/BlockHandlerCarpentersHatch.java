@@ -38,7 +38,6 @@ public class BlockHandlerCarpentersHatch extends BlockHandlerHinged {
      */
     public void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         renderBlocks.renderAllFaces = true;
 
         setParams();
@@ -61,7 +60,6 @@ public class BlockHandlerCarpentersHatch extends BlockHandlerHinged {
         }
 
         renderBlocks.renderAllFaces = false;
-        org.lwjgl.opengl.GL11.glPopMatrix();
     }
 
     /**
@@ -99,7 +97,7 @@ public class BlockHandlerCarpentersHatch extends BlockHandlerHinged {
     private void renderTypeHidden(ItemStack itemStack, int x, int y, int z)
     {
         renderBlockWithRotation(itemStack, x, y, z, 0.0D, 0.0D, 0.875D, 1.0D, 1.0D, 1.0D, side);
-        renderPartHandle(new ItemStack(Blocks.iron_block), x, y, z, true, false);
+        renderPartHandle(iron, x, y, z, true, false);
     }
 
     /**
@@ -120,7 +118,7 @@ public class BlockHandlerCarpentersHatch extends BlockHandlerHinged {
     {
         renderPartFrame(itemStack, x, y, z);
         renderPartPane(type == Hatch.TYPE_SCREEN ? IconRegistry.icon_hatch_screen : IconRegistry.icon_hatch_glass, x, y, z);
-        renderPartHandle(new ItemStack(Blocks.iron_block), x, y, z, true, true);
+        renderPartHandle(iron, x, y, z, true, true);
     }
 
     /**
@@ -133,7 +131,7 @@ public class BlockHandlerCarpentersHatch extends BlockHandlerHinged {
         renderBlockWithRotation(itemStack, x, y, z, 0.4375D, 0.5625D, 0.875D, 0.5625D, 0.8125D, 0.9375D, side);
         renderPartFrame(itemStack, x, y, z);
         renderPartPane(IconRegistry.icon_hatch_french_glass, x, y, z);
-        renderPartHandle(new ItemStack(Blocks.iron_block), x, y, z, true, true);
+        renderPartHandle(iron, x, y, z, true, true);
     }
 
     /**
@@ -144,7 +142,7 @@ public class BlockHandlerCarpentersHatch extends BlockHandlerHinged {
         renderBlockWithRotation(itemStack, x, y, z, 0.1875D, 0.1875D, 0.875D, 0.8215D, 0.8215D, 0.9375D, side);
         renderBlockWithRotation(itemStack, x, y, z, 0.3125D, 0.3125D, 0.8125D, 0.6875D, 0.6875D, 1.0D, side);
         renderPartFrame(itemStack, x, y, z);
-        renderPartHandle(new ItemStack(Blocks.iron_block), x, y, z, true, true);
+        renderPartHandle(iron, x, y, z, true, true);
     }
 
     /**
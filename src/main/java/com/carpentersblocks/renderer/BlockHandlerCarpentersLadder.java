@@ -2,7 +2,6 @@ package com.carpentersblocks.renderer;
 
 import net.minecraft.block.Block;
 import net.minecraft.client.renderer.RenderBlocks;
-import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
@@ -15,7 +14,6 @@ import cpw.mods.fml.relauncher.SideOnly;
 public class BlockHandlerCarpentersLadder extends BlockHandlerBase {
 
     private Ladder data = new Ladder();
-    private ItemStack iron = new ItemStack(Blocks.iron_block);
     private ForgeDirection dir;
 
     @Override
@@ -48,7 +46,6 @@ public class BlockHandlerCarpentersLadder extends BlockHandlerBase {
      */
     protected void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         renderBlocks.renderAllFaces = true;
 
         ItemStack itemStack = getCoverForRendering();
@@ -68,7 +65,6 @@ public class BlockHandlerCarpentersLadder extends BlockHandlerBase {
         }
 
         renderBlocks.renderAllFaces = false;
-        org.lwjgl.opengl.GL11.glPopMatrix();
     }
 
     /**
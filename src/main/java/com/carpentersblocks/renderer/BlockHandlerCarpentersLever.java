@@ -7,13 +7,11 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.IIcon;
 import net.minecraft.util.Vec3;
 import net.minecraftforge.common.util.ForgeDirection;
-import com.carpentersblocks.block.BlockCarpentersLever;
 import com.carpentersblocks.block.BlockCoverable;
 import com.carpentersblocks.data.Lever;
 import com.carpentersblocks.data.Lever.Axis;
 import com.carpentersblocks.renderer.helper.VertexHelper;
 import com.carpentersblocks.util.BlockProperties;
-import com.carpentersblocks.util.registry.BlockRegistry;
 import com.carpentersblocks.util.registry.IconRegistry;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -48,11 +46,9 @@ public class BlockHandlerCarpentersLever extends BlockHandlerBase {
      */
     protected void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         renderBlocks.renderAllFaces = true;
         renderLever(getCoverForRendering(), x, y, z);
         renderBlocks.renderAllFaces = false;
-        org.lwjgl.opengl.GL11.glPopMatrix();
     }
 
     /**
@@ -60,12 +56,9 @@ public class BlockHandlerCarpentersLever extends BlockHandlerBase {
      */
     private void renderLever(ItemStack itemStack, int x, int y, int z)
     {
-        /* Set block bounds and render lever base. */
+        /* Render lever base. */
 
-        BlockCarpentersLever blockRef = (BlockCarpentersLever) BlockRegistry.blockCarpentersLever;
-        blockRef.setBlockBoundsBasedOnState(renderBlocks.blockAccess, x, y, z);
-
-        renderBlocks.setRenderBoundsFromBlock(blockRef);
+        setRenderBoundsFromState();
         renderBlock(itemStack, x, y, z);
 
         /* Render lever handle. */
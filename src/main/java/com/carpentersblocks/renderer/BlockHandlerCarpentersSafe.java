@@ -132,7 +132,6 @@ public class BlockHandlerCarpentersSafe extends BlockHandlerBase {
      */
     protected void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         renderBlocks.renderAllFaces = true;
 
         ItemStack itemStack = getCoverForRendering();
@@ -152,7 +151,7 @@ public class BlockHandlerCarpentersSafe extends BlockHandlerBase {
                 }
             }
         } else {
-            panelItemStack = new ItemStack(Blocks.iron_block);
+            panelItemStack = iron;
         }
 
         /* Render cover components */
@@ -189,7 +188,6 @@ public class BlockHandlerCarpentersSafe extends BlockHandlerBase {
         suppressChiselDesign = false;
 
         renderBlocks.renderAllFaces = false;
-        org.lwjgl.opengl.GL11.glPopMatrix();
     }
 
     private void renderPartCapacityLight(int x, int y, int z)
@@ -199,16 +197,7 @@ public class BlockHandlerCarpentersSafe extends BlockHandlerBase {
 
         /* Determine capacity level */
 
-        TECarpentersSafe TE_safe = (TECarpentersSafe) TE;
-        int numSlotsFilled = 0;
-
-        for (int slot = 0; slot < TE_safe.getSizeInventory(); ++slot) {
-            if (TE_safe.getStackInSlot(slot) != null) {
-                ++numSlotsFilled;
-            }
-        }
-
-        int capacity = numSlotsFilled / (3 * TE_safe.getSizeInventory() / 27);
+        int capacity = ((TECarpentersSafe) TE).getCapacity();
 
         /* Draw capacity light strip */
 
@@ -24,6 +24,7 @@ import com.carpentersblocks.block.BlockCarpentersSlope;
 import com.carpentersblocks.block.BlockCoverable;
 import com.carpentersblocks.data.Slope;
 import com.carpentersblocks.data.Slope.Type;
+import com.carpentersblocks.renderer.helper.LightingHelper;
 import com.carpentersblocks.renderer.helper.RenderHelper;
 import com.carpentersblocks.renderer.helper.VertexHelper;
 import com.carpentersblocks.renderer.helper.slope.oblique.HelperCorner;
@@ -114,6 +115,12 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
     private final int PRISM_WEDGE_XN         = 52;
     private final int PRISM_WEDGE_XP         = 53;
 
+    /* Lighting sources for sloped faces, see LightingHelper#setLightingSource. */
+
+    private final int SOURCE_WEDGE        = LightingHelper.SOURCE_CUSTOM;
+    private final int SOURCE_OBLIQUE_INT  = LightingHelper.SOURCE_CUSTOM + 1;
+    private final int SOURCE_OBLIQUE_EXT  = LightingHelper.SOURCE_CUSTOM + 2;
+
     @Override
     public void renderInventoryBlock(Block block, int metadata, int modelID, RenderBlocks renderBlocks)
     {
@@ -244,7 +251,7 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
      */
     protected IIcon getUniqueIcon(ItemStack itemStack, int side, IIcon icon)
     {
-        if (isSideSloped)
+        if (renderContext.isSideSloped)
         {
             Block block = BlockProperties.toBlock(itemStack);
             Slope slope = Slope.getSlope(TE);
@@ -486,7 +493,7 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
 
         /* Render sloped faces. */
 
-        isSideSloped = true;
+        renderContext.isSideSloped = true;
 
         switch (slope.getPrimaryType()) {
             case WEDGE_SIDE:
@@ -517,28 +524,28 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
                 break;
         }
 
-        isSideSloped = false;
+        renderContext.isSideSloped = false;
 
         lightingHelper.clearLightnessOverride();
 
         /* Render non-sloped faces. */
 
-        if (slope.hasSide(ForgeDirection.DOWN) && (ignoreSideRenderChecks || srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y - 1, z, DOWN))) {
+        if (slope.hasSide(ForgeDirection.DOWN) && (ignoreSideRenderChecks || isSideExposed(x, y, z, DOWN))) {
             prepareFaceYNeg(itemStack, slope, x, y, z);
         }
-        if (slope.hasSide(ForgeDirection.UP) && (ignoreSideRenderChecks || srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y + 1, z, UP))) {
+        if (slope.hasSide(ForgeDirection.UP) && (ignoreSideRenderChecks || isSideExposed(x, y, z, UP))) {
             prepareFaceYPos(itemStack, slope, x, y, z);
         }
-        if (slope.hasSide(ForgeDirection.NORTH) && (ignoreSideRenderChecks || srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y, z - 1, NORTH))) {
+        if (slope.hasSide(ForgeDirection.NORTH) && (ignoreSideRenderChecks || isSideExposed(x, y, z, NORTH))) {
             prepareFaceZNeg(itemStack, slope, x, y, z);
         }
-        if (slope.hasSide(ForgeDirection.SOUTH) &&  (ignoreSideRenderChecks || srcBlock.shouldSideBeRendered(TE.getWorldObj(), x, y, z + 1, SOUTH))) {
+        if (slope.hasSide(ForgeDirection.SOUTH) &&  (ignoreSideRenderChecks || isSideExposed(x, y, z, SOUTH))) {
             prepareFaceZPos(itemStack, slope, x, y, z);
         }
-        if (slope.hasSide(ForgeDirection.WEST) &&  (ignoreSideRenderChecks || srcBlock.shouldSideBeRendered(TE.getWorldObj(), x - 1, y, z, WEST))) {
+        if (slope.hasSide(ForgeDirection.WEST) &&  (ignoreSideRenderChecks || isSideExposed(x, y, z, WEST))) {
             prepareFaceXNeg(itemStack, slope, x, y, z);
         }
-        if (slope.hasSide(ForgeDirection.EAST) &&  (ignoreSideRenderChecks || srcBlock.shouldSideBeRendered(TE.getWorldObj(), x + 1, y, z, EAST))) {
+        if (slope.hasSide(ForgeDirection.EAST) &&  (ignoreSideRenderChecks || isSideExposed(x, y, z, EAST))) {
             prepareFaceXPos(itemStack, slope, x, y, z);
         }
 
@@ -557,10 +564,51 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
         renderSlope(itemStack, slope, x, y, z, false);
     }
 
+    @Override
+    /**
+     * Returns non-sloped sides that are drawn, matching checks
+     * made in {@link #renderSlope}.
+     */
+    protected long getCullMask(int x, int y, int z)
+    {
+        Slope slope = Slope.getSlope(TE);
+        long cullMask = 0L;
+
+        for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS) {
+            if (slope.hasSide(dir) && isSideExposed(x, y, z, dir.ordinal())) {
+                cullMask |= 1L << dir.ordinal();
+            }
+        }
+
+        return cullMask;
+    }
+
+    @Override
+    /**
+     * Sets up lighting for sloped faces, as noted by {@link #setWedgeLighting}
+     * and oblique lighting methods.
+     */
+    protected void setupLighting(ItemStack itemStack, int source, int arg, int x, int y, int z)
+    {
+        switch (source) {
+            case SOURCE_WEDGE:
+                setWedgeLighting(itemStack, Slope.getSlopeById(arg), x, y, z);
+                break;
+            case SOURCE_OBLIQUE_INT:
+                setObliqueIntLighting(itemStack, Slope.getSlopeById(arg), x, y, z);
+                break;
+            case SOURCE_OBLIQUE_EXT:
+                setObliqueExtLighting(itemStack, Slope.getSlopeById(arg), x, y, z);
+                break;
+            default:
+                super.setupLighting(itemStack, source, arg, x, y, z);
+        }
+    }
+
     @Override
     protected boolean isPositiveFace(int side)
     {
-        return super.isPositiveFace(side) || isSideSloped && Slope.getSlope(TE).isPositive;
+        return super.isPositiveFace(side) || renderContext.isSideSloped && Slope.getSlope(TE).isPositive;
     }
 
     /**
@@ -1019,6 +1067,8 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
 
                 break;
         }
+
+        lightingHelper.setLightingSource(SOURCE_WEDGE, slope.slopeID, itemStack, x, y, z);
     }
 
     private void prepareHorizontalWedge(ItemStack itemStack, Slope slope, int x, int y, int z)
@@ -1105,6 +1155,22 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
     {
         VertexHelper.startDrawing(GL11.GL_TRIANGLES);
 
+        setObliqueIntLighting(itemStack, slope, x, y, z);
+
+        if (slope.isPositive) {
+            lightingHelper.setLightnessOverride(LIGHTNESS_XYZPPP);
+            setIDAndRender(itemStack, OBL_INT_YP, x, y, z, NORTH);
+        } else {
+            lightingHelper.setLightnessOverride(LIGHTNESS_XYZPNP);
+            setIDAndRender(itemStack, OBL_INT_YN, x, y, z, NORTH);
+        }
+    }
+
+    /**
+     * Will set lighting for oblique interior corner sloped faces.
+     */
+    private void setObliqueIntLighting(ItemStack itemStack, Slope slope, int x, int y, int z)
+    {
         renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
         prepareLighting(itemStack, x, y, z);
 
@@ -1208,19 +1274,31 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
 
         }
 
+        lightingHelper.setLightingSource(SOURCE_OBLIQUE_INT, slope.slopeID, itemStack, x, y, z);
+    }
+
+    private void prepareObliqueExtCorner(ItemStack itemStack, Slope slope, int x, int y, int z)
+    {
+        VertexHelper.startDrawing(GL11.GL_TRIANGLES);
+
+        setObliqueExtLighting(itemStack, slope, x, y, z);
+
         if (slope.isPositive) {
             lightingHelper.setLightnessOverride(LIGHTNESS_XYZPPP);
-            setIDAndRender(itemStack, OBL_INT_YP, x, y, z, NORTH);
+            setIDAndRender(itemStack, OBL_EXT_LEFT_YP, x, y, z, NORTH);
+            setIDAndRender(itemStack, OBL_EXT_RIGHT_YP, x, y, z, NORTH);
         } else {
             lightingHelper.setLightnessOverride(LIGHTNESS_XYZPNP);
-            setIDAndRender(itemStack, OBL_INT_YN, x, y, z, NORTH);
+            setIDAndRender(itemStack, OBL_EXT_LEFT_YN, x, y, z, NORTH);
+            setIDAndRender(itemStack, OBL_EXT_RIGHT_YN, x, y, z, NORTH);
         }
     }
 
-    private void prepareObliqueExtCorner(ItemStack itemStack, Slope slope, int x, int y, int z)
+    /**
+     * Will set lighting for oblique exterior corner sloped faces.
+     */
+    private void setObliqueExtLighting(ItemStack itemStack, Slope slope, int x, int y, int z)
     {
-        VertexHelper.startDrawing(GL11.GL_TRIANGLES);
-
         renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
         prepareLighting(itemStack, x, y, z);
 
@@ -1324,15 +1402,7 @@ public class BlockHandlerCarpentersSlope extends BlockHandlerSloped {
 
         }
 
-        if (slope.isPositive) {
-            lightingHelper.setLightnessOverride(LIGHTNESS_XYZPPP);
-            setIDAndRender(itemStack, OBL_EXT_LEFT_YP, x, y, z, NORTH);
-            setIDAndRender(itemStack, OBL_EXT_RIGHT_YP, x, y, z, NORTH);
-        } else {
-            lightingHelper.setLightnessOverride(LIGHTNESS_XYZPNP);
-            setIDAndRender(itemStack, OBL_EXT_LEFT_YN, x, y, z, NORTH);
-            setIDAndRender(itemStack, OBL_EXT_RIGHT_YN, x, y, z, NORTH);
-        }
+        lightingHelper.setLightingSource(SOURCE_OBLIQUE_EXT, slope.slopeID, itemStack, x, y, z);
     }
 
     /**
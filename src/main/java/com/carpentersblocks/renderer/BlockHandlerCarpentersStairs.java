@@ -3,9 +3,7 @@ package com.carpentersblocks.renderer;
 import net.minecraft.block.Block;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.item.ItemStack;
-import com.carpentersblocks.block.BlockCarpentersStairs;
 import com.carpentersblocks.data.Stairs;
-import com.carpentersblocks.util.registry.BlockRegistry;
 import com.carpentersblocks.util.stairs.StairsUtil;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -30,26 +28,49 @@ public class BlockHandlerCarpentersStairs extends BlockHandlerBase {
      */
     protected void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         ItemStack itemStack = getCoverForRendering();
 
-        Stairs stairs = Stairs.stairsList[TE.getData()];
-        StairsUtil stairsUtil = new StairsUtil();
-
-        BlockCarpentersStairs blockRef = (BlockCarpentersStairs) BlockRegistry.blockCarpentersStairs;
+        float[][] boxes = StairsUtil.getBoxes(Stairs.stairsList[TE.getData()]);
 
         for (int box = 0; box < 3; ++box)
         {
-            float[] bounds = stairsUtil.genBounds(box, stairs);
+            float[] bounds = boxes[box];
 
             if (bounds != null)
             {
-                blockRef.setBlockBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
                 renderBlocks.setRenderBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
                 renderBlock(itemStack, x, y, z);
             }
         }
-        org.lwjgl.opengl.GL11.glPopMatrix();
+    }
+
+    @Override
+    /**
+     * Returns sides of each stairs box that are drawn, matching checks
+     * made in {@link #renderBlock} for boxes in {@link #renderCarpentersBlock}.
+     */
+    protected long getCullMask(int x, int y, int z)
+    {
+        float[][] boxes = StairsUtil.getBoxes(Stairs.stairsList[TE.getData()]);
+        long cullMask = 0L;
+
+        for (int box = 0; box < 3; ++box)
+        {
+            float[] bounds = boxes[box];
+
+            if (bounds != null)
+            {
+                renderBlocks.setRenderBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
+
+                for (int side = 0; side < 6; ++side) {
+                    if (isSideVisible(x, y, z, side)) {
+                        cullMask |= 1L << (box * 6 + side);
+                    }
+                }
+            }
+        }
+
+        return cullMask;
     }
 
     @Override
@@ -58,29 +79,31 @@ public class BlockHandlerCarpentersStairs extends BlockHandlerBase {
      */
     protected void renderSideBlocks(int x, int y, int z)
     {
+        if (!TE.hasSideCovers()) {
+            return;
+        }
+
         renderBlocks.renderAllFaces = true;
 
         Stairs stairs = Stairs.stairsList[TE.getData()];
-        StairsUtil stairsUtil = new StairsUtil();
+        float[][] boxes = StairsUtil.getBoxes(stairs);
 
         for (int box = 0; box < 3; ++box)
         {
-            float[] bounds = stairsUtil.genBounds(box, stairs);
+            float[] bounds = boxes[box];
 
             if (bounds != null)
             {
-                for (int side = 0; side < 6; ++side)
+                for (int mask = TE.getSideCoverMask(); mask != 0; mask &= mask - 1)
                 {
+                    int side = Integer.numberOfTrailingZeros(mask);
                     coverRendering = side;
 
-                    if (TE.hasAttribute(TE.ATTR_COVER[side]))
-                    {
-                        renderBlocks.setRenderBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
-                        int[] renderOffset = getSideCoverRenderBounds(x, y, z, side);
+                    renderBlocks.setRenderBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
+                    int[] renderOffset = getSideCoverRenderBounds(x, y, z, side);
 
-                        if (clipSideCoverBoundsBasedOnState(stairs.stairsID, box, side)) {
-                            renderBlock(getCoverForRendering(), renderOffset[0], renderOffset[1], renderOffset[2]);
-                        }
+                    if (clipSideCoverBoundsBasedOnState(stairs.stairsID, box, side)) {
+                        renderBlock(getCoverForRendering(), renderOffset[0], renderOffset[1], renderOffset[2]);
                     }
                 }
             }
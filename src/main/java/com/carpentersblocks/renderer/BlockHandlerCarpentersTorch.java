@@ -2,7 +2,6 @@ package com.carpentersblocks.renderer;
 
 import net.minecraft.block.Block;
 import net.minecraft.client.renderer.Tessellator;
-import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.IIcon;
 import net.minecraft.util.Vec3;
@@ -49,7 +48,6 @@ public class BlockHandlerCarpentersTorch extends BlockHandlerBase {
      */
     protected void renderCarpentersBlock(int x, int y, int z)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
         renderBlocks.renderAllFaces = true;
         disableAO = true;
 
@@ -67,7 +65,6 @@ public class BlockHandlerCarpentersTorch extends BlockHandlerBase {
 
         disableAO = false;
         renderBlocks.renderAllFaces = false;
-        org.lwjgl.opengl.GL11.glPopMatrix();
     }
 
     private void renderTypeVanilla(ItemStack itemStack, int x, int y, int z)
@@ -185,7 +182,7 @@ public class BlockHandlerCarpentersTorch extends BlockHandlerBase {
         RenderHelper.setFloatingIconLock();
         setIconOverride(6, IconRegistry.icon_torch_head_lit);
         lightingHelper.setMaximumLuminosity();
-        renderBlockWithRotation(new ItemStack(Blocks.dirt), x, y, z, 0.4375D, 0.375D, 0.4375D, 0.5625D, 0.5D, 0.5625D);
+        renderBlockWithRotation(dirt, x, y, z, 0.4375D, 0.375D, 0.4375D, 0.5625D, 0.5D, 0.5625D);
         lightingHelper.clearMaximumLuminosity();
         clearIconOverride(6);
         RenderHelper.clearFloatingIconLock();
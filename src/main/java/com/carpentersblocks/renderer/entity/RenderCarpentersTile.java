@@ -7,7 +7,6 @@ import net.minecraft.client.renderer.texture.TextureMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.IIcon;
 import net.minecraft.util.ResourceLocation;
-import org.lwjgl.opengl.GL11;
 import com.carpentersblocks.entity.item.EntityCarpentersTile;
 import com.carpentersblocks.renderer.helper.LightingHelper;
 import com.carpentersblocks.renderer.helper.RenderHelper;
@@ -27,18 +26,18 @@ public class RenderCarpentersTile extends Render {
     @Override
     public void doRender(Entity entity, double x, double y, double z, float par8, float par9)
     {
-        org.lwjgl.opengl.GL11.glPushMatrix();
-        GL11.glTranslated(x, y, z);
         bindTexture(getEntityTexture(entity));
-        render((EntityCarpentersTile) entity, (int) x, (int) y, (int) z);
-        org.lwjgl.opengl.GL11.glPopMatrix();
+        TileBatcher.render((EntityCarpentersTile) entity, x - entity.posX, y - entity.posY, z - entity.posZ);
     }
 
-    private void render(EntityCarpentersTile entity, int x, int y, int z)
+    /**
+     * Adds tile faces to tessellator, which must already be drawing quads.
+     * <p>
+     * Called by {@link TileBatcher} when baking a chunk section.
+     */
+    static void renderTile(Tessellator tessellator, EntityCarpentersTile entity, int x, int y, int z)
     {
         RenderBlocks renderBlocks = RenderBlocks.getInstance();
-        Tessellator tessellator = Tessellator.instance;
-        tessellator.startDrawingQuads();
 
         double bounds[] = entity.getBounds();
         renderBlocks.setRenderBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
@@ -50,20 +49,18 @@ public class RenderCarpentersTile extends Render {
 
         RenderHelper.setTextureRotationOverride(entity.getRotation());
         tessellator.setNormal(0.0F, -1.0F, 0.0F);
-        RenderHelper.renderFaceYNeg(renderBlocks, 0, 0, 0, icon);
+        RenderHelper.renderFaceYNeg(renderBlocks, x, y, z, icon);
         tessellator.setNormal(0.0F, 1.0F, 0.0F);
-        RenderHelper.renderFaceYPos(renderBlocks, 0, 0, 0, icon);
+        RenderHelper.renderFaceYPos(renderBlocks, x, y, z, icon);
         tessellator.setNormal(0.0F, 0.0F, -1.0F);
-        RenderHelper.renderFaceZNeg(renderBlocks, 0, 0, 0, icon);
+        RenderHelper.renderFaceZNeg(renderBlocks, x, y, z, icon);
         tessellator.setNormal(0.0F, 0.0F, 1.0F);
-        RenderHelper.renderFaceZPos(renderBlocks, 0, 0, 0, icon);
+        RenderHelper.renderFaceZPos(renderBlocks, x, y, z, icon);
         tessellator.setNormal(-1.0F, 0.0F, 0.0F);
-        RenderHelper.renderFaceXNeg(renderBlocks, 0, 0, 0, icon);
+        RenderHelper.renderFaceXNeg(renderBlocks, x, y, z, icon);
         tessellator.setNormal(1.0F, 0.0F, 0.0F);
-        RenderHelper.renderFaceXPos(renderBlocks, 0, 0, 0, icon);
+        RenderHelper.renderFaceXPos(renderBlocks, x, y, z, icon);
         RenderHelper.clearTextureRotationOverride();
-
-        tessellator.draw();
     }
 
     @Override
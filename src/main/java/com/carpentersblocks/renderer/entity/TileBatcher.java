@@ -0,0 +1,344 @@
+package com.carpentersblocks.renderer.entity;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GLAllocation;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraftforge.client.event.RenderWorldLastEvent;
+import net.minecraftforge.client.event.TextureStitchEvent;
+import org.lwjgl.opengl.GL11;
+import com.carpentersblocks.entity.item.EntityCarpentersTile;
+import com.carpentersblocks.renderer.helper.RenderContext;
+import com.carpentersblocks.util.handler.ShadersHandler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.ClientTickEvent;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Bakes tiles into one display list per chunk section.
+ * <p>
+ * Tiles rarely change once placed, so instead of building and drawing
+ * each tile every frame, the first tile rendered in a section draws
+ * the whole section, and the rest are skipped.  A section is rebuilt
+ * only when a tile in it is added, removed, or changes appearance or
+ * brightness, which is checked once per tick.
+ * <p>
+ * The world may be drawn more than once per frame, once per eye in
+ * anaglyph mode or for a shadow pass with shaders, so sections are
+ * tracked per world render pass rather than per frame.  Each pass may
+ * draw a different set of tiles, so any tile may draw its section.
+ */
+@SideOnly(Side.CLIENT)
+public class TileBatcher {
+
+    /** Ticks a section may go undrawn before its display list is freed. */
+    private final static int EXPIRE_TICKS = 200;
+
+    private static final Map<Long, Batch> batches = new HashMap<Long, Batch>();
+    private static final Map<EntityCarpentersTile, Batch> tileBatches = new IdentityHashMap<EntityCarpentersTile, Batch>();
+    private static World world;
+
+    /** Advanced after each world render pass, see {@link #getPass}. */
+    private static int pass;
+    private static int ticks;
+
+    /**
+     * Tiles in a chunk section and their baked display list.
+     */
+    private static class Batch {
+
+        private final int originX;
+        private final int originY;
+        private final int originZ;
+        private final Map<EntityCarpentersTile, Entry> entries = new IdentityHashMap<EntityCarpentersTile, Entry>();
+        private int displayList = -1;
+        private boolean dirty = true;
+        private int lastPass = -1;
+        private int lastTick;
+
+        private Batch(int originX, int originY, int originZ)
+        {
+            this.originX = originX;
+            this.originY = originY;
+            this.originZ = originZ;
+        }
+
+        private void rebuild()
+        {
+            if (displayList < 0) {
+                displayList = GLAllocation.generateDisplayLists(1);
+            }
+
+            Tessellator tessellator = RenderContext.get().getTessellator();
+
+            GL11.glNewList(displayList, GL11.GL_COMPILE);
+            tessellator.startDrawingQuads();
+            build(tessellator);
+            tessellator.draw();
+            GL11.glEndList();
+        }
+
+        /**
+         * Adds vertices of every tile relative to section origin, and
+         * records tile properties they were built from.
+         */
+        private void build(Tessellator tessellator)
+        {
+            for (Entry entry : entries.values()) {
+                entry.update();
+                EntityCarpentersTile tile = entry.tile;
+                tessellator.setBrightness(entry.brightness);
+                RenderCarpentersTile.renderTile(tessellator, tile, MathHelper.floor_double(tile.posX) - originX, MathHelper.floor_double(tile.posY) - originY, MathHelper.floor_double(tile.posZ) - originZ);
+            }
+
+            dirty = false;
+        }
+
+        private void delete()
+        {
+            if (displayList >= 0) {
+                GLAllocation.deleteDisplayLists(displayList);
+                displayList = -1;
+            }
+        }
+
+    }
+
+    /**
+     * Tile properties as last baked, compared each tick to find changes.
+     */
+    private static class Entry {
+
+        private final EntityCarpentersTile tile;
+        private String design;
+        private String dye;
+        private int rotation;
+        private int direction;
+        private int brightness;
+
+        private Entry(EntityCarpentersTile tile)
+        {
+            this.tile = tile;
+        }
+
+        private void update()
+        {
+            design = tile.getDesign();
+            dye = tile.getDye();
+            rotation = tile.getRotation();
+            direction = tile.getDirection().ordinal();
+            brightness = tile.getBrightnessForRender(0.0F);
+        }
+
+        private boolean hasChanged()
+        {
+            return !design.equals(tile.getDesign()) ||
+                   !dye.equals(tile.getDye()) ||
+                   rotation != tile.getRotation() ||
+                   direction != tile.getDirection().ordinal() ||
+                   brightness != tile.getBrightnessForRender(0.0F);
+        }
+
+    }
+
+    /**
+     * Draws section containing tile, unless it was already drawn this pass.
+     * <p>
+     * Offsets are from world coordinates to camera-relative render
+     * coordinates.  Block texture must already be bound.
+     *
+     * @param tile the {@link EntityCarpentersTile}
+     * @param offsetX the x offset
+     * @param offsetY the y offset
+     * @param offsetZ the z offset
+     */
+    public static void render(EntityCarpentersTile tile, double offsetX, double offsetY, double offsetZ)
+    {
+        if (tile.worldObj != world) {
+            clear();
+            world = tile.worldObj;
+        }
+
+        Batch batch = tileBatches.get(tile);
+
+        if (batch == null) {
+            batch = add(tile);
+        }
+
+        int currentPass = getPass();
+
+        if (batch.lastPass == currentPass) {
+            return;
+        }
+
+        batch.lastPass = currentPass;
+        batch.lastTick = ticks;
+
+        if (batch.dirty) {
+            batch.rebuild();
+        }
+
+        GL11.glPushMatrix();
+        GL11.glTranslated(offsetX + batch.originX, offsetY + batch.originY, offsetZ + batch.originZ);
+        GL11.glCallList(batch.displayList);
+        GL11.glPopMatrix();
+    }
+
+    /**
+     * Returns identity of world render pass being drawn.
+     * <p>
+     * Shader shadow passes fire no {@link RenderWorldLastEvent}, so are
+     * told apart from the pass that follows by the shaders' own flag.
+     */
+    private static int getPass()
+    {
+        return pass << 1 | (ShadersHandler.isShadowPass() ? 1 : 0);
+    }
+
+    private static Batch add(EntityCarpentersTile tile)
+    {
+        Batch batch = addToBatch(batches, tile);
+        batch.dirty = true;
+        tileBatches.put(tile, batch);
+
+        return batch;
+    }
+
+    /**
+     * Adds tile to batch for its section, creating batch if needed.
+     */
+    private static Batch addToBatch(Map<Long, Batch> batches, EntityCarpentersTile tile)
+    {
+        int sectionX = MathHelper.floor_double(tile.posX) >> 4;
+        int sectionY = MathHelper.floor_double(tile.posY) >> 4;
+        int sectionZ = MathHelper.floor_double(tile.posZ) >> 4;
+        long key = ((long) sectionX & 0x3FFFFFL) << 42 | ((long) sectionY & 0xFFFFFL) << 22 | (long) sectionZ & 0x3FFFFFL;
+
+        Batch batch = batches.get(key);
+
+        if (batch == null) {
+            batch = new Batch(sectionX << 4, sectionY << 4, sectionZ << 4);
+            batches.put(key, batch);
+        }
+
+        batch.entries.put(tile, new Entry(tile));
+
+        return batch;
+    }
+
+    /**
+     * Groups tiles into sections and adds their vertices to tessellator,
+     * as {@link #render} does when baking, but without display lists.
+     * <p>
+     * Needs no GL context, so that baking can be measured headless.
+     *
+     * @param  tiles the tiles to bake
+     * @param  tessellator the {@link Tessellator}, already drawing quads
+     * @return the number of sections, each drawn with one display list call per pass
+     */
+    static int bake(Iterable<EntityCarpentersTile> tiles, Tessellator tessellator)
+    {
+        Map<Long, Batch> sections = new HashMap<Long, Batch>();
+
+        for (EntityCarpentersTile tile : tiles) {
+            addToBatch(sections, tile);
+        }
+        for (Batch batch : sections.values()) {
+            batch.build(tessellator);
+        }
+
+        return sections.size();
+    }
+
+    /**
+     * Frees all display lists.
+     */
+    private static void clear()
+    {
+        for (Batch batch : batches.values()) {
+            batch.delete();
+        }
+
+        batches.clear();
+        tileBatches.clear();
+    }
+
+    /**
+     * Ends world render pass.  Fires once per pass, so twice per frame
+     * in anaglyph mode.
+     */
+    @SubscribeEvent
+    public void onRenderWorldLast(RenderWorldLastEvent event)
+    {
+        ++pass;
+    }
+
+    /**
+     * Finds removed and changed tiles, and frees sections no longer drawn.
+     */
+    @SubscribeEvent
+    public void onClientTick(ClientTickEvent event)
+    {
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        ++ticks;
+
+        if (Minecraft.getMinecraft().theWorld != world) {
+            clear();
+            world = null;
+            return;
+        }
+
+        Iterator<Batch> iterator = batches.values().iterator();
+
+        while (iterator.hasNext()) {
+
+            Batch batch = iterator.next();
+
+            if (ticks - batch.lastTick > EXPIRE_TICKS) {
+                batch.delete();
+                tileBatches.keySet().removeAll(batch.entries.keySet());
+                iterator.remove();
+                continue;
+            }
+
+            Iterator<Entry> entries = batch.entries.values().iterator();
+
+            while (entries.hasNext()) {
+                Entry entry = entries.next();
+                if (entry.tile.isDead) {
+                    entries.remove();
+                    tileBatches.remove(entry.tile);
+                    batch.dirty = true;
+                } else if (!batch.dirty && entry.hasChanged()) {
+                    batch.dirty = true;
+                }
+            }
+
+        }
+    }
+
+    /**
+     * Rebuilds all sections once icons are stitched, since texture
+     * coordinates may have moved.
+     */
+    @SubscribeEvent
+    public void onTextureStitch(TextureStitchEvent.Post event)
+    {
+        if (event.map.getTextureType() == 0) {
+            for (Batch batch : batches.values()) {
+                batch.dirty = true;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.carpentersblocks.renderer.helper;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import net.minecraft.block.Block;
+import net.minecraft.world.ChunkCache;
+import net.minecraft.world.IBlockAccess;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Caches brightness and ambient occlusion values around the chunk
+ * section being rebuilt.
+ * <p>
+ * Every face, side cover, overlay and chisel layer sets up lighting from
+ * the same neighbouring positions, and adjacent blocks share most of
+ * them.  Values are stored by position relative to the section, with a
+ * one block border, and are valid for as long as the same {@link ChunkCache}
+ * is being rendered.  Vanilla creates a new {@link ChunkCache} for every
+ * section rebuild, which marks the start of a new cache generation.
+ * <p>
+ * Any other {@link IBlockAccess}, such as the world itself, is queried
+ * directly since it gives no indication of when values become stale.
+ */
+@SideOnly(Side.CLIENT)
+public class LightingCache {
+
+    /** Section width plus one block border on either side. */
+    private final static int SIZE = 18;
+
+    private final static ThreadLocal<LightingCache> cache = new ThreadLocal<LightingCache>() {
+        @Override
+        protected LightingCache initialValue()
+        {
+            return new LightingCache();
+        }
+    };
+
+    private WeakReference<IBlockAccess> blockAccessRef = new WeakReference<IBlockAccess>(null);
+    private boolean      enabled;
+    private int          originX;
+    private int          originY;
+    private int          originZ;
+    private int          generation;
+
+    private final int[]   brightnessStamp = new int[SIZE * SIZE * SIZE];
+    private final Block[] brightnessBlock = new Block[SIZE * SIZE * SIZE];
+    private final int[]   brightness      = new int[SIZE * SIZE * SIZE];
+    private final int[]   aoStamp         = new int[SIZE * SIZE * SIZE];
+    private final float[] ao              = new float[SIZE * SIZE * SIZE];
+
+    /**
+     * Returns cache for current thread, starting a new generation if
+     * block is in a different section from the last one rendered.
+     *
+     * @param  blockAccess the {@link IBlockAccess}
+     * @param  x the x coordinate of block being rendered
+     * @param  y the y coordinate of block being rendered
+     * @param  z the z coordinate of block being rendered
+     * @return the {@link LightingCache}
+     */
+    public static LightingCache get(IBlockAccess blockAccess, int x, int y, int z)
+    {
+        LightingCache lightingCache = cache.get();
+        lightingCache.bind(blockAccess, x, y, z);
+        return lightingCache;
+    }
+
+    private void bind(IBlockAccess blockAccess, int x, int y, int z)
+    {
+        enabled = blockAccess instanceof ChunkCache;
+
+        if (enabled) {
+            int sectionX = (x >> 4) << 4;
+            int sectionY = (y >> 4) << 4;
+            int sectionZ = (z >> 4) << 4;
+
+            if (blockAccessRef.get() != blockAccess || sectionX != originX + 1 || sectionY != originY + 1 || sectionZ != originZ + 1) {
+                blockAccessRef = new WeakReference<IBlockAccess>(blockAccess);
+                originX = sectionX - 1;
+                originY = sectionY - 1;
+                originZ = sectionZ - 1;
+                if (++generation == 0) {
+                    Arrays.fill(brightnessStamp, 0);
+                    Arrays.fill(aoStamp, 0);
+                    generation = 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns index for coordinates, or -1 if outside of cached region.
+     */
+    private int getIndex(int x, int y, int z)
+    {
+        if (enabled) {
+            int relX = x - originX;
+            int relY = y - originY;
+            int relZ = z - originZ;
+
+            if (relX >= 0 && relX < SIZE && relY >= 0 && relY < SIZE && relZ >= 0 && relZ < SIZE) {
+                return (relY * SIZE + relZ) * SIZE + relX;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns mixed brightness for block at coordinates.
+     *
+     * @param  blockAccess the {@link IBlockAccess} cache was retrieved for
+     * @param  block the {@link Block} being rendered, usually the cover
+     * @param  x the x coordinate
+     * @param  y the y coordinate
+     * @param  z the z coordinate
+     * @return the mixed brightness
+     * @see    Block#getMixedBrightnessForBlock
+     */
+    public int getMixedBrightness(IBlockAccess blockAccess, Block block, int x, int y, int z)
+    {
+        int idx = getIndex(x, y, z);
+
+        if (idx == -1) {
+            return block.getMixedBrightnessForBlock(blockAccess, x, y, z);
+        }
+
+        /* Blocks may override brightness, so value is only reused for the same block. */
+        if (brightnessStamp[idx] != generation || brightnessBlock[idx] != block) {
+            brightness[idx] = block.getMixedBrightnessForBlock(blockAccess, x, y, z);
+            brightnessBlock[idx] = block;
+            brightnessStamp[idx] = generation;
+        }
+
+        return brightness[idx];
+    }
+
+    /**
+     * Returns ambient occlusion light value of block at coordinates.
+     *
+     * @param  blockAccess the {@link IBlockAccess} cache was retrieved for
+     * @param  x the x coordinate
+     * @param  y the y coordinate
+     * @param  z the z coordinate
+     * @return the ambient occlusion light value
+     * @see    Block#getAmbientOcclusionLightValue
+     */
+    public float getAoLightValue(IBlockAccess blockAccess, int x, int y, int z)
+    {
+        int idx = getIndex(x, y, z);
+
+        if (idx == -1) {
+            return blockAccess.getBlock(x, y, z).getAmbientOcclusionLightValue();
+        }
+
+        if (aoStamp[idx] != generation) {
+            ao[idx] = blockAccess.getBlock(x, y, z).getAmbientOcclusionLightValue();
+            aoStamp[idx] = generation;
+        }
+
+        return ao[idx];
+    }
+
+}
@@ -35,6 +35,27 @@ public class LightingHelper {
     /** Brightness for side. */
     public int brightness;
 
+    /** Neighbourhood values for section being rendered. */
+    private LightingCache lightingCache;
+
+    /** Scratch color components for current side. */
+    private final float[] rgb = new float[3];
+
+    /**
+     * Lighting last set up, so that {@link QuadCache} may set it up again
+     * for a recorded face.  Values 0-5 are sides set up through methods
+     * like {@link #setupLightingYNeg}, see {@link #setLightingSource}.
+     */
+    int       source;
+    int       sourceArg;
+    ItemStack sourceStack;
+    int       sourceX;
+    int       sourceY;
+    int       sourceZ;
+
+    /** First lighting source available to block handlers. */
+    public final static int SOURCE_CUSTOM = 6;
+
     /**
      * Class constructor specifying the {@link BlockHandlerBase}.
      *
@@ -46,6 +67,22 @@ public class LightingHelper {
         this.renderBlocks = renderBlocks;
     }
 
+    /**
+     * Prepares helper for rendering another block, clearing any overrides.
+     *
+     * @param  renderBlocks the {@link RenderBlocks}
+     * @return the {@link LightingHelper}
+     */
+    public LightingHelper bind(RenderBlocks renderBlocks)
+    {
+        this.renderBlocks = renderBlocks;
+        hasLightnessOverride = false;
+        hasBrightnessOverride = false;
+        hasColorOverride = false;
+        sourceStack = null;
+        return this;
+    }
+
     /**
      * Sets brightness and lightness values to their maximum values.
      */
@@ -132,6 +169,78 @@ public class LightingHelper {
         hasColorOverride = false;
     }
 
+    /**
+     * Gets lightness override.
+     *
+     * @return the lightness override, or {@link Float#NaN} if not set
+     */
+    public float getLightnessOverride()
+    {
+        return hasLightnessOverride ? lightnessOverride : Float.NaN;
+    }
+
+    /**
+     * Gets brightness override.
+     *
+     * @return the brightness override, or -1 if not set
+     */
+    public int getBrightnessOverride()
+    {
+        return hasBrightnessOverride ? brightnessOverride : -1;
+    }
+
+    /**
+     * Gets color override.
+     *
+     * @return the color override, or -1 if not set
+     */
+    public int getColorOverride()
+    {
+        return hasColorOverride ? colorOverride : -1;
+    }
+
+    /**
+     * Sets or clears all overrides at once.
+     *
+     * @param lightness the lightness override, or {@link Float#NaN} to clear
+     * @param brightness the brightness override, or -1 to clear
+     * @param color the color override, or -1 to clear
+     */
+    public void setOverrides(float lightness, int brightness, int color)
+    {
+        hasLightnessOverride = !Float.isNaN(lightness);
+        lightnessOverride = lightness;
+        hasBrightnessOverride = brightness >= 0;
+        brightnessOverride = brightness;
+        hasColorOverride = color >= 0;
+        colorOverride = hasColorOverride ? color : 0xffffff;
+    }
+
+    /**
+     * Notes lighting that was just set up.
+     * <p>
+     * Block handlers that adjust lighting after it is set up should call
+     * this with a source of {@link #SOURCE_CUSTOM} or higher, and be able
+     * to set it up again from the same values, see
+     * {@link BlockHandlerBase#setupLighting(ItemStack, int, int, int, int, int)}.
+     *
+     * @param source the lighting source
+     * @param arg a value identifying lighting within source
+     * @param itemStack the cover {@link ItemStack}
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     */
+    public void setLightingSource(int source, int arg, ItemStack itemStack, int x, int y, int z)
+    {
+        this.source = source;
+        sourceArg = arg;
+        sourceStack = itemStack;
+        sourceX = x;
+        sourceY = y;
+        sourceZ = z;
+    }
+
     /**
      * Gets rgb color from integer.
      *
@@ -140,11 +249,23 @@ public class LightingHelper {
      */
     public static float[] getRGB(int hexColor)
     {
-        float red = (hexColor >> 16 & 255) / 255.0F;
-        float green = (hexColor >> 8 & 255) / 255.0F;
-        float blue = (hexColor & 255) / 255.0F;
+        return getRGB(hexColor, new float[3]);
+    }
 
-        return new float[] { red, green, blue };
+    /**
+     * Gets rgb color from integer.
+     *
+     * @param  color the hex color
+     * @param  rgb the array to fill with rgb values
+     * @return the filled array
+     */
+    public static float[] getRGB(int hexColor, float[] rgb)
+    {
+        rgb[0] = (hexColor >> 16 & 255) / 255.0F;
+        rgb[1] = (hexColor >> 8 & 255) / 255.0F;
+        rgb[2] = (hexColor & 255) / 255.0F;
+
+        return rgb;
     }
 
     /**
@@ -167,7 +288,7 @@ public class LightingHelper {
      */
     public void setupColor(int x, int y, int z, int side, int hexColor, IIcon icon)
     {
-        Tessellator tessellator = Tessellator.instance;
+        Tessellator tessellator = RenderContext.get().getTessellator();
         float lightness = hasLightnessOverride ? lightnessOverride : LIGHTNESS[side];
 
         if (ShadersHandler.enableShadersModCoreIntegration && !ShadersHandler.oldLighting) {
@@ -175,12 +296,12 @@ public class LightingHelper {
         }
 
         tessellator.setBrightness(hasBrightnessOverride ? brightnessOverride : brightness);
-        float[] rgb = getRGB(hexColor);
-
         if (hasColorOverride && !renderBlocks.hasOverrideBlockTexture()) {
-            rgb = getRGB(colorOverride);
+            hexColor = colorOverride;
         }
 
+        getRGB(hexColor, rgb);
+
         applyAnaglyph(rgb);
 
         if (renderBlocks.enableAO) {
@@ -272,6 +393,22 @@ public class LightingHelper {
         return difference1 << 16 | difference3;
     }
 
+    /**
+     * Gets mixed brightness for block at coordinates through section cache.
+     */
+    private int getMixedBrightness(Block block, int x, int y, int z)
+    {
+        return lightingCache.getMixedBrightness(renderBlocks.blockAccess, block, x, y, z);
+    }
+
+    /**
+     * Gets ambient occlusion light value at coordinates through section cache.
+     */
+    private float getAoLightValue(int x, int y, int z)
+    {
+        return lightingCache.getAoLightValue(renderBlocks.blockAccess, x, y, z);
+    }
+
     /**
      * Sets up lighting for the bottom face and returns the {@link LightingHelper}.
      * <p>
@@ -291,31 +428,33 @@ public class LightingHelper {
      */
     public LightingHelper setupLightingYNeg(ItemStack itemStack, int x, int y, int z)
     {
+        setLightingSource(BlockHandlerBase.DOWN, 0, itemStack, x, y, z);
+        lightingCache = LightingCache.get(renderBlocks.blockAccess, x, y, z);
         Block block = BlockProperties.toBlock(itemStack);
         int y_offset = renderBlocks.renderMinY > 0.0F ? y : y - 1;
-        brightness = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y_offset, z);
+        brightness = getMixedBrightness(block, x, y_offset, z);
 
         if (renderBlocks.enableAO) {
 
             float ratio = (float) (1.0F - renderBlocks.renderMinY);
-            float aoLightValue = renderBlocks.blockAccess.getBlock(x, y_offset, z).getAmbientOcclusionLightValue();
-
-            renderBlocks.aoBrightnessXYNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y_offset, z);
-            renderBlocks.aoBrightnessYZNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y_offset, z - 1);
-            renderBlocks.aoBrightnessYZNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y_offset, z + 1);
-            renderBlocks.aoBrightnessXYPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y_offset, z);
-            renderBlocks.aoBrightnessXYZNNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y_offset, z - 1);
-            renderBlocks.aoBrightnessXYZNNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y_offset, z + 1);
-            renderBlocks.aoBrightnessXYZPNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y_offset, z - 1);
-            renderBlocks.aoBrightnessXYZPNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y_offset, z + 1);
-            renderBlocks.aoLightValueScratchXYNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchYZNN = getMixedAo(renderBlocks.blockAccess.getBlock(x, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z - 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchYZNP = getMixedAo(renderBlocks.blockAccess.getBlock(x, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z + 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z - 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z + 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZPNN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z - 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZPNP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z + 1).getAmbientOcclusionLightValue(), ratio);
+            float aoLightValue = getAoLightValue(x, y_offset, z);
+
+            renderBlocks.aoBrightnessXYNN = getMixedBrightness(block, x - 1, y_offset, z);
+            renderBlocks.aoBrightnessYZNN = getMixedBrightness(block, x, y_offset, z - 1);
+            renderBlocks.aoBrightnessYZNP = getMixedBrightness(block, x, y_offset, z + 1);
+            renderBlocks.aoBrightnessXYPN = getMixedBrightness(block, x + 1, y_offset, z);
+            renderBlocks.aoBrightnessXYZNNN = getMixedBrightness(block, x - 1, y_offset, z - 1);
+            renderBlocks.aoBrightnessXYZNNP = getMixedBrightness(block, x - 1, y_offset, z + 1);
+            renderBlocks.aoBrightnessXYZPNN = getMixedBrightness(block, x + 1, y_offset, z - 1);
+            renderBlocks.aoBrightnessXYZPNP = getMixedBrightness(block, x + 1, y_offset, z + 1);
+            renderBlocks.aoLightValueScratchXYNN = getMixedAo(getAoLightValue(x - 1, y - 1, z), getAoLightValue(x - 1, y, z), ratio);
+            renderBlocks.aoLightValueScratchYZNN = getMixedAo(getAoLightValue(x, y - 1, z - 1), getAoLightValue(x, y, z - 1), ratio);
+            renderBlocks.aoLightValueScratchYZNP = getMixedAo(getAoLightValue(x, y - 1, z + 1), getAoLightValue(x, y, z + 1), ratio);
+            renderBlocks.aoLightValueScratchXYPN = getMixedAo(getAoLightValue(x + 1, y - 1, z), getAoLightValue(x + 1, y, z), ratio);
+            renderBlocks.aoLightValueScratchXYZNNN = getMixedAo(getAoLightValue(x - 1, y - 1, z - 1), getAoLightValue(x - 1, y, z - 1), ratio);
+            renderBlocks.aoLightValueScratchXYZNNP = getMixedAo(getAoLightValue(x - 1, y - 1, z + 1), getAoLightValue(x - 1, y, z + 1), ratio);
+            renderBlocks.aoLightValueScratchXYZPNN = getMixedAo(getAoLightValue(x + 1, y - 1, z - 1), getAoLightValue(x + 1, y, z - 1), ratio);
+            renderBlocks.aoLightValueScratchXYZPNP = getMixedAo(getAoLightValue(x + 1, y - 1, z + 1), getAoLightValue(x + 1, y, z + 1), ratio);
 
             float aoMixed_XYZPNP = ao[TOP_LEFT     /*SE*/] = (renderBlocks.aoLightValueScratchYZNP + aoLightValue + renderBlocks.aoLightValueScratchXYZPNP + renderBlocks.aoLightValueScratchXYPN) / 4.0F;
             float aoMixed_XYZPNN = ao[BOTTOM_LEFT  /*NE*/] = (aoLightValue + renderBlocks.aoLightValueScratchYZNN + renderBlocks.aoLightValueScratchXYPN + renderBlocks.aoLightValueScratchXYZPNN) / 4.0F;
@@ -365,30 +504,32 @@ public class LightingHelper {
      */
     public LightingHelper setupLightingYPos(ItemStack itemStack, int x, int y, int z)
     {
+        setLightingSource(BlockHandlerBase.UP, 0, itemStack, x, y, z);
+        lightingCache = LightingCache.get(renderBlocks.blockAccess, x, y, z);
         Block block = BlockProperties.toBlock(itemStack);
         int y_offset = renderBlocks.renderMaxY < 1.0F ? y : y + 1;
-        brightness = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y_offset, z);
+        brightness = getMixedBrightness(block, x, y_offset, z);
 
         if (renderBlocks.enableAO) {
 
-            float aoLightValue = renderBlocks.blockAccess.getBlock(x, y_offset, z).getAmbientOcclusionLightValue();
-
-            renderBlocks.aoBrightnessXYNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y_offset, z);
-            renderBlocks.aoBrightnessXYPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y_offset, z);
-            renderBlocks.aoBrightnessYZPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y_offset, z - 1);
-            renderBlocks.aoBrightnessYZPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y_offset, z + 1);
-            renderBlocks.aoBrightnessXYZNPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y_offset, z - 1);
-            renderBlocks.aoBrightnessXYZPPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y_offset, z - 1);
-            renderBlocks.aoBrightnessXYZNPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y_offset, z + 1);
-            renderBlocks.aoBrightnessXYZPPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y_offset, z + 1);
-            renderBlocks.aoLightValueScratchXYNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchXYPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchYZPN = getMixedAo(renderBlocks.blockAccess.getBlock(x, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchYZPP = getMixedAo(renderBlocks.blockAccess.getBlock(x, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchXYZNPN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchXYZPPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchXYZNPP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
-            renderBlocks.aoLightValueScratchXYZPPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxY);
+            float aoLightValue = getAoLightValue(x, y_offset, z);
+
+            renderBlocks.aoBrightnessXYNP = getMixedBrightness(block, x - 1, y_offset, z);
+            renderBlocks.aoBrightnessXYPP = getMixedBrightness(block, x + 1, y_offset, z);
+            renderBlocks.aoBrightnessYZPN = getMixedBrightness(block, x, y_offset, z - 1);
+            renderBlocks.aoBrightnessYZPP = getMixedBrightness(block, x, y_offset, z + 1);
+            renderBlocks.aoBrightnessXYZNPN = getMixedBrightness(block, x - 1, y_offset, z - 1);
+            renderBlocks.aoBrightnessXYZPPN = getMixedBrightness(block, x + 1, y_offset, z - 1);
+            renderBlocks.aoBrightnessXYZNPP = getMixedBrightness(block, x - 1, y_offset, z + 1);
+            renderBlocks.aoBrightnessXYZPPP = getMixedBrightness(block, x + 1, y_offset, z + 1);
+            renderBlocks.aoLightValueScratchXYNP = getMixedAo(getAoLightValue(x - 1, y + 1, z), getAoLightValue(x - 1, y, z), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchXYPP = getMixedAo(getAoLightValue(x + 1, y + 1, z), getAoLightValue(x + 1, y, z), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchYZPN = getMixedAo(getAoLightValue(x, y + 1, z - 1), getAoLightValue(x, y, z - 1), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchYZPP = getMixedAo(getAoLightValue(x, y + 1, z + 1), getAoLightValue(x, y, z + 1), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchXYZNPN = getMixedAo(getAoLightValue(x - 1, y + 1, z - 1), getAoLightValue(x - 1, y, z - 1), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchXYZPPN = getMixedAo(getAoLightValue(x + 1, y + 1, z - 1), getAoLightValue(x + 1, y, z - 1), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchXYZNPP = getMixedAo(getAoLightValue(x - 1, y + 1, z + 1), getAoLightValue(x - 1, y, z + 1), renderBlocks.renderMaxY);
+            renderBlocks.aoLightValueScratchXYZPPP = getMixedAo(getAoLightValue(x + 1, y + 1, z + 1), getAoLightValue(x + 1, y, z + 1), renderBlocks.renderMaxY);
 
             float aoMixed_XYZPPP = ao[TOP_LEFT     /*SE*/] = (renderBlocks.aoLightValueScratchYZPP + aoLightValue + renderBlocks.aoLightValueScratchXYZPPP + renderBlocks.aoLightValueScratchXYPP) / 4.0F;
             float aoMixed_XYZPPN = ao[BOTTOM_LEFT  /*NE*/] = (aoLightValue + renderBlocks.aoLightValueScratchYZPN + renderBlocks.aoLightValueScratchXYPP + renderBlocks.aoLightValueScratchXYZPPN) / 4.0F;
@@ -438,31 +579,33 @@ public class LightingHelper {
      */
     public LightingHelper setupLightingZNeg(ItemStack itemStack, int x, int y, int z)
     {
+        setLightingSource(BlockHandlerBase.NORTH, 0, itemStack, x, y, z);
+        lightingCache = LightingCache.get(renderBlocks.blockAccess, x, y, z);
         Block block = BlockProperties.toBlock(itemStack);
         int z_offset = renderBlocks.renderMinZ > 0.0F ? z : z - 1;
-        brightness = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y, z_offset);
+        brightness = getMixedBrightness(block, x, y, z_offset);
 
         if (renderBlocks.enableAO) {
 
             float ratio = (float) (1.0F - renderBlocks.renderMinZ);
-            float aoLightValue = renderBlocks.blockAccess.getBlock(x, y, z_offset).getAmbientOcclusionLightValue();
-
-            renderBlocks.aoBrightnessXZNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y, z_offset);
-            renderBlocks.aoBrightnessYZNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y - 1, z_offset);
-            renderBlocks.aoBrightnessYZPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y + 1, z_offset);
-            renderBlocks.aoBrightnessXZPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y, z_offset);
-            renderBlocks.aoBrightnessXYZNNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y - 1, z_offset);
-            renderBlocks.aoBrightnessXYZNPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y + 1, z_offset);
-            renderBlocks.aoBrightnessXYZPNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y - 1, z_offset);
-            renderBlocks.aoBrightnessXYZPPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y + 1, z_offset);
-            renderBlocks.aoLightValueScratchXZNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchYZNN = getMixedAo(renderBlocks.blockAccess.getBlock(x, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchYZPN = getMixedAo(renderBlocks.blockAccess.getBlock(x, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXZPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y - 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNPN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y + 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZPNN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y - 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZPPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y + 1, z).getAmbientOcclusionLightValue(), ratio);
+            float aoLightValue = getAoLightValue(x, y, z_offset);
+
+            renderBlocks.aoBrightnessXZNN = getMixedBrightness(block, x - 1, y, z_offset);
+            renderBlocks.aoBrightnessYZNN = getMixedBrightness(block, x, y - 1, z_offset);
+            renderBlocks.aoBrightnessYZPN = getMixedBrightness(block, x, y + 1, z_offset);
+            renderBlocks.aoBrightnessXZPN = getMixedBrightness(block, x + 1, y, z_offset);
+            renderBlocks.aoBrightnessXYZNNN = getMixedBrightness(block, x - 1, y - 1, z_offset);
+            renderBlocks.aoBrightnessXYZNPN = getMixedBrightness(block, x - 1, y + 1, z_offset);
+            renderBlocks.aoBrightnessXYZPNN = getMixedBrightness(block, x + 1, y - 1, z_offset);
+            renderBlocks.aoBrightnessXYZPPN = getMixedBrightness(block, x + 1, y + 1, z_offset);
+            renderBlocks.aoLightValueScratchXZNN = getMixedAo(getAoLightValue(x - 1, y, z - 1), getAoLightValue(x - 1, y, z), ratio);
+            renderBlocks.aoLightValueScratchYZNN = getMixedAo(getAoLightValue(x, y - 1, z - 1), getAoLightValue(x, y - 1, z), ratio);
+            renderBlocks.aoLightValueScratchYZPN = getMixedAo(getAoLightValue(x, y + 1, z - 1), getAoLightValue(x, y + 1, z), ratio);
+            renderBlocks.aoLightValueScratchXZPN = getMixedAo(getAoLightValue(x + 1, y, z - 1), getAoLightValue(x + 1, y, z), ratio);
+            renderBlocks.aoLightValueScratchXYZNNN = getMixedAo(getAoLightValue(x - 1, y - 1, z - 1), getAoLightValue(x - 1, y - 1, z), ratio);
+            renderBlocks.aoLightValueScratchXYZNPN = getMixedAo(getAoLightValue(x - 1, y + 1, z - 1), getAoLightValue(x - 1, y + 1, z), ratio);
+            renderBlocks.aoLightValueScratchXYZPNN = getMixedAo(getAoLightValue(x + 1, y - 1, z - 1), getAoLightValue(x + 1, y - 1, z), ratio);
+            renderBlocks.aoLightValueScratchXYZPPN = getMixedAo(getAoLightValue(x + 1, y + 1, z - 1), getAoLightValue(x + 1, y + 1, z), ratio);
 
             float aoMixed_XYZPPN = ao[TOP_LEFT]     = (aoLightValue + renderBlocks.aoLightValueScratchYZPN + renderBlocks.aoLightValueScratchXZPN + renderBlocks.aoLightValueScratchXYZPPN) / 4.0F;
             float aoMixed_XYZPNN = ao[BOTTOM_LEFT]  = (renderBlocks.aoLightValueScratchYZNN + aoLightValue + renderBlocks.aoLightValueScratchXYZPNN + renderBlocks.aoLightValueScratchXZPN) / 4.0F;
@@ -512,30 +655,32 @@ public class LightingHelper {
      */
     public LightingHelper setupLightingZPos(ItemStack itemStack, int x, int y, int z)
     {
+        setLightingSource(BlockHandlerBase.SOUTH, 0, itemStack, x, y, z);
+        lightingCache = LightingCache.get(renderBlocks.blockAccess, x, y, z);
         Block block = BlockProperties.toBlock(itemStack);
         int z_offset = renderBlocks.renderMaxZ < 1.0F ? z : z + 1;
-        brightness = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y, z_offset);
+        brightness = getMixedBrightness(block, x, y, z_offset);
 
         if (renderBlocks.enableAO) {
 
-            float aoLightValue = renderBlocks.blockAccess.getBlock(x, y, z_offset).getAmbientOcclusionLightValue();
-
-            renderBlocks.aoBrightnessXZNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y, z_offset);
-            renderBlocks.aoBrightnessXZPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y, z_offset);
-            renderBlocks.aoBrightnessYZNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y - 1, z_offset);
-            renderBlocks.aoBrightnessYZPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x, y + 1, z_offset);
-            renderBlocks.aoBrightnessXYZNNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y - 1, z_offset);
-            renderBlocks.aoBrightnessXYZNPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x - 1, y + 1, z_offset);
-            renderBlocks.aoBrightnessXYZPNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y - 1, z_offset);
-            renderBlocks.aoBrightnessXYZPPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x + 1, y + 1, z_offset);
-            renderBlocks.aoLightValueScratchXZNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchXZPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchYZNP = getMixedAo(renderBlocks.blockAccess.getBlock(x, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchYZPP = getMixedAo(renderBlocks.blockAccess.getBlock(x, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchXYZNNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchXYZNPP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x - 1, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchXYZPNP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
-            renderBlocks.aoLightValueScratchXYZPPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x + 1, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxZ);
+            float aoLightValue = getAoLightValue(x, y, z_offset);
+
+            renderBlocks.aoBrightnessXZNP = getMixedBrightness(block, x - 1, y, z_offset);
+            renderBlocks.aoBrightnessXZPP = getMixedBrightness(block, x + 1, y, z_offset);
+            renderBlocks.aoBrightnessYZNP = getMixedBrightness(block, x, y - 1, z_offset);
+            renderBlocks.aoBrightnessYZPP = getMixedBrightness(block, x, y + 1, z_offset);
+            renderBlocks.aoBrightnessXYZNNP = getMixedBrightness(block, x - 1, y - 1, z_offset);
+            renderBlocks.aoBrightnessXYZNPP = getMixedBrightness(block, x - 1, y + 1, z_offset);
+            renderBlocks.aoBrightnessXYZPNP = getMixedBrightness(block, x + 1, y - 1, z_offset);
+            renderBlocks.aoBrightnessXYZPPP = getMixedBrightness(block, x + 1, y + 1, z_offset);
+            renderBlocks.aoLightValueScratchXZNP = getMixedAo(getAoLightValue(x - 1, y, z + 1), getAoLightValue(x - 1, y, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchXZPP = getMixedAo(getAoLightValue(x + 1, y, z + 1), getAoLightValue(x + 1, y, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchYZNP = getMixedAo(getAoLightValue(x, y - 1, z + 1), getAoLightValue(x, y - 1, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchYZPP = getMixedAo(getAoLightValue(x, y + 1, z + 1), getAoLightValue(x, y + 1, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchXYZNNP = getMixedAo(getAoLightValue(x - 1, y - 1, z + 1), getAoLightValue(x - 1, y - 1, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchXYZNPP = getMixedAo(getAoLightValue(x - 1, y + 1, z + 1), getAoLightValue(x - 1, y + 1, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchXYZPNP = getMixedAo(getAoLightValue(x + 1, y - 1, z + 1), getAoLightValue(x + 1, y - 1, z), renderBlocks.renderMaxZ);
+            renderBlocks.aoLightValueScratchXYZPPP = getMixedAo(getAoLightValue(x + 1, y + 1, z + 1), getAoLightValue(x + 1, y + 1, z), renderBlocks.renderMaxZ);
 
             float aoMixed_XYZNPP = ao[TOP_LEFT]     = (renderBlocks.aoLightValueScratchXZNP + renderBlocks.aoLightValueScratchXYZNPP + aoLightValue + renderBlocks.aoLightValueScratchYZPP) / 4.0F;
             float aoMixed_XYZNNP = ao[BOTTOM_LEFT]  = (renderBlocks.aoLightValueScratchXYZNNP + renderBlocks.aoLightValueScratchXZNP + renderBlocks.aoLightValueScratchYZNP + aoLightValue) / 4.0F;
@@ -585,31 +730,33 @@ public class LightingHelper {
      */
     public LightingHelper setupLightingXNeg(ItemStack itemStack, int x, int y, int z)
     {
+        setLightingSource(BlockHandlerBase.WEST, 0, itemStack, x, y, z);
+        lightingCache = LightingCache.get(renderBlocks.blockAccess, x, y, z);
         Block block = BlockProperties.toBlock(itemStack);
         int x_offset = renderBlocks.renderMinX > 0.0F ? x : x - 1;
-        brightness = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y, z);
+        brightness = getMixedBrightness(block, x_offset, y, z);
 
         if (renderBlocks.enableAO) {
 
             float ratio = (float) (1.0F - renderBlocks.renderMinX);
-            float aoLightValue = renderBlocks.blockAccess.getBlock(x_offset, y, z).getAmbientOcclusionLightValue();
-
-            renderBlocks.aoBrightnessXYNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y - 1, z);
-            renderBlocks.aoBrightnessXZNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y, z - 1);
-            renderBlocks.aoBrightnessXZNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y, z + 1);
-            renderBlocks.aoBrightnessXYNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y + 1, z);
-            renderBlocks.aoBrightnessXYZNNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y - 1, z - 1);
-            renderBlocks.aoBrightnessXYZNNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y - 1, z + 1);
-            renderBlocks.aoBrightnessXYZNPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y + 1, z - 1);
-            renderBlocks.aoBrightnessXYZNPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y + 1, z + 1);
-            renderBlocks.aoLightValueScratchXYNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXZNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z - 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXZNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z + 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNNN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z - 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNNP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z + 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNPN = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z - 1).getAmbientOcclusionLightValue(), ratio);
-            renderBlocks.aoLightValueScratchXYZNPP = getMixedAo(renderBlocks.blockAccess.getBlock(x - 1, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z + 1).getAmbientOcclusionLightValue(), ratio);
+            float aoLightValue = getAoLightValue(x_offset, y, z);
+
+            renderBlocks.aoBrightnessXYNN = getMixedBrightness(block, x_offset, y - 1, z);
+            renderBlocks.aoBrightnessXZNN = getMixedBrightness(block, x_offset, y, z - 1);
+            renderBlocks.aoBrightnessXZNP = getMixedBrightness(block, x_offset, y, z + 1);
+            renderBlocks.aoBrightnessXYNP = getMixedBrightness(block, x_offset, y + 1, z);
+            renderBlocks.aoBrightnessXYZNNN = getMixedBrightness(block, x_offset, y - 1, z - 1);
+            renderBlocks.aoBrightnessXYZNNP = getMixedBrightness(block, x_offset, y - 1, z + 1);
+            renderBlocks.aoBrightnessXYZNPN = getMixedBrightness(block, x_offset, y + 1, z - 1);
+            renderBlocks.aoBrightnessXYZNPP = getMixedBrightness(block, x_offset, y + 1, z + 1);
+            renderBlocks.aoLightValueScratchXYNN = getMixedAo(getAoLightValue(x - 1, y - 1, z), getAoLightValue(x, y - 1, z), ratio);
+            renderBlocks.aoLightValueScratchXZNN = getMixedAo(getAoLightValue(x - 1, y, z - 1), getAoLightValue(x, y, z - 1), ratio);
+            renderBlocks.aoLightValueScratchXZNP = getMixedAo(getAoLightValue(x - 1, y, z + 1), getAoLightValue(x, y, z + 1), ratio);
+            renderBlocks.aoLightValueScratchXYNP = getMixedAo(getAoLightValue(x - 1, y + 1, z), getAoLightValue(x, y + 1, z), ratio);
+            renderBlocks.aoLightValueScratchXYZNNN = getMixedAo(getAoLightValue(x - 1, y - 1, z - 1), getAoLightValue(x, y - 1, z - 1), ratio);
+            renderBlocks.aoLightValueScratchXYZNNP = getMixedAo(getAoLightValue(x - 1, y - 1, z + 1), getAoLightValue(x, y - 1, z + 1), ratio);
+            renderBlocks.aoLightValueScratchXYZNPN = getMixedAo(getAoLightValue(x - 1, y + 1, z - 1), getAoLightValue(x, y + 1, z - 1), ratio);
+            renderBlocks.aoLightValueScratchXYZNPP = getMixedAo(getAoLightValue(x - 1, y + 1, z + 1), getAoLightValue(x, y + 1, z + 1), ratio);
 
             float aoMixed_XYZNPN = ao[TOP_LEFT]     = (renderBlocks.aoLightValueScratchXZNN + aoLightValue + renderBlocks.aoLightValueScratchXYZNPN + renderBlocks.aoLightValueScratchXYNP) / 4.0F;
             float aoMixed_XYZNNN = ao[BOTTOM_LEFT]  = (renderBlocks.aoLightValueScratchXYZNNN + renderBlocks.aoLightValueScratchXYNN + renderBlocks.aoLightValueScratchXZNN + aoLightValue) / 4.0F;
@@ -659,30 +806,32 @@ public class LightingHelper {
      */
     public LightingHelper setupLightingXPos(ItemStack itemStack, int x, int y, int z)
     {
+        setLightingSource(BlockHandlerBase.EAST, 0, itemStack, x, y, z);
+        lightingCache = LightingCache.get(renderBlocks.blockAccess, x, y, z);
         Block block = BlockProperties.toBlock(itemStack);
         int x_offset = renderBlocks.renderMaxX < 1.0F ? x : x + 1;
-        brightness = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y, z);
+        brightness = getMixedBrightness(block, x_offset, y, z);
 
         if (renderBlocks.enableAO) {
 
-            float aoLightValue = renderBlocks.blockAccess.getBlock(x_offset, y, z).getAmbientOcclusionLightValue();
-
-            renderBlocks.aoBrightnessXYPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y - 1, z);
-            renderBlocks.aoBrightnessXZPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y, z - 1);
-            renderBlocks.aoBrightnessXZPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y, z + 1);
-            renderBlocks.aoBrightnessXYPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y + 1, z);
-            renderBlocks.aoBrightnessXYZPNN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y - 1, z - 1);
-            renderBlocks.aoBrightnessXYZPNP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y - 1, z + 1);
-            renderBlocks.aoBrightnessXYZPPN = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y + 1, z - 1);
-            renderBlocks.aoBrightnessXYZPPP = block.getMixedBrightnessForBlock(renderBlocks.blockAccess, x_offset, y + 1, z + 1);
-            renderBlocks.aoLightValueScratchXYPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXZPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z - 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXZPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y, z + 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXYPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXYZPNN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXYZPNP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y - 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXYZPPN = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z - 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
-            renderBlocks.aoLightValueScratchXYZPPP = getMixedAo(renderBlocks.blockAccess.getBlock(x + 1, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.blockAccess.getBlock(x, y + 1, z + 1).getAmbientOcclusionLightValue(), renderBlocks.renderMaxX);
+            float aoLightValue = getAoLightValue(x_offset, y, z);
+
+            renderBlocks.aoBrightnessXYPN = getMixedBrightness(block, x_offset, y - 1, z);
+            renderBlocks.aoBrightnessXZPN = getMixedBrightness(block, x_offset, y, z - 1);
+            renderBlocks.aoBrightnessXZPP = getMixedBrightness(block, x_offset, y, z + 1);
+            renderBlocks.aoBrightnessXYPP = getMixedBrightness(block, x_offset, y + 1, z);
+            renderBlocks.aoBrightnessXYZPNN = getMixedBrightness(block, x_offset, y - 1, z - 1);
+            renderBlocks.aoBrightnessXYZPNP = getMixedBrightness(block, x_offset, y - 1, z + 1);
+            renderBlocks.aoBrightnessXYZPPN = getMixedBrightness(block, x_offset, y + 1, z - 1);
+            renderBlocks.aoBrightnessXYZPPP = getMixedBrightness(block, x_offset, y + 1, z + 1);
+            renderBlocks.aoLightValueScratchXYPN = getMixedAo(getAoLightValue(x + 1, y - 1, z), getAoLightValue(x, y - 1, z), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXZPN = getMixedAo(getAoLightValue(x + 1, y, z - 1), getAoLightValue(x, y, z - 1), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXZPP = getMixedAo(getAoLightValue(x + 1, y, z + 1), getAoLightValue(x, y, z + 1), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXYPP = getMixedAo(getAoLightValue(x + 1, y + 1, z), getAoLightValue(x, y + 1, z), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXYZPNN = getMixedAo(getAoLightValue(x + 1, y - 1, z - 1), getAoLightValue(x, y - 1, z - 1), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXYZPNP = getMixedAo(getAoLightValue(x + 1, y - 1, z + 1), getAoLightValue(x, y - 1, z + 1), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXYZPPN = getMixedAo(getAoLightValue(x + 1, y + 1, z - 1), getAoLightValue(x, y + 1, z - 1), renderBlocks.renderMaxX);
+            renderBlocks.aoLightValueScratchXYZPPP = getMixedAo(getAoLightValue(x + 1, y + 1, z + 1), getAoLightValue(x, y + 1, z + 1), renderBlocks.renderMaxX);
 
             float aoMixed_XYZPPP = ao[TOP_LEFT]     = (aoLightValue + renderBlocks.aoLightValueScratchXZPP + renderBlocks.aoLightValueScratchXYPP + renderBlocks.aoLightValueScratchXYZPPP) / 4.0F;
             float aoMixed_XYZPNP = ao[BOTTOM_LEFT]  = (renderBlocks.aoLightValueScratchXYPN + renderBlocks.aoLightValueScratchXYZPNP + aoLightValue + renderBlocks.aoLightValueScratchXZPP) / 4.0F;
@@ -0,0 +1,566 @@
+package com.carpentersblocks.renderer.helper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.IIcon;
+import net.minecraftforge.client.event.TextureStitchEvent;
+import com.carpentersblocks.tileentity.TEBase;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Caches faces drawn for a block, so that blocks sharing the same
+ * state and visible sides are only built once.
+ * <p>
+ * Faces are recorded while a block is drawn normally, keeping vertex
+ * positions relative to the block along with texture coordinates and
+ * the corner each vertex takes its light from.  Lighting and color
+ * depend on position, so for each face the lighting set up through
+ * {@link LightingHelper} is noted and set up again when faces are
+ * replayed elsewhere.  Icon lookups, texture rotation and render helper
+ * geometry are skipped on replay.
+ * <p>
+ * Models are keyed by block, block data, attributes and designs of the
+ * tile entity, and hold a set of faces per combination of visible sides,
+ * render pass and graphics settings.  Tile entities keep the model they
+ * were last drawn with until their state changes, see {@link TEBase#clearRenderModel}.
+ * Everything is dropped once icons are stitched again.
+ */
+@SideOnly(Side.CLIENT)
+public class QuadCache {
+
+    /** Number of models kept before cache is emptied. */
+    private final static int MAX_MODELS = 4096;
+
+    private final static ConcurrentHashMap<Key, Model> models = new ConcurrentHashMap<Key, Model>();
+
+    /** Incremented whenever cache is emptied, to expire models held by tile entities. */
+    private static volatile int generation;
+
+    /**
+     * Returns model for tile entity, creating it if needed.
+     *
+     * @param  TE the {@link TEBase}
+     * @param  block the {@link Block} being drawn
+     * @return the {@link Model}
+     */
+    public static Model getModel(TEBase TE, Block block)
+    {
+        Object renderModel = TE.getRenderModel();
+
+        if (renderModel instanceof Model && ((Model) renderModel).generation == generation) {
+            return (Model) renderModel;
+        }
+
+        Key key = new Key(TE, block);
+        Model model = models.get(key);
+
+        if (model == null) {
+            if (models.size() >= MAX_MODELS) {
+                clear();
+            }
+            model = new Model(generation);
+            Model existing = models.putIfAbsent(key, model);
+            if (existing != null) {
+                model = existing;
+            }
+        }
+
+        TE.setRenderModel(model);
+
+        return model;
+    }
+
+    /**
+     * Returns key for faces of a model, combining visible sides with
+     * render pass and graphics settings that change which faces are drawn.
+     *
+     * @param  cullMask the visible sides, as returned by handler
+     * @param  renderPass the render pass
+     * @return the variant key
+     */
+    public static long getVariant(long cullMask, int renderPass)
+    {
+        long variant = cullMask << 3 | renderPass;
+
+        if (Minecraft.isAmbientOcclusionEnabled()) {
+            variant |= 2L;
+        }
+        if (Minecraft.isFancyGraphicsEnabled()) {
+            variant |= 4L;
+        }
+
+        return variant;
+    }
+
+    /**
+     * Empties cache.
+     */
+    public static void clear()
+    {
+        ++generation;
+        models.clear();
+    }
+
+    /**
+     * Drops all models once icons are stitched, since icons and their
+     * texture coordinates may have changed.
+     */
+    @SubscribeEvent
+    public void onTextureStitch(TextureStitchEvent.Post event)
+    {
+        if (event.map.getTextureType() == 0) {
+            clear();
+        }
+    }
+
+    /**
+     * Identifies tile entity state that faces are built from.
+     */
+    private static class Key {
+
+        private final Block       block;
+        private final int         data;
+        private final int         attrMask;
+        private final ItemStack[] attrs;
+        private final int[]       designs = new int[8];
+        private final int         hashCode;
+
+        private Key(TEBase TE, Block block)
+        {
+            this.block = block;
+            data = TE.getData();
+            attrMask = TE.getAttributeMask();
+            attrs = new ItemStack[Integer.bitCount(attrMask)];
+
+            /* Attributes are interned, so their stacks compare by identity. */
+
+            int idx = 0;
+            for (int mask = attrMask; mask != 0; mask &= mask - 1) {
+                attrs[idx++] = TE.getAttribute((byte) Integer.numberOfTrailingZeros(mask));
+            }
+
+            for (int side = 0; side < 7; ++side) {
+                designs[side] = TE.getChiselDesignId(side);
+            }
+            designs[7] = TE.getDesignId();
+
+            int hash = System.identityHashCode(block);
+            hash = hash * 31 + data;
+            hash = hash * 31 + attrMask;
+            for (ItemStack itemStack : attrs) {
+                hash = hash * 31 + System.identityHashCode(itemStack);
+            }
+            hashCode = hash * 31 + Arrays.hashCode(designs);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) obj;
+
+            if (hashCode != key.hashCode || block != key.block || data != key.data || attrMask != key.attrMask) {
+                return false;
+            }
+            for (int idx = 0; idx < attrs.length; ++idx) {
+                if (attrs[idx] != key.attrs[idx]) {
+                    return false;
+                }
+            }
+
+            return Arrays.equals(designs, key.designs);
+        }
+
+    }
+
+    /**
+     * Faces built for one tile entity state.
+     */
+    public static class Model {
+
+        private final int generation;
+
+        /*
+         * Variants are few per model, so they are kept in parallel arrays
+         * rather than a map, sparing a boxed key on every lookup.  Arrays
+         * are replaced as a whole when a variant is added.
+         */
+        private volatile long[]  keys   = new long[0];
+        private volatile Baked[] values = new Baked[0];
+
+        private Model(int generation)
+        {
+            this.generation = generation;
+        }
+
+        /**
+         * Returns faces for variant, or null if not yet recorded.
+         *
+         * @param  variant the variant, see {@link QuadCache#getVariant}
+         * @return the {@link Baked} faces
+         */
+        public Baked get(long variant)
+        {
+            Baked[] values = this.values;
+            long[] keys = this.keys;
+
+            for (int idx = 0; idx < values.length; ++idx) {
+                if (keys[idx] == variant) {
+                    return values[idx];
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Stores faces for variant.  Faces that could not be
+         * recorded are ignored, and will be drawn normally again.
+         *
+         * @param variant the variant, see {@link QuadCache#getVariant}
+         * @param baked the {@link Baked} faces, may be null
+         */
+        public synchronized void put(long variant, Baked baked)
+        {
+            if (baked == null || get(variant) != null) {
+                return;
+            }
+
+            int size = values.length;
+            long[] keys = Arrays.copyOf(this.keys, size + 1);
+            Baked[] values = Arrays.copyOf(this.values, size + 1);
+            keys[size] = variant;
+            values[size] = baked;
+
+            /* Keys first, so readers never see a value without its key. */
+
+            this.keys = keys;
+            this.values = values;
+        }
+
+    }
+
+    /**
+     * Recorded faces for a block, along with state left behind
+     * once block was drawn.
+     */
+    public static class Baked {
+
+        private final Face[]   faces;
+        private final double[] bounds;
+        private final float    lightness;
+        private final int      brightness;
+        private final int      color;
+        private final int      drawMode;
+
+        private Baked(Face[] faces, RenderBlocks renderBlocks, LightingHelper lightingHelper, int drawMode)
+        {
+            this.faces = faces;
+            bounds = getBounds(renderBlocks);
+            lightness = lightingHelper.getLightnessOverride();
+            brightness = lightingHelper.getBrightnessOverride();
+            color = lightingHelper.getColorOverride();
+            this.drawMode = drawMode;
+        }
+
+        /**
+         * Returns number of faces.
+         */
+        public int size()
+        {
+            return faces.length;
+        }
+
+        /**
+         * Returns face.
+         */
+        public Face getFace(int idx)
+        {
+            return faces[idx];
+        }
+
+        /**
+         * Restores render bounds, overrides and draw mode left
+         * behind by block when it was recorded.
+         *
+         * @param renderBlocks the {@link RenderBlocks}
+         * @param lightingHelper the {@link LightingHelper}
+         */
+        public void restoreState(RenderBlocks renderBlocks, LightingHelper lightingHelper)
+        {
+            setBounds(renderBlocks, bounds);
+            lightingHelper.setOverrides(lightness, brightness, color);
+            VertexHelper.startDrawing(drawMode);
+        }
+
+    }
+
+    /**
+     * A face drawn with a single color and lighting setup.
+     */
+    public static class Face {
+
+        /* Lighting, see LightingHelper#setLightingSource */
+
+        public final int       source;
+        public final int       sourceArg;
+        public final ItemStack sourceStack;
+        public final int       sourceX;
+        public final int       sourceY;
+        public final int       sourceZ;
+
+        /** Whether lighting differs from the previous face. */
+        public final boolean   relight;
+
+        public final boolean   enableAO;
+        private final double[] bounds;
+        private final float    lightness;
+        private final int      brightness;
+        private final int      colorOverride;
+
+        /* Color */
+
+        public final Block     block;
+        public final int       metadata;
+        public final int       x;
+        public final int       y;
+        public final int       z;
+        public final int       side;
+        public final IIcon     icon;
+        public final boolean   hasColor;
+        public final int       color;
+
+        /* Vertices, relative to block */
+
+        private double[]       vertices = new double[20];
+        private int[]          corners  = new int[4];
+        private int            vertexCount;
+
+        private Face(Face prev, LightingHelper lightingHelper, RenderBlocks renderBlocks, int originX, int originY, int originZ, Block block, int metadata, int x, int y, int z, int side, IIcon icon, boolean hasColor, int color)
+        {
+            source = lightingHelper.source;
+            sourceArg = lightingHelper.sourceArg;
+            sourceStack = lightingHelper.sourceStack;
+            sourceX = lightingHelper.sourceX - originX;
+            sourceY = lightingHelper.sourceY - originY;
+            sourceZ = lightingHelper.sourceZ - originZ;
+            enableAO = renderBlocks.enableAO;
+            bounds = getBounds(renderBlocks);
+            lightness = lightingHelper.getLightnessOverride();
+            brightness = lightingHelper.getBrightnessOverride();
+            colorOverride = lightingHelper.getColorOverride();
+            this.block = block;
+            this.metadata = metadata;
+            this.x = x - originX;
+            this.y = y - originY;
+            this.z = z - originZ;
+            this.side = side;
+            this.icon = icon;
+            this.hasColor = hasColor;
+            this.color = color;
+
+            relight = prev == null ||
+                      source != prev.source ||
+                      sourceArg != prev.sourceArg ||
+                      sourceStack != prev.sourceStack ||
+                      sourceX != prev.sourceX ||
+                      sourceY != prev.sourceY ||
+                      sourceZ != prev.sourceZ ||
+                      enableAO != prev.enableAO ||
+                      !Arrays.equals(bounds, prev.bounds);
+        }
+
+        private void addVertex(int corner, double x, double y, double z, double u, double v)
+        {
+            if (vertexCount == corners.length) {
+                corners = Arrays.copyOf(corners, vertexCount * 2);
+                vertices = Arrays.copyOf(vertices, vertexCount * 10);
+            }
+
+            int idx = vertexCount * 5;
+            vertices[idx]     = x;
+            vertices[idx + 1] = y;
+            vertices[idx + 2] = z;
+            vertices[idx + 3] = u;
+            vertices[idx + 4] = v;
+            corners[vertexCount++] = corner;
+        }
+
+        /**
+         * Restores render bounds and AO state that lighting was set up with.
+         *
+         * @param renderBlocks the {@link RenderBlocks}
+         */
+        public void restoreBounds(RenderBlocks renderBlocks)
+        {
+            setBounds(renderBlocks, bounds);
+            renderBlocks.enableAO = enableAO;
+        }
+
+        /**
+         * Restores overrides that color was set up with.
+         *
+         * @param lightingHelper the {@link LightingHelper}
+         */
+        public void restoreOverrides(LightingHelper lightingHelper)
+        {
+            lightingHelper.setOverrides(lightness, brightness, colorOverride);
+        }
+
+        /**
+         * Adds vertices through {@link Tessellator}, using color
+         * and brightness currently set up for face.
+         *
+         * @param  renderBlocks the {@link RenderBlocks}
+         * @param  x the x coordinate of block
+         * @param  y the y coordinate of block
+         * @param  z the z coordinate of block
+         * @return the number of vertices added
+         */
+        public int draw(RenderBlocks renderBlocks, int x, int y, int z)
+        {
+            Tessellator tessellator = RenderContext.get().getTessellator();
+
+            for (int vertex = 0, idx = 0; vertex < vertexCount; ++vertex, idx += 5) {
+                if (corners[vertex] >= 0) {
+                    VertexHelper.setupCorner(tessellator, renderBlocks, corners[vertex]);
+                }
+                tessellator.addVertexWithUV(x + vertices[idx], y + vertices[idx + 1], z + vertices[idx + 2], vertices[idx + 3], vertices[idx + 4]);
+            }
+
+            return vertexCount;
+        }
+
+    }
+
+    /**
+     * Collects faces while a block is drawn.
+     * <p>
+     * Set as {@link RenderContext#recorder} for the duration of the draw.
+     * Vertices added outside of a face, such as by a render helper that
+     * sets up its own lighting, cannot be replayed and leave the recording
+     * invalid.
+     */
+    public static class Recorder {
+
+        private final int        originX;
+        private final int        originY;
+        private final int        originZ;
+        private final List<Face> faces = new ArrayList<Face>();
+        private Face             face;
+        private boolean          isValid = true;
+
+        public Recorder(int x, int y, int z)
+        {
+            originX = x;
+            originY = y;
+            originZ = z;
+        }
+
+        /**
+         * Starts face, noting lighting and color inputs.
+         *
+         * @param lightingHelper the {@link LightingHelper}, with lighting set up for face
+         * @param block the {@link Block} color is taken from
+         * @param metadata the metadata color is taken from
+         * @param x the x coordinate of face
+         * @param y the y coordinate of face
+         * @param z the z coordinate of face
+         * @param side the side
+         * @param icon the {@link IIcon}
+         * @param hasColor whether color is fixed, such as by dye
+         * @param color the fixed color
+         */
+        public void beginFace(LightingHelper lightingHelper, Block block, int metadata, int x, int y, int z, int side, IIcon icon, boolean hasColor, int color)
+        {
+            if (lightingHelper.sourceStack == null) {
+                isValid = false;
+            }
+
+            Face prev = faces.isEmpty() ? null : faces.get(faces.size() - 1);
+            face = new Face(prev, lightingHelper, lightingHelper.renderBlocks, originX, originY, originZ, block, metadata, x, y, z, side, icon, hasColor, color);
+        }
+
+        /**
+         * Ends face, keeping it if any vertices were added.
+         */
+        public void endFace()
+        {
+            if (face != null && face.vertexCount > 0) {
+                faces.add(face);
+            }
+            face = null;
+        }
+
+        /**
+         * Records vertex added through {@link VertexHelper}.
+         *
+         * @param corner the corner lighting was taken from, or -1 if none
+         */
+        public void addVertex(int corner, double x, double y, double z, double u, double v)
+        {
+            if (face == null) {
+                isValid = false;
+            } else {
+                face.addVertex(corner, x - originX, y - originY, z - originZ, u, v);
+            }
+        }
+
+        /**
+         * Completes recording.
+         *
+         * @param  renderBlocks the {@link RenderBlocks}
+         * @param  lightingHelper the {@link LightingHelper}
+         * @param  drawMode the draw mode left behind by block
+         * @return the {@link Baked} faces, or null if recording is invalid
+         */
+        public Baked finish(RenderBlocks renderBlocks, LightingHelper lightingHelper, int drawMode)
+        {
+            if (!isValid || face != null) {
+                return null;
+            }
+
+            return new Baked(faces.toArray(new Face[faces.size()]), renderBlocks, lightingHelper, drawMode);
+        }
+
+    }
+
+    private static double[] getBounds(RenderBlocks renderBlocks)
+    {
+        return new double[] {
+            renderBlocks.renderMinX,
+            renderBlocks.renderMinY,
+            renderBlocks.renderMinZ,
+            renderBlocks.renderMaxX,
+            renderBlocks.renderMaxY,
+            renderBlocks.renderMaxZ
+        };
+    }
+
+    private static void setBounds(RenderBlocks renderBlocks, double[] bounds)
+    {
+        renderBlocks.setRenderBounds(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
+    }
+
+}
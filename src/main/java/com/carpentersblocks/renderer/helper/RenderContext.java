@@ -0,0 +1,107 @@
+package com.carpentersblocks.renderer.helper;
+
+import net.minecraft.client.renderer.Tessellator;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Scratch state shared by render helpers while drawing a face.
+ * <p>
+ * Each thread has its own context, so that chunk sections may be
+ * rebuilt on several threads at once.  Helpers retrieve it once per
+ * face and pass values between preparation and vertex setup through it.
+ */
+@SideOnly(Side.CLIENT)
+public class RenderContext {
+
+    private final static ThreadLocal<RenderContext> context = new ThreadLocal<RenderContext>() {
+        @Override
+        protected RenderContext initialValue()
+        {
+            return new RenderContext();
+        }
+    };
+
+    /* VertexHelper */
+
+    /**
+     * Receives vertices in place of {@link Tessellator#instance}, or null
+     * when drawing to it.  Honored by face and vertex helpers only; vanilla
+     * {@link net.minecraft.client.renderer.RenderBlocks} methods always draw
+     * to the shared instance.
+     */
+    public Tessellator tessellator;
+
+    public boolean clearFloat;
+    public boolean floatingIcon;
+    public int     drawMode;
+
+    /** Keeps track of vertices drawn per pass. */
+    public int     vertexCount;
+
+    /** Keeps track of vertex draws when in triangle mode. */
+    public int     triVertexCount;
+
+    /* RenderHelper */
+
+    public boolean rotationOverride;
+    public int     rotation;
+    public double  uMin;
+    public double  uMax;
+    public double  vMin;
+    public double  vMax;
+    public double  xMin;
+    public double  xMax;
+    public double  yMin;
+    public double  yMax;
+    public double  zMin;
+    public double  zMax;
+    public double  uTL;
+    public double  vTL;
+    public double  uBL;
+    public double  vBL;
+    public double  uBR;
+    public double  vBR;
+    public double  uTR;
+    public double  vTR;
+    public double  renderOffset;
+
+    /** Whether face being drawn is a sloped face. */
+    public boolean isSideSloped;
+
+    /* RenderHelperCollapsible */
+
+    public double  CENTER_YMAX;
+    public double  offset_XZNN;
+    public double  offset_XZNP;
+    public double  offset_XZPN;
+    public double  offset_XZPP;
+
+    /* QuadCache */
+
+    /** Collects faces while block is drawn, or null when not recording. */
+    public QuadCache.Recorder recorder;
+
+    private RenderContext() { }
+
+    /**
+     * Returns context for current thread.
+     *
+     * @return the {@link RenderContext}
+     */
+    public static RenderContext get()
+    {
+        return context.get();
+    }
+
+    /**
+     * Returns tessellator that helpers add vertices to on this thread.
+     *
+     * @return the {@link Tessellator}
+     */
+    public Tessellator getTessellator()
+    {
+        return tessellator != null ? tessellator : Tessellator.instance;
+    }
+
+}
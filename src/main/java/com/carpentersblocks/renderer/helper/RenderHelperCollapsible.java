@@ -3,6 +3,8 @@ package com.carpentersblocks.renderer.helper;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
+import com.carpentersblocks.data.Collapsible;
+import com.carpentersblocks.tileentity.TEBase;
 import com.carpentersblocks.util.collapsible.CollapsibleUtil;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -10,19 +12,50 @@ import cpw.mods.fml.relauncher.SideOnly;
 @SideOnly(Side.CLIENT)
 public class RenderHelperCollapsible extends RenderHelper {
 
+    /**
+     * Fills Y-offsets for each corner and center of block for rendering purposes.
+     *
+     * @param TE the {@link TEBase}
+     * @param ctx the {@link RenderContext} to store offsets in
+     */
+    public static void computeOffsets(TEBase TE, RenderContext ctx)
+    {
+        double BIAS = CollapsibleUtil.isMin(TE) ? 1.0D / 1024.0D : 0.0D; /* small offset to prevent Z-fighting at depth 0 */
+
+        ctx.offset_XZNN = Collapsible.getQuadDepth(TE, Collapsible.QUAD_XZNN) / 16.0D + BIAS;
+        ctx.offset_XZNP = Collapsible.getQuadDepth(TE, Collapsible.QUAD_XZNP) / 16.0D + BIAS;
+        ctx.offset_XZPN = Collapsible.getQuadDepth(TE, Collapsible.QUAD_XZPN) / 16.0D + BIAS;
+        ctx.offset_XZPP = Collapsible.getQuadDepth(TE, Collapsible.QUAD_XZPP) / 16.0D + BIAS;
+
+        /* Find primary corners and set center yMax offset. */
+
+        double NW_SE = Math.abs(ctx.offset_XZNN - ctx.offset_XZPP);
+        double NE_SW = Math.abs(ctx.offset_XZPN - ctx.offset_XZNP);
+
+        /*
+         * Changing this to NW_SE > NE_SW will change how slopes are split.
+         * It's really a matter of personal preference.
+         */
+        if (NW_SE < NE_SW) {
+            ctx.CENTER_YMAX = (ctx.offset_XZPN + ctx.offset_XZNP) / 2.0F;
+        } else {
+            ctx.CENTER_YMAX = (ctx.offset_XZNN + ctx.offset_XZPP) / 2.0F;
+        }
+    }
+
     /**
      * Renders the given texture to the bottom North slope.
      */
     public static void renderSlopeYNegZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.DOWN, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.DOWN, x, y, z, icon);
 
-        double uTM = uTR - (uTR - uTL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
+        double uTM = ctx.uTR - (ctx.uTR - ctx.uTL) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
 
-        setupVertex(renderBlocks, xMin, y + 1.0D - CollapsibleUtil.offset_XZNN, zMin, uBR, vBR, NORTHWEST   );
-        setupVertex(renderBlocks, xMax, y + 1.0D - CollapsibleUtil.offset_XZPN, zMin, uBL, vBL, NORTHEAST   );
-        setupVertex(renderBlocks, xMid, y + 1.0D - CollapsibleUtil.CENTER_YMAX, zMax, uTM, vTR, TOP_CENTER  );
+        setupVertex(renderBlocks, ctx.xMin, y + 1.0D - ctx.offset_XZNN, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST   );
+        setupVertex(renderBlocks, ctx.xMax, y + 1.0D - ctx.offset_XZPN, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST   );
+        setupVertex(renderBlocks, xMid, y + 1.0D - ctx.CENTER_YMAX, ctx.zMax, uTM, ctx.vTR, TOP_CENTER  );
     }
 
     /**
@@ -30,14 +63,14 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderSlopeYNegZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.DOWN, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.DOWN, x, y, z, icon);
 
-        double uBM = uBR - (uBR - uBL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
+        double uBM = ctx.uBR - (ctx.uBR - ctx.uBL) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
 
-        setupVertex(renderBlocks, xMin, y + 1.0D - CollapsibleUtil.offset_XZNP, zMax, uTR, vTR, SOUTHWEST    );
-        setupVertex(renderBlocks, xMid, y + 1.0D - CollapsibleUtil.CENTER_YMAX, zMin, uBM, vBR, BOTTOM_CENTER);
-        setupVertex(renderBlocks, xMax, y + 1.0D - CollapsibleUtil.offset_XZPP, zMax, uTL, vTL, SOUTHEAST    );
+        setupVertex(renderBlocks, ctx.xMin, y + 1.0D - ctx.offset_XZNP, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST    );
+        setupVertex(renderBlocks, xMid, y + 1.0D - ctx.CENTER_YMAX, ctx.zMin, uBM, ctx.vBR, BOTTOM_CENTER);
+        setupVertex(renderBlocks, ctx.xMax, y + 1.0D - ctx.offset_XZPP, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST    );
     }
 
     /**
@@ -45,14 +78,14 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderSlopeYPosZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
 
-        double uTM = uTR - (uTR - uTL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
+        double uTM = ctx.uTR - (ctx.uTR - ctx.uTL) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
 
-        setupVertex(renderBlocks, xMid, y + CollapsibleUtil.CENTER_YMAX, zMax, uTM, vTR, TOP_CENTER  );
-        setupVertex(renderBlocks, xMax, y + CollapsibleUtil.offset_XZPN, zMin, uBL, vBL, NORTHEAST   );
-        setupVertex(renderBlocks, xMin, y + CollapsibleUtil.offset_XZNN, zMin, uBR, vBR, NORTHWEST   );
+        setupVertex(renderBlocks, xMid, y + ctx.CENTER_YMAX, ctx.zMax, uTM, ctx.vTR, TOP_CENTER  );
+        setupVertex(renderBlocks, ctx.xMax, y + ctx.offset_XZPN, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST   );
+        setupVertex(renderBlocks, ctx.xMin, y + ctx.offset_XZNN, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST   );
     }
 
     /**
@@ -60,14 +93,14 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderSlopeYPosZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
 
-        double uBM = uBR - (uBR - uBL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
+        double uBM = ctx.uBR - (ctx.uBR - ctx.uBL) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
 
-        setupVertex(renderBlocks, xMax, y + CollapsibleUtil.offset_XZPP, zMax, uTL, vTL, SOUTHEAST    );
-        setupVertex(renderBlocks, xMid, y + CollapsibleUtil.CENTER_YMAX, zMin, uBM, vBR, BOTTOM_CENTER);
-        setupVertex(renderBlocks, xMin, y + CollapsibleUtil.offset_XZNP, zMax, uTR, vTR, SOUTHWEST    );
+        setupVertex(renderBlocks, ctx.xMax, y + ctx.offset_XZPP, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST    );
+        setupVertex(renderBlocks, xMid, y + ctx.CENTER_YMAX, ctx.zMin, uBM, ctx.vBR, BOTTOM_CENTER);
+        setupVertex(renderBlocks, ctx.xMin, y + ctx.offset_XZNP, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST    );
     }
 
     /**
@@ -75,14 +108,14 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderSlopeXNegYNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.DOWN, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.DOWN, x, y, z, icon);
 
-        double vLM = vBL - (vBL - vTL) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double vLM = ctx.vBL - (ctx.vBL - ctx.vTL) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
-        setupVertex(renderBlocks, xMin, y + 1.0D - CollapsibleUtil.offset_XZNP, zMax, uTR, vTR, SOUTHWEST   );
-        setupVertex(renderBlocks, xMin, y + 1.0D - CollapsibleUtil.offset_XZNN, zMin, uBR, vBR, NORTHWEST   );
-        setupVertex(renderBlocks, xMax, y + 1.0D - CollapsibleUtil.CENTER_YMAX, zMid, uBL, vLM, LEFT_CENTER );
+        setupVertex(renderBlocks, ctx.xMin, y + 1.0D - ctx.offset_XZNP, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST   );
+        setupVertex(renderBlocks, ctx.xMin, y + 1.0D - ctx.offset_XZNN, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST   );
+        setupVertex(renderBlocks, ctx.xMax, y + 1.0D - ctx.CENTER_YMAX, zMid, ctx.uBL, vLM, LEFT_CENTER );
     }
 
     /**
@@ -90,14 +123,14 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderSlopeXPosYNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.DOWN, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.DOWN, x, y, z, icon);
 
-        double vRM = vBR - (vBR - vTR) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double vRM = ctx.vBR - (ctx.vBR - ctx.vTR) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
-        setupVertex(renderBlocks, xMin, y + 1.0D - CollapsibleUtil.CENTER_YMAX, zMid, uBR, vRM, RIGHT_CENTER);
-        setupVertex(renderBlocks, xMax, y + 1.0D - CollapsibleUtil.offset_XZPN, zMin, uBL, vBL, NORTHEAST   );
-        setupVertex(renderBlocks, xMax, y + 1.0D - CollapsibleUtil.offset_XZPP, zMax, uTL, vTL, SOUTHEAST   );
+        setupVertex(renderBlocks, ctx.xMin, y + 1.0D - ctx.CENTER_YMAX, zMid, ctx.uBR, vRM, RIGHT_CENTER);
+        setupVertex(renderBlocks, ctx.xMax, y + 1.0D - ctx.offset_XZPN, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST   );
+        setupVertex(renderBlocks, ctx.xMax, y + 1.0D - ctx.offset_XZPP, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST   );
     }
 
     /**
@@ -105,14 +138,14 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderSlopeXNegYPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
 
-        double vLM = vBL - (vBL - vTL) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double vLM = ctx.vBL - (ctx.vBL - ctx.vTL) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
-        setupVertex(renderBlocks, xMax, y + CollapsibleUtil.CENTER_YMAX, zMid, uBL, vLM, LEFT_CENTER );
-        setupVertex(renderBlocks, xMin, y + CollapsibleUtil.offset_XZNN, zMin, uBR, vBR, NORTHWEST   );
-        setupVertex(renderBlocks, xMin, y + CollapsibleUtil.offset_XZNP, zMax, uTR, vTR, SOUTHWEST   );
+        setupVertex(renderBlocks, ctx.xMax, y + ctx.CENTER_YMAX, zMid, ctx.uBL, vLM, LEFT_CENTER );
+        setupVertex(renderBlocks, ctx.xMin, y + ctx.offset_XZNN, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST   );
+        setupVertex(renderBlocks, ctx.xMin, y + ctx.offset_XZNP, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST   );
     }
 
     /**
@@ -120,14 +153,14 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderSlopeXPosYPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.UP, x, y, z, icon);
 
-        double vRM = vBR - (vBR - vTR) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double vRM = ctx.vBR - (ctx.vBR - ctx.vTR) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
-        setupVertex(renderBlocks, xMax, y + CollapsibleUtil.offset_XZPP, zMax, uTL, vTL, SOUTHEAST   );
-        setupVertex(renderBlocks, xMax, y + CollapsibleUtil.offset_XZPN, zMin, uBL, vBL, NORTHEAST   );
-        setupVertex(renderBlocks, xMin, y + CollapsibleUtil.CENTER_YMAX, zMid, uBR, vRM, RIGHT_CENTER);
+        setupVertex(renderBlocks, ctx.xMax, y + ctx.offset_XZPP, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST   );
+        setupVertex(renderBlocks, ctx.xMax, y + ctx.offset_XZPN, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST   );
+        setupVertex(renderBlocks, ctx.xMin, y + ctx.CENTER_YMAX, zMid, ctx.uBR, vRM, RIGHT_CENTER);
     }
 
     /**
@@ -135,32 +168,32 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderFaceZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon, boolean isPositive)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
         if (isPositive) {
 
-            if (floatingIcon) {
-                vBL = vTL - (vTL - vBL) * CollapsibleUtil.offset_XZPN;
-                vBR = vTR - (vTR - vBR) * CollapsibleUtil.offset_XZNN;
+            if (ctx.floatingIcon) {
+                ctx.vBL = ctx.vTL - (ctx.vTL - ctx.vBL) * ctx.offset_XZPN;
+                ctx.vBR = ctx.vTR - (ctx.vTR - ctx.vBR) * ctx.offset_XZNN;
             } else {
-                vTL = vBL + (vTL - vBL) * CollapsibleUtil.offset_XZPN;
-                vTR = vBR + (vTR - vBR) * CollapsibleUtil.offset_XZNN;
+                ctx.vTL = ctx.vBL + (ctx.vTL - ctx.vBL) * ctx.offset_XZPN;
+                ctx.vTR = ctx.vBR + (ctx.vTR - ctx.vBR) * ctx.offset_XZNN;
             }
 
-            setupVertex(renderBlocks, xMax, yMin + CollapsibleUtil.offset_XZPN, zMin, uTL, vTL, TOP_LEFT    );
-            setupVertex(renderBlocks, xMax,                               yMin, zMin, uBL, vBL, BOTTOM_LEFT );
-            setupVertex(renderBlocks, xMin,                               yMin, zMin, uBR, vBR, BOTTOM_RIGHT);
-            setupVertex(renderBlocks, xMin, yMin + CollapsibleUtil.offset_XZNN, zMin, uTR, vTR, TOP_RIGHT   );
+            setupVertex(renderBlocks, ctx.xMax, ctx.yMin + ctx.offset_XZPN, ctx.zMin, ctx.uTL, ctx.vTL, TOP_LEFT    );
+            setupVertex(renderBlocks, ctx.xMax,                   ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+            setupVertex(renderBlocks, ctx.xMin,                   ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+            setupVertex(renderBlocks, ctx.xMin, ctx.yMin + ctx.offset_XZNN, ctx.zMin, ctx.uTR, ctx.vTR, TOP_RIGHT   );
 
         } else {
 
-            vBL = vTL - (vTL - vBL) * CollapsibleUtil.offset_XZPN;
-            vBR = vTR - (vTR - vBR) * CollapsibleUtil.offset_XZNN;
+            ctx.vBL = ctx.vTL - (ctx.vTL - ctx.vBL) * ctx.offset_XZPN;
+            ctx.vBR = ctx.vTR - (ctx.vTR - ctx.vBR) * ctx.offset_XZNN;
 
-            setupVertex(renderBlocks, xMax,                               yMax, zMin, uTL, vTL, TOP_LEFT    );
-            setupVertex(renderBlocks, xMax, yMax - CollapsibleUtil.offset_XZPN, zMin, uBL, vBL, BOTTOM_LEFT );
-            setupVertex(renderBlocks, xMin, yMax - CollapsibleUtil.offset_XZNN, zMin, uBR, vBR, BOTTOM_RIGHT);
-            setupVertex(renderBlocks, xMin,                               yMax, zMin, uTR, vTR, TOP_RIGHT   );
+            setupVertex(renderBlocks, ctx.xMax,                   ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, TOP_LEFT    );
+            setupVertex(renderBlocks, ctx.xMax, ctx.yMax - ctx.offset_XZPN, ctx.zMin, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+            setupVertex(renderBlocks, ctx.xMin, ctx.yMax - ctx.offset_XZNN, ctx.zMin, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+            setupVertex(renderBlocks, ctx.xMin,                   ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, TOP_RIGHT   );
 
         }
     }
@@ -170,32 +203,32 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderFaceZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon, boolean isPositive)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
 
         if (isPositive) {
 
-            if (floatingIcon) {
-                vBL = vTL - (vTL - vBL) * CollapsibleUtil.offset_XZNP;
-                vBR = vTR - (vTR - vBR) * CollapsibleUtil.offset_XZPP;
+            if (ctx.floatingIcon) {
+                ctx.vBL = ctx.vTL - (ctx.vTL - ctx.vBL) * ctx.offset_XZNP;
+                ctx.vBR = ctx.vTR - (ctx.vTR - ctx.vBR) * ctx.offset_XZPP;
             } else {
-                vTL = vBL + (vTL - vBL) * CollapsibleUtil.offset_XZNP;
-                vTR = vBR + (vTR - vBR) * CollapsibleUtil.offset_XZPP;
+                ctx.vTL = ctx.vBL + (ctx.vTL - ctx.vBL) * ctx.offset_XZNP;
+                ctx.vTR = ctx.vBR + (ctx.vTR - ctx.vBR) * ctx.offset_XZPP;
             }
 
-            setupVertex(renderBlocks, xMin, yMin + CollapsibleUtil.offset_XZNP, zMax, uTL, vTL, TOP_LEFT    );
-            setupVertex(renderBlocks, xMin,                               yMin, zMax, uBL, vBL, BOTTOM_LEFT );
-            setupVertex(renderBlocks, xMax,                               yMin, zMax, uBR, vBR, BOTTOM_RIGHT);
-            setupVertex(renderBlocks, xMax, yMin + CollapsibleUtil.offset_XZPP, zMax, uTR, vTR, TOP_RIGHT   );
+            setupVertex(renderBlocks, ctx.xMin, ctx.yMin + ctx.offset_XZNP, ctx.zMax, ctx.uTL, ctx.vTL, TOP_LEFT    );
+            setupVertex(renderBlocks, ctx.xMin,                   ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+            setupVertex(renderBlocks, ctx.xMax,                   ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+            setupVertex(renderBlocks, ctx.xMax, ctx.yMin + ctx.offset_XZPP, ctx.zMax, ctx.uTR, ctx.vTR, TOP_RIGHT   );
 
         } else {
 
-            vBL = vTL - (vTL - vBL) * CollapsibleUtil.offset_XZNP;
-            vBR = vTR - (vTR - vBR) * CollapsibleUtil.offset_XZPP;
+            ctx.vBL = ctx.vTL - (ctx.vTL - ctx.vBL) * ctx.offset_XZNP;
+            ctx.vBR = ctx.vTR - (ctx.vTR - ctx.vBR) * ctx.offset_XZPP;
 
-            setupVertex(renderBlocks, xMin,                               yMax, zMax, uTL, vTL, TOP_LEFT    );
-            setupVertex(renderBlocks, xMin, yMax - CollapsibleUtil.offset_XZNP, zMax, uBL, vBL, BOTTOM_LEFT );
-            setupVertex(renderBlocks, xMax, yMax - CollapsibleUtil.offset_XZPP, zMax, uBR, vBR, BOTTOM_RIGHT);
-            setupVertex(renderBlocks, xMax,                               yMax, zMax, uTR, vTR, TOP_RIGHT   );
+            setupVertex(renderBlocks, ctx.xMin,                   ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, TOP_LEFT    );
+            setupVertex(renderBlocks, ctx.xMin, ctx.yMax - ctx.offset_XZNP, ctx.zMax, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+            setupVertex(renderBlocks, ctx.xMax, ctx.yMax - ctx.offset_XZPP, ctx.zMax, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+            setupVertex(renderBlocks, ctx.xMax,                   ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, TOP_RIGHT   );
 
         }
     }
@@ -205,32 +238,32 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderFaceXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon, boolean isPositive)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
 
         if (isPositive) {
 
-            if (floatingIcon) {
-                vBL = vTL - (vTL - vBL) * CollapsibleUtil.offset_XZNN;
-                vBR = vTR - (vTR - vBR) * CollapsibleUtil.offset_XZNP;
+            if (ctx.floatingIcon) {
+                ctx.vBL = ctx.vTL - (ctx.vTL - ctx.vBL) * ctx.offset_XZNN;
+                ctx.vBR = ctx.vTR - (ctx.vTR - ctx.vBR) * ctx.offset_XZNP;
             } else {
-                vTL = vBL + (vTL - vBL) * CollapsibleUtil.offset_XZNN;
-                vTR = vBR + (vTR - vBR) * CollapsibleUtil.offset_XZNP;
+                ctx.vTL = ctx.vBL + (ctx.vTL - ctx.vBL) * ctx.offset_XZNN;
+                ctx.vTR = ctx.vBR + (ctx.vTR - ctx.vBR) * ctx.offset_XZNP;
             }
 
-            setupVertex(renderBlocks, xMin, yMin + CollapsibleUtil.offset_XZNN, zMin, uTL, vTL, TOP_LEFT    );
-            setupVertex(renderBlocks, xMin,                               yMin, zMin, uBL, vBL, BOTTOM_LEFT );
-            setupVertex(renderBlocks, xMin,                               yMin, zMax, uBR, vBR, BOTTOM_RIGHT);
-            setupVertex(renderBlocks, xMin, yMin + CollapsibleUtil.offset_XZNP, zMax, uTR, vTR, TOP_RIGHT   );
+            setupVertex(renderBlocks, ctx.xMin, ctx.yMin + ctx.offset_XZNN, ctx.zMin, ctx.uTL, ctx.vTL, TOP_LEFT    );
+            setupVertex(renderBlocks, ctx.xMin,                   ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+            setupVertex(renderBlocks, ctx.xMin,                   ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+            setupVertex(renderBlocks, ctx.xMin, ctx.yMin + ctx.offset_XZNP, ctx.zMax, ctx.uTR, ctx.vTR, TOP_RIGHT   );
 
         } else {
 
-            vBL = vTL - (vTL - vBL) * CollapsibleUtil.offset_XZNN;
-            vBR = vTR - (vTR - vBR) * CollapsibleUtil.offset_XZNP;
+            ctx.vBL = ctx.vTL - (ctx.vTL - ctx.vBL) * ctx.offset_XZNN;
+            ctx.vBR = ctx.vTR - (ctx.vTR - ctx.vBR) * ctx.offset_XZNP;
 
-            setupVertex(renderBlocks, xMin,                               yMax, zMin, uTL, vTL, TOP_LEFT    );
-            setupVertex(renderBlocks, xMin, yMax - CollapsibleUtil.offset_XZNN, zMin, uBL, vBL, BOTTOM_LEFT );
-            setupVertex(renderBlocks, xMin, yMax - CollapsibleUtil.offset_XZNP, zMax, uBR, vBR, BOTTOM_RIGHT);
-            setupVertex(renderBlocks, xMin,                               yMax, zMax, uTR, vTR, TOP_RIGHT   );
+            setupVertex(renderBlocks, ctx.xMin,                   ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, TOP_LEFT    );
+            setupVertex(renderBlocks, ctx.xMin, ctx.yMax - ctx.offset_XZNN, ctx.zMin, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+            setupVertex(renderBlocks, ctx.xMin, ctx.yMax - ctx.offset_XZNP, ctx.zMax, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+            setupVertex(renderBlocks, ctx.xMin,                   ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, TOP_RIGHT   );
 
         }
     }
@@ -240,32 +273,32 @@ public class RenderHelperCollapsible extends RenderHelper {
      */
     public static void renderFaceXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon, boolean isPositive)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
 
         if (isPositive) {
 
-            if (floatingIcon) {
-                vBL = vTL - (vTL - vBL) * CollapsibleUtil.offset_XZPP;
-                vBR = vTR - (vTR - vBR) * CollapsibleUtil.offset_XZPN;
+            if (ctx.floatingIcon) {
+                ctx.vBL = ctx.vTL - (ctx.vTL - ctx.vBL) * ctx.offset_XZPP;
+                ctx.vBR = ctx.vTR - (ctx.vTR - ctx.vBR) * ctx.offset_XZPN;
             } else {
-                vTL = vBL + (vTL - vBL) * CollapsibleUtil.offset_XZPP;
-                vTR = vBR + (vTR - vBR) * CollapsibleUtil.offset_XZPN;
+                ctx.vTL = ctx.vBL + (ctx.vTL - ctx.vBL) * ctx.offset_XZPP;
+                ctx.vTR = ctx.vBR + (ctx.vTR - ctx.vBR) * ctx.offset_XZPN;
             }
 
-            setupVertex(renderBlocks, xMax, yMin + CollapsibleUtil.offset_XZPP, zMax, uTL, vTL, TOP_LEFT    );
-            setupVertex(renderBlocks, xMax,                               yMin, zMax, uBL, vBL, BOTTOM_LEFT );
-            setupVertex(renderBlocks, xMax,                               yMin, zMin, uBR, vBR, BOTTOM_RIGHT);
-            setupVertex(renderBlocks, xMax, yMin + CollapsibleUtil.offset_XZPN, zMin, uTR, vTR, TOP_RIGHT   );
+            setupVertex(renderBlocks, ctx.xMax, ctx.yMin + ctx.offset_XZPP, ctx.zMax, ctx.uTL, ctx.vTL, TOP_LEFT    );
+            setupVertex(renderBlocks, ctx.xMax,                   ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+            setupVertex(renderBlocks, ctx.xMax,                   ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+            setupVertex(renderBlocks, ctx.xMax, ctx.yMin + ctx.offset_XZPN, ctx.zMin, ctx.uTR, ctx.vTR, TOP_RIGHT   );
 
         } else {
 
-            vBL = vTL - (vTL - vBL) * CollapsibleUtil.offset_XZPP;
-            vBR = vTR - (vTR - vBR) * CollapsibleUtil.offset_XZPN;
+            ctx.vBL = ctx.vTL - (ctx.vTL - ctx.vBL) * ctx.offset_XZPP;
+            ctx.vBR = ctx.vTR - (ctx.vTR - ctx.vBR) * ctx.offset_XZPN;
 
-            setupVertex(renderBlocks, xMax,                               yMax, zMax, uTL, vTL, TOP_LEFT    );
-            setupVertex(renderBlocks, xMax, yMax - CollapsibleUtil.offset_XZPP, zMax, uBL, vBL, BOTTOM_LEFT );
-            setupVertex(renderBlocks, xMax, yMax - CollapsibleUtil.offset_XZPN, zMin, uBR, vBR, BOTTOM_RIGHT);
-            setupVertex(renderBlocks, xMax,                               yMax, zMin, uTR, vTR, TOP_RIGHT   );
+            setupVertex(renderBlocks, ctx.xMax,                   ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, TOP_LEFT    );
+            setupVertex(renderBlocks, ctx.xMax, ctx.yMax - ctx.offset_XZPP, ctx.zMax, ctx.uBL, ctx.vBL, BOTTOM_LEFT );
+            setupVertex(renderBlocks, ctx.xMax, ctx.yMax - ctx.offset_XZPN, ctx.zMin, ctx.uBR, ctx.vBR, BOTTOM_RIGHT);
+            setupVertex(renderBlocks, ctx.xMax,                   ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, TOP_RIGHT   );
 
         }
     }
@@ -4,6 +4,7 @@ import static net.minecraftforge.common.util.ForgeDirection.EAST;
 import static net.minecraftforge.common.util.ForgeDirection.NORTH;
 import static net.minecraftforge.common.util.ForgeDirection.SOUTH;
 import static net.minecraftforge.common.util.ForgeDirection.WEST;
+import java.util.concurrent.ConcurrentHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockLiquid;
 import net.minecraft.block.material.Material;
@@ -14,15 +15,16 @@ import net.minecraft.util.IIcon;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.IBlockAccess;
 import net.minecraftforge.client.MinecraftForgeClient;
+import net.minecraftforge.client.event.RenderWorldEvent;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.BlockFluidBase;
 import net.minecraftforge.fluids.IFluidBlock;
 import net.minecraftforge.fluids.RenderBlockFluid;
-import org.apache.logging.log4j.Level;
+import com.carpentersblocks.block.BlockCoverable;
 import com.carpentersblocks.tileentity.TEBase;
 import com.carpentersblocks.util.BlockProperties;
-import com.carpentersblocks.util.ModLogger;
 import com.carpentersblocks.util.registry.FeatureRegistry;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
@@ -30,43 +32,165 @@ import cpw.mods.fml.relauncher.SideOnly;
 public class RoutableFluidsHelper {
 
     public final static Class[] liquidClasses = { BlockLiquid.class, IFluidBlock.class};
-    private final static int CALLER_SUN = 0;
-    private final static int CALLER_SEC = 1;
-    private static int callMethod = -1;
+
+    /** Fluid rendering state of the current thread. */
+    private final static ThreadLocal<FluidContext> fluidRenderContext = new ThreadLocal<FluidContext>() {
+        @Override
+        protected FluidContext initialValue()
+        {
+            return new FluidContext();
+        }
+    };
+
+    /** Resolves classes on the call stack, see {@link #isCalledByLiquid}. */
+    private final static CallerResolver callerResolver = new CallerResolver();
+
+    /** Frames searched for a liquid caller, see {@link #isCalledByLiquid}. */
+    private final static int CALLER_DEPTH = 8;
+
+    /** Caches whether block classes are liquids, filled from any render thread. */
+    private final static ConcurrentHashMap<Class, Boolean> liquidClassCache = new ConcurrentHashMap<Class, Boolean>();
+
+    private final static int[][] offsetXZ = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}, {-1, -1}, {-1, 1}, {1, 1}, {1, -1}};
+
+    private final static ForgeDirection[][][] route = {
+            { { NORTH } },
+            { { SOUTH } },
+            { { WEST  } },
+            { { EAST  } },
+            { { NORTH, SOUTH, WEST }, { WEST, EAST, NORTH } },
+            { { SOUTH, NORTH, WEST }, { WEST, EAST, SOUTH } },
+            { { SOUTH, NORTH, EAST }, { EAST, WEST, SOUTH } },
+            { { NORTH, SOUTH, EAST }, { EAST, WEST, NORTH } },
+    };
 
     /**
-     * Returns the most optimal available class for use in rendering
-     * routable fluids.
+     * Returns whether coverable blocks should appear opaque to the caller
+     * of {@link Block#isOpaqueCube}, so that fluid faces are not drawn
+     * against them.
+     * <p>
+     * This holds while a routable fluid is rendered.  Vanilla and Forge
+     * liquids are drawn without a hook, so while a chunk section that has
+     * a liquid next to a coverable block is rebuilt, the call stack is
+     * checked for a liquid instead.  Other sections never pay for it.
      *
-     * @return a class
+     * @return <code>true</code> if called while rendering a fluid
      */
-    public static Class getCallerClass()
+    public static boolean isOpaqueToFluid()
     {
-        if (callMethod < 0)
-        {
-            try {
-                sun.reflect.Reflection.getCallerClass(2);
-                callMethod = CALLER_SUN;
-            } catch (Exception E) {
-                try {
-                    new SecurityManager() { Class clazz = getClassContext()[2]; };
-                    callMethod = CALLER_SEC;
-                } catch (Exception E1) {
-                    FeatureRegistry.enableRoutableFluids = false;
-                    ModLogger.log(Level.WARN, "Routable fluids failed: %s", E1.getMessage());
-                };
-            };
+        FluidContext context = fluidRenderContext.get();
+        return context.isRenderingFluid || context.isRebuilding && context.hasLiquid && isCalledByLiquid();
+    }
+
+    /**
+     * Returns whether a liquid block is among the recent callers.
+     */
+    private static boolean isCalledByLiquid()
+    {
+        Class[] callers = callerResolver.getCallers();
+
+        for (int idx = 0; idx < Math.min(callers.length, CALLER_DEPTH); ++idx) {
+            for (Class clazz : liquidClasses) {
+                if (clazz.isAssignableFrom(callers[idx])) {
+                    return true;
+                }
+            }
         }
 
-        switch (callMethod)
-        {
-            case CALLER_SUN:
-                return sun.reflect.Reflection.getCallerClass(4);
-            case CALLER_SEC:
-                return new SecurityManager() { Class clazz = getClassContext()[4]; }.clazz;
-            default:
-                return null;
+        return false;
+    }
+
+    @SubscribeEvent
+    /**
+     * Notes whether section about to be rebuilt has a liquid next to a
+     * coverable block.  Passes after the first reuse the result.
+     */
+    public void onRenderWorldPre(RenderWorldEvent.Pre event)
+    {
+        if (FeatureRegistry.enableRoutableFluids) {
+            if (event.pass == 0) {
+                beginSection(event.chunkCache, event.renderer.posX, event.renderer.posY, event.renderer.posZ);
+            } else {
+                fluidRenderContext.get().isRebuilding = true;
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onRenderWorldPost(RenderWorldEvent.Post event)
+    {
+        endSection();
+    }
+
+    /**
+     * Marks start of a chunk section rebuild on this thread, noting
+     * whether any liquid in section touches a coverable block.
+     *
+     * @param blockAccess the {@link IBlockAccess}
+     * @param x the x coordinate of section origin
+     * @param y the y coordinate of section origin
+     * @param z the z coordinate of section origin
+     */
+    static void beginSection(IBlockAccess blockAccess, int x, int y, int z)
+    {
+        FluidContext context = fluidRenderContext.get();
+        context.isRebuilding = true;
+        context.hasLiquid = false;
+
+        for (int posY = y; posY < y + 16; ++posY) {
+            for (int posZ = z; posZ < z + 16; ++posZ) {
+                for (int posX = x; posX < x + 16; ++posX) {
+                    if (blockAccess.getBlock(posX, posY, posZ).getMaterial().isLiquid() && hasCoverableNeighbor(blockAccess, posX, posY, posZ)) {
+                        context.hasLiquid = true;
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks end of a chunk section rebuild on this thread.
+     */
+    static void endSection()
+    {
+        fluidRenderContext.get().isRebuilding = false;
+    }
+
+    private static boolean hasCoverableNeighbor(IBlockAccess blockAccess, int x, int y, int z)
+    {
+        for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS) {
+            if (blockAccess.getBlock(x + dir.offsetX, y + dir.offsetY, z + dir.offsetZ) instanceof BlockCoverable) {
+                return true;
+            }
         }
+
+        return false;
+    }
+
+    /**
+     * Returns whether block is a vanilla or Forge liquid.
+     *
+     * @param  block the {@link Block}
+     * @return <code>true</code> if block is a liquid
+     */
+    public static boolean isLiquid(Block block)
+    {
+        Class clazz_block = block.getClass();
+        Boolean isLiquid = liquidClassCache.get(clazz_block);
+
+        if (isLiquid == null) {
+            isLiquid = false;
+            for (Class clazz : liquidClasses) {
+                if (clazz.isAssignableFrom(clazz_block)) {
+                    isLiquid = true;
+                    break;
+                }
+            }
+            liquidClassCache.put(clazz_block, isLiquid);
+        }
+
+        return isLiquid;
     }
 
     /**
@@ -82,11 +206,8 @@ public class RoutableFluidsHelper {
     public static boolean render(TEBase TE, RenderBlocks renderBlocks, int x, int y, int z)
     {
         // Do not render if fluid is above block
-        Class clazz_YP = renderBlocks.blockAccess.getBlock(x, y + 1, z).getClass();
-        for (Class clazz : liquidClasses) {
-            if (clazz.isAssignableFrom(clazz_YP)) {
-                return false;
-            }
+        if (isLiquid(renderBlocks.blockAccess.getBlock(x, y + 1, z))) {
+            return false;
         }
 
         ItemStack itemStack = getFluidBlock(renderBlocks.blockAccess, x, y, z);
@@ -100,10 +221,16 @@ public class RoutableFluidsHelper {
             {
                 if (!block.hasTileEntity(metadata))
                 {
-                    if (block instanceof BlockLiquid) {
-                        renderLiquidSurface(TE, renderBlocks, itemStack, x, y, z);
-                    } else {
-                        RenderBlockFluid.instance.renderWorldBlock(renderBlocks.blockAccess, x, y, z, block, 0, renderBlocks);
+                    FluidContext context = fluidRenderContext.get();
+                    context.isRenderingFluid = true;
+                    try {
+                        if (block instanceof BlockLiquid) {
+                            renderLiquidSurface(TE, renderBlocks, itemStack, x, y, z);
+                        } else {
+                            RenderBlockFluid.instance.renderWorldBlock(renderBlocks.blockAccess, x, y, z, block, 0, renderBlocks);
+                        }
+                    } finally {
+                        context.isRenderingFluid = false;
                     }
                     return true;
                 }
@@ -125,33 +252,11 @@ public class RoutableFluidsHelper {
      */
     public static ItemStack getFluidBlock(IBlockAccess blockAccess, int x, int y, int z)
     {
-        int[][] offsetXZ = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}, {-1, -1}, {-1, 1}, {1, 1}, {1, -1}};
-
-        ForgeDirection[][][] route = {
-                { { NORTH } },
-                { { SOUTH } },
-                { { WEST  } },
-                { { EAST  } },
-                { { NORTH, SOUTH, WEST }, { WEST, EAST, NORTH } },
-                { { SOUTH, NORTH, WEST }, { WEST, EAST, SOUTH } },
-                { { SOUTH, NORTH, EAST }, { EAST, WEST, SOUTH } },
-                { { NORTH, SOUTH, EAST }, { EAST, WEST, NORTH } },
-        };
-
         for (int idx = 0; idx < offsetXZ.length; ++idx) {
 
             Block block = blockAccess.getBlock(x + offsetXZ[idx][0], y, z + offsetXZ[idx][1]);
-            Class clazz_offset = block.getClass();
-
-            boolean isLiquid = false;
-            for (Class clazz : liquidClasses) {
-                if (clazz.isAssignableFrom(clazz_offset)) {
-                    isLiquid = true;
-                    break;
-                }
-            }
 
-            if (isLiquid) {
+            if (isLiquid(block)) {
                 if (idx < 4) {
                     if (!blockAccess.isSideSolid(x, y, z, route[idx][0][0], false)) {
                         return new ItemStack(block, blockAccess.getBlockMetadata(x + offsetXZ[idx][0], y, z + offsetXZ[idx][1]));
@@ -159,8 +264,9 @@ public class RoutableFluidsHelper {
                 } else {
                     for (int routeIdx = 0; routeIdx < 2; ++routeIdx) {
                         if (!blockAccess.isSideSolid(x, y, z, route[idx][routeIdx][0], false)) {
-                            int[] bridgeXZ = { x + route[idx][routeIdx][0].offsetX, z + route[idx][routeIdx][0].offsetZ };
-                            if (!blockAccess.isSideSolid(bridgeXZ[0], y, bridgeXZ[1], route[idx][routeIdx][1], false) && !blockAccess.isSideSolid(bridgeXZ[0], y, bridgeXZ[1], route[idx][routeIdx][2], false)) {
+                            int bridgeX = x + route[idx][routeIdx][0].offsetX;
+                            int bridgeZ = z + route[idx][routeIdx][0].offsetZ;
+                            if (!blockAccess.isSideSolid(bridgeX, y, bridgeZ, route[idx][routeIdx][1], false) && !blockAccess.isSideSolid(bridgeX, y, bridgeZ, route[idx][routeIdx][2], false)) {
                                 return new ItemStack(block, blockAccess.getBlockMetadata(x + offsetXZ[idx][0], y, z + offsetXZ[idx][1]));
                             }
                         }
@@ -258,4 +364,33 @@ public class RoutableFluidsHelper {
         tessellator.addVertexWithUV(x, y + height_XZNP, z + 1, u_XZNP, v_XZNP);
     }
 
+    /**
+     * Fluid rendering state of one thread.
+     */
+    private static class FluidContext {
+
+        /** A routable fluid is being rendered. */
+        private boolean isRenderingFluid;
+
+        /** A chunk section is being rebuilt. */
+        private boolean isRebuilding;
+
+        /** Section being rebuilt has a liquid next to a coverable block. */
+        private boolean hasLiquid;
+
+    }
+
+    /**
+     * Exposes classes on the call stack, which needs no permission
+     * from a {@link SecurityManager} subclass.
+     */
+    private static class CallerResolver extends SecurityManager {
+
+        private Class[] getCallers()
+        {
+            return getClassContext();
+        }
+
+    }
+
 }
@@ -24,22 +24,6 @@ public class VertexHelper {
     public final static int LEFT_CENTER   = 6;
     public final static int RIGHT_CENTER  = 7;
 
-    private static boolean   clearFloat       = false;
-    protected static boolean floatingIcon     = false;
-
-    private static int drawMode;
-
-    /** Keeps track of vertices drawn per pass. */
-    public static int vertexCount = 0;
-
-    /** Keeps track of vertex draws when in triangle mode. */
-    private static int triVertexCount = 0;
-
-    /**
-     * Offset used for faces.
-     */
-    protected static double offset = 0.0D;
-
     /**
      * Sets draw mode internally.
      * <p>
@@ -51,7 +35,7 @@ public class VertexHelper {
      */
     public static void startDrawing(int inDrawMode)
     {
-        drawMode = inDrawMode;
+        RenderContext.get().drawMode = inDrawMode;
     }
 
     /**
@@ -64,7 +48,7 @@ public class VertexHelper {
      */
     public static boolean hasFloatingIcon()
     {
-        return floatingIcon;
+        return RenderContext.get().floatingIcon;
     }
 
     /**
@@ -74,7 +58,9 @@ public class VertexHelper {
      */
     public static void setFloatingIcon()
     {
-        floatingIcon = clearFloat = true;
+        RenderContext ctx = RenderContext.get();
+
+        ctx.floatingIcon = ctx.clearFloat = true;
     }
 
     /**
@@ -82,7 +68,7 @@ public class VertexHelper {
      */
     public static void setFloatingIconLock()
     {
-        floatingIcon = true;
+        RenderContext.get().floatingIcon = true;
     }
 
     /**
@@ -90,23 +76,7 @@ public class VertexHelper {
      */
     public static void clearFloatingIconLock()
     {
-        floatingIcon = false;
-    }
-
-    /**
-     * Sets offset for drawing face.
-     */
-    public static void setOffset(double render_offset)
-    {
-        offset = render_offset;
-    }
-
-    /**
-     * Clears offset.
-     */
-    public static void clearOffset()
-    {
-        offset = 0.0D;
+        RenderContext.get().floatingIcon = false;
     }
 
     /**
@@ -114,8 +84,10 @@ public class VertexHelper {
      */
     public static void postRender()
     {
-        if (clearFloat) {
-            floatingIcon = clearFloat = false;
+        RenderContext ctx = RenderContext.get();
+
+        if (ctx.clearFloat) {
+            ctx.floatingIcon = ctx.clearFloat = false;
         }
     }
 
@@ -124,14 +96,23 @@ public class VertexHelper {
      */
     public static void drawVertex(RenderBlocks renderBlocks, double x, double y, double z, double u, double v)
     {
-        Tessellator.instance.addVertexWithUV(x, y, z, u, v);
-        ++vertexCount;
+        drawVertex(RenderContext.get(), -1, x, y, z, u, v);
+    }
+
+    private static void drawVertex(RenderContext ctx, int vertex, double x, double y, double z, double u, double v)
+    {
+        ctx.getTessellator().addVertexWithUV(x, y, z, u, v);
+        ++ctx.vertexCount;
+
+        if (ctx.recorder != null) {
+            ctx.recorder.addVertex(vertex, x, y, z, u, v);
+        }
     }
 
     /**
      * Applies brightness, color, and adds vertex through tessellator.
      * <p>
-     * If {@link #drawMode} is {@link GL11#GL_TRIANGLES Triangles}, will automatically
+     * If {@link RenderContext#drawMode} is {@link GL11#GL_TRIANGLES Triangles}, will automatically
      * duplicate the third vertex to form a {@link GL11#GL_QUADS Quad}.
      *
      * @param renderBlocks the {@link RenderBlocks}
@@ -145,57 +126,80 @@ public class VertexHelper {
      */
     public static void setupVertex(RenderBlocks renderBlocks, double x, double y, double z, double u, double v, int vertex)
     {
-        Tessellator tessellator = Tessellator.instance;
+        RenderContext ctx = RenderContext.get();
 
         if (renderBlocks != null && renderBlocks.enableAO) {
-
-            switch(vertex) {
-                case BOTTOM_CENTER:
-                    tessellator.setColorOpaque_F((renderBlocks.colorRedBottomLeft + renderBlocks.colorRedBottomRight) / 2.0F, (renderBlocks.colorGreenBottomLeft + renderBlocks.colorGreenBottomRight) / 2.0F, (renderBlocks.colorBlueBottomLeft + renderBlocks.colorBlueBottomRight) / 2.0F);
-                    tessellator.setBrightness(LightingHelper.getAverageBrightness(renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight));
-                    break;
-                case TOP_CENTER:
-                    tessellator.setColorOpaque_F((renderBlocks.colorRedTopLeft + renderBlocks.colorRedTopRight) / 2.0F, (renderBlocks.colorGreenTopLeft + renderBlocks.colorGreenTopRight) / 2.0F, (renderBlocks.colorBlueTopLeft + renderBlocks.colorBlueTopRight) / 2);
-                    tessellator.setBrightness(LightingHelper.getAverageBrightness(renderBlocks.brightnessTopLeft, renderBlocks.brightnessTopRight));
-                    break;
-                case LEFT_CENTER:
-                    tessellator.setColorOpaque_F((renderBlocks.colorRedTopLeft + renderBlocks.colorRedBottomLeft) / 2.0F, (renderBlocks.colorGreenTopLeft + renderBlocks.colorGreenBottomLeft) / 2.0F, (renderBlocks.colorBlueTopLeft + renderBlocks.colorBlueBottomLeft) / 2.0F);
-                    tessellator.setBrightness(LightingHelper.getAverageBrightness(renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft));
-                    break;
-                case RIGHT_CENTER:
-                    tessellator.setColorOpaque_F((renderBlocks.colorRedTopRight + renderBlocks.colorRedBottomRight) / 2.0F, (renderBlocks.colorGreenTopRight + renderBlocks.colorGreenBottomRight) / 2.0F, (renderBlocks.colorBlueTopRight + renderBlocks.colorBlueBottomRight) / 2);
-                    tessellator.setBrightness(LightingHelper.getAverageBrightness(renderBlocks.brightnessTopRight, renderBlocks.brightnessBottomRight));
-                    break;
-                case TOP_LEFT:
-                    tessellator.setColorOpaque_F(renderBlocks.colorRedTopLeft, renderBlocks.colorGreenTopLeft, renderBlocks.colorBlueTopLeft);
-                    tessellator.setBrightness(renderBlocks.brightnessTopLeft);
-                    break;
-                case BOTTOM_LEFT:
-                    tessellator.setColorOpaque_F(renderBlocks.colorRedBottomLeft, renderBlocks.colorGreenBottomLeft, renderBlocks.colorBlueBottomLeft);
-                    tessellator.setBrightness(renderBlocks.brightnessBottomLeft);
-                    break;
-                case BOTTOM_RIGHT:
-                    tessellator.setColorOpaque_F(renderBlocks.colorRedBottomRight, renderBlocks.colorGreenBottomRight, renderBlocks.colorBlueBottomRight);
-                    tessellator.setBrightness(renderBlocks.brightnessBottomRight);
-                    break;
-                case TOP_RIGHT:
-                    tessellator.setColorOpaque_F(renderBlocks.colorRedTopRight, renderBlocks.colorGreenTopRight, renderBlocks.colorBlueTopRight);
-                    tessellator.setBrightness(renderBlocks.brightnessTopRight);
-                    break;
-            }
-
+            setupCorner(ctx.getTessellator(), renderBlocks, vertex);
+        } else {
+            vertex = -1;
         }
 
-        drawVertex(renderBlocks, x, y, z, u, v);
+        drawVertex(ctx, vertex, x, y, z, u, v);
 
         /* Alpha quad sorting and ShadersModeCore won't work with triangles, so make them a quad. */
 
-        if (drawMode == GL11.GL_TRIANGLES) {
-            if (++triVertexCount > 2) {
-                drawVertex(renderBlocks, x, y, z, u, v);
-                triVertexCount = 0;
+        if (ctx.drawMode == GL11.GL_TRIANGLES) {
+            if (++ctx.triVertexCount > 2) {
+                drawVertex(ctx, vertex, x, y, z, u, v);
+                ctx.triVertexCount = 0;
             }
         }
     }
 
+    /**
+     * Applies ambient occlusion color and brightness of corner to tessellator.
+     *
+     * @param renderBlocks the {@link RenderBlocks}
+     * @param vertex the vertex corner
+     */
+    public static void setupCorner(RenderBlocks renderBlocks, int vertex)
+    {
+        setupCorner(RenderContext.get().getTessellator(), renderBlocks, vertex);
+    }
+
+    /**
+     * Applies ambient occlusion color and brightness of corner to tessellator.
+     *
+     * @param tessellator the {@link Tessellator}
+     * @param renderBlocks the {@link RenderBlocks}
+     * @param vertex the vertex corner
+     */
+    public static void setupCorner(Tessellator tessellator, RenderBlocks renderBlocks, int vertex)
+    {
+        switch(vertex) {
+            case BOTTOM_CENTER:
+                tessellator.setColorOpaque_F((renderBlocks.colorRedBottomLeft + renderBlocks.colorRedBottomRight) / 2.0F, (renderBlocks.colorGreenBottomLeft + renderBlocks.colorGreenBottomRight) / 2.0F, (renderBlocks.colorBlueBottomLeft + renderBlocks.colorBlueBottomRight) / 2.0F);
+                tessellator.setBrightness(LightingHelper.getAverageBrightness(renderBlocks.brightnessBottomLeft, renderBlocks.brightnessBottomRight));
+                break;
+            case TOP_CENTER:
+                tessellator.setColorOpaque_F((renderBlocks.colorRedTopLeft + renderBlocks.colorRedTopRight) / 2.0F, (renderBlocks.colorGreenTopLeft + renderBlocks.colorGreenTopRight) / 2.0F, (renderBlocks.colorBlueTopLeft + renderBlocks.colorBlueTopRight) / 2);
+                tessellator.setBrightness(LightingHelper.getAverageBrightness(renderBlocks.brightnessTopLeft, renderBlocks.brightnessTopRight));
+                break;
+            case LEFT_CENTER:
+                tessellator.setColorOpaque_F((renderBlocks.colorRedTopLeft + renderBlocks.colorRedBottomLeft) / 2.0F, (renderBlocks.colorGreenTopLeft + renderBlocks.colorGreenBottomLeft) / 2.0F, (renderBlocks.colorBlueTopLeft + renderBlocks.colorBlueBottomLeft) / 2.0F);
+                tessellator.setBrightness(LightingHelper.getAverageBrightness(renderBlocks.brightnessTopLeft, renderBlocks.brightnessBottomLeft));
+                break;
+            case RIGHT_CENTER:
+                tessellator.setColorOpaque_F((renderBlocks.colorRedTopRight + renderBlocks.colorRedBottomRight) / 2.0F, (renderBlocks.colorGreenTopRight + renderBlocks.colorGreenBottomRight) / 2.0F, (renderBlocks.colorBlueTopRight + renderBlocks.colorBlueBottomRight) / 2);
+                tessellator.setBrightness(LightingHelper.getAverageBrightness(renderBlocks.brightnessTopRight, renderBlocks.brightnessBottomRight));
+                break;
+            case TOP_LEFT:
+                tessellator.setColorOpaque_F(renderBlocks.colorRedTopLeft, renderBlocks.colorGreenTopLeft, renderBlocks.colorBlueTopLeft);
+                tessellator.setBrightness(renderBlocks.brightnessTopLeft);
+                break;
+            case BOTTOM_LEFT:
+                tessellator.setColorOpaque_F(renderBlocks.colorRedBottomLeft, renderBlocks.colorGreenBottomLeft, renderBlocks.colorBlueBottomLeft);
+                tessellator.setBrightness(renderBlocks.brightnessBottomLeft);
+                break;
+            case BOTTOM_RIGHT:
+                tessellator.setColorOpaque_F(renderBlocks.colorRedBottomRight, renderBlocks.colorGreenBottomRight, renderBlocks.colorBlueBottomRight);
+                tessellator.setBrightness(renderBlocks.brightnessBottomRight);
+                break;
+            case TOP_RIGHT:
+                tessellator.setColorOpaque_F(renderBlocks.colorRedTopRight, renderBlocks.colorGreenTopRight, renderBlocks.colorBlueTopRight);
+                tessellator.setBrightness(renderBlocks.brightnessTopRight);
+                break;
+        }
+    }
+
 }
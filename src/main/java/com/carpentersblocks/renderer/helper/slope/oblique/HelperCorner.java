@@ -4,6 +4,7 @@ import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.renderer.helper.RenderContext;
 import com.carpentersblocks.renderer.helper.RenderHelper;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -16,49 +17,49 @@ public class HelperCorner extends RenderHelper {
      */
     public static void renderSlopeZNeg(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
         switch (slopeID)
         {
             case Slope.ID_WEDGE_INT_NEG_NW:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHEAST);
                 break;
             case Slope.ID_WEDGE_INT_NEG_NE:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHEAST);
                 break;
             case Slope.ID_WEDGE_EXT_NEG_NW:
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHEAST);
                 break;
             case Slope.ID_WEDGE_EXT_NEG_NE:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHEAST);
                 break;
             case Slope.ID_WEDGE_INT_POS_NW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST);
                 break;
             case Slope.ID_WEDGE_INT_POS_NE:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST);
                 break;
             case Slope.ID_WEDGE_EXT_POS_NW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST);
                 break;
             case Slope.ID_WEDGE_EXT_POS_NE:
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST);
                 break;
         }
     }
@@ -68,49 +69,49 @@ public class HelperCorner extends RenderHelper {
      */
     public static void renderSlopeZPos(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
 
         switch (slopeID)
         {
             case Slope.ID_WEDGE_INT_NEG_SW:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHEAST);
                 break;
             case Slope.ID_WEDGE_INT_NEG_SE:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHEAST);
                 break;
             case Slope.ID_WEDGE_EXT_NEG_SW:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHEAST);
                 break;
             case Slope.ID_WEDGE_EXT_NEG_SE:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHEAST);
                 break;
             case Slope.ID_WEDGE_INT_POS_SW:
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHWEST);
                 break;
             case Slope.ID_WEDGE_INT_POS_SE:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHWEST);
                 break;
             case Slope.ID_WEDGE_EXT_POS_SW:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHWEST);
                 break;
             case Slope.ID_WEDGE_EXT_POS_SE:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHWEST);
                 break;
         }
     }
@@ -120,49 +121,49 @@ public class HelperCorner extends RenderHelper {
      */
     public static void renderSlopeXNeg(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
 
         switch (slopeID)
         {
             case Slope.ID_WEDGE_INT_NEG_NW:
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHEAST);
                 break;
             case Slope.ID_WEDGE_INT_NEG_SW:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHEAST);
                 break;
             case Slope.ID_WEDGE_EXT_NEG_NW:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHEAST);
                 break;
             case Slope.ID_WEDGE_EXT_NEG_SW:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST);
                 break;
             case Slope.ID_WEDGE_INT_POS_NW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHWEST);
                 break;
             case Slope.ID_WEDGE_INT_POS_SW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHWEST);
                 break;
             case Slope.ID_WEDGE_EXT_POS_NW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHWEST);
                 break;
             case Slope.ID_WEDGE_EXT_POS_SW:
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHWEST);
                 break;
         }
     }
@@ -172,49 +173,49 @@ public class HelperCorner extends RenderHelper {
      */
     public static void renderSlopeXPos(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
 
         switch (slopeID)
         {
             case Slope.ID_WEDGE_INT_NEG_NE:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHEAST);
                 break;
             case Slope.ID_WEDGE_INT_NEG_SE:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST);
                 break;
             case Slope.ID_WEDGE_EXT_NEG_NE:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST);
                 break;
             case Slope.ID_WEDGE_EXT_NEG_SE:
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST);
                 break;
             case Slope.ID_WEDGE_INT_POS_NE:
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHWEST);
                 break;
             case Slope.ID_WEDGE_INT_POS_SE:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHWEST);
                 break;
             case Slope.ID_WEDGE_EXT_POS_NE:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHWEST);
                 break;
             case Slope.ID_WEDGE_EXT_POS_SE:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHWEST);
                 break;
         }
     }
@@ -4,6 +4,7 @@ import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.renderer.helper.RenderContext;
 import com.carpentersblocks.renderer.helper.RenderHelper;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -16,31 +17,31 @@ public class HelperOblique extends RenderHelper {
      */
     public static void renderIntObliqueYNeg(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
-        double uMI = uTR - (uTR - uTL) / 2;
-        double vMI = rotation % 2 == 0 ? vTL : (vBR - (vBR - vBL) / 2);
+        double uMI = ctx.uTR - (ctx.uTR - ctx.uTL) / 2;
+        double vMI = ctx.rotation % 2 == 0 ? ctx.vTL : (ctx.vBR - (ctx.vBR - ctx.vBL) / 2);
 
         switch (slopeID) {
             case Slope.ID_OBL_INT_NEG_NW:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uMI, vMI, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, uMI, vMI, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST);
                 break;
             case Slope.ID_OBL_INT_NEG_SW:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uMI, vMI, SOUTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, uMI, vMI, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHEAST);
                 break;
             case Slope.ID_OBL_INT_NEG_NE:
-                setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uMI, vMI, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, uMI, vMI, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHEAST);
                 break;
             case Slope.ID_OBL_INT_NEG_SE:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMax, uMI, vMI, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, uMI, vMI, SOUTHEAST);
                 break;
         }
     }
@@ -50,32 +51,32 @@ public class HelperOblique extends RenderHelper {
      */
     public static void renderIntObliqueYPos(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
-        boolean altRot = rotation % 2 == 0;
-        double uMI = !altRot ? uBL : (uTR - (uTR - uTL) / 2);
-        double vMI = altRot ? vBR : (vBR - (vBR - vBL) / 2);
+        boolean altRot = ctx.rotation % 2 == 0;
+        double uMI = !altRot ? ctx.uBL : (ctx.uTR - (ctx.uTR - ctx.uTL) / 2);
+        double vMI = altRot ? ctx.vBR : (ctx.vBR - (ctx.vBR - ctx.vBL) / 2);
 
         switch (slopeID) {
             case Slope.ID_OBL_INT_POS_NW:
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMin, zMin, uMI, vMI, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, uMI, vMI, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST);
                 break;
             case Slope.ID_OBL_INT_POS_SW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-                setupVertex(renderBlocks, xMin, yMin, zMax, uMI, vMI, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, uMI, vMI, SOUTHWEST);
                 break;
             case Slope.ID_OBL_INT_POS_NE:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMin, zMin, uMI, vMI, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, uMI, vMI, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHWEST);
                 break;
             case Slope.ID_OBL_INT_POS_SE:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uMI, vMI, SOUTHEAST);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, uMI, vMI, SOUTHEAST);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHEAST);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHWEST);
                 break;
         }
     }
@@ -85,34 +86,34 @@ public class HelperOblique extends RenderHelper {
      */
     public static void renderExtObliqueYNegLeft(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
-        double uTOP_MIDDLE = uTR;
-        double uTOP_RIGHT_MIDDLE = uTOP_MIDDLE - (uTR - uTL) / 2;
+        double uTOP_MIDDLE = ctx.uTR;
+        double uTOP_RIGHT_MIDDLE = uTOP_MIDDLE - (ctx.uTR - ctx.uTL) / 2;
 
-        double xMid = xMax - (xMax - xMin) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
         switch (slopeID) {
             case Slope.ID_OBL_EXT_NEG_NW:
-                setupVertex(renderBlocks, xMid, yMax, zMid,       uTOP_MIDDLE, vTR, TOP_CENTER );
-                setupVertex(renderBlocks, xMax, yMax, zMin, uTOP_RIGHT_MIDDLE, vTL, TOP_LEFT   );
-                setupVertex(renderBlocks, xMax, yMin, zMax,       uTOP_MIDDLE, vBL, BOTTOM_LEFT);
+                setupVertex(renderBlocks, xMid, ctx.yMax, zMid,       uTOP_MIDDLE, ctx.vTR, TOP_CENTER );
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, uTOP_RIGHT_MIDDLE, ctx.vTL, TOP_LEFT   );
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax,       uTOP_MIDDLE, ctx.vBL, BOTTOM_LEFT);
                 break;
             case Slope.ID_OBL_EXT_NEG_SW:
-                setupVertex(renderBlocks, xMin, yMax, zMin, uTOP_RIGHT_MIDDLE, vTL, TOP_LEFT   );
-                setupVertex(renderBlocks, xMax, yMin, zMin,       uTOP_MIDDLE, vBL, BOTTOM_LEFT);
-                setupVertex(renderBlocks, xMid, yMax, zMid,       uTOP_MIDDLE, vTR, TOP_CENTER );
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, uTOP_RIGHT_MIDDLE, ctx.vTL, TOP_LEFT   );
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin,       uTOP_MIDDLE, ctx.vBL, BOTTOM_LEFT);
+                setupVertex(renderBlocks, xMid, ctx.yMax, zMid,       uTOP_MIDDLE, ctx.vTR, TOP_CENTER );
                 break;
             case Slope.ID_OBL_EXT_NEG_NE:
-                setupVertex(renderBlocks, xMin, yMin, zMax,       uTOP_MIDDLE, vBL, BOTTOM_LEFT);
-                setupVertex(renderBlocks, xMid, yMax, zMid,       uTOP_MIDDLE, vTR, TOP_CENTER );
-                setupVertex(renderBlocks, xMax, yMax, zMax, uTOP_RIGHT_MIDDLE, vTL, TOP_LEFT   );
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax,       uTOP_MIDDLE, ctx.vBL, BOTTOM_LEFT);
+                setupVertex(renderBlocks, xMid, ctx.yMax, zMid,       uTOP_MIDDLE, ctx.vTR, TOP_CENTER );
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, uTOP_RIGHT_MIDDLE, ctx.vTL, TOP_LEFT   );
                 break;
             case Slope.ID_OBL_EXT_NEG_SE:
-                setupVertex(renderBlocks, xMin, yMax, zMax, uTOP_RIGHT_MIDDLE, vTL, TOP_LEFT   );
-                setupVertex(renderBlocks, xMin, yMin, zMin,       uTOP_MIDDLE, vBL, BOTTOM_LEFT);
-                setupVertex(renderBlocks, xMid, yMax, zMid,       uTOP_MIDDLE, vTR, TOP_CENTER );
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, uTOP_RIGHT_MIDDLE, ctx.vTL, TOP_LEFT   );
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin,       uTOP_MIDDLE, ctx.vBL, BOTTOM_LEFT);
+                setupVertex(renderBlocks, xMid, ctx.yMax, zMid,       uTOP_MIDDLE, ctx.vTR, TOP_CENTER );
                 break;
         }
     }
@@ -122,34 +123,34 @@ public class HelperOblique extends RenderHelper {
      */
     public static void renderExtObliqueYNegRight(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
-        double uTOP_MIDDLE = uTR - (uTR - uTL) / 2;
-        double uTOP_LEFT_MIDDLE = uTOP_MIDDLE - (uTR - uTL) / 2;
+        double uTOP_MIDDLE = ctx.uTR - (ctx.uTR - ctx.uTL) / 2;
+        double uTOP_LEFT_MIDDLE = uTOP_MIDDLE - (ctx.uTR - ctx.uTL) / 2;
 
-        double xMid = xMax - (xMax - xMin) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
         switch (slopeID) {
             case Slope.ID_OBL_EXT_NEG_NW:
-                setupVertex(renderBlocks, xMin, yMax, zMax,      uTOP_MIDDLE, vTR, TOP_RIGHT  );
-                setupVertex(renderBlocks, xMid, yMax, zMid, uTOP_LEFT_MIDDLE, vTL, TOP_CENTER );
-                setupVertex(renderBlocks, xMax, yMin, zMax, uTOP_LEFT_MIDDLE, vBL, BOTTOM_LEFT);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax,      uTOP_MIDDLE, ctx.vTR, TOP_RIGHT  );
+                setupVertex(renderBlocks, xMid, ctx.yMax, zMid, uTOP_LEFT_MIDDLE, ctx.vTL, TOP_CENTER );
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, uTOP_LEFT_MIDDLE, ctx.vBL, BOTTOM_LEFT);
                 break;
             case Slope.ID_OBL_EXT_NEG_SW:
-                setupVertex(renderBlocks, xMid, yMax, zMid, uTOP_LEFT_MIDDLE, vTL, TOP_CENTER );
-                setupVertex(renderBlocks, xMax, yMin, zMin, uTOP_LEFT_MIDDLE, vBL, BOTTOM_LEFT);
-                setupVertex(renderBlocks, xMax, yMax, zMax,      uTOP_MIDDLE, vTR, TOP_RIGHT  );
+                setupVertex(renderBlocks, xMid, ctx.yMax, zMid, uTOP_LEFT_MIDDLE, ctx.vTL, TOP_CENTER );
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, uTOP_LEFT_MIDDLE, ctx.vBL, BOTTOM_LEFT);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax,      uTOP_MIDDLE, ctx.vTR, TOP_RIGHT  );
                 break;
             case Slope.ID_OBL_EXT_NEG_NE:
-                setupVertex(renderBlocks, xMin, yMin, zMax, uTOP_LEFT_MIDDLE, vBL, BOTTOM_LEFT);
-                setupVertex(renderBlocks, xMin, yMax, zMin,      uTOP_MIDDLE, vTR, TOP_RIGHT  );
-                setupVertex(renderBlocks, xMid, yMax, zMid, uTOP_LEFT_MIDDLE, vTL, TOP_CENTER );
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, uTOP_LEFT_MIDDLE, ctx.vBL, BOTTOM_LEFT);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin,      uTOP_MIDDLE, ctx.vTR, TOP_RIGHT  );
+                setupVertex(renderBlocks, xMid, ctx.yMax, zMid, uTOP_LEFT_MIDDLE, ctx.vTL, TOP_CENTER );
                 break;
             case Slope.ID_OBL_EXT_NEG_SE:
-                setupVertex(renderBlocks, xMid, yMax, zMid, uTOP_LEFT_MIDDLE, vTL, TOP_CENTER );
-                setupVertex(renderBlocks, xMin, yMin, zMin, uTOP_LEFT_MIDDLE, vBL, BOTTOM_LEFT);
-                setupVertex(renderBlocks, xMax, yMax, zMin,      uTOP_MIDDLE, vTR, TOP_RIGHT  );
+                setupVertex(renderBlocks, xMid, ctx.yMax, zMid, uTOP_LEFT_MIDDLE, ctx.vTL, TOP_CENTER );
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, uTOP_LEFT_MIDDLE, ctx.vBL, BOTTOM_LEFT);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin,      uTOP_MIDDLE, ctx.vTR, TOP_RIGHT  );
                 break;
         }
     }
@@ -159,34 +160,34 @@ public class HelperOblique extends RenderHelper {
      */
     public static void renderExtObliqueYPosLeft(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
-        double uMI1 = uBR; // u middle coordinate, left triangle
-        double uMI2 = uMI1 - (uBR - uBL) / 2; // u middle coordinate, right triangle
+        double uMI1 = ctx.uBR; // u middle coordinate, left triangle
+        double uMI2 = uMI1 - (ctx.uBR - ctx.uBL) / 2; // u middle coordinate, right triangle
 
-        double xMid = xMax - (xMax - xMin) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
         switch (slopeID) {
             case Slope.ID_OBL_EXT_POS_NW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uMI1, vTL, TOP_LEFT     );
-                setupVertex(renderBlocks, xMax, yMin, zMin, uMI2, vBL, BOTTOM_LEFT  );
-                setupVertex(renderBlocks, xMid, yMin, zMid, uMI1, vBR, BOTTOM_CENTER);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, uMI1, ctx.vTL, TOP_LEFT     );
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, uMI2, ctx.vBL, BOTTOM_LEFT  );
+                setupVertex(renderBlocks, xMid, ctx.yMin, zMid, uMI1, ctx.vBR, BOTTOM_CENTER);
                 break;
             case Slope.ID_OBL_EXT_POS_SW:
-                setupVertex(renderBlocks, xMid, yMin, zMid, uMI1, vBR, BOTTOM_CENTER);
-                setupVertex(renderBlocks, xMax, yMax, zMin, uMI1, vTL, TOP_LEFT     );
-                setupVertex(renderBlocks, xMin, yMin, zMin, uMI2, vBL, BOTTOM_LEFT  );
+                setupVertex(renderBlocks, xMid, ctx.yMin, zMid, uMI1, ctx.vBR, BOTTOM_CENTER);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, uMI1, ctx.vTL, TOP_LEFT     );
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, uMI2, ctx.vBL, BOTTOM_LEFT  );
                 break;
             case Slope.ID_OBL_EXT_POS_NE:
-                setupVertex(renderBlocks, xMax, yMin, zMax, uMI2, vBL, BOTTOM_LEFT  );
-                setupVertex(renderBlocks, xMid, yMin, zMid, uMI1, vBR, BOTTOM_CENTER);
-                setupVertex(renderBlocks, xMin, yMax, zMax, uMI1, vTL, TOP_LEFT     );
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, uMI2, ctx.vBL, BOTTOM_LEFT  );
+                setupVertex(renderBlocks, xMid, ctx.yMin, zMid, uMI1, ctx.vBR, BOTTOM_CENTER);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, uMI1, ctx.vTL, TOP_LEFT     );
                 break;
             case Slope.ID_OBL_EXT_POS_SE:
-                setupVertex(renderBlocks, xMin, yMax, zMin, uMI1, vTL, TOP_LEFT     );
-                setupVertex(renderBlocks, xMin, yMin, zMax, uMI2, vBL, BOTTOM_LEFT  );
-                setupVertex(renderBlocks, xMid, yMin, zMid, uMI1, vBR, BOTTOM_CENTER);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, uMI1, ctx.vTL, TOP_LEFT     );
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, uMI2, ctx.vBL, BOTTOM_LEFT  );
+                setupVertex(renderBlocks, xMid, ctx.yMin, zMid, uMI1, ctx.vBR, BOTTOM_CENTER);
                 break;
         }
     }
@@ -196,34 +197,34 @@ public class HelperOblique extends RenderHelper {
      */
     public static void renderExtObliqueYPosRight(RenderBlocks renderBlocks, int slopeID, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
-        double uBOTTOM_MIDDLE = uBR - (uBR - uBL) / 2;
-        double uBOTTOM_LEFT_MIDDLE = uBOTTOM_MIDDLE - (uBR - uBL) / 2;
+        double uBOTTOM_MIDDLE = ctx.uBR - (ctx.uBR - ctx.uBL) / 2;
+        double uBOTTOM_LEFT_MIDDLE = uBOTTOM_MIDDLE - (ctx.uBR - ctx.uBL) / 2;
 
-        double xMid = xMax - (xMax - xMin) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
         switch (slopeID) {
             case Slope.ID_OBL_EXT_POS_NW:
-                setupVertex(renderBlocks, xMax, yMax, zMax, uBOTTOM_LEFT_MIDDLE, vTL, TOP_LEFT     );
-                setupVertex(renderBlocks, xMid, yMin, zMid, uBOTTOM_LEFT_MIDDLE, vBL, BOTTOM_CENTER);
-                setupVertex(renderBlocks, xMin, yMin, zMax,      uBOTTOM_MIDDLE, vBR, BOTTOM_RIGHT );
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, uBOTTOM_LEFT_MIDDLE, ctx.vTL, TOP_LEFT     );
+                setupVertex(renderBlocks, xMid, ctx.yMin, zMid, uBOTTOM_LEFT_MIDDLE, ctx.vBL, BOTTOM_CENTER);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax,      uBOTTOM_MIDDLE, ctx.vBR, BOTTOM_RIGHT );
                 break;
             case Slope.ID_OBL_EXT_POS_SW:
-                setupVertex(renderBlocks, xMax, yMin, zMax,      uBOTTOM_MIDDLE, vBR, BOTTOM_RIGHT );
-                setupVertex(renderBlocks, xMax, yMax, zMin, uBOTTOM_LEFT_MIDDLE, vTL, TOP_LEFT     );
-                setupVertex(renderBlocks, xMid, yMin, zMid, uBOTTOM_LEFT_MIDDLE, vBL, BOTTOM_CENTER);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax,      uBOTTOM_MIDDLE, ctx.vBR, BOTTOM_RIGHT );
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, uBOTTOM_LEFT_MIDDLE, ctx.vTL, TOP_LEFT     );
+                setupVertex(renderBlocks, xMid, ctx.yMin, zMid, uBOTTOM_LEFT_MIDDLE, ctx.vBL, BOTTOM_CENTER);
                 break;
             case Slope.ID_OBL_EXT_POS_NE:
-                setupVertex(renderBlocks, xMid, yMin, zMid, uBOTTOM_LEFT_MIDDLE, vBL, BOTTOM_CENTER);
-                setupVertex(renderBlocks, xMin, yMin, zMin,      uBOTTOM_MIDDLE, vBR, BOTTOM_RIGHT );
-                setupVertex(renderBlocks, xMin, yMax, zMax, uBOTTOM_LEFT_MIDDLE, vTL, TOP_LEFT     );
+                setupVertex(renderBlocks, xMid, ctx.yMin, zMid, uBOTTOM_LEFT_MIDDLE, ctx.vBL, BOTTOM_CENTER);
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin,      uBOTTOM_MIDDLE, ctx.vBR, BOTTOM_RIGHT );
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, uBOTTOM_LEFT_MIDDLE, ctx.vTL, TOP_LEFT     );
                 break;
             case Slope.ID_OBL_EXT_POS_SE:
-                setupVertex(renderBlocks, xMid, yMin, zMid, uBOTTOM_LEFT_MIDDLE, vBL, BOTTOM_CENTER);
-                setupVertex(renderBlocks, xMax, yMin, zMin,      uBOTTOM_MIDDLE, vBR, BOTTOM_RIGHT );
-                setupVertex(renderBlocks, xMin, yMax, zMin, uBOTTOM_LEFT_MIDDLE, vTL, TOP_LEFT     );
+                setupVertex(renderBlocks, xMid, ctx.yMin, zMid, uBOTTOM_LEFT_MIDDLE, ctx.vBL, BOTTOM_CENTER);
+                setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin,      uBOTTOM_MIDDLE, ctx.vBR, BOTTOM_RIGHT );
+                setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, uBOTTOM_LEFT_MIDDLE, ctx.vTL, TOP_LEFT     );
                 break;
         }
     }
@@ -4,6 +4,7 @@ import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.renderer.helper.RenderContext;
 import com.carpentersblocks.renderer.helper.RenderHelper;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -16,14 +17,14 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYNegZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
-        double uBM  = uBR  - (uBR  -  uBL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
+        double uBM  = ctx.uBR  - (ctx.uBR  -  ctx.uBL) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
 
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST );
-        setupVertex(renderBlocks, xMid, yMin, zMax, uBM, vBR, TOP_CENTER);
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHEAST );
+        setupVertex(renderBlocks, xMid, ctx.yMin, ctx.zMax, uBM, ctx.vBR, TOP_CENTER);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHWEST );
     }
 
     /**
@@ -31,14 +32,14 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYNegZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
 
-        double uBM  = uBR  - (uBR  -  uBL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
+        double uBM  = ctx.uBR  - (ctx.uBR  -  ctx.uBL) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
 
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST    );
-        setupVertex(renderBlocks, xMid, yMin, zMin, uBM, vBR, BOTTOM_CENTER);
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST    );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHWEST    );
+        setupVertex(renderBlocks, xMid, ctx.yMin, ctx.zMin, uBM, ctx.vBR, BOTTOM_CENTER);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHEAST    );
     }
 
     /**
@@ -46,14 +47,14 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYNegXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
 
-        double uBM  = uBR  - (uBR  -  uBL) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double uBM  = ctx.uBR  - (ctx.uBR  -  ctx.uBL) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST  );
-        setupVertex(renderBlocks, xMax, yMin, zMid, uBM, vBR, LEFT_CENTER);
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST  );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHWEST  );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, zMid, uBM, ctx.vBR, LEFT_CENTER);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST  );
     }
 
     /**
@@ -61,14 +62,14 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYNegXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
 
-        double uBM  = uBR  - (uBR  -  uBL) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double uBM  = ctx.uBR  - (ctx.uBR  -  ctx.uBL) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST   );
-        setupVertex(renderBlocks, xMin, yMin, zMid, uBM, vBR, RIGHT_CENTER);
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST   );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST   );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, zMid, uBM, ctx.vBR, RIGHT_CENTER);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHEAST   );
     }
 
     /**
@@ -76,14 +77,14 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYPosZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
-        double uTM  = uTR  - (uTR  -  uTL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
+        double uTM  = ctx.uTR  - (ctx.uTR  -  ctx.uTL) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
 
-        setupVertex(renderBlocks, xMid, yMax, zMax, uTM, vTL, TOP_CENTER  );
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST   );
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST   );
+        setupVertex(renderBlocks, xMid, ctx.yMax, ctx.zMax, uTM, ctx.vTL, TOP_CENTER  );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST   );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST   );
     }
 
     /**
@@ -91,14 +92,14 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYPosZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
 
-        double uTM  = uTR  - (uTR  -  uTL) / 2;
-        double xMid = xMax - (xMax - xMin) / 2;
+        double uTM  = ctx.uTR  - (ctx.uTR  -  ctx.uTL) / 2;
+        double xMid = ctx.xMax - (ctx.xMax - ctx.xMin) / 2;
 
-        setupVertex(renderBlocks, xMid, yMax, zMin, uTM, vTL, BOTTOM_CENTER);
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST    );
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST    );
+        setupVertex(renderBlocks, xMid, ctx.yMax, ctx.zMin, uTM, ctx.vTL, BOTTOM_CENTER);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHWEST    );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHEAST    );
     }
 
     /**
@@ -106,14 +107,14 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYPosXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
 
-        double uTM  = uTR  - (uTR  -  uTL) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double uTM  = ctx.uTR  - (ctx.uTR  -  ctx.uTL) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
-        setupVertex(renderBlocks, xMax, yMax, zMid, uTM, vTL, LEFT_CENTER );
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST   );
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST   );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, zMid, uTM, ctx.vTL, LEFT_CENTER );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHWEST   );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHWEST   );
     }
 
     /**
@@ -121,14 +122,14 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSlopeYPosXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
 
-        double uTM  = uTR  - (uTR  -  uTL) / 2;
-        double zMid = zMax - (zMax - zMin) / 2;
+        double uTM  = ctx.uTR  - (ctx.uTR  -  ctx.uTL) / 2;
+        double zMid = ctx.zMax - (ctx.zMax - ctx.zMin) / 2;
 
-        setupVertex(renderBlocks, xMin, yMax, zMid, uTM, vTR, RIGHT_CENTER);
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST   );
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST   );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, zMid, uTM, ctx.vTR, RIGHT_CENTER);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHEAST   );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHEAST   );
     }
 
     /**
@@ -136,11 +137,11 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderWestPointSlopeZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBR, vBR, NORTHWEST);
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHWEST);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST);
     }
 
     /**
@@ -148,11 +149,11 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderWestPointSlopeZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBL, vBL, SOUTHWEST);
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHWEST);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHWEST);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHEAST);
     }
 
     /**
@@ -160,11 +161,11 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderEastPointSlopeZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTL, vTL, SOUTHEAST);
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBL, vBL, NORTHEAST);
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTR, vTR, SOUTHWEST);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHEAST);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHEAST);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHWEST);
     }
 
     /**
@@ -172,11 +173,11 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderEastPointSlopeZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTL, vTL, NORTHWEST);
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBR, vBR, SOUTHEAST);
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTR, vTR, NORTHEAST);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHWEST);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHEAST);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHEAST);
     }
 
     /**
@@ -184,11 +185,11 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderNorthPointSlopeXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBL, vBL, NORTHWEST);
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHEAST);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBL, ctx.vBL, NORTHWEST);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHEAST);
     }
 
     /**
@@ -196,11 +197,11 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderNorthPointSlopeXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBR, vBR, NORTHEAST);
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHWEST);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBR, ctx.vBR, NORTHEAST);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHWEST);
     }
 
     /**
@@ -208,11 +209,11 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSouthPointSlopeXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTL, vTL, NORTHEAST);
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBR, vBR, SOUTHWEST);
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTR, vTR, SOUTHEAST);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTL, ctx.vTL, NORTHEAST);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBR, ctx.vBR, SOUTHWEST);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTR, ctx.vTR, SOUTHEAST);
     }
 
     /**
@@ -220,11 +221,11 @@ public class HelperPrism extends RenderHelper {
      */
     public static void renderSouthPointSlopeXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTL, vTL, SOUTHWEST);
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBL, vBL, SOUTHEAST);
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTR, vTR, NORTHWEST);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTL, ctx.vTL, SOUTHWEST);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBL, ctx.vBL, SOUTHEAST);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTR, ctx.vTR, NORTHWEST);
     }
 
     /**
@@ -3,6 +3,7 @@ package com.carpentersblocks.renderer.helper.slope.orthogonal;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.util.IIcon;
 import net.minecraftforge.common.util.ForgeDirection;
+import com.carpentersblocks.renderer.helper.RenderContext;
 import com.carpentersblocks.renderer.helper.RenderHelper;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -15,11 +16,11 @@ public class HelperTriangle extends RenderHelper {
      */
     public static void renderFaceZNegXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBL, floatingIcon ? vTL : vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBR,                      vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTR,                      vTR, TOP_RIGHT   );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL, ctx.floatingIcon ? ctx.vTL : ctx.vBL, BOTTOM_LEFT );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR,                              ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTR,                              ctx.vTR, TOP_RIGHT   );
     }
 
     /**
@@ -27,11 +28,11 @@ public class HelperTriangle extends RenderHelper {
      */
     public static void renderFaceZNegXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.NORTH, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTL,                      vTL, TOP_LEFT    );
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBL,                      vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBR, floatingIcon ? vTR : vBR, BOTTOM_RIGHT);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTL,                              ctx.vTL, TOP_LEFT    );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBL,                              ctx.vBL, BOTTOM_LEFT );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBR, ctx.floatingIcon ? ctx.vTR : ctx.vBR, BOTTOM_RIGHT);
     }
 
     /**
@@ -39,11 +40,11 @@ public class HelperTriangle extends RenderHelper {
      */
     public static void renderFaceZPosXNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBL, floatingIcon ? vTL: vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBR,                     vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTR,                     vTR, TOP_RIGHT   );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBL, ctx.floatingIcon ? ctx.vTL: ctx.vBL, BOTTOM_LEFT );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBR,                             ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTR,                             ctx.vTR, TOP_RIGHT   );
     }
 
     /**
@@ -51,11 +52,11 @@ public class HelperTriangle extends RenderHelper {
      */
     public static void renderFaceZPosXPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.SOUTH, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBL,                      vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBR, floatingIcon ? vTR : vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTL,                      vTL, TOP_LEFT    );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBL,                              ctx.vBL, BOTTOM_LEFT );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBR, ctx.floatingIcon ? ctx.vTR : ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTL,                              ctx.vTL, TOP_LEFT    );
     }
 
     /**
@@ -63,11 +64,11 @@ public class HelperTriangle extends RenderHelper {
      */
     public static void renderFaceXNegZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBL, floatingIcon ? vTL : vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBR,                      vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMin, yMax, zMax, uTR,                      vTR, TOP_RIGHT   );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBL, ctx.floatingIcon ? ctx.vTL : ctx.vBL, BOTTOM_LEFT );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBR,                              ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMax, ctx.uTR,                              ctx.vTR, TOP_RIGHT   );
     }
 
     /**
@@ -75,11 +76,11 @@ public class HelperTriangle extends RenderHelper {
      */
     public static void renderFaceXNegZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.WEST, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMin, yMax, zMin, uTL,                      vTL, TOP_LEFT    );
-        setupVertex(renderBlocks, xMin, yMin, zMin, uBL,                      vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMin, yMin, zMax, uBR, floatingIcon ? vTR : vBR, BOTTOM_RIGHT);
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMax, ctx.zMin, ctx.uTL,                              ctx.vTL, TOP_LEFT    );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMin, ctx.uBL,                              ctx.vBL, BOTTOM_LEFT );
+        setupVertex(renderBlocks, ctx.xMin, ctx.yMin, ctx.zMax, ctx.uBR, ctx.floatingIcon ? ctx.vTR : ctx.vBR, BOTTOM_RIGHT);
     }
 
     /**
@@ -87,11 +88,11 @@ public class HelperTriangle extends RenderHelper {
      */
     public static void renderFaceXPosZPos(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBL, floatingIcon ? vTL : vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBR,                      vBR, BOTTOM_RIGHT);
-        setupVertex(renderBlocks, xMax, yMax, zMin, uTR,                      vTR, TOP_RIGHT   );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBL, ctx.floatingIcon ? ctx.vTL : ctx.vBL, BOTTOM_LEFT );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBR,                              ctx.vBR, BOTTOM_RIGHT);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMin, ctx.uTR,                              ctx.vTR, TOP_RIGHT   );
     }
 
     /**
@@ -99,11 +100,11 @@ public class HelperTriangle extends RenderHelper {
      */
     public static void renderFaceXPosZNeg(RenderBlocks renderBlocks, double x, double y, double z, IIcon icon)
     {
-        prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
+        RenderContext ctx = prepareRender(renderBlocks, ForgeDirection.EAST, x, y, z, icon);
 
-        setupVertex(renderBlocks, xMax, yMax, zMax, uTL,                      vTL, TOP_LEFT    );
-        setupVertex(renderBlocks, xMax, yMin, zMax, uBL,                      vBL, BOTTOM_LEFT );
-        setupVertex(renderBlocks, xMax, yMin, zMin, uBR, floatingIcon ? vTR : vBR, BOTTOM_RIGHT);
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMax, ctx.zMax, ctx.uTL,                              ctx.vTL, TOP_LEFT    );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMax, ctx.uBL,                              ctx.vBL, BOTTOM_LEFT );
+        setupVertex(renderBlocks, ctx.xMax, ctx.yMin, ctx.zMin, ctx.uBR, ctx.floatingIcon ? ctx.vTR : ctx.vBR, BOTTOM_RIGHT);
     }
 
 }
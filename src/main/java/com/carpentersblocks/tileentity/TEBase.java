@@ -1,8 +1,8 @@
 package com.carpentersblocks.tileentity;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockDirectional;
@@ -12,6 +12,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.nbt.NBTTagShort;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.Packet;
 import net.minecraft.network.play.server.S35PacketUpdateTileEntity;
@@ -19,12 +20,19 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import com.carpentersblocks.block.BlockCoverable;
+import com.carpentersblocks.network.PacketTileSync;
 import com.carpentersblocks.util.Attribute;
 import com.carpentersblocks.util.BlockProperties;
+import com.carpentersblocks.util.MetadataOverlayBlockAccess;
 import com.carpentersblocks.util.handler.DesignHandler;
+import com.carpentersblocks.util.handler.LightUpdateHandler;
+import com.carpentersblocks.util.handler.TileSyncHandler;
 import com.carpentersblocks.util.protection.IProtected;
 import com.carpentersblocks.util.protection.ProtectedObject;
 import com.carpentersblocks.util.registry.FeatureRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
 
 public class TEBase extends TileEntity implements IProtected {
 
@@ -34,6 +42,15 @@ public class TEBase extends TileEntity implements IProtected {
     public static final String TAG_OWNER            = "cbOwner";
     public static final String TAG_CHISEL_DESIGN    = "cbChiselDesign";
     public static final String TAG_DESIGN           = "cbDesign";
+    public static final String TAG_VERSION          = "cbVersion";
+    public static final String TAG_ATTR_MASK        = "cbAttrMask";
+    public static final String TAG_ATTR_ITEMS       = "cbAttrItems";
+    public static final String TAG_ATTR_NAMES       = "cbAttrNames";
+    public static final String TAG_ATTR_NAME_IDX    = "cbAttrNameIdx";
+    public static final String TAG_ATTR_TAG         = "cbAttrTag";
+
+    /** NBT layout written by {@link #writeToNBT}, absent from earlier layouts. */
+    public static final byte   NBT_VERSION          = 1;
 
     public static final byte[] ATTR_COVER        = {  0,  1,  2,  3,  4,  5,  6 };
     public static final byte[] ATTR_DYE          = {  7,  8,  9, 10, 11, 12, 13 };
@@ -43,9 +60,25 @@ public class TEBase extends TileEntity implements IProtected {
     public static final byte   ATTR_SOIL         = 23;
     public static final byte   ATTR_FERTILIZER   = 24;
     public static final byte   ATTR_UPGRADE      = 25;
-    
-    /** Map holding all block attributes. */
-    protected Map<Byte, Attribute> cbAttrMap = new HashMap<Byte, Attribute>();
+    public static final int    ATTR_COUNT        = 26;
+
+    /** Attribute bitmasks, see {@link #getAttributeMask}. */
+    public static final int MASK_COVER           = 0x7F;
+    public static final int MASK_SIDE_COVER      = 0x3F;
+    public static final int MASK_DYE             = 0x7F << ATTR_DYE[0];
+    public static final int MASK_OVERLAY         = 0x7F << ATTR_OVERLAY[0];
+
+    /** Sync field flags, see {@link #markForSync}. */
+    public static final int SYNC_METADATA        = 0x1;
+    public static final int SYNC_DESIGN          = 0x2;
+    public static final int SYNC_CHISEL_DESIGN   = 0x4; // Shifted left by side, uses 7 bits
+    public static final int SYNC_SUBCLASS        = 0x200; // First flag available to subclasses
+
+    /** Holds all block attributes, indexed by attribute ID. */
+    protected Attribute[] cbAttrs = new Attribute[ATTR_COUNT];
+
+    /** Bitmask of occupied attribute slots, one bit per attribute ID. */
+    protected int cbAttrMask;
 
     /** Chisel design for each side and base block. */
     protected String[] cbChiselDesign = { "", "", "", "", "", "", "" };
@@ -68,6 +101,27 @@ public class TEBase extends TileEntity implements IProtected {
     /** The most recent light value of block. **/
     private int lightValue = -1;
 
+    /** Fields changed since last sync packet was sent. **/
+    private int syncFields;
+
+    /** Design type, derived from block name. **/
+    private String designType;
+
+    /** Design name {@link #designId} was resolved from. **/
+    private String designIdName;
+
+    /** Design ID, see {@link DesignHandler#getId}. **/
+    private int designId = -1;
+
+    /** Chisel design names {@link #chiselDesignId} were resolved from. **/
+    private final String[] chiselDesignIdName = new String[7];
+
+    /** Chisel design ID for each side and base block. **/
+    private final int[] chiselDesignId = new int[7];
+
+    /** Client-side render model built from current state, see {@link #clearRenderModel}. */
+    private volatile Object renderModel;
+
     
     /** Comment **/
     @Override
@@ -75,8 +129,10 @@ public class TEBase extends TileEntity implements IProtected {
     {
         super.readFromNBT(nbt);
 
-        cbAttrMap.clear();
-        if (nbt.hasKey("owner")) {        	    	
+        clearAttributes();
+        if (nbt.hasKey(TAG_VERSION)) {
+            readCompactFromNBT(nbt);
+        } else if (nbt.hasKey("owner")) {        	    	
             TileEntityHelper.updateMappingsOnRead(this, nbt);
         } else {
             NBTTagList nbttaglist = nbt.getTagList(TAG_ATTR_LIST, 10);
@@ -84,9 +140,10 @@ public class TEBase extends TileEntity implements IProtected {
                 NBTTagCompound nbt1 = nbttaglist.getCompoundTagAt(idx);
                 Attribute attribute = Attribute.loadAttributeFromNBT(nbt1);
                 if (attribute.getItemStack() != null) {
-                    attribute.getItemStack().stackSize = 1; // All ItemStacks pre-3.2.7 DEV R3 stored original stack sizes, reduce them here.                
-                    byte attrId = (byte) (nbt1.getByte(TAG_ATTR) & 255);
-                    cbAttrMap.put(attrId, attribute);
+                    int attrId = nbt1.getByte(TAG_ATTR) & 255;
+                    if (attrId < ATTR_COUNT) {
+                        setAttributeSlot(attrId, attribute);
+                    }
                 }
             }
 
@@ -102,32 +159,109 @@ public class TEBase extends TileEntity implements IProtected {
         }
 
         // Block either loaded or changed, update lighting and render state
+        clearRenderModel();
         updateWorldAndLighting();
     }
 
+    /**
+     * Reads layout written by {@link #writeToNBT}.
+     *
+     * @param nbt the {@link NBTTagCompound}
+     */
+    private void readCompactFromNBT(NBTTagCompound nbt)
+    {
+        int[] items = nbt.getIntArray(TAG_ATTR_ITEMS);
+        byte[] nameIdx = nbt.getByteArray(TAG_ATTR_NAME_IDX);
+        NBTTagList names = nbt.getTagList(TAG_ATTR_NAMES, 8);
+
+        int idx = 0;
+        for (int mask = nbt.getInteger(TAG_ATTR_MASK); mask != 0 && idx < items.length; mask &= mask - 1, ++idx) {
+            int attrId = Integer.numberOfTrailingZeros(mask);
+            if (attrId < ATTR_COUNT) {
+                String name = idx < nameIdx.length ? names.getStringTagAt(nameIdx[idx] & 255) : "";
+                NBTTagCompound tag = nbt.hasKey(TAG_ATTR_TAG + "_" + attrId) ? nbt.getCompoundTag(TAG_ATTR_TAG + "_" + attrId) : null;
+                Attribute attribute = Attribute.load(items[idx] >>> 16, (short) items[idx], tag, name);
+                if (attribute.getItemStack() != null) {
+                    setAttributeSlot(attrId, attribute);
+                }
+            }
+        }
+
+        for (idx = 0; idx < 7; ++idx) {
+            cbChiselDesign[idx] = nbt.getString(TAG_CHISEL_DESIGN + "_" + idx);
+        }
+
+        cbMetadata = nbt.getInteger(TAG_METADATA);
+        cbDesign = nbt.getString(TAG_DESIGN);
+        cbOwner = nbt.getString(TAG_OWNER);
+    }
+
+    /**
+     * Writes tile entity using compact layout.
+     * <p>
+     * Attributes are packed into an array of item IDs and damage values,
+     * ordered by attribute ID and keyed by {@link #TAG_ATTR_MASK}, with
+     * unique identifiers stored once each in a name table.  Empty
+     * strings and zero metadata are omitted.
+     */
     @Override
     public void writeToNBT(NBTTagCompound nbt)
     {
         super.writeToNBT(nbt);
 
-        NBTTagList tagList = new NBTTagList();
-        Iterator iterator = cbAttrMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry entry = (Map.Entry) iterator.next();
-            NBTTagCompound nbt1 = new NBTTagCompound();
-            nbt1.setByte(TAG_ATTR, (Byte) entry.getKey());
-            ((Attribute)entry.getValue()).writeToNBT(nbt1);
-            tagList.appendTag(nbt1);
-        }        
-        nbt.setTag(TAG_ATTR_LIST, tagList);
-        
+        nbt.setByte(TAG_VERSION, NBT_VERSION);
+
+        if (cbAttrMask != 0) {
+
+            int count = Integer.bitCount(cbAttrMask);
+            int[] items = new int[count];
+            byte[] nameIdx = new byte[count];
+            NBTTagList names = new NBTTagList();
+            List<String> nameList = new ArrayList<String>(count);
+
+            int idx = 0;
+            for (int mask = cbAttrMask; mask != 0; mask &= mask - 1, ++idx) {
+                int attrId = Integer.numberOfTrailingZeros(mask);
+                Attribute attribute = cbAttrs[attrId];
+                items[idx] = attribute.getItemId() << 16 | attribute.getDamage() & 0xFFFF;
+
+                String name = attribute.getUniqueId();
+                int nameId = nameList.indexOf(name);
+                if (nameId < 0) {
+                    nameId = nameList.size();
+                    nameList.add(name);
+                    names.appendTag(new NBTTagString(name));
+                }
+                nameIdx[idx] = (byte) nameId;
+
+                NBTTagCompound tag = attribute.getTagCompound();
+                if (tag != null) {
+                    nbt.setTag(TAG_ATTR_TAG + "_" + attrId, tag);
+                }
+            }
+
+            nbt.setInteger(TAG_ATTR_MASK, cbAttrMask);
+            nbt.setIntArray(TAG_ATTR_ITEMS, items);
+            nbt.setTag(TAG_ATTR_NAMES, names);
+            nbt.setByteArray(TAG_ATTR_NAME_IDX, nameIdx);
+
+        }
+
         for (int idx = 0; idx < 7; ++idx) {
-            nbt.setString(TAG_CHISEL_DESIGN + "_" + idx, cbChiselDesign[idx]);
+            if (cbChiselDesign[idx].length() != 0) {
+                nbt.setString(TAG_CHISEL_DESIGN + "_" + idx, cbChiselDesign[idx]);
+            }
         }
 
-        nbt.setInteger(TAG_METADATA, cbMetadata);
-        nbt.setString(TAG_DESIGN, cbDesign);
-        nbt.setString(TAG_OWNER, cbOwner);
+        if (cbMetadata != 0) {
+            nbt.setInteger(TAG_METADATA, cbMetadata);
+        }
+        if (cbDesign.length() != 0) {
+            nbt.setString(TAG_DESIGN, cbDesign);
+        }
+        if (cbOwner.length() != 0) {
+            nbt.setString(TAG_OWNER, cbOwner);
+        }
     }
     
     /**
@@ -155,10 +289,23 @@ public class TEBase extends TileEntity implements IProtected {
     public Packet getDescriptionPacket()
     {
         NBTTagCompound nbt = new NBTTagCompound();
-        writeToNBT(nbt);
+        writeDescriptionToNBT(nbt);
         return new S35PacketUpdateTileEntity(xCoord, yCoord, zCoord, 0, nbt);
     }
 
+    /**
+     * Writes data clients need to render block.
+     * <p>
+     * Defaults to {@link #writeToNBT}.  Override to keep server-only
+     * data, like inventory contents, out of description packets.
+     *
+     * @param nbt the {@link NBTTagCompound}
+     */
+    protected void writeDescriptionToNBT(NBTTagCompound nbt)
+    {
+        writeToNBT(nbt);
+    }
+
     @Override
     /**
      * Called when you receive a TileEntityData packet for the location this
@@ -172,6 +319,169 @@ public class TEBase extends TileEntity implements IProtected {
     public void onDataPacket(NetworkManager net, S35PacketUpdateTileEntity pkt)
     {
         readFromNBT(pkt.func_148857_g());
+        clearRenderModel();
+    }
+
+    /**
+     * Called client-side when a {@link PacketTileSync} is received for
+     * this tile entity.
+     * <p>
+     * Subclasses reacting to state changes in {@link #onDataPacket}
+     * should react here as well.
+     *
+     * @param  bbis the packet data
+     * @throws IOException
+     */
+    public void onSyncPacket(ByteBufInputStream bbis) throws IOException
+    {
+        readSyncData(bbis);
+        clearRenderModel();
+        updateWorldAndLighting();
+    }
+
+    /**
+     * Flags fields to be sent to clients by the end of the tick.
+     * <p>
+     * Only changed fields are sent, which avoids serializing the entire
+     * tile entity through {@link #getDescriptionPacket} when block data
+     * or designs change.  Client-side changes are rendered immediately.
+     *
+     * @param fields the {@link #SYNC_METADATA sync field flags}
+     */
+    protected void markForSync(int fields)
+    {
+        clearRenderModel();
+        World world = getWorldObj();
+
+        if (world.isRemote) {
+            world.markBlockForUpdate(xCoord, yCoord, zCoord);
+        } else {
+            if (syncFields == 0) {
+                TileSyncHandler.queue(this);
+            }
+            syncFields |= fields;
+        }
+    }
+
+    /**
+     * Gets render model cached for current state.
+     * <p>
+     * Set and used by renderers only, and typed loosely so that this
+     * class does not depend on client code.
+     *
+     * @return the render model, or null if none
+     */
+    public Object getRenderModel()
+    {
+        return renderModel;
+    }
+
+    /**
+     * Sets render model built from current state.
+     *
+     * @param renderModel the render model
+     */
+    public void setRenderModel(Object renderModel)
+    {
+        this.renderModel = renderModel;
+    }
+
+    /**
+     * Drops render model, since data it was built from has changed.
+     * <p>
+     * Called whenever attributes, block data or designs change, and
+     * whenever data is received from the server.
+     */
+    public void clearRenderModel()
+    {
+        renderModel = null;
+    }
+
+    /**
+     * Returns whether fields are waiting to be sent to clients.
+     */
+    public boolean hasSyncFields()
+    {
+        return syncFields != 0;
+    }
+
+    /**
+     * Clears flagged fields once they have been sent.
+     */
+    public void clearSyncFields()
+    {
+        syncFields = 0;
+    }
+
+    /**
+     * Writes flagged fields to buffer.
+     *
+     * @param  buffer the {@link ByteBuf}
+     * @throws IOException
+     */
+    public void writeSyncData(ByteBuf buffer) throws IOException
+    {
+        ByteBufOutputStream bbos = new ByteBufOutputStream(buffer);
+        bbos.writeShort(syncFields);
+        writeSyncFields(bbos, syncFields);
+    }
+
+    /**
+     * Writes flagged fields.
+     * <p>
+     * Subclasses may add fields using flags from {@link #SYNC_SUBCLASS}
+     * upward, and must call super first.
+     *
+     * @param  bbos the {@link ByteBufOutputStream}
+     * @param  fields the flagged fields
+     * @throws IOException
+     */
+    protected void writeSyncFields(ByteBufOutputStream bbos, int fields) throws IOException
+    {
+        if ((fields & SYNC_METADATA) != 0) {
+            bbos.writeInt(cbMetadata);
+        }
+        if ((fields & SYNC_DESIGN) != 0) {
+            bbos.writeUTF(cbDesign);
+        }
+        for (int idx = 0; idx < 7; ++idx) {
+            if ((fields & SYNC_CHISEL_DESIGN << idx) != 0) {
+                bbos.writeUTF(cbChiselDesign[idx]);
+            }
+        }
+    }
+
+    /**
+     * Reads fields written by {@link #writeSyncData}.
+     *
+     * @param  bbis the packet data
+     * @throws IOException
+     */
+    protected void readSyncData(ByteBufInputStream bbis) throws IOException
+    {
+        readSyncFields(bbis, bbis.readShort());
+    }
+
+    /**
+     * Reads fields written by {@link #writeSyncFields}.
+     *
+     * @param  bbis the packet data
+     * @param  fields the flagged fields
+     * @throws IOException
+     */
+    protected void readSyncFields(ByteBufInputStream bbis, int fields) throws IOException
+    {
+        if ((fields & SYNC_METADATA) != 0) {
+            cbMetadata = bbis.readInt();
+        }
+        if ((fields & SYNC_DESIGN) != 0) {
+            cbDesign = bbis.readUTF();
+        }
+        for (int idx = 0; idx < 7; ++idx) {
+            if ((fields & SYNC_CHISEL_DESIGN << idx) != 0) {
+                cbChiselDesign[idx] = bbis.readUTF();
+            }
+        }
     }
 
     /**
@@ -242,22 +552,120 @@ public class TEBase extends TileEntity implements IProtected {
 
     public boolean hasAttribute(byte attrId)
     {
-        return cbAttrMap.containsKey(attrId);
+        return attrId >= 0 && attrId < ATTR_COUNT && (cbAttrMask & 1 << attrId) != 0;
     }
 
+    /**
+     * Returns attribute {@link ItemStack}, which is shared with other
+     * tile entities and must not be modified.
+     */
     public ItemStack getAttribute(byte attrId)
     {
-        Attribute attribute = cbAttrMap.get(attrId);
-        if (attribute != null) {
-            return attribute.getItemStack();
+        if (hasAttribute(attrId)) {
+            return cbAttrs[attrId].getItemStack();
         }
-        
+
         return null;
     }
 
+    /**
+     * Gets bitmask of occupied attribute slots.
+     * <p>
+     * Bit <code>n</code> is set when attribute ID <code>n</code> exists.
+     * Mask with {@link #MASK_COVER}, {@link #MASK_DYE} or {@link #MASK_OVERLAY}
+     * to query a group of attributes at once.
+     *
+     * @return the attribute bitmask
+     */
+    public int getAttributeMask()
+    {
+        return cbAttrMask;
+    }
+
+    /**
+     * Gets bitmask of covers, with bits 0-5 for side covers
+     * and bit 6 for the base cover.
+     *
+     * @return the cover bitmask
+     */
+    public int getCoverMask()
+    {
+        return cbAttrMask & MASK_COVER;
+    }
+
+    /**
+     * Gets bitmask of side covers, one bit per side.
+     *
+     * @return the side cover bitmask
+     */
+    public int getSideCoverMask()
+    {
+        return cbAttrMask & MASK_SIDE_COVER;
+    }
+
+    /**
+     * Returns whether any side cover exists.
+     */
+    public boolean hasSideCovers()
+    {
+        return (cbAttrMask & MASK_SIDE_COVER) != 0;
+    }
+
+    /**
+     * Gets bitmask of overlays, with bits 0-5 for side covers
+     * and bit 6 for the base cover.
+     *
+     * @return the overlay bitmask
+     */
+    public int getOverlayMask()
+    {
+        return (cbAttrMask & MASK_OVERLAY) >>> ATTR_OVERLAY[0];
+    }
+
+    /**
+     * Gets bitmask of dyes, with bits 0-5 for side covers
+     * and bit 6 for the base cover.
+     *
+     * @return the dye bitmask
+     */
+    public int getDyeMask()
+    {
+        return (cbAttrMask & MASK_DYE) >>> ATTR_DYE[0];
+    }
+
+    /**
+     * Stores attribute in slot and updates occupancy mask.
+     */
+    private void setAttributeSlot(int attrId, Attribute attribute)
+    {
+        cbAttrs[attrId] = attribute;
+        if (attribute != null) {
+            cbAttrMask |= 1 << attrId;
+        } else {
+            cbAttrMask &= ~(1 << attrId);
+        }
+        clearRenderModel();
+    }
+
+    /**
+     * Removes all attributes without producing world events.
+     */
+    private void clearAttributes()
+    {
+        for (int idx = 0; idx < ATTR_COUNT; ++idx) {
+            cbAttrs[idx] = null;
+        }
+        cbAttrMask = 0;
+        clearRenderModel();
+    }
+
+    /**
+     * Returns copy of attribute {@link ItemStack} that may be dropped
+     * in world.
+     */
     public ItemStack getAttributeForDrop(byte attrId)
     {
-        ItemStack itemStack = cbAttrMap.get(attrId).getItemStack();
+        ItemStack itemStack = cbAttrs[attrId].getItemStack().copy();
 
         // If cover, check for rotation and restore default metadata
         if (attrId <= ATTR_COVER[6]) {
@@ -302,10 +710,8 @@ public class TEBase extends TileEntity implements IProtected {
             return;
         }
 
-        // Reduce stack size to 1 and save attribute
-        ItemStack reducedStack = ItemStack.copyItemStack(itemStack);
-        reducedStack.stackSize = 1;
-        cbAttrMap.put(attrId, new Attribute(reducedStack));
+        // Save shared attribute, which has a stack size of 1
+        setAttributeSlot(attrId, Attribute.get(itemStack));
 
         // Produce world events if specific attributes are set
         World world = getWorldObj();
@@ -339,7 +745,9 @@ public class TEBase extends TileEntity implements IProtected {
      */
     public void onAttrDropped(byte attrId)
     {
-        cbAttrMap.remove(attrId);
+        if (attrId >= 0 && attrId < ATTR_COUNT) {
+            setAttributeSlot(attrId, null);
+        }
         updateWorldAndLighting();
         markDirty();
     }
@@ -370,7 +778,24 @@ public class TEBase extends TileEntity implements IProtected {
      */
     public boolean hasChiselDesign(int side)
     {
-        return DesignHandler.listChisel.contains(getChiselDesign(side));
+        return getChiselDesignId(side) >= 0;
+    }
+
+    /**
+     * Returns pattern ID, or -1 if block has no pattern.
+     * <p>
+     * Resolved again only when pattern name changes.
+     */
+    public int getChiselDesignId(int side)
+    {
+        String name = cbChiselDesign[side];
+
+        if (name != chiselDesignIdName[side]) {
+            chiselDesignId[side] = DesignHandler.getId("chisel", name);
+            chiselDesignIdName[side] = name;
+        }
+
+        return chiselDesignId[side];
     }
 
     /**
@@ -389,7 +814,7 @@ public class TEBase extends TileEntity implements IProtected {
         //it's a typo? s 2 years?
         if (!cbChiselDesign[side].equals(iconName)) {
             cbChiselDesign[side] = iconName;
-            getWorldObj().markBlockForUpdate(xCoord, yCoord, zCoord);
+            markForSync(SYNC_CHISEL_DESIGN << side);
             markDirty();
             return true;
         }
@@ -402,7 +827,7 @@ public class TEBase extends TileEntity implements IProtected {
         //it's a typo? s 2 years?
         if (cbChiselDesign[side].length()!=0) {
             cbChiselDesign[side] = "";
-            getWorldObj().markBlockForUpdate(xCoord, yCoord, zCoord);
+            markForSync(SYNC_CHISEL_DESIGN << side);
             markDirty();
         }
     }
@@ -424,7 +849,7 @@ public class TEBase extends TileEntity implements IProtected {
     {
         if (data != getData()) {
             cbMetadata = data;
-            getWorldObj().markBlockForUpdate(xCoord, yCoord, zCoord);
+            markForSync(SYNC_METADATA);
             markDirty();
             return true;
         }
@@ -434,7 +859,24 @@ public class TEBase extends TileEntity implements IProtected {
 
     public boolean hasDesign()
     {
-        return DesignHandler.getListForType(getBlockDesignType()).contains(cbDesign);
+        return getDesignId() >= 0;
+    }
+
+    /**
+     * Returns design ID, or -1 if block has no design.
+     * <p>
+     * Resolved again only when design name changes.
+     */
+    public int getDesignId()
+    {
+        String name = cbDesign;
+
+        if (name != designIdName) {
+            designId = DesignHandler.getId(getBlockDesignType(), name);
+            designIdName = name;
+        }
+
+        return designId;
     }
 
     public String getDesign()
@@ -446,7 +888,7 @@ public class TEBase extends TileEntity implements IProtected {
     {
         if (!cbDesign.equals(name)) {
             cbDesign = name;
-            getWorldObj().markBlockForUpdate(xCoord, yCoord, zCoord);
+            markForSync(SYNC_DESIGN);
             markDirty();
             return true;
         }
@@ -461,8 +903,12 @@ public class TEBase extends TileEntity implements IProtected {
 
     public String getBlockDesignType()
     {
-        String name = getBlockType().getUnlocalizedName();
-        return name.substring(String.valueOf("tile.blockCarpenters").length()).toLowerCase();
+        if (designType == null) {
+            String name = getBlockType().getUnlocalizedName();
+            designType = name.substring(String.valueOf("tile.blockCarpenters").length()).toLowerCase();
+        }
+
+        return designType;
     }
 
     public boolean setNextDesign()
@@ -481,7 +927,10 @@ public class TEBase extends TileEntity implements IProtected {
      * As part of mimicking a cover block, the metadata must be changed
      * to better represent the cover properties.
      * <p>
-     * This is normally followed up by calling {@link setMetadataFromCover}.
+     * This is normally followed up by calling {@link #restoreMetadata}.
+     * <p>
+     * This writes to the world, so use {@link MetadataOverlayBlockAccess}
+     * instead wherever an {@link IBlockAccess} is sufficient.
      */
     public void setMetadata(int metadata)
     {
@@ -510,7 +959,7 @@ public class TEBase extends TileEntity implements IProtected {
      */
     public int getLightValue() {
         if (lightValue == -1 && !calcLighting) {
-            updateCachedLighting();
+            lightValue = getDynamicLightValue();
         }
         return lightValue;
     }
@@ -536,18 +985,15 @@ public class TEBase extends TileEntity implements IProtected {
         } else {
             // Find greatest light output from attributes
             calcLighting = true;
-            Iterator it = cbAttrMap.entrySet().iterator();
-            while (it.hasNext()) {
-                Map.Entry pair = (Map.Entry)it.next();
-                ItemStack itemStack = BlockProperties.getCallableItemStack(((Attribute)pair.getValue()).getItemStack());
+            for (int mask = cbAttrMask; mask != 0; mask &= mask - 1) {
+                ItemStack itemStack = BlockProperties.getCallableItemStack(cbAttrs[Integer.numberOfTrailingZeros(mask)].getItemStack());
                 Block block = BlockProperties.toBlock(itemStack);
 
                 if (block != Blocks.air) {
 
                     // Determine metadata-sensitive light value (usually recursive, and not useful)
-                    setMetadata(itemStack.getItemDamage());
-                    int sensitiveLight = block.getLightValue(getWorldObj(), xCoord, yCoord, zCoord);
-                    restoreMetadata();
+                    IBlockAccess blockAccess = MetadataOverlayBlockAccess.forTileEntity(this, itemStack.getItemDamage());
+                    int sensitiveLight = block.getLightValue(blockAccess, xCoord, yCoord, zCoord);
 
                     if (sensitiveLight > 0) {
                         value = Math.max(value, sensitiveLight);
@@ -565,23 +1011,35 @@ public class TEBase extends TileEntity implements IProtected {
     }
     
     /**
-     * Updates light value and world lightmap.
+     * Queues world update and lighting refresh for end of tick, so that
+     * several changes in one tick are applied once.
      */
-    private void updateCachedLighting() {
-        lightValue = getDynamicLightValue();
-        getWorldObj().func_147451_t(xCoord, yCoord, zCoord); // Updates block lightmap, should help with spawns
+    private void updateWorldAndLighting()
+    {
+        if (getWorldObj() != null) {
+            LightUpdateHandler.queue(this);
+        }
     }
 
     /**
-     * Performs world update and refreshes lighting.
+     * Updates light value, world lightmap and render state.
+     * <p>
+     * Called by {@link LightUpdateHandler} at end of tick.  The lightmap
+     * is only re-checked if light value changed, since covers do not
+     * affect block opacity.
      */
-    private void updateWorldAndLighting()
+    public void updateWorldAndLightingNow()
     {
         World world = getWorldObj();
-        if (world != null) {
-            updateCachedLighting();
-            world.markBlockForUpdate(xCoord, yCoord, zCoord);
+        int prevLightValue = lightValue;
+        lightValue = getDynamicLightValue();
+
+        // An uncached value was never reported to world, so treat it as unlit
+        if (lightValue != Math.max(prevLightValue, 0)) {
+            world.func_147451_t(xCoord, yCoord, zCoord); // Updates block lightmap, should help with spawns
         }
+
+        world.markBlockForUpdate(xCoord, yCoord, zCoord);
     }
     
 }
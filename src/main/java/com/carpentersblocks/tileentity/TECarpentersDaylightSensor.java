@@ -1,33 +1,42 @@
 package com.carpentersblocks.tileentity;
 
-import com.carpentersblocks.block.BlockCarpentersDaylightSensor;
+import com.carpentersblocks.util.handler.DaylightSensorHandler;
 
 public class TECarpentersDaylightSensor extends TEBase {
 
     @Override
     /**
-     * Determines if this TileEntity requires update calls.
-     * @return True if you want updateEntity() to be called, false if not
+     * Schedules sensor for light level updates.
      */
-    public boolean canUpdate()
+    public void validate()
     {
-        return true;
+        super.validate();
+        if (worldObj != null && !worldObj.isRemote) {
+            DaylightSensorHandler.add(this);
+        }
     }
 
+    @Override
     /**
-     * Allows the entity to update its state. Overridden in most subclasses, e.g. the mob spawner uses this to count
-     * ticks and creates a new spawn inside its implementation.
+     * Stops light level updates for this sensor.
      */
+    public void invalidate()
+    {
+        super.invalidate();
+        if (worldObj != null && !worldObj.isRemote) {
+            DaylightSensorHandler.remove(this);
+        }
+    }
+
     @Override
-    public void updateEntity()
+    /**
+     * Stops light level updates for this sensor.
+     */
+    public void onChunkUnload()
     {
-        if (worldObj != null && !worldObj.isRemote && worldObj.getTotalWorldTime() % 20L == 0L)
-        {
-            if (getBlockType() != null) {
-                if (blockType instanceof BlockCarpentersDaylightSensor) {
-                    ((BlockCarpentersDaylightSensor) blockType).updateLightLevel(worldObj, xCoord, yCoord, zCoord);
-                }
-            }
+        super.onChunkUnload();
+        if (worldObj != null && !worldObj.isRemote) {
+            DaylightSensorHandler.remove(this);
         }
     }
 
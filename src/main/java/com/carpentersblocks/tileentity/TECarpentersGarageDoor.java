@@ -1,8 +1,11 @@
 package com.carpentersblocks.tileentity;
 
+import java.io.IOException;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.S35PacketUpdateTileEntity;
+import com.carpentersblocks.data.AbstractMultiBlock;
 import com.carpentersblocks.data.GarageDoor;
+import io.netty.buffer.ByteBufInputStream;
 
 public class TECarpentersGarageDoor extends TEBase {
 
@@ -27,4 +30,48 @@ public class TECarpentersGarageDoor extends TEBase {
         }
     }
 
+    @Override
+    /**
+     * Plays state change sound for sync packets as well.
+     */
+    public void onSyncPacket(ByteBufInputStream bbis) throws IOException
+    {
+        GarageDoor data = GarageDoor.INSTANCE;
+        int oldState = data.getState(this);
+        super.onSyncPacket(bbis);
+        if (data.getState(this) != oldState) {
+            data.playStateChangeSound(this);
+        }
+    }
+
+    @Override
+    /**
+     * Discards cached structures that this piece may join.
+     */
+    public void validate()
+    {
+        super.validate();
+        AbstractMultiBlock.invalidate(getWorldObj(), xCoord, yCoord, zCoord);
+    }
+
+    @Override
+    /**
+     * Discards cached structure that this piece belonged to.
+     */
+    public void invalidate()
+    {
+        super.invalidate();
+        AbstractMultiBlock.invalidate(getWorldObj(), xCoord, yCoord, zCoord);
+    }
+
+    @Override
+    /**
+     * Discards cached structure that this piece belonged to.
+     */
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        AbstractMultiBlock.invalidate(getWorldObj(), xCoord, yCoord, zCoord);
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.carpentersblocks.tileentity;
 
+import java.io.IOException;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Items;
 import net.minecraft.inventory.ISidedInventory;
@@ -7,11 +8,15 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import com.carpentersblocks.data.Safe;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
 
 public class TECarpentersSafe extends TEBase implements ISidedInventory {
 
     private final String TAG_SLOT    = "Slot";
     private final String TAG_ITEMS   = "Items";
+    private final String TAG_CAPACITY = "cbCapacity";
+    private final int SYNC_CAPACITY = SYNC_SUBCLASS;
     private final int EVENT_ID_STATE_CHANGE = 0;
 
     /** Holds contents of block. */
@@ -26,6 +31,9 @@ public class TECarpentersSafe extends TEBase implements ISidedInventory {
     /** Indicates safe render update should occur next tick. */
     private boolean stateChanged;
 
+    /** Number of lit capacity indicator segments, from 0 to 9. */
+    private int capacity;
+
     @Override
     /**
      * Determines if this TileEntity requires update calls.
@@ -43,15 +51,48 @@ public class TECarpentersSafe extends TEBase implements ISidedInventory {
      */
     public void updateEntity()
     {
-        if (!worldObj.isRemote) {            
+        if (!worldObj.isRemote) {
             // For chest capacity indicator, process contents changed only once per second
-            if (contentsChanged && (tickCount % 20 == 0)) {
-                worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
+            if (contentsChanged && (++tickCount % 20 == 0)) {
+                int newCapacity = calculateCapacity();
+                if (newCapacity != capacity) {
+                    capacity = newCapacity;
+                    markForSync(SYNC_CAPACITY);
+                }
                 contentsChanged = false;
             }
         }
     }
 
+    /**
+     * Gets capacity indicator level.
+     * <p>
+     * Clients do not receive inventory contents, so this is the only
+     * inventory state available for rendering.
+     *
+     * @return the number of lit segments, from 0 to 9
+     */
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * Calculates capacity indicator level from inventory contents.
+     */
+    private int calculateCapacity()
+    {
+        int numSlotsFilled = 0;
+
+        for (int slot = 0; slot < getSizeInventory(); ++slot) {
+            if (inventoryContents[slot] != null) {
+                ++numSlotsFilled;
+            }
+        }
+
+        return numSlotsFilled / (3 * getSizeInventory() / 27);
+    }
+
     /**
      * Returns the number of slots in the inventory.
      */
@@ -157,6 +198,12 @@ public class TECarpentersSafe extends TEBase implements ISidedInventory {
                 inventoryContents[j] = ItemStack.loadItemStackFromNBT(nbt1);
             }
         }
+
+        if (nbt.hasKey(TAG_CAPACITY)) {
+            capacity = nbt.getByte(TAG_CAPACITY);
+        } else {
+            capacity = calculateCapacity();
+        }
     }
 
     /**
@@ -181,6 +228,38 @@ public class TECarpentersSafe extends TEBase implements ISidedInventory {
         nbt.setTag(TAG_ITEMS, nbttaglist);
     }
 
+    /**
+     * Sends capacity level in place of inventory contents.
+     * <p>
+     * Contents reach clients only through the container GUI, which
+     * keeps them private and keeps description packets small.
+     */
+    @Override
+    protected void writeDescriptionToNBT(NBTTagCompound nbt)
+    {
+        super.writeToNBT(nbt);
+        capacity = calculateCapacity();
+        nbt.setByte(TAG_CAPACITY, (byte) capacity);
+    }
+
+    @Override
+    protected void writeSyncFields(ByteBufOutputStream bbos, int fields) throws IOException
+    {
+        super.writeSyncFields(bbos, fields);
+        if ((fields & SYNC_CAPACITY) != 0) {
+            bbos.writeByte(capacity);
+        }
+    }
+
+    @Override
+    protected void readSyncFields(ByteBufInputStream bbis, int fields) throws IOException
+    {
+        super.readSyncFields(bbis, fields);
+        if ((fields & SYNC_CAPACITY) != 0) {
+            capacity = bbis.readByte();
+        }
+    }
+
     /**
      * Do not make give this method the name canInteractWith because it clashes with Container
      */
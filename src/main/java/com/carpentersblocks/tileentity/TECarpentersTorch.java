@@ -1,5 +1,6 @@
 package com.carpentersblocks.tileentity;
 
+import java.io.IOException;
 import net.minecraft.init.Blocks;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.S35PacketUpdateTileEntity;
@@ -7,6 +8,7 @@ import net.minecraft.world.IBlockAccess;
 import com.carpentersblocks.data.Torch;
 import com.carpentersblocks.data.Torch.State;
 import com.carpentersblocks.renderer.helper.ParticleHelper;
+import io.netty.buffer.ByteBufInputStream;
 
 public class TECarpentersTorch extends TEBase {
 
@@ -41,6 +43,22 @@ public class TECarpentersTorch extends TEBase {
         }
     }
 
+    @Override
+    /**
+     * Spawns smoke particles for sync packets as well.
+     */
+    public void onSyncPacket(ByteBufInputStream bbis) throws IOException
+    {
+        Torch data = new Torch();
+        State existing_state = data.getState(this);
+
+        super.onSyncPacket(bbis);
+
+        if (data.getState(this).ordinal() > existing_state.ordinal()) {
+            ParticleHelper.spawnTorchBigSmoke(this);
+        }
+    }
+
     /**
      * Returns the current block light value. This is the only method
      * that will grab the tile entity to calculate lighting, which
@@ -1,66 +1,214 @@
 package com.carpentersblocks.util;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import org.apache.logging.log4j.Level;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import cpw.mods.fml.common.registry.GameRegistry;
 import cpw.mods.fml.common.registry.GameRegistry.UniqueIdentifier;
 
 /**
  * Stores attribute and unique identifier for validation purposes.
+ * <p>
+ * Attributes are immutable and interned, so tile entities covered with
+ * the same item, damage value and NBT share a single instance.  Obtain
+ * one through {@link #get}, and never modify {@link #getItemStack}.
  */
 public class Attribute {
-    
+
     private static final String TAG_UNIQUE_ID = "cbUniqueId";
-    private ItemStack _itemStack;
+
+    /** Attributes in use by any tile entity, released once unused. */
+    private static final Interner<Attribute> palette = Interners.newWeakInterner();
+
+    /** Attribute for an item that could not be resolved. */
+    private static final Attribute EMPTY = new Attribute(null);
+
+    /**
+     * Whether {@link #get} shares attributes.  Cleared only by benchmarks,
+     * to measure tile entities holding private attributes as before.
+     */
+    static boolean interning = true;
+
+    private final Item _item;
+    private final int _damage;
+    private final ItemStack _itemStack;
+    private final int _hashCode;
     private String _uniqueId;
-    private boolean _error;
-    
-    public Attribute(ItemStack itemStack) {
+
+    private Attribute(ItemStack itemStack)
+    {
         if (itemStack != null && itemStack.getItem() != null) {
-            this._itemStack = itemStack;
-            _uniqueId = GameRegistry.findUniqueIdentifierFor(itemStack.getItem()).toString();
+            _item = itemStack.getItem();
+            _damage = itemStack.getItemDamage();
+            _itemStack = new ItemStack(_item, 1, _damage);
+            if (itemStack.hasTagCompound()) {
+                _itemStack.setTagCompound((NBTTagCompound) itemStack.getTagCompound().copy());
+            }
+            NBTTagCompound tag = _itemStack.getTagCompound();
+            _hashCode = (System.identityHashCode(_item) * 31 + _damage) * 31 + (tag == null ? 0 : tag.hashCode());
+        } else {
+            _item = null;
+            _damage = 0;
+            _itemStack = null;
+            _hashCode = 0;
+        }
+    }
+
+    /**
+     * Returns shared attribute for {@link ItemStack}.
+     * <p>
+     * Stack size is not part of an attribute and is always 1.
+     *
+     * @param  itemStack the {@link ItemStack}, may be null
+     * @return the {@link Attribute}
+     */
+    public static Attribute get(ItemStack itemStack)
+    {
+        if (itemStack == null || itemStack.getItem() == null) {
+            return EMPTY;
+        }
+
+        Attribute attribute = new Attribute(itemStack);
+
+        if (!interning) {
+            attribute.getUniqueId();
+            return attribute;
         }
+
+        return palette.intern(attribute);
     }
-    
-    public ItemStack getItemStack() {
+
+    /**
+     * Returns attribute {@link ItemStack}, shared with other tile entities.
+     * Copy it before making changes.
+     */
+    public ItemStack getItemStack()
+    {
         return _itemStack;
     }
 
-    public String getUniqueId() {
+    /**
+     * Returns numeric item ID.
+     */
+    public int getItemId()
+    {
+        return Item.getIdFromItem(_item);
+    }
+
+    public int getDamage()
+    {
+        return _damage;
+    }
+
+    /**
+     * Returns copy of item NBT, or null if item has none.
+     */
+    public NBTTagCompound getTagCompound()
+    {
+        NBTTagCompound tag = _itemStack == null ? null : _itemStack.getTagCompound();
+        return tag == null ? null : (NBTTagCompound) tag.copy();
+    }
+
+    public String getUniqueId()
+    {
+        if (_uniqueId == null && _item != null) {
+            _uniqueId = GameRegistry.findUniqueIdentifierFor(_item).toString();
+        }
+
         return _uniqueId;
     }
-    
+
     /**
      * Write the stack fields to a NBT object. Return the new NBT object.
      */
     public NBTTagCompound writeToNBT(NBTTagCompound nbt)
     {
         _itemStack.writeToNBT(nbt);
-        nbt.setString(TAG_UNIQUE_ID, _uniqueId);
+        nbt.setString(TAG_UNIQUE_ID, getUniqueId());
         return nbt;
     }
-    
+
     public static Attribute loadAttributeFromNBT(NBTTagCompound nbt)
     {
         ItemStack itemStack = ItemStack.loadItemStackFromNBT(nbt);
         if (itemStack == null) {
-            String uuid = nbt.getString(TAG_UNIQUE_ID);
-            if (uuid.contains(":")) {
-                UniqueIdentifier uniqueId = new UniqueIdentifier(uuid);
-                itemStack = GameRegistry.findItemStack(uniqueId.modId, uniqueId.name, 1);
-                if (itemStack != null) {
-                    int dmg = nbt.getShort("Damage");
-                    itemStack.setItemDamage(dmg);
-                    ModLogger.log(Level.WARN, "Invalid Id for attribute '" + uniqueId.toString() + "' corrected.");
-                } else {
-                    ModLogger.log(Level.WARN, "Block attribute '" + uniqueId.toString() + "' was unable to be recovered. Was a mod removed?");
-                }
+            itemStack = recoverItemStack(nbt.getString(TAG_UNIQUE_ID), nbt.getShort("Damage"));
+        }
+        return get(itemStack); // All ItemStacks pre-3.2.7 DEV R3 stored original stack sizes, reduced here.
+    }
+
+    /**
+     * Returns attribute from fields stored in compact tile entity NBT.
+     * <p>
+     * Unique identifier is used only when item ID no longer exists.
+     *
+     * @param  itemId the numeric item ID
+     * @param  damage the damage value
+     * @param  tag the item NBT, may be null
+     * @param  uuid the unique identifier
+     * @return the {@link Attribute}
+     */
+    public static Attribute load(int itemId, int damage, NBTTagCompound tag, String uuid)
+    {
+        Item item = Item.getItemById(itemId);
+        ItemStack itemStack = item != null ? new ItemStack(item, 1, damage) : recoverItemStack(uuid, damage);
+        if (itemStack != null && tag != null) {
+            itemStack.setTagCompound(tag);
+        }
+        return get(itemStack);
+    }
+
+    /**
+     * Finds item by unique identifier when its item ID is invalid.
+     */
+    private static ItemStack recoverItemStack(String uuid, int dmg)
+    {
+        ItemStack itemStack = null;
+        if (uuid.contains(":")) {
+            UniqueIdentifier uniqueId = new UniqueIdentifier(uuid);
+            itemStack = GameRegistry.findItemStack(uniqueId.modId, uniqueId.name, 1);
+            if (itemStack != null) {
+                itemStack.setItemDamage(dmg);
+                ModLogger.log(Level.WARN, "Invalid Id for attribute '" + uniqueId.toString() + "' corrected.");
             } else {
-                ModLogger.log(Level.WARN, "Unable to resolve attribute '" + uuid + "'");
+                ModLogger.log(Level.WARN, "Block attribute '" + uniqueId.toString() + "' was unable to be recovered. Was a mod removed?");
             }
-        }        
-        return new Attribute(itemStack);
+        } else {
+            ModLogger.log(Level.WARN, "Unable to resolve attribute '" + uuid + "'");
+        }
+        return itemStack;
     }
-    
-}
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object) {
+            return true;
+        } else if (!(object instanceof Attribute)) {
+            return false;
+        }
+
+        Attribute attribute = (Attribute) object;
+
+        if (_item != attribute._item || _damage != attribute._damage) {
+            return false;
+        } else if (_itemStack == null) {
+            return attribute._itemStack == null;
+        }
+
+        NBTTagCompound tag = _itemStack.getTagCompound();
+        NBTTagCompound otherTag = attribute._itemStack.getTagCompound();
+
+        return tag == null ? otherTag == null : tag.equals(otherTag);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return _hashCode;
+    }
+
+}
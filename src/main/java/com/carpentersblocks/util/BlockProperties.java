@@ -1,5 +1,7 @@
 package com.carpentersblocks.util;
 
+import java.util.HashMap;
+import java.util.Map;
 import net.minecraft.block.Block;
 import net.minecraft.block.Block.SoundType;
 import net.minecraft.block.BlockBreakable;
@@ -18,8 +20,8 @@ import com.carpentersblocks.CarpentersBlocks;
 import com.carpentersblocks.api.IWrappableBlock;
 import com.carpentersblocks.block.BlockCoverable;
 import com.carpentersblocks.tileentity.TEBase;
-import com.carpentersblocks.util.handler.ChatHandler;
 import com.carpentersblocks.util.handler.DyeHandler;
+import com.carpentersblocks.util.handler.OreDictHandler;
 import com.carpentersblocks.util.handler.OverlayHandler;
 import com.carpentersblocks.util.handler.OverlayHandler.Overlay;
 import com.carpentersblocks.util.registry.FeatureRegistry;
@@ -29,6 +31,24 @@ public class BlockProperties {
     public final static SoundType stepSound = new SoundType(CarpentersBlocks.MODID, 1.0F, 1.0F);
     public final static int MASK_DEFAULT_ICON = 0x10;
 
+    /** Cover exceptions by item, see {@link #postInit()}. */
+    private static ItemNameIndex<Boolean> coverExceptionIndex = new ItemNameIndex<Boolean>(false);
+
+    /**
+     * Resolves cover exceptions to items.
+     * <p>
+     * Must be called once all mods have registered their items.
+     */
+    public static void postInit()
+    {
+        Map<String, Boolean> names = new HashMap<String, Boolean>();
+        for (String name : FeatureRegistry.coverExceptions) {
+            names.put(name, true);
+        }
+
+        coverExceptionIndex.resolve(names, "cover exception");
+    }
+
     public static boolean isMetadataDefaultIcon(int metadata)
     {
         return (metadata & MASK_DEFAULT_ICON) > 0;
@@ -205,6 +225,31 @@ public class BlockProperties {
         return itemStack != null ? itemStack : new ItemStack(TE.getBlockType());
     }
 
+    /**
+     * Returns the block of {@link #getCover}, without creating a stack
+     * when no cover exists on side.
+     *
+     * @param  TE the {@link TEBase}
+     * @param  side the side
+     * @return the {@link Block}
+     */
+    public static Block getCoverBlock(TEBase TE, int side)
+    {
+        ItemStack itemStack = TE.getAttribute(TE.ATTR_COVER[side]);
+
+        if (itemStack == null) {
+            return TE.getBlockType();
+        }
+
+        Block block = toBlock(itemStack);
+
+        if (block instanceof BlockCoverable || block instanceof IWrappableBlock) {
+            return block;
+        } else {
+            return block.hasTileEntity(itemStack.getItemDamage()) ? Blocks.planks : block;
+        }
+    }
+
     /**
      * Returns whether block is a cover.
      */
@@ -218,8 +263,7 @@ public class BlockProperties {
                    block instanceof BlockSlab ||
                    block instanceof BlockPane ||
                    block instanceof BlockBreakable ||
-                   FeatureRegistry.coverExceptions.contains(itemStack.getDisplayName()) ||
-                   FeatureRegistry.coverExceptions.contains(ChatHandler.getDefaultTranslation(itemStack));
+                   coverExceptionIndex.get(itemStack);
 
         }
 
@@ -234,15 +278,7 @@ public class BlockProperties {
      */
     public static boolean isIlluminator(ItemStack itemStack)
     {
-        if (itemStack != null) {
-            for (int Id : OreDictionary.getOreIDs(itemStack)) {
-                if (OreDictionary.getOreName(Id).equals("dustGlowstone")) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return itemStack != null && OreDictHandler.get(itemStack).isIlluminator;
     }
 
     /**
@@ -259,8 +295,7 @@ public class BlockProperties {
      */
     public static boolean isOverlay(ItemStack itemStack)
     {
-        return OverlayHandler.overlayMap.containsKey(itemStack.getDisplayName()) ||
-               OverlayHandler.overlayMap.containsKey(ChatHandler.getDefaultTranslation(itemStack));
+        return OverlayHandler.getOverlayType(itemStack) != Overlay.NONE;
     }
 
     /**
@@ -273,9 +308,9 @@ public class BlockProperties {
     public static String getOreDictMatch(ItemStack itemStack, String ... name)
     {
         if (itemStack != null) {
-            for (int Id : OreDictionary.getOreIDs(itemStack)) {
+            for (String oreDictName : OreDictHandler.get(itemStack).oreNames) {
                 for (String oreName : name) {
-                    if (OreDictionary.getOreName(Id).equals(oreName)) {
+                    if (oreDictName.equals(oreName)) {
                         return oreName;
                     }
                 }
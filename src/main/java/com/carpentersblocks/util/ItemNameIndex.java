@@ -0,0 +1,117 @@
+package com.carpentersblocks.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.apache.logging.log4j.Level;
+import com.carpentersblocks.util.handler.ChatHandler;
+
+/**
+ * Maps items to values using the display names supplied in the
+ * configuration file.
+ * <p>
+ * Names are resolved against every registered item once, after all mods
+ * have registered their items.  Looking up an {@link ItemStack} is then
+ * a probe by {@link Item} and damage value, rather than building and
+ * translating its display name.
+ */
+public class ItemNameIndex<T> {
+
+    /** Highest damage value resolved for items with subtypes. */
+    private final static int MAX_DAMAGE = 15;
+
+    private final T defaultValue;
+    private Map<String, T> names = Collections.emptyMap();
+    private Map<Item, Object[]> index = Collections.emptyMap();
+
+    /**
+     * @param defaultValue value for items that match no name
+     */
+    public ItemNameIndex(T defaultValue)
+    {
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Resolves names against all registered items, replacing any
+     * previous index.  Names that match no item are logged.
+     *
+     * @param names the display names mapped to values
+     * @param description describes names in log, e.g. "overlay"
+     */
+    public void resolve(Map<String, T> names, String description)
+    {
+        Map<Item, Object[]> index = new IdentityHashMap<Item, Object[]>();
+        Set<String> unresolved = new HashSet<String>(names.keySet());
+        this.names = new HashMap<String, T>(names);
+
+        for (Object object : Item.itemRegistry) {
+
+            Item item = (Item) object;
+            Object[] values = new Object[item.getHasSubtypes() ? MAX_DAMAGE + 1 : 1];
+
+            for (int damage = 0; damage < values.length; ++damage) {
+                try {
+                    ItemStack itemStack = new ItemStack(item, 1, damage);
+                    String displayName = itemStack.getDisplayName();
+                    String defaultName = ChatHandler.getDefaultTranslation(itemStack);
+                    values[damage] = lookup(displayName, defaultName);
+                    unresolved.remove(displayName);
+                    unresolved.remove(defaultName);
+                } catch (Exception e) {
+                    // Item does not support this damage value, names are resolved when used
+                }
+            }
+
+            index.put(item, values);
+
+        }
+
+        for (String name : unresolved) {
+            ModLogger.log(Level.WARN, String.format("Unable to find item for %s definition \"%s\"", description, name));
+        }
+
+        this.index = index;
+    }
+
+    /**
+     * Returns value for {@link ItemStack}, or default value if it
+     * matches no name.
+     *
+     * @param  itemStack the {@link ItemStack}
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    public T get(ItemStack itemStack)
+    {
+        Item item = itemStack.getItem();
+
+        // Renamed stacks are matched by their custom name
+        if (item != null && !itemStack.hasDisplayName()) {
+            Object[] values = index.get(item);
+            int damage = item.getHasSubtypes() ? itemStack.getItemDamage() : 0;
+            if (values != null && damage >= 0 && damage < values.length && values[damage] != null) {
+                return (T) values[damage];
+            }
+        }
+
+        return lookup(itemStack.getDisplayName(), ChatHandler.getDefaultTranslation(itemStack));
+    }
+
+    private T lookup(String displayName, String defaultName)
+    {
+        T value = names.get(displayName);
+
+        if (value == null) {
+            value = names.get(defaultName);
+        }
+
+        return value == null ? defaultValue : value;
+    }
+
+}
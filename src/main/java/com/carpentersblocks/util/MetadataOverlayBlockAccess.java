@@ -0,0 +1,135 @@
+package com.carpentersblocks.util;
+
+import net.minecraft.block.Block;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraftforge.common.util.ForgeDirection;
+import com.carpentersblocks.tileentity.TEBase;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Read-only view of an {@link IBlockAccess} that reports a substitute
+ * metadata value at a single block position.
+ * <p>
+ * Covers mimic their source block, and many blocks derive color and
+ * light from metadata at their coordinates.  Querying through this view
+ * lets those blocks see the cover damage value without writing it to
+ * the world and restoring it afterwards.
+ */
+public class MetadataOverlayBlockAccess implements IBlockAccess {
+
+    private IBlockAccess blockAccess;
+    private int x;
+    private int y;
+    private int z;
+    private int metadata;
+
+    public MetadataOverlayBlockAccess(IBlockAccess blockAccess, int x, int y, int z, int metadata)
+    {
+        set(blockAccess, x, y, z, metadata);
+    }
+
+    /**
+     * Points view at a new position, so that one instance can be
+     * reused for repeated queries.
+     *
+     * @param  blockAccess the underlying {@link IBlockAccess}
+     * @param  x the x coordinate
+     * @param  y the y coordinate
+     * @param  z the z coordinate
+     * @param  metadata the metadata to report at coordinates
+     * @return the {@link MetadataOverlayBlockAccess}
+     */
+    public MetadataOverlayBlockAccess set(IBlockAccess blockAccess, int x, int y, int z, int metadata)
+    {
+        this.blockAccess = blockAccess;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.metadata = metadata;
+        return this;
+    }
+
+    /**
+     * Returns view that reports metadata at tile entity coordinates.
+     *
+     * @param  TE the {@link TEBase}
+     * @param  metadata the metadata to report, usually cover damage value
+     * @return the {@link IBlockAccess} view
+     */
+    public static IBlockAccess forTileEntity(TEBase TE, int metadata)
+    {
+        return new MetadataOverlayBlockAccess(TE.getWorldObj(), TE.xCoord, TE.yCoord, TE.zCoord, metadata);
+    }
+
+    @Override
+    public int getBlockMetadata(int x, int y, int z)
+    {
+        if (x == this.x && y == this.y && z == this.z) {
+            return metadata;
+        }
+
+        return blockAccess.getBlockMetadata(x, y, z);
+    }
+
+    @Override
+    public Block getBlock(int x, int y, int z)
+    {
+        return blockAccess.getBlock(x, y, z);
+    }
+
+    @Override
+    public TileEntity getTileEntity(int x, int y, int z)
+    {
+        return blockAccess.getTileEntity(x, y, z);
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public int getLightBrightnessForSkyBlocks(int x, int y, int z, int lightValue)
+    {
+        return blockAccess.getLightBrightnessForSkyBlocks(x, y, z, lightValue);
+    }
+
+    @Override
+    public int isBlockProvidingPowerTo(int x, int y, int z, int side)
+    {
+        return blockAccess.isBlockProvidingPowerTo(x, y, z, side);
+    }
+
+    @Override
+    public boolean isAirBlock(int x, int y, int z)
+    {
+        return blockAccess.isAirBlock(x, y, z);
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public BiomeGenBase getBiomeGenForCoords(int x, int z)
+    {
+        return blockAccess.getBiomeGenForCoords(x, z);
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public int getHeight()
+    {
+        return blockAccess.getHeight();
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public boolean extendedLevelsInChunkCache()
+    {
+        return blockAccess.extendedLevelsInChunkCache();
+    }
+
+    @Override
+    public boolean isSideSolid(int x, int y, int z, ForgeDirection side, boolean _default)
+    {
+        return blockAccess.isSideSolid(x, y, z, side, _default);
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.carpentersblocks.util;
+
+import net.minecraft.util.MovingObjectPosition;
+import net.minecraft.util.Vec3;
+
+public class RayTraceUtil {
+
+    /** Order in which vanilla tests box faces, so ties resolve identically. */
+    private final static int[] SIDE_ORDER = { 4, 5, 0, 1, 2, 3 };
+
+    /** Axis perpendicular to each side, where 0 = x, 1 = y, 2 = z. */
+    private final static int[] SIDE_AXIS = { 1, 1, 2, 2, 0, 0 };
+
+    /**
+     * Traces ray against boxes and returns nearest hit.
+     * <p>
+     * Produces the same result as setting block bounds to each box in turn
+     * and calling {@link net.minecraft.block.Block#collisionRayTrace}, but
+     * without touching the block's shared bounds.
+     *
+     * @param  x the x coordinate
+     * @param  y the y coordinate
+     * @param  z the z coordinate
+     * @param  startVec the ray start in world space
+     * @param  endVec the ray end in world space
+     * @param  boxes block-space boxes in form { minX, minY, minZ, maxX, maxY, maxZ }, null entries are skipped
+     * @return the {@link MovingObjectPosition}, or null if no box is hit
+     */
+    public static MovingObjectPosition traceBoxes(int x, int y, int z, Vec3 startVec, Vec3 endVec, float[][] boxes)
+    {
+        return traceBoxes(x, y, z, startVec, endVec, boxes, null);
+    }
+
+    /**
+     * Traces ray against boxes, and if any box is hit, reports the face
+     * and position where ray enters face bounds instead.
+     * <p>
+     * Used by shapes whose sloped or stepped faces span several boxes, and
+     * would otherwise report the side of whichever box happens to be hit.
+     *
+     * @param  x the x coordinate
+     * @param  y the y coordinate
+     * @param  z the z coordinate
+     * @param  startVec the ray start in world space
+     * @param  endVec the ray end in world space
+     * @param  boxes block-space boxes in form { minX, minY, minZ, maxX, maxY, maxZ }, null entries are skipped
+     * @param  faceBounds block-space bounds to take hit face from, or null to use boxes
+     * @return the {@link MovingObjectPosition}, or null if no box is hit
+     */
+    public static MovingObjectPosition traceBoxes(int x, int y, int z, Vec3 startVec, Vec3 endVec, float[][] boxes, float[] faceBounds)
+    {
+        double[] start = { startVec.xCoord - x, startVec.yCoord - y, startVec.zCoord - z };
+        double[] delta = { endVec.xCoord - startVec.xCoord, endVec.yCoord - startVec.yCoord, endVec.zCoord - startVec.zCoord };
+        double[] hitDist = { Double.MAX_VALUE };
+
+        int side = -1;
+        for (float[] box : boxes) {
+            if (box != null) {
+                side = trace(start, delta, box, side, hitDist);
+            }
+        }
+
+        if (side != -1 && faceBounds != null) {
+            hitDist[0] = Double.MAX_VALUE;
+            side = trace(start, delta, faceBounds, -1, hitDist);
+        }
+
+        if (side == -1) {
+            return null;
+        }
+
+        double t = hitDist[0];
+        Vec3 hitVec = Vec3.createVectorHelper(x + start[0] + delta[0] * t, y + start[1] + delta[1] * t, z + start[2] + delta[2] * t);
+
+        return new MovingObjectPosition(x, y, z, side, hitVec);
+    }
+
+    /**
+     * Intersects ray with each face plane of box, keeping the nearest hit.
+     *
+     * @param  start ray start in block space
+     * @param  delta ray direction, scaled to ray length
+     * @param  box the box to test
+     * @param  bestSide side of nearest hit so far, or -1
+     * @param  bestDist single element holding fraction along ray of nearest hit so far
+     * @return side of nearest hit, or -1
+     */
+    private static int trace(double[] start, double[] delta, float[] box, int bestSide, double[] bestDist)
+    {
+        for (int side : SIDE_ORDER)
+        {
+            int axis = SIDE_AXIS[side];
+
+            // Matches threshold used by Vec3.getIntermediateWith*Value
+            if (delta[axis] * delta[axis] < 1.0E-7D) {
+                continue;
+            }
+
+            double plane = (side & 1) == 0 ? box[axis] : box[axis + 3];
+            double t = (plane - start[axis]) / delta[axis];
+
+            if (t < 0.0D || t > 1.0D || t >= bestDist[0]) {
+                continue;
+            }
+
+            int axis1 = (axis + 1) % 3;
+            int axis2 = (axis + 2) % 3;
+            double pos1 = start[axis1] + delta[axis1] * t;
+            double pos2 = start[axis2] + delta[axis2] * t;
+
+            if (pos1 >= box[axis1] && pos1 <= box[axis1 + 3] && pos2 >= box[axis2] && pos2 <= box[axis2 + 3]) {
+                bestDist[0] = t;
+                bestSide = side;
+            }
+        }
+
+        return bestSide;
+    }
+
+}
@@ -7,13 +7,6 @@ public class CollapsibleUtil {
 
     private static Collapsible data = new Collapsible();
 
-    public static double CENTER_YMAX;
-
-    public static double offset_XZNN;
-    public static double offset_XZNP;
-    public static double offset_XZPN;
-    public static double offset_XZPP;
-
     /**
      * Returns true if fully collapsed.
      */
@@ -42,34 +35,6 @@ public class CollapsibleUtil {
         return true;
     }
 
-    /**
-     * Fills Y-offsets for each corner and center of block for rendering purposes.
-     */
-    public static void computeOffsets(TEBase TE)
-    {
-        double BIAS = isMin(TE) ? 1.0D / 1024.0D : 0.0D; /* small offset to prevent Z-fighting at depth 0 */
-
-        offset_XZNN = Collapsible.getQuadDepth(TE, Collapsible.QUAD_XZNN) / 16.0D + BIAS;
-        offset_XZNP = Collapsible.getQuadDepth(TE, Collapsible.QUAD_XZNP) / 16.0D + BIAS;
-        offset_XZPN = Collapsible.getQuadDepth(TE, Collapsible.QUAD_XZPN) / 16.0D + BIAS;
-        offset_XZPP = Collapsible.getQuadDepth(TE, Collapsible.QUAD_XZPP) / 16.0D + BIAS;
-
-        /* Find primary corners and set center yMax offset. */
-
-        double NW_SE = Math.abs(offset_XZNN - offset_XZPP);
-        double NE_SW = Math.abs(offset_XZPN - offset_XZNP);
-
-        /*
-         * Changing this to NW_SE > NE_SW will change how slopes are split.
-         * It's really a matter of personal preference.
-         */
-        if (NW_SE < NE_SW) {
-            CENTER_YMAX = (offset_XZPN + offset_XZNP) / 2.0F;
-        } else {
-            CENTER_YMAX = (offset_XZNN + offset_XZPP) / 2.0F;
-        }
-    }
-
     /**
      * Returns block depth determined by the largest quadrant.
      */
@@ -9,6 +9,7 @@ import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.common.IShearable;
 import com.carpentersblocks.tileentity.TEBase;
 import com.carpentersblocks.util.BlockProperties;
+import com.carpentersblocks.util.MetadataOverlayBlockAccess;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
@@ -37,10 +38,8 @@ public class FlowerPotProperties {
         ItemStack itemStack = TE.getAttribute(TE.ATTR_PLANT);
         Block block = toBlock(itemStack);
 
-        TE.setMetadata(itemStack.getItemDamage());
         int color1 = block.getBlockColor();
-        int color2 = block.colorMultiplier(TE.getWorldObj(), TE.xCoord, TE.yCoord, TE.zCoord);
-        TE.restoreMetadata();
+        int color2 = block.colorMultiplier(MetadataOverlayBlockAccess.forTileEntity(TE, itemStack.getItemDamage()), TE.xCoord, TE.yCoord, TE.zCoord);
 
         return color1 < color2 ? color1 : color2;
     }
@@ -0,0 +1,124 @@
+package com.carpentersblocks.util.handler;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import net.minecraft.world.World;
+import com.carpentersblocks.block.BlockCarpentersDaylightSensor;
+import com.carpentersblocks.tileentity.TECarpentersDaylightSensor;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.WorldTickEvent;
+
+/**
+ * Updates daylight sensors once per second on behalf of the world.
+ * <p>
+ * Sensors are spread across the ticks of each second by position, so a
+ * field of sensors does not update all at once.  The celestial angle and
+ * weather are sampled once per second and shared by every sensor.
+ * <p>
+ * Only server worlds are scheduled.
+ */
+public class DaylightSensorHandler {
+
+    /** Ticks between updates of a single sensor. */
+    private final static int PERIOD = 20;
+
+    private final static Map<World, Schedule> schedules = new WeakHashMap<World, Schedule>();
+
+    /**
+     * Sensors in a world, grouped by the tick of each second they update.
+     */
+    private static class Schedule {
+
+        private final Set<TECarpentersDaylightSensor>[] buckets;
+        private float celestialAngle;
+        private boolean isThundering;
+        private boolean isSampled;
+
+        @SuppressWarnings("unchecked")
+        private Schedule()
+        {
+            buckets = new Set[PERIOD];
+            for (int idx = 0; idx < PERIOD; ++idx) {
+                buckets[idx] = new LinkedHashSet<TECarpentersDaylightSensor>();
+            }
+        }
+
+    }
+
+    /**
+     * Schedules sensor for updates.
+     *
+     * @param TE the {@link TECarpentersDaylightSensor}
+     */
+    public static void add(TECarpentersDaylightSensor TE)
+    {
+        Schedule schedule = schedules.get(TE.getWorldObj());
+
+        if (schedule == null) {
+            schedule = new Schedule();
+            schedules.put(TE.getWorldObj(), schedule);
+        }
+
+        schedule.buckets[getBucket(TE)].add(TE);
+    }
+
+    /**
+     * Stops updating sensor.
+     *
+     * @param TE the {@link TECarpentersDaylightSensor}
+     */
+    public static void remove(TECarpentersDaylightSensor TE)
+    {
+        Schedule schedule = schedules.get(TE.getWorldObj());
+
+        if (schedule != null) {
+            schedule.buckets[getBucket(TE)].remove(TE);
+        }
+    }
+
+    private static int getBucket(TECarpentersDaylightSensor TE)
+    {
+        int hash = (TE.xCoord * 31 + TE.yCoord) * 31 + TE.zCoord;
+        return (hash % PERIOD + PERIOD) % PERIOD;
+    }
+
+    @SubscribeEvent
+    public void onWorldTick(WorldTickEvent event)
+    {
+        if (event.phase != TickEvent.Phase.END || event.world.isRemote || event.world.provider.hasNoSky) {
+            return;
+        }
+
+        Schedule schedule = schedules.get(event.world);
+
+        if (schedule == null) {
+            return;
+        }
+
+        int tick = (int) (event.world.getTotalWorldTime() % PERIOD);
+
+        if (tick == 0 || !schedule.isSampled) {
+            schedule.celestialAngle = event.world.getCelestialAngleRadians(1.0F);
+            schedule.isThundering = event.world.isThundering();
+            schedule.isSampled = true;
+        }
+
+        Set<TECarpentersDaylightSensor> bucket = schedule.buckets[tick];
+
+        if (bucket.isEmpty()) {
+            return;
+        }
+
+        /* Copied, since neighbor updates may add or remove sensors. */
+
+        for (TECarpentersDaylightSensor TE : bucket.toArray(new TECarpentersDaylightSensor[bucket.size()])) {
+            if (!TE.isInvalid() && TE.getBlockType() instanceof BlockCarpentersDaylightSensor) {
+                ((BlockCarpentersDaylightSensor) TE.getBlockType()).updateLightLevel(TE, schedule.celestialAngle, schedule.isThundering);
+            }
+        }
+    }
+
+}
@@ -4,12 +4,16 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
-import javax.imageio.ImageIO;
 import net.minecraft.client.renderer.texture.IIconRegister;
-import net.minecraft.client.resources.IResourceManager;
 import net.minecraft.util.IIcon;
 import net.minecraft.util.ResourceLocation;
 import org.apache.commons.io.FileUtils;
@@ -32,6 +36,18 @@ public class DesignHandler {
     public static ArrayList<String> listFlowerPot = new ArrayList<String>();
     public static ArrayList<String> listTile      = new ArrayList<String>();
 
+    /** Read-only views of design lists, returned by {@link #getListForType}. */
+    private static final List<String> viewChisel    = Collections.unmodifiableList(listChisel);
+    private static final List<String> viewBed       = Collections.unmodifiableList(listBed);
+    private static final List<String> viewFlowerPot = Collections.unmodifiableList(listFlowerPot);
+    private static final List<String> viewTile      = Collections.unmodifiableList(listTile);
+
+    /** Design IDs by name, an ID being the position of design in its list. */
+    private static final Map<String, Integer> indexChisel    = new HashMap<String, Integer>();
+    private static final Map<String, Integer> indexBed       = new HashMap<String, Integer>();
+    private static final Map<String, Integer> indexFlowerPot = new HashMap<String, Integer>();
+    private static final Map<String, Integer> indexTile      = new HashMap<String, Integer>();
+
     private static final String PATH_BASE       = "assets/carpentersblocks/textures/blocks/";
     private static final String PATH_EXEMPT     = "template/";
     private static final String PATH_CHISEL     = "designs/chisel/";
@@ -39,6 +55,14 @@ public class DesignHandler {
     private static final String PATH_FLOWER_POT = "designs/flowerpot/";
     private static final String PATH_TILE       = "designs/tile/";
 
+    /** Design paths, indexed by type and in order of precedence. */
+    private static final String[] PATH_TYPES = { PATH_CHISEL, PATH_BED, PATH_FLOWER_POT, PATH_TILE };
+
+    private static final int TYPE_CHISEL     = 0;
+    private static final int TYPE_BED        = 1;
+    private static final int TYPE_FLOWER_POT = 2;
+    private static final int TYPE_TILE       = 3;
+
     private static boolean isPathValid(String path)
     {
         return path.contains(PATH_BASE) &&
@@ -48,58 +72,131 @@ public class DesignHandler {
 
     /**
      * Processes design files.
+     * <p>
+     * Paths are classified in parallel, and designs are sorted by name
+     * so that design IDs do not depend on jar or file system ordering.
      */
     public static void preInit(FMLPreInitializationEvent event)
     {
+        long startTime = System.nanoTime();
         File filePath = new File(event.getSourceFile().getAbsolutePath());
+        ArrayList<String> paths = new ArrayList<String>();
 
         if (filePath.isDirectory()) {
             for (File file : FileUtils.listFiles(filePath, new String[] { "png" }, true)) {
-                processPath(file.getAbsolutePath().replace("\\", "/"));
+                paths.add(file.getAbsolutePath().replace("\\", "/"));
             }
         } else {
             try {
                 JarFile jarFile = new JarFile(event.getSourceFile());
                 Enumeration enumeration = jarFile.entries();
                 while (enumeration.hasMoreElements()) {
-                    processPath(((ZipEntry)enumeration.nextElement()).getName());
+                    paths.add(((ZipEntry)enumeration.nextElement()).getName());
                 }
                 jarFile.close();
             } catch (Exception e) { }
         }
 
+        long listTime = System.nanoTime();
+
+        ForkJoinPool pool = new ForkJoinPool();
+        List<List<String>> designs = pool.invoke(new ScanTask(paths, 0, paths.size()));
+        pool.shutdown();
+
+        addDesigns(listChisel, indexChisel, designs.get(TYPE_CHISEL));
+        addDesigns(listBed, indexBed, designs.get(TYPE_BED));
+        addDesigns(listFlowerPot, indexFlowerPot, designs.get(TYPE_FLOWER_POT));
+        addDesigns(listTile, indexTile, designs.get(TYPE_TILE));
+
+        long endTime = System.nanoTime();
+
+        ModLogger.log(Level.INFO, String.format("Design discovery: listed %s paths in %s ms, classified in %s ms", paths.size(), (listTime - startTime) / 1000000L, (endTime - listTime) / 1000000L));
         ModLogger.log(Level.INFO, String.format("Designs found: Bed(%s), Chisel(%s), FlowerPot(%s), Tile(%s)", listBed.size(), listChisel.size(), listFlowerPot.size(), listTile.size()));
     }
 
-    private static void processPath(String path)
+    /**
+     * Returns design type for path, or -1 if path is not a design.
+     */
+    private static int getDesignType(String path)
     {
         if (isPathValid(path)) {
+            for (int type = 0; type < PATH_TYPES.length; ++type) {
+                if (path.contains(PATH_TYPES[type])) {
+                    return type;
+                }
+            }
+        }
+
+        return -1;
+    }
 
-            String name = path.substring(path.lastIndexOf('/') + 1, path.lastIndexOf('.'));
+    /**
+     * Sorts designs by name and appends them to design list, skipping
+     * duplicates.
+     */
+    private static void addDesigns(List<String> list, Map<String, Integer> index, List<String> names)
+    {
+        Collections.sort(names);
 
-            if (path.contains(PATH_CHISEL)) {
-                listChisel.add(name);
-            } else if (path.contains(PATH_BED)) {
-                listBed.add(name);
-            } else if (path.contains(PATH_FLOWER_POT)) {
-                listFlowerPot.add(name);
-            } else if (path.contains(PATH_TILE)) {
-                listTile.add(name);
+        for (String name : names) {
+            if (!index.containsKey(name)) {
+                index.put(name, list.size());
+                list.add(name);
             }
-
         }
     }
 
-    @SideOnly(Side.CLIENT)
-    public static void addResources(IResourceManager resourceManager)
-    {
-        for (String iconName : listBed)
+    /**
+     * Classifies a range of paths by design type, splitting range
+     * across worker threads.
+     */
+    private static class ScanTask extends RecursiveTask<List<List<String>>> {
+
+        /** Paths classified without splitting further. */
+        private static final int THRESHOLD = 512;
+
+        private final List<String> paths;
+        private final int from;
+        private final int to;
+
+        private ScanTask(List<String> paths, int from, int to)
+        {
+            this.paths = paths;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<List<String>> compute()
         {
-            ArrayList<BufferedImage> tempList = getBedIcons(resourceManager, iconName);
-            for (BufferedImage image : tempList) {
-                CarpentersBlocksCachedResources.INSTANCE.addResource("/textures/blocks/designs/bed/cache/" + iconName + "_" + tempList.indexOf(image), image);
+            if (to - from > THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                ScanTask left = new ScanTask(paths, from, mid);
+                left.fork();
+                List<List<String>> designs = new ScanTask(paths, mid, to).compute();
+                List<List<String>> leftDesigns = left.join();
+                for (int type = 0; type < PATH_TYPES.length; ++type) {
+                    leftDesigns.get(type).addAll(designs.get(type));
+                }
+                return leftDesigns;
+            }
+
+            List<List<String>> designs = new ArrayList<List<String>>();
+            for (int type = 0; type < PATH_TYPES.length; ++type) {
+                designs.add(new ArrayList<String>());
+            }
+
+            for (int idx = from; idx < to; ++idx) {
+                String path = paths.get(idx);
+                int type = getDesignType(path);
+                if (type >= 0) {
+                    designs.get(type).add(path.substring(path.lastIndexOf('/') + 1, path.lastIndexOf('.')));
+                }
             }
+
+            return designs;
         }
+
     }
 
     @SideOnly(Side.CLIENT)
@@ -131,13 +228,39 @@ public class DesignHandler {
         }
     }
 
-    public static ArrayList<String> getListForType(String type)
+    /**
+     * Returns read-only list of designs for type.
+     */
+    public static List<String> getListForType(String type)
+    {
+        return type.equals("chisel") ? viewChisel :
+               type.equals("bed") ? viewBed :
+               type.equals("flowerpot") ? viewFlowerPot :
+               type.equals("tile") ? viewTile : null;
+    }
+
+    private static Map<String, Integer> getIndexForType(String type)
     {
-        return (ArrayList<String>) (
-                type.equals("chisel") ? listChisel.clone() :
-                type.equals("bed") ? listBed.clone() :
-                type.equals("flowerpot") ? listFlowerPot.clone() :
-                type.equals("tile") ? listTile.clone() : null);
+        return type.equals("chisel") ? indexChisel :
+               type.equals("bed") ? indexBed :
+               type.equals("flowerpot") ? indexFlowerPot :
+               type.equals("tile") ? indexTile : null;
+    }
+
+    /**
+     * Returns design ID for name, which is also the index of its icon
+     * in {@link IconRegistry}.
+     *
+     * @param  type the design type, e.g. "chisel"
+     * @param  iconName the design name
+     * @return the design ID, or -1 if design does not exist
+     */
+    public static int getId(String type, String iconName)
+    {
+        Map<String, Integer> index = getIndexForType(type);
+        Integer id = index == null ? null : index.get(iconName);
+
+        return id == null ? -1 : id;
     }
 
     /**
@@ -145,12 +268,12 @@ public class DesignHandler {
      */
     public static String getNext(String type, String iconName)
     {
-        ArrayList<String> tempList = getListForType(type);
+        List<String> tempList = getListForType(type);
 
         if (tempList.isEmpty()) {
             return iconName;
         } else {
-            int idx = tempList.indexOf(iconName) + 1;
+            int idx = getId(type, iconName) + 1;
             return tempList.get(idx >= tempList.size() ? 0 : idx);
         }
     }
@@ -160,26 +283,34 @@ public class DesignHandler {
      */
     public static String getPrev(String type, String iconName)
     {
-        ArrayList<String> tempList = getListForType(type);
+        List<String> tempList = getListForType(type);
 
         if (tempList.isEmpty()) {
             return iconName;
         } else {
-            int idx = iconName.length()==0 ? tempList.size() - 1 : tempList.indexOf(iconName) - 1;
+            int idx = iconName.length()==0 ? tempList.size() - 1 : getId(type, iconName) - 1;
             return tempList.get(idx < 0 ? tempList.size() - 1 : idx);
         }
     }
 
+    /**
+     * Returns location of bed design atlas.
+     */
+    public static ResourceLocation getBedResource(String iconName)
+    {
+        return new ResourceLocation(CarpentersBlocks.MODID + ":textures/blocks/" + PATH_BED + iconName + ".png");
+    }
+
+    /**
+     * Slices bed design atlas into icons.
+     */
     @SideOnly(Side.CLIENT)
-    public static ArrayList<BufferedImage> getBedIcons(IResourceManager resourceManager, String atlas)
+    public static ArrayList<BufferedImage> getBedIcons(BufferedImage image)
     {
         ArrayList<BufferedImage> imageList = new ArrayList<BufferedImage>();
 
         try
         {
-            ResourceLocation resourceLocation = new ResourceLocation(CarpentersBlocks.MODID + ":textures/blocks/designs/bed/" + atlas + ".png");
-            BufferedImage image = ImageIO.read(resourceManager.getResource(resourceLocation).getInputStream());
-
             int size = image.getWidth() / 3;
             int rows = image.getHeight() / size;
             int cols = image.getWidth() / size;
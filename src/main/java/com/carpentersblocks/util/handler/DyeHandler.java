@@ -4,7 +4,6 @@ import java.util.HashMap;
 import java.util.Map;
 import net.minecraft.item.ItemDye;
 import net.minecraft.item.ItemStack;
-import net.minecraftforge.oredict.OreDictionary;
 
 public class DyeHandler {
 
@@ -37,8 +36,14 @@ public class DyeHandler {
      */
     public static int getVanillaDmgValue(ItemStack itemStack)
     {
-        int color = getColor(itemStack);
+        return OreDictHandler.get(itemStack).dyeMetadata;
+    }
 
+    /**
+     * Returns vanilla dye metadata value for color.
+     */
+    public static int getVanillaDmgValue(int color)
+    {
         for (int idx = 0; idx < ItemDye.field_150922_c.length; ++idx) {
             if (color == ItemDye.field_150922_c[idx]) {
                 return 15 - idx;
@@ -53,14 +58,7 @@ public class DyeHandler {
      */
     public static String getOreDictName(ItemStack itemStack)
     {
-        for (int id : OreDictionary.getOreIDs(itemStack)) {
-            String result = OreDictionary.getOreName(id);
-            if (result.startsWith("dye") && result.length() > 3) {
-                return result;
-            }
-        }
-
-        return "Unknown";
+        return OreDictHandler.get(itemStack).dyeName;
     }
 
     /**
@@ -77,7 +75,7 @@ public class DyeHandler {
      */
     public static int getColor(ItemStack itemStack)
     {
-        return getColor(getOreDictName(itemStack));
+        return OreDictHandler.get(itemStack).dyeColor;
     }
 
     /**
@@ -24,6 +24,7 @@ import net.minecraftforge.event.entity.PlaySoundAtEntityEvent;
 import net.minecraftforge.event.entity.living.LivingEvent.LivingUpdateEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.oredict.OreDictionary;
 import com.carpentersblocks.CarpentersBlocks;
 import com.carpentersblocks.api.ICarpentersChisel;
 import com.carpentersblocks.api.ICarpentersHammer;
@@ -62,6 +63,15 @@ public class EventHandler {
         if (event.gui == null && ShadersHandler.enableShadersModCoreIntegration) ShadersHandler.update();
     }
 
+    @SubscribeEvent
+    /**
+     * Discards cached ore dictionary lookups, since items may gain ore names.
+     */
+    public void onOreRegisterEvent(OreDictionary.OreRegisterEvent event)
+    {
+        OreDictHandler.clear();
+    }
+
     @SubscribeEvent
     /**
      * Used to prevent block destruction if block is a Carpenter's Block
@@ -248,13 +258,17 @@ public class EventHandler {
                 ParticleHelper.spawnTileParticleAt(entity, itemStack);
             }
 
-            /* Adjust block slipperiness according to cover. */
+            /*
+             * Adjust block slipperiness according to cover.  Entity movement
+             * reads the field directly, so it is set just before this entity
+             * moves, and only written when it differs.
+             */
 
             Block block = BlockProperties.toBlock(itemStack);
-            if (block instanceof BlockCoverable) {
-                TE.getBlockType().slipperiness = Blocks.dirt.slipperiness;
-            } else {
-                TE.getBlockType().slipperiness = block.slipperiness;
+            float slipperiness = block instanceof BlockCoverable ? Blocks.dirt.slipperiness : block.slipperiness;
+            Block blockType = TE.getBlockType();
+            if (blockType.slipperiness != slipperiness) {
+                blockType.slipperiness = slipperiness;
             }
 
         }
@@ -372,6 +386,8 @@ public class EventHandler {
      * Gets the {@link TEBase} object at player's feet, if one exists.
      * <p>
      * It is safer to gather the tile entity reference than a block reference.
+     * Since this runs for every moving entity each tick, the block is checked
+     * first, and the tile entity is looked up only for Carpenter's blocks.
      *
      * @param entity
      * @return
@@ -382,6 +398,10 @@ public class EventHandler {
         int y = MathHelper.floor_double(entity.posY - 0.20000000298023224D - entity.yOffset);
         int z = MathHelper.floor_double(entity.posZ);
 
+        if (!(entity.worldObj.getBlock(x, y, z) instanceof BlockCoverable)) {
+            return null;
+        }
+
         TileEntity tileEntity = entity.worldObj.getTileEntity(x, y, z);
         if (tileEntity != null && tileEntity instanceof TEBase)
         {
@@ -0,0 +1,100 @@
+package com.carpentersblocks.util.handler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import net.minecraft.world.World;
+import com.carpentersblocks.tileentity.TEBase;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.ClientTickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.WorldTickEvent;
+
+/**
+ * Collects tile entities needing a light and render update, and updates
+ * each one once at the end of the tick.
+ * <p>
+ * Server worlds are updated at the end of their world tick, and client
+ * worlds at the end of the client tick.
+ */
+public class LightUpdateHandler {
+
+    /** Tile entities awaiting update, guarded by itself. */
+    private final static Map<World, Set<TEBase>> pending = new WeakHashMap<World, Set<TEBase>>();
+
+    /**
+     * Queues tile entity for update at end of tick.
+     * <p>
+     * Tile entities already queued are not queued again.
+     *
+     * @param TE the {@link TEBase}
+     */
+    public static void queue(TEBase TE)
+    {
+        synchronized (pending) {
+            Set<TEBase> set = pending.get(TE.getWorldObj());
+
+            if (set == null) {
+                set = new LinkedHashSet<TEBase>();
+                pending.put(TE.getWorldObj(), set);
+            }
+
+            set.add(TE);
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldTick(WorldTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END) {
+
+            Set<TEBase> set;
+            synchronized (pending) {
+                set = pending.remove(event.world);
+            }
+
+            if (set != null) {
+                update(set);
+            }
+
+        }
+    }
+
+    @SubscribeEvent
+    public void onClientTick(ClientTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END) {
+
+            List<Set<TEBase>> sets = new ArrayList<Set<TEBase>>();
+            synchronized (pending) {
+                Iterator<Map.Entry<World, Set<TEBase>>> iterator = pending.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<World, Set<TEBase>> entry = iterator.next();
+                    if (entry.getKey().isRemote) {
+                        sets.add(entry.getValue());
+                        iterator.remove();
+                    }
+                }
+            }
+
+            for (Set<TEBase> set : sets) {
+                update(set);
+            }
+
+        }
+    }
+
+    private static void update(Set<TEBase> set)
+    {
+        for (TEBase TE : set) {
+            if (!TE.isInvalid()) {
+                TE.updateWorldAndLightingNow();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.carpentersblocks.util.handler;
+
+import java.util.concurrent.ConcurrentHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+public class OreDictHandler {
+
+    /** Damage values above this are classified on every call. */
+    private final static int MAX_DAMAGE = 63;
+
+    /** Name reported when item is not a dye. */
+    public final static String UNKNOWN_DYE = "Unknown";
+
+    /** Classifications by item, indexed by damage value. */
+    private static volatile ConcurrentHashMap<Item, Classification[]> cache = new ConcurrentHashMap<Item, Classification[]>();
+
+    private final static Classification EMPTY = new Classification(new String[0]);
+
+    /**
+     * Ore dictionary details for a single item and damage value.
+     */
+    public static class Classification {
+
+        /** Ore dictionary names, in registration order. */
+        public final String[] oreNames;
+
+        /** First dye ore name, or {@link #UNKNOWN_DYE}. */
+        public final String dyeName;
+
+        /** Color as 0xrrggbb, or white if not a dye. */
+        public final int dyeColor;
+
+        /** Equivalent vanilla dye damage value. */
+        public final int dyeMetadata;
+
+        /** Whether item is glowstone dust. */
+        public final boolean isIlluminator;
+
+        private Classification(String[] oreNames)
+        {
+            String dyeName = UNKNOWN_DYE;
+            boolean isIlluminator = false;
+
+            for (String oreName : oreNames) {
+                if (dyeName == UNKNOWN_DYE && oreName.startsWith("dye") && oreName.length() > 3) {
+                    dyeName = oreName;
+                }
+                if (oreName.equals("dustGlowstone")) {
+                    isIlluminator = true;
+                }
+            }
+
+            this.oreNames = oreNames;
+            this.dyeName = dyeName;
+            this.dyeColor = DyeHandler.getColor(dyeName);
+            this.dyeMetadata = DyeHandler.getVanillaDmgValue(dyeColor);
+            this.isIlluminator = isIlluminator;
+        }
+
+    }
+
+    /**
+     * Returns ore dictionary details for {@link ItemStack}.
+     * <p>
+     * Results are kept until ores are next registered.
+     *
+     * @param  itemStack the {@link ItemStack}
+     * @return the {@link Classification}
+     */
+    public static Classification get(ItemStack itemStack)
+    {
+        if (itemStack == null || itemStack.getItem() == null) {
+            return EMPTY;
+        }
+
+        int damage = itemStack.getItemDamage();
+
+        if (damage < 0 || damage > MAX_DAMAGE) {
+            return classify(itemStack);
+        }
+
+        ConcurrentHashMap<Item, Classification[]> cache = OreDictHandler.cache;
+        Classification[] table = cache.get(itemStack.getItem());
+
+        if (table == null) {
+            Classification[] newTable = new Classification[MAX_DAMAGE + 1];
+            table = cache.putIfAbsent(itemStack.getItem(), newTable);
+            if (table == null) {
+                table = newTable;
+            }
+        }
+
+        Classification classification = table[damage];
+
+        if (classification == null) {
+            classification = table[damage] = classify(itemStack);
+        }
+
+        return classification;
+    }
+
+    /**
+     * Discards all classifications.
+     * <p>
+     * Called when ores are registered, since an item may gain ore names.
+     */
+    public static void clear()
+    {
+        cache = new ConcurrentHashMap<Item, Classification[]>();
+    }
+
+    private static Classification classify(ItemStack itemStack)
+    {
+        int[] oreIds = OreDictionary.getOreIDs(itemStack);
+        String[] oreNames = new String[oreIds.length];
+
+        for (int idx = 0; idx < oreIds.length; ++idx) {
+            oreNames[idx] = OreDictionary.getOreName(oreIds[idx]);
+        }
+
+        return new Classification(oreNames);
+    }
+
+}
@@ -9,6 +9,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.IIcon;
 import com.carpentersblocks.util.BlockProperties;
+import com.carpentersblocks.util.ItemNameIndex;
 import com.carpentersblocks.util.registry.FeatureRegistry;
 import com.carpentersblocks.util.registry.IconRegistry;
 import cpw.mods.fml.relauncher.Side;
@@ -36,7 +37,10 @@ public class OverlayHandler {
         }
     }
 
-    public static Map overlayMap = new HashMap();
+    public static Map<String, Overlay> overlayMap = new HashMap<String, Overlay>();
+
+    /** Overlays by item, see {@link #postInit()}. */
+    private static ItemNameIndex<Overlay> overlayIndex = new ItemNameIndex<Overlay>(Overlay.NONE);
 
     /**
      * Initializes overlay definitions from configuration file.
@@ -70,6 +74,16 @@ public class OverlayHandler {
         }
     }
 
+    /**
+     * Resolves overlay definitions to items.
+     * <p>
+     * Must be called once all mods have registered their items.
+     */
+    public static void postInit()
+    {
+        overlayIndex.resolve(overlayMap, "overlay");
+    }
+
     /**
      * Returns true if overlay covers a majority or all of side.
      */
@@ -94,13 +108,7 @@ public class OverlayHandler {
      */
     public static Overlay getOverlayType(ItemStack itemStack)
     {
-        Object object = overlayMap.get(itemStack.getDisplayName());
-
-        if (object == null) {
-            object = overlayMap.get(ChatHandler.getDefaultTranslation(itemStack));
-        }
-
-        return object == null ? Overlay.NONE : (Overlay) object;
+        return overlayIndex.get(itemStack);
     }
 
     @SideOnly(Side.CLIENT)
@@ -3,19 +3,26 @@ package com.carpentersblocks.util.handler;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.network.play.client.C17PacketCustomPayload;
+import net.minecraft.network.play.server.S3FPacketCustomPayload;
 import org.apache.logging.log4j.Level;
 import com.carpentersblocks.CarpentersBlocks;
 import com.carpentersblocks.network.ICarpentersPacket;
 import com.carpentersblocks.network.PacketActivateBlock;
 import com.carpentersblocks.network.PacketEnrichPlant;
 import com.carpentersblocks.network.PacketSlopeSelect;
+import com.carpentersblocks.network.PacketTileSync;
 import com.carpentersblocks.util.ModLogger;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.network.FMLNetworkEvent.ClientCustomPacketEvent;
 import cpw.mods.fml.common.network.FMLNetworkEvent.ServerCustomPacketEvent;
 import cpw.mods.fml.common.network.internal.FMLProxyPacket;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.Unpooled;
@@ -28,13 +35,25 @@ public class PacketHandler {
         packetCarrier.add(PacketActivateBlock.class);
         packetCarrier.add(PacketEnrichPlant.class);
         packetCarrier.add(PacketSlopeSelect.class);
+        packetCarrier.add(PacketTileSync.class);
     }
 
     @SubscribeEvent
     public void onServerPacket(ServerCustomPacketEvent event) throws IOException
     {
-        ByteBufInputStream bbis = new ByteBufInputStream(event.packet.payload());
-        EntityPlayer entityPlayer = ((NetHandlerPlayServer) event.handler).playerEntity;
+        processPacket(((NetHandlerPlayServer) event.handler).playerEntity, event.packet.payload());
+    }
+
+    @SubscribeEvent
+    @SideOnly(Side.CLIENT)
+    public void onClientPacket(ClientCustomPacketEvent event) throws IOException
+    {
+        processPacket(Minecraft.getMinecraft().thePlayer, event.packet.payload());
+    }
+
+    private static void processPacket(EntityPlayer entityPlayer, ByteBuf payload) throws IOException
+    {
+        ByteBufInputStream bbis = new ByteBufInputStream(payload);
         int packetId = bbis.readInt();
         if (packetId < packetCarrier.size()) {
             try {
@@ -50,6 +69,16 @@ public class PacketHandler {
     }
 
     public static void sendPacketToServer(ICarpentersPacket packet)
+    {
+        CarpentersBlocks.channel.sendToServer(new FMLProxyPacket(new C17PacketCustomPayload(CarpentersBlocks.MODID, writePacket(packet))));
+    }
+
+    public static void sendPacketToPlayer(ICarpentersPacket packet, EntityPlayerMP entityPlayer)
+    {
+        CarpentersBlocks.channel.sendTo(new FMLProxyPacket(new S3FPacketCustomPayload(CarpentersBlocks.MODID, writePacket(packet))), entityPlayer);
+    }
+
+    private static ByteBuf writePacket(ICarpentersPacket packet)
     {
         ByteBuf buffer = Unpooled.buffer();
         buffer.writeInt(packetCarrier.indexOf(packet.getClass()));
@@ -58,7 +87,7 @@ public class PacketHandler {
             packet.appendData(buffer);
         } catch (IOException e) { }
 
-        CarpentersBlocks.channel.sendToServer(new FMLProxyPacket(new C17PacketCustomPayload(CarpentersBlocks.MODID, buffer)));
+        return buffer;
     }
 
 }
@@ -11,6 +11,7 @@ public class ShadersHandler {
 
     private static Class<?> ShadersClass;
     private static Field oldLightingField;
+    private static Field shadowPassField;
     public static boolean enableShadersModCoreIntegration = false;
     public static boolean oldLighting = true;
 
@@ -21,9 +22,27 @@ public class ShadersHandler {
             oldLightingField = ShadersClass.getDeclaredField("configOldLighting");
             ModLogger.log(Level.INFO, "ShadersModCore integration successful.");
             enableShadersModCoreIntegration = true;
+            shadowPassField = ShadersClass.getDeclaredField("isShadowPass");
         } catch (Exception e) {}
     }
 
+    /**
+     * Returns whether ShadersModCore is drawing the world for its shadow map.
+     */
+    public static boolean isShadowPass()
+    {
+        if (shadowPassField != null) {
+            try {
+                return shadowPassField.getBoolean(null);
+            } catch (Exception e) {
+                ModLogger.log(Level.WARN, "ShadersModCore shadow pass check failed: " + e.getMessage());
+                shadowPassField = null;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Updates fields based on ShadersModCore configuration.
      */
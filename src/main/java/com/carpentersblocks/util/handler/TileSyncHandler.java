@@ -0,0 +1,82 @@
+package com.carpentersblocks.util.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.management.PlayerManager;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import com.carpentersblocks.network.PacketTileSync;
+import com.carpentersblocks.tileentity.TEBase;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.WorldTickEvent;
+
+/**
+ * Collects tile entities with changed fields and sends one
+ * {@link PacketTileSync} per tile entity at the end of each world tick.
+ */
+public class TileSyncHandler {
+
+    private final static Map<World, List<TEBase>> pending = new WeakHashMap<World, List<TEBase>>();
+
+    /**
+     * Queues tile entity for sync at end of tick.
+     * <p>
+     * Called by {@link TEBase} when it first flags a field.
+     *
+     * @param TE the {@link TEBase}
+     */
+    public static void queue(TEBase TE)
+    {
+        List<TEBase> list = pending.get(TE.getWorldObj());
+
+        if (list == null) {
+            list = new ArrayList<TEBase>();
+            pending.put(TE.getWorldObj(), list);
+        }
+
+        list.add(TE);
+    }
+
+    @SubscribeEvent
+    public void onWorldTick(WorldTickEvent event)
+    {
+        if (event.phase != TickEvent.Phase.END || !(event.world instanceof WorldServer)) {
+            return;
+        }
+
+        List<TEBase> list = pending.get(event.world);
+        if (list == null || list.isEmpty()) {
+            return;
+        }
+
+        PlayerManager playerManager = ((WorldServer) event.world).getPlayerManager();
+
+        for (TEBase TE : list) {
+            if (TE.isInvalid() || !TE.hasSyncFields()) {
+                continue;
+            }
+
+            PacketTileSync packet = new PacketTileSync(TE);
+
+            /*
+             * Players still waiting on the chunk will receive the full
+             * description packet, so only send to players already watching.
+             */
+            for (Object obj : event.world.playerEntities) {
+                EntityPlayerMP entityPlayer = (EntityPlayerMP) obj;
+                if (playerManager.isPlayerWatchingChunk(entityPlayer, TE.xCoord >> 4, TE.zCoord >> 4)) {
+                    PacketHandler.sendPacketToPlayer(packet, entityPlayer);
+                }
+            }
+
+            TE.clearSyncFields();
+        }
+
+        list.clear();
+    }
+
+}
@@ -1,11 +1,135 @@
 package com.carpentersblocks.util.slope;
 
+import java.util.ArrayList;
+import java.util.List;
 import net.minecraftforge.common.util.ForgeDirection;
 import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.data.Slope.Type;
 import com.carpentersblocks.util.registry.FeatureRegistry;
 
 public class SlopeUtil {
 
+    /** Unit-space collision boxes for each slope, indexed by slope id. */
+    private static float[][][] boxTable = new float[0][][];
+
+    /**
+     * Builds collision box table for all slopes.
+     * <p>
+     * Must be called after slope smoothness is read from configuration.
+     */
+    public static void init()
+    {
+        SlopeUtil slopeUtil = new SlopeUtil();
+        float[][][] table = new float[Slope.getSlopeCount()][][];
+
+        for (int slopeID = 0; slopeID < table.length; ++slopeID) {
+            table[slopeID] = slopeUtil.genBoxes(Slope.getSlopeById(slopeID));
+        }
+
+        boxTable = table;
+    }
+
+    /**
+     * Returns unit-space collision boxes for slope.
+     * <p>
+     * Boxes are shared and must not be modified.
+     *
+     * @param  slope the {@link Slope}
+     * @return an array of boxes in form { minX, minY, minZ, maxX, maxY, maxZ }
+     */
+    public static float[][] getBoxes(Slope slope)
+    {
+        return boxTable[slope.slopeID];
+    }
+
+    /**
+     * Generates all boxes for slope, merging boxes where their
+     * union is itself a box.
+     */
+    private float[][] genBoxes(Slope slope)
+    {
+        List<float[]> boxes = new ArrayList<float[]>();
+
+        int precision = getNumBoxesPerPass(slope);
+        int numPasses = getNumPasses(slope);
+
+        for (int pass = 0; pass < numPasses; ++pass) {
+
+            for (int slice = 0; slice < precision; ++slice)
+            {
+                float[] box = genBounds(slope, slice, precision, pass);
+
+                if (box != null && box[0] < box[3] && box[1] < box[4] && box[2] < box[5]) {
+                    boxes.add(box);
+                }
+            }
+
+            if (slope.type.equals(Type.OBLIQUE_EXT)) {
+                --precision;
+            }
+
+        }
+
+        boolean merged;
+        do {
+            merged = false;
+            for (int idx1 = 0; idx1 < boxes.size() && !merged; ++idx1) {
+                for (int idx2 = idx1 + 1; idx2 < boxes.size() && !merged; ++idx2) {
+                    float[] union = merge(boxes.get(idx1), boxes.get(idx2));
+                    if (union != null) {
+                        boxes.set(idx1, union);
+                        boxes.remove(idx2);
+                        merged = true;
+                    }
+                }
+            }
+        } while (merged);
+
+        return boxes.toArray(new float[boxes.size()][]);
+    }
+
+    /**
+     * Returns union of two boxes if it is exactly a box, otherwise null.
+     * That is the case when one box contains the other, or when both
+     * share a cross-section and touch or overlap along the third axis.
+     */
+    private static float[] merge(float[] box1, float[] box2)
+    {
+        if (contains(box1, box2)) {
+            return box1;
+        } else if (contains(box2, box1)) {
+            return box2;
+        }
+
+        for (int axis = 0; axis < 3; ++axis) {
+            boolean sameSection = true;
+            for (int other = 0; other < 3; ++other) {
+                if (other != axis && (box1[other] != box2[other] || box1[other + 3] != box2[other + 3])) {
+                    sameSection = false;
+                }
+            }
+            if (sameSection && box1[axis] <= box2[axis + 3] && box2[axis] <= box1[axis + 3]) {
+                float[] union = box1.clone();
+                union[axis] = Math.min(box1[axis], box2[axis]);
+                union[axis + 3] = Math.max(box1[axis + 3], box2[axis + 3]);
+                return union;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean contains(float[] outer, float[] inner)
+    {
+        for (int axis = 0; axis < 3; ++axis) {
+            if (inner[axis] < outer[axis] || inner[axis + 3] > outer[axis + 3]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * Return number of boxes that need to be constructed for slope per pass.
      */
@@ -4,6 +4,32 @@ import com.carpentersblocks.data.Stairs;
 
 public class StairsUtil {
 
+    /** Unit-space bounds of each stairs box, indexed by stairs id and box. */
+    private static final float[][][] boxTable = new float[Stairs.stairsList.length][3][];
+
+    static {
+        StairsUtil stairsUtil = new StairsUtil();
+
+        for (int stairsID = 0; stairsID < boxTable.length; ++stairsID) {
+            for (int box = 0; box < 3; ++box) {
+                boxTable[stairsID][box] = stairsUtil.genBounds(box, Stairs.stairsList[stairsID]);
+            }
+        }
+    }
+
+    /**
+     * Returns unit-space bounds of each stairs box.
+     * <p>
+     * Bounds are shared and must not be modified.
+     *
+     * @param  stairs the {@link Stairs}
+     * @return three boxes in form { minX, minY, minZ, maxX, maxY, maxZ }, null where stairs have no box
+     */
+    public static float[][] getBoxes(Stairs stairs)
+    {
+        return boxTable[stairs.stairsID];
+    }
+
     /**
      * Will return stairs boundaries.
      */
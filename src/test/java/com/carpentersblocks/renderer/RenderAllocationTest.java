@@ -0,0 +1,212 @@
+package com.carpentersblocks.renderer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.block.Block;
+import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.client.ForgeHooksClient;
+import net.minecraftforge.common.util.ForgeDirection;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import com.carpentersblocks.data.Collapsible;
+import com.carpentersblocks.renderer.helper.QuadCache;
+import com.carpentersblocks.renderer.helper.RenderContext;
+import com.carpentersblocks.test.FakeWorld;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.test.TestTessellator;
+import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.handler.OverlayHandler;
+import com.carpentersblocks.util.handler.OverlayHandler.Overlay;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+/**
+ * Counts bytes allocated by the rendering thread while redrawing blocks,
+ * as when a chunk is rebuilt after an unrelated block change.
+ * <p>
+ * Slopes and stairs are drawn from cached faces.  Blocks and collapsible
+ * blocks are drawn in full on both passes, with overlays and chisel
+ * designs.  Each group mixes covered and uncovered blocks.
+ */
+public class RenderAllocationTest {
+
+    private static final int WARMUP_RENDERS   = 5;
+    private static final int MEASURED_RENDERS = 10;
+
+    private static FakeWorld world;
+    private static List<TEBase> cachedPieces;
+    private static List<TEBase> uncachedPieces;
+
+    private com.sun.management.ThreadMXBean threadBean;
+    private Tessellator tessellator;
+    private RenderBlocks renderBlocks;
+    private BlockHandlerCarpentersSlope slopeHandler;
+    private BlockHandlerCarpentersStairs stairsHandler;
+    private BlockHandlerCarpentersBlock blockHandler;
+    private BlockHandlerCarpentersCollapsibleBlock collapsibleHandler;
+
+    @BeforeClass
+    public static void init()
+    {
+        TestBootstrap.init();
+        ForgeHooksClient.setRenderPass(0);
+
+        ItemStack[] covers = { new ItemStack(Blocks.planks, 1, 2), new ItemStack(Blocks.wool, 1, 14), null };
+        Fixture fixture = Fixture.create(true);
+
+        for (int slopeID = 0; slopeID < 65; ++slopeID) {
+            fixture.cover(covers[slopeID % covers.length]).place(BlockRegistry.blockCarpentersSlope, slopeID % 13, 64, slopeID / 13).setData(slopeID);
+        }
+        for (int stairsID = 0; stairsID < 28; ++stairsID) {
+            fixture.cover(covers[stairsID % covers.length]).place(BlockRegistry.blockCarpentersStairs, stairsID % 7, 65, stairsID / 7).setData(stairsID);
+        }
+
+        int cachedCount = fixture.getPieces().size();
+
+        for (int idx = 0; idx < 15; ++idx) {
+            TEBase TE = fixture.cover(covers[idx % covers.length]).place(BlockRegistry.blockCarpentersBlock, idx % 5, 66, idx / 5);
+            if (idx % 2 == 0) {
+                TE.addAttribute(TEBase.ATTR_OVERLAY[6], new ItemStack(Blocks.grass));
+            }
+            if (idx % 4 == 1) {
+                TE.setChiselDesign(6, TestBootstrap.CHISEL_DESIGN);
+            }
+        }
+        for (int idx = 0; idx < 15; ++idx) {
+            TEBase TE = fixture.cover(covers[idx % covers.length]).place(BlockRegistry.blockCarpentersCollapsibleBlock, idx % 5, 67, idx / 5);
+            Collapsible.INSTANCE.setDirection(TE, idx % 2 == 0 ? ForgeDirection.UP : ForgeDirection.DOWN);
+            for (int quad = 0; quad < 4; ++quad) {
+                Collapsible.setQuadDepth(TE, quad, 16 - (idx + quad) % 4 * 4, false);
+            }
+            if (idx % 3 == 0) {
+                TE.addAttribute(TEBase.ATTR_OVERLAY[6], new ItemStack(Blocks.grass));
+            }
+        }
+
+        world = fixture.getWorld();
+        List<TEBase> pieces = fixture.getPieces();
+        cachedPieces = pieces.subList(0, cachedCount);
+        uncachedPieces = pieces.subList(cachedCount, pieces.size());
+
+        Random random = new Random(42L);
+        for (int x = -1; x <= 13; ++x) {
+            for (int y = 63; y <= 68; ++y) {
+                for (int z = -1; z <= 5; ++z) {
+                    world.setLight(x, y, z, random.nextInt(16), random.nextInt(16));
+                }
+            }
+        }
+    }
+
+    @Before
+    public void setup()
+    {
+        Object bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        tessellator = TestTessellator.create();
+        renderBlocks = new RenderBlocks(world);
+        slopeHandler = new BlockHandlerCarpentersSlope();
+        stairsHandler = new BlockHandlerCarpentersStairs();
+        blockHandler = new BlockHandlerCarpentersBlock();
+        collapsibleHandler = new BlockHandlerCarpentersCollapsibleBlock();
+        RenderContext.get().tessellator = tessellator;
+
+        QuadCache.clear();
+    }
+
+    @After
+    public void tearDown()
+    {
+        RenderContext.get().tessellator = null;
+        ForgeHooksClient.setRenderPass(0);
+    }
+
+    @Test
+    public void cachedRenderAllocatesNothing()
+    {
+        assertRendersWithoutAllocating(cachedPieces, 1, "cached renders");
+    }
+
+    @Test
+    public void uncachedRenderAllocatesNothing()
+    {
+        assertEquals(Overlay.GRASS, OverlayHandler.getOverlayType(new ItemStack(Blocks.grass)));
+
+        assertRendersWithoutAllocating(uncachedPieces, 2, "renders");
+    }
+
+    private void assertRendersWithoutAllocating(List<TEBase> pieces, int passes, String description)
+    {
+        /* Fill cache, grow tessellator buffer and load classes. */
+
+        for (int render = 0; render < WARMUP_RENDERS; ++render) {
+            render(pieces, passes);
+        }
+
+        int vertexCount = TestTessellator.getVertexCount(tessellator);
+        assertTrue(vertexCount > 0);
+
+        long threadId = Thread.currentThread().getId();
+        long overhead = threadBean.getThreadAllocatedBytes(threadId);
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        overhead = start - overhead;
+
+        for (int render = 0; render < MEASURED_RENDERS; ++render) {
+            render(pieces, passes);
+        }
+
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - start - overhead;
+
+        assertEquals(vertexCount, TestTessellator.getVertexCount(tessellator));
+        assertEquals("bytes allocated by " + MEASURED_RENDERS + " " + description, 0L, allocated);
+    }
+
+    /**
+     * Draws pieces on each pass, reusing tessellator buffer.
+     * <p>
+     * Render bounds start as a full block, as set by
+     * {@link RenderBlocks#renderBlockByRenderType} before calling handlers.
+     */
+    private void render(List<TEBase> pieces, int passes)
+    {
+        TestTessellator.rewind(tessellator);
+
+        for (int pass = 0; pass < passes; ++pass) {
+            ForgeHooksClient.setRenderPass(pass);
+
+            for (int idx = 0; idx < pieces.size(); ++idx) {
+                TEBase TE = pieces.get(idx);
+                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
+                getHandler(TE.getBlockType()).renderWorldBlock(world, TE.xCoord, TE.yCoord, TE.zCoord, TE.getBlockType(), 0, renderBlocks);
+            }
+        }
+    }
+
+    private BlockHandlerBase getHandler(Block block)
+    {
+        if (block == BlockRegistry.blockCarpentersSlope) {
+            return slopeHandler;
+        } else if (block == BlockRegistry.blockCarpentersStairs) {
+            return stairsHandler;
+        } else if (block == BlockRegistry.blockCarpentersCollapsibleBlock) {
+            return collapsibleHandler;
+        } else {
+            return blockHandler;
+        }
+    }
+
+}
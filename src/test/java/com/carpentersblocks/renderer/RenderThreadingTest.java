@@ -0,0 +1,218 @@
+package com.carpentersblocks.renderer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.minecraft.block.Block;
+import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.client.ForgeHooksClient;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import com.carpentersblocks.data.Collapsible;
+import com.carpentersblocks.renderer.helper.QuadCache;
+import com.carpentersblocks.renderer.helper.RenderContext;
+import com.carpentersblocks.test.FakeWorld;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.test.TestTessellator;
+import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+/**
+ * Draws the same blocks on several threads at once and checks that every
+ * thread adds exactly the vertices a single thread does.
+ * <p>
+ * Each thread draws to its own {@link Tessellator} through
+ * {@link RenderContext#tessellator}, while sharing handlers, tile entities,
+ * blocks and the {@link QuadCache}, as chunk builder threads would.
+ */
+public class RenderThreadingTest {
+
+    private static final int THREADS    = 8;
+    private static final int ITERATIONS = 25;
+
+    private static FakeWorld world;
+    private static List<TEBase> pieces;
+    private static Map<Block, BlockHandlerBase> handlers;
+
+    @BeforeClass
+    public static void init()
+    {
+        TestBootstrap.init();
+        ForgeHooksClient.setRenderPass(0);
+
+        ItemStack[] covers = { null, new ItemStack(Blocks.planks, 1, 2), new ItemStack(Blocks.glass), new ItemStack(Blocks.wool, 1, 14) };
+        Fixture fixture = Fixture.create(true);
+
+        /* Every slope and stairs type, packed so that neighbors cull faces. */
+
+        for (int slopeID = 0; slopeID < 65; ++slopeID) {
+            fixture.cover(covers[slopeID % covers.length]).place(BlockRegistry.blockCarpentersSlope, slopeID % 13, 64, slopeID / 13).setData(slopeID);
+        }
+        for (int stairsID = 0; stairsID < 28; ++stairsID) {
+            fixture.cover(covers[stairsID % covers.length]).place(BlockRegistry.blockCarpentersStairs, stairsID % 7, 65, stairsID / 7).setData(stairsID);
+        }
+        fixture.cover(covers[1]).fill(BlockRegistry.blockCarpentersBlock, 0, 63, 0, 12, 63, 4);
+        for (int idx = 0; idx < 15; ++idx) {
+            TEBase TE = fixture.cover(covers[idx % covers.length]).place(BlockRegistry.blockCarpentersCollapsibleBlock, idx % 5, 66, idx / 5);
+            for (int quad = 0; quad < 4; ++quad) {
+                Collapsible.setQuadDepth(TE, quad, 16 - (idx + quad) % 4 * 4, false);
+            }
+        }
+
+        /* Side covers on floor edges, drawn into neighboring spaces. */
+
+        for (int x = 0; x <= 12; x += 3) {
+            fixture.get(x, 63, 0).addAttribute(TEBase.ATTR_COVER[2], covers[3]);
+            fixture.get(x, 63, 4).addAttribute(TEBase.ATTR_COVER[3], covers[2]);
+        }
+
+        world = fixture.getWorld();
+        pieces = fixture.getPieces();
+
+        Random random = new Random(42L);
+        for (int x = -1; x <= 13; ++x) {
+            for (int y = 62; y <= 67; ++y) {
+                for (int z = -1; z <= 5; ++z) {
+                    world.setLight(x, y, z, random.nextInt(16), random.nextInt(16));
+                }
+            }
+        }
+
+        handlers = new HashMap<Block, BlockHandlerBase>();
+        handlers.put(BlockRegistry.blockCarpentersSlope, new BlockHandlerCarpentersSlope());
+        handlers.put(BlockRegistry.blockCarpentersStairs, new BlockHandlerCarpentersStairs());
+        handlers.put(BlockRegistry.blockCarpentersBlock, new BlockHandlerCarpentersBlock());
+        handlers.put(BlockRegistry.blockCarpentersCollapsibleBlock, new BlockHandlerCarpentersCollapsibleBlock());
+    }
+
+    @Test
+    public void cachedFacesMatchDrawnFaces()
+    {
+        QuadCache.clear();
+        int[] drawn = render();
+        int[] replayed = render();
+
+        assertTrue(drawn.length > 0);
+        assertArrayEquals(drawn, replayed);
+    }
+
+    /**
+     * Block bounds are shared by all threads, so must neither change
+     * drawn faces nor be changed by drawing.
+     */
+    @Test
+    public void drawnFacesIgnoreBlockBounds()
+    {
+        QuadCache.clear();
+        int[] expected = render();
+
+        try {
+            for (Block block : handlers.keySet()) {
+                block.setBlockBounds(0.25F, 0.25F, 0.25F, 0.75F, 0.75F, 0.75F);
+            }
+
+            QuadCache.clear();
+            assertArrayEquals(expected, render());
+
+            for (Block block : handlers.keySet()) {
+                assertEquals(0.25D, block.getBlockBoundsMinX(), 0.0D);
+                assertEquals(0.25D, block.getBlockBoundsMinY(), 0.0D);
+                assertEquals(0.25D, block.getBlockBoundsMinZ(), 0.0D);
+                assertEquals(0.75D, block.getBlockBoundsMaxX(), 0.0D);
+                assertEquals(0.75D, block.getBlockBoundsMaxY(), 0.0D);
+                assertEquals(0.75D, block.getBlockBoundsMaxZ(), 0.0D);
+            }
+        } finally {
+            for (Block block : handlers.keySet()) {
+                block.setBlockBounds(0.0F, 0.0F, 0.0F, 1.0F, 1.0F, 1.0F);
+            }
+        }
+    }
+
+    @Test
+    public void threadsMatchSingleThread() throws Exception
+    {
+        QuadCache.clear();
+        final int[] expected = render();
+
+        /* Start cold, so that threads race to fill the cache. */
+
+        QuadCache.clear();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<int[][]>> results = new ArrayList<Future<int[][]>>();
+
+        try {
+            for (int thread = 0; thread < THREADS; ++thread) {
+                results.add(executor.submit(new Callable<int[][]>() {
+                    @Override
+                    public int[][] call() throws Exception
+                    {
+                        start.await();
+                        int[][] buffers = new int[ITERATIONS][];
+                        for (int iteration = 0; iteration < ITERATIONS; ++iteration) {
+                            buffers[iteration] = render();
+                        }
+                        return buffers;
+                    }
+                }));
+            }
+
+            start.countDown();
+
+            for (int thread = 0; thread < THREADS; ++thread) {
+                int[][] buffers = results.get(thread).get();
+                for (int iteration = 0; iteration < ITERATIONS; ++iteration) {
+                    assertArrayEquals("thread " + thread + ", iteration " + iteration, expected, buffers[iteration]);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Draws every piece to a new tessellator on the calling thread.
+     * <p>
+     * Render bounds start as a full block, as set by
+     * {@link RenderBlocks#renderBlockByRenderType} before calling handlers.
+     *
+     * @return the vertex data added
+     */
+    private static int[] render()
+    {
+        Tessellator tessellator = TestTessellator.create();
+        RenderContext ctx = RenderContext.get();
+        RenderBlocks renderBlocks = new RenderBlocks(world);
+
+        ctx.tessellator = tessellator;
+
+        try {
+            for (TEBase TE : pieces) {
+                Block block = TE.getBlockType();
+                renderBlocks.setRenderBounds(0.0D, 0.0D, 0.0D, 1.0D, 1.0D, 1.0D);
+                handlers.get(block).renderWorldBlock(world, TE.xCoord, TE.yCoord, TE.zCoord, block, 0, renderBlocks);
+            }
+        } finally {
+            ctx.tessellator = null;
+        }
+
+        return TestTessellator.getVertexData(tessellator);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.carpentersblocks.renderer.entity;
+
+import static org.junit.Assert.assertEquals;
+import java.util.List;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraftforge.common.util.ForgeDirection;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import com.carpentersblocks.entity.item.EntityCarpentersTile;
+import com.carpentersblocks.renderer.helper.RenderContext;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.test.TestTessellator;
+
+public class TileBatcherTest {
+
+    @BeforeClass
+    public static void init()
+    {
+        TestBootstrap.init();
+    }
+
+    @Test
+    public void bakesOneBatchPerSection()
+    {
+        List<EntityCarpentersTile> tiles = Fixture.create(true).tileWall(0, 64, 0, 32, 16, ForgeDirection.UP, "").getTiles();
+        Tessellator tessellator = TestTessellator.create();
+        RenderContext.get().tessellator = tessellator;
+
+        try {
+            assertEquals(2, TileBatcher.bake(tiles, tessellator));
+            assertEquals(512 * 24, TestTessellator.getVertexCount(tessellator));
+        } finally {
+            RenderContext.get().tessellator = null;
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.carpentersblocks.renderer.helper;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import com.carpentersblocks.test.FakeWorld;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.util.registry.BlockRegistry;
+import com.carpentersblocks.util.registry.FeatureRegistry;
+
+/**
+ * Checks that vanilla liquids see coverable blocks as opaque while their
+ * chunk section is rebuilt, and that other blocks do not.
+ */
+public class RoutableFluidsHelperTest {
+
+    private static final int EAST = 5;
+
+    private FakeWorld world;
+
+    @BeforeClass
+    public static void init()
+    {
+        TestBootstrap.init();
+    }
+
+    /**
+     * Places water with a covered block to its east, and stone above.
+     */
+    @Before
+    public void setup()
+    {
+        FeatureRegistry.enableRoutableFluids = true;
+
+        Fixture fixture = Fixture.create(true);
+        fixture.place(Blocks.water, 0, 64, 0);
+        fixture.place(Blocks.stone, 0, 65, 0);
+        fixture.cover(new ItemStack(Blocks.planks)).place(BlockRegistry.blockCarpentersBlock, 1, 64, 0);
+        world = fixture.getWorld();
+    }
+
+    @After
+    public void tearDown()
+    {
+        RoutableFluidsHelper.endSection();
+        FeatureRegistry.enableRoutableFluids = false;
+    }
+
+    @Test
+    public void liquidFacesAgainstCoverableBlocksAreCulled()
+    {
+        RoutableFluidsHelper.beginSection(world, 0, 64, 0);
+
+        assertFalse(Blocks.water.shouldSideBeRendered(world, 1, 64, 0, EAST));
+    }
+
+    @Test
+    public void otherFacesAgainstCoverableBlocksAreDrawn()
+    {
+        RoutableFluidsHelper.beginSection(world, 0, 64, 0);
+
+        assertTrue(Blocks.stone.shouldSideBeRendered(world, 1, 64, 0, EAST));
+    }
+
+    @Test
+    public void sectionsWithoutLiquidSkipCallerCheck()
+    {
+        RoutableFluidsHelper.beginSection(world, 0, 80, 0);
+
+        assertTrue(Blocks.water.shouldSideBeRendered(world, 1, 64, 0, EAST));
+    }
+
+}
@@ -0,0 +1,519 @@
+package com.carpentersblocks.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.block.Block;
+import net.minecraft.command.IEntitySelector;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProvider;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraftforge.common.util.ForgeDirection;
+import com.carpentersblocks.util.handler.DaylightSensorHandler;
+import com.carpentersblocks.util.handler.LightUpdateHandler;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.WorldTickEvent;
+import cpw.mods.fml.relauncher.Side;
+
+/**
+ * An in-memory world holding only the positions that were set.
+ * <p>
+ * Blocks, metadata, tile entities and light are kept per position in a
+ * sparse map, with air, full sky light and no block light elsewhere.
+ * There are no chunks, so worlds are cheap enough to create per test.
+ * <p>
+ * Neighbor notifications, block updates and light updates are counted
+ * rather than propagated to renderers, see {@link #resetCounters}.
+ * <p>
+ * Instances are created without running the {@link World} constructors,
+ * which expect a running game, so only methods overridden here and those
+ * built on them may be used.
+ */
+public class FakeWorld extends World {
+
+    /** Block state at one position. */
+    private static class Cell {
+
+        private Block block = Blocks.air;
+        private int metadata;
+        private TileEntity tileEntity;
+        private int skyLight = 15;
+        private int blockLight;
+
+    }
+
+    /*
+     * Cells by packed position, in an open addressed table so that
+     * lookups made while rendering allocate nothing.
+     */
+    private long[] cellKeys;
+    private Cell[] cells;
+    private int cellCount;
+    private List<Entity> entities;
+    private long totalTime;
+    private float celestialAngle;
+    private boolean thundering;
+
+    /** Calls to {@link #notifyBlocksOfNeighborChange}. */
+    public int neighborChanges;
+
+    /** Blocks told of a neighbor change, see {@link #notifyBlockOfNeighborChange}. */
+    public int blockNotifications;
+
+    /** Calls to {@link #markBlockForUpdate}. */
+    public int blockUpdates;
+
+    /** Calls to {@link #func_147451_t}. */
+    public int lightUpdates;
+
+    /** Calls to {@link #getTileEntity}. */
+    public int tileEntityLookups;
+
+    /**
+     * Creates a server-side world.
+     *
+     * @return the {@link FakeWorld}
+     */
+    public static FakeWorld create()
+    {
+        return create(false);
+    }
+
+    /**
+     * Creates an empty world.
+     *
+     * @param  isRemote whether world is client-side
+     * @return the {@link FakeWorld}
+     */
+    public static FakeWorld create(boolean isRemote)
+    {
+        TestBootstrap.init();
+
+        try {
+            FakeWorld world = TestBootstrap.allocate(FakeWorld.class);
+            WorldProvider provider = TestBootstrap.allocate(WorldProviderSurface.class);
+            provider.worldObj = world;
+
+            TestBootstrap.setField(World.class, world, "isRemote", isRemote);
+            TestBootstrap.setField(World.class, world, "provider", provider);
+            world.rand = new Random(0L);
+            world.cellKeys = new long[1024];
+            world.cells = new Cell[1024];
+            world.entities = new ArrayList<Entity>();
+
+            return world;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create world", e);
+        }
+    }
+
+    private static long key(int x, int y, int z)
+    {
+        return ((long)x & 0x3FFFFFFL) << 38 | ((long)y & 0xFFFL) << 26 | ((long)z & 0x3FFFFFFL);
+    }
+
+    private static int indexOf(long[] keys, Cell[] cells, long key)
+    {
+        int mask = keys.length - 1;
+        int idx = (int) (key * 0x9E3779B97F4A7C15L >>> 40) & mask;
+
+        while (cells[idx] != null && keys[idx] != key) {
+            idx = idx + 1 & mask;
+        }
+
+        return idx;
+    }
+
+    private Cell getCell(int x, int y, int z, boolean create)
+    {
+        long key = key(x, y, z);
+        int idx = indexOf(cellKeys, cells, key);
+        Cell cell = cells[idx];
+
+        if (cell == null && create) {
+            if (++cellCount > cells.length / 2) {
+                grow();
+                idx = indexOf(cellKeys, cells, key);
+            }
+            cell = new Cell();
+            cellKeys[idx] = key;
+            cells[idx] = cell;
+        }
+
+        return cell;
+    }
+
+    private void grow()
+    {
+        long[] keys = new long[cellKeys.length * 2];
+        Cell[] table = new Cell[cells.length * 2];
+
+        for (int idx = 0; idx < cells.length; ++idx) {
+            if (cells[idx] != null) {
+                int newIdx = indexOf(keys, table, cellKeys[idx]);
+                keys[newIdx] = cellKeys[idx];
+                table[newIdx] = cells[idx];
+            }
+        }
+
+        cellKeys = keys;
+        cells = table;
+    }
+
+    /**
+     * Advances world by one tick, running end-of-tick handlers that
+     * would otherwise be driven by the event bus.
+     */
+    public void tick()
+    {
+        ++totalTime;
+        WorldTickEvent event = new WorldTickEvent(isRemote ? Side.CLIENT : Side.SERVER, TickEvent.Phase.END, this);
+        new DaylightSensorHandler().onWorldTick(event);
+        new LightUpdateHandler().onWorldTick(event);
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void resetCounters()
+    {
+        neighborChanges = 0;
+        blockNotifications = 0;
+        blockUpdates = 0;
+        lightUpdates = 0;
+        tileEntityLookups = 0;
+    }
+
+    /**
+     * Sets stored light at coordinates.
+     */
+    public void setLight(int x, int y, int z, int skyLight, int blockLight)
+    {
+        Cell cell = getCell(x, y, z, true);
+        cell.skyLight = skyLight;
+        cell.blockLight = blockLight;
+    }
+
+    public void setCelestialAngle(float angle)
+    {
+        celestialAngle = angle;
+    }
+
+    public void setThundering(boolean thundering)
+    {
+        this.thundering = thundering;
+    }
+
+    /**
+     * Returns number of positions holding a block, tile entity or light.
+     */
+    public int size()
+    {
+        return cellCount;
+    }
+
+    /**
+     * Returns entities added through {@link #spawnEntityInWorld}.
+     */
+    public List<Entity> getEntities()
+    {
+        return entities;
+    }
+
+    @Override
+    public Block getBlock(int x, int y, int z)
+    {
+        Cell cell = getCell(x, y, z, false);
+        return cell == null ? Blocks.air : cell.block;
+    }
+
+    @Override
+    public int getBlockMetadata(int x, int y, int z)
+    {
+        Cell cell = getCell(x, y, z, false);
+        return cell == null ? 0 : cell.metadata;
+    }
+
+    @Override
+    /**
+     * Sets block and metadata, replacing any tile entity, in the order
+     * a chunk would.  Flags are those of {@link World#setBlock}.
+     */
+    public boolean setBlock(int x, int y, int z, Block block, int metadata, int flags)
+    {
+        Cell cell = getCell(x, y, z, true);
+
+        if (cell.tileEntity != null) {
+            cell.tileEntity.invalidate();
+            cell.tileEntity = null;
+        }
+
+        cell.block = block;
+        cell.metadata = metadata;
+
+        if (!isRemote) {
+            block.onBlockAdded(this, x, y, z);
+        }
+
+        if (block.hasTileEntity(metadata) && cell.tileEntity == null) {
+            setTileEntity(x, y, z, block.createTileEntity(this, metadata));
+        }
+
+        if ((flags & 1) != 0) {
+            notifyBlocksOfNeighborChange(x, y, z, block);
+        }
+        if ((flags & 2) != 0) {
+            markBlockForUpdate(x, y, z);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean setBlockMetadataWithNotify(int x, int y, int z, int metadata, int flags)
+    {
+        getCell(x, y, z, true).metadata = metadata;
+
+        if ((flags & 1) != 0) {
+            notifyBlocksOfNeighborChange(x, y, z, getBlock(x, y, z));
+        }
+        if ((flags & 2) != 0) {
+            markBlockForUpdate(x, y, z);
+        }
+
+        return true;
+    }
+
+    @Override
+    public TileEntity getTileEntity(int x, int y, int z)
+    {
+        ++tileEntityLookups;
+        Cell cell = getCell(x, y, z, false);
+        return cell == null ? null : cell.tileEntity;
+    }
+
+    @Override
+    public void setTileEntity(int x, int y, int z, TileEntity tileEntity)
+    {
+        if (tileEntity == null) {
+            removeTileEntity(x, y, z);
+            return;
+        }
+
+        Cell cell = getCell(x, y, z, true);
+
+        if (cell.tileEntity != null && cell.tileEntity != tileEntity) {
+            cell.tileEntity.invalidate();
+        }
+
+        tileEntity.setWorldObj(this);
+        tileEntity.xCoord = x;
+        tileEntity.yCoord = y;
+        tileEntity.zCoord = z;
+        cell.tileEntity = tileEntity;
+        tileEntity.validate();
+    }
+
+    @Override
+    public void removeTileEntity(int x, int y, int z)
+    {
+        Cell cell = getCell(x, y, z, false);
+
+        if (cell != null && cell.tileEntity != null) {
+            cell.tileEntity.invalidate();
+            cell.tileEntity = null;
+        }
+    }
+
+    @Override
+    public void notifyBlocksOfNeighborChange(int x, int y, int z, Block block)
+    {
+        ++neighborChanges;
+
+        for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS) {
+            notifyBlockOfNeighborChange(x + dir.offsetX, y + dir.offsetY, z + dir.offsetZ, block);
+        }
+    }
+
+    @Override
+    public void notifyBlocksOfNeighborChange(int x, int y, int z, Block block, int side)
+    {
+        ++neighborChanges;
+
+        for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS) {
+            if (dir.ordinal() != side) {
+                notifyBlockOfNeighborChange(x + dir.offsetX, y + dir.offsetY, z + dir.offsetZ, block);
+            }
+        }
+    }
+
+    @Override
+    public void notifyBlockOfNeighborChange(int x, int y, int z, Block block)
+    {
+        if (!isRemote) {
+            ++blockNotifications;
+            getBlock(x, y, z).onNeighborBlockChange(this, x, y, z, block);
+        }
+    }
+
+    @Override
+    public void markBlockForUpdate(int x, int y, int z)
+    {
+        ++blockUpdates;
+    }
+
+    @Override
+    public boolean func_147451_t(int x, int y, int z)
+    {
+        ++lightUpdates;
+        return true;
+    }
+
+    @Override
+    public void markTileEntityChunkModified(int x, int y, int z, TileEntity tileEntity) { }
+
+    @Override
+    public void func_147453_f(int x, int y, int z, Block block) { }
+
+    @Override
+    public void playAuxSFXAtEntity(EntityPlayer entityPlayer, int type, int x, int y, int z, int data) { }
+
+    @Override
+    public void playSoundEffect(double x, double y, double z, String name, float volume, float pitch) { }
+
+    @Override
+    public boolean blockExists(int x, int y, int z)
+    {
+        return y >= 0 && y < 256;
+    }
+
+    @Override
+    public int getHeight()
+    {
+        return 256;
+    }
+
+    @Override
+    public boolean isSideSolid(int x, int y, int z, ForgeDirection side, boolean _default)
+    {
+        return getBlock(x, y, z).isSideSolid(this, x, y, z, side);
+    }
+
+    @Override
+    public int getSavedLightValue(EnumSkyBlock type, int x, int y, int z)
+    {
+        Cell cell = getCell(x, y, z, false);
+
+        if (cell == null) {
+            return type == EnumSkyBlock.Sky ? 15 : 0;
+        }
+
+        return type == EnumSkyBlock.Sky ? cell.skyLight : cell.blockLight;
+    }
+
+    @Override
+    public int getSkyBlockTypeBrightness(EnumSkyBlock type, int x, int y, int z)
+    {
+        return getSavedLightValue(type, x, y, z);
+    }
+
+    @Override
+    public int getLightBrightnessForSkyBlocks(int x, int y, int z, int lightValue)
+    {
+        int skyLight = getSavedLightValue(EnumSkyBlock.Sky, x, y, z);
+        int blockLight = Math.max(getSavedLightValue(EnumSkyBlock.Block, x, y, z), lightValue);
+        return skyLight << 20 | blockLight << 4;
+    }
+
+    @Override
+    public int getBlockLightValue(int x, int y, int z)
+    {
+        return Math.max(getSavedLightValue(EnumSkyBlock.Sky, x, y, z) - skylightSubtracted, getSavedLightValue(EnumSkyBlock.Block, x, y, z));
+    }
+
+    @Override
+    public BiomeGenBase getBiomeGenForCoords(int x, int z)
+    {
+        return BiomeGenBase.plains;
+    }
+
+    @Override
+    public long getTotalWorldTime()
+    {
+        return totalTime;
+    }
+
+    @Override
+    public long getWorldTime()
+    {
+        return totalTime;
+    }
+
+    @Override
+    public float getCelestialAngleRadians(float partialTicks)
+    {
+        return celestialAngle;
+    }
+
+    @Override
+    public boolean isThundering()
+    {
+        return thundering;
+    }
+
+    @Override
+    public boolean spawnEntityInWorld(Entity entity)
+    {
+        entity.worldObj = this;
+        entities.add(entity);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public List selectEntitiesWithinAABB(Class type, AxisAlignedBB bounds, IEntitySelector selector)
+    {
+        List<Entity> list = new ArrayList<Entity>();
+
+        for (Entity entity : entities) {
+            if (type.isInstance(entity) && entity.boundingBox.intersectsWith(bounds) && (selector == null || selector.isEntityApplicable(entity))) {
+                list.add(entity);
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    protected IChunkProvider createChunkProvider()
+    {
+        return null;
+    }
+
+    @Override
+    public Entity getEntityByID(int id)
+    {
+        for (Entity entity : entities) {
+            if (entity.getEntityId() == id) {
+                return entity;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    protected int func_152379_p()
+    {
+        return 0;
+    }
+
+}
@@ -0,0 +1,238 @@
+package com.carpentersblocks.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.util.ForgeDirection;
+import com.carpentersblocks.data.DaylightSensor;
+import com.carpentersblocks.data.GarageDoor;
+import com.carpentersblocks.entity.item.EntityCarpentersTile;
+import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+/**
+ * Builds scenes in a {@link FakeWorld}.
+ * <p>
+ * Each method places one structure and returns the fixture, so scenes
+ * read as a chain:
+ * <pre>
+ * Fixture fixture = Fixture.create()
+ *     .cover(new ItemStack(Blocks.planks))
+ *     .slopeField(0, 64, 0, 16, 16, Slope.ID_WEDGE_POS_N)
+ *     .garageDoor(0, 64, 32, 25, 20, ForgeDirection.NORTH);
+ * </pre>
+ * Blocks are placed without neighbor notifications, as world generation
+ * would.  Applying covers still notifies neighbors, so call
+ * {@link FakeWorld#resetCounters} once a scene is built.
+ */
+public class Fixture {
+
+    private final FakeWorld world;
+    private ItemStack cover;
+    private final List<TEBase> pieces = new ArrayList<TEBase>();
+    private final List<EntityCarpentersTile> tiles = new ArrayList<EntityCarpentersTile>();
+
+    private Fixture(FakeWorld world)
+    {
+        this.world = world;
+    }
+
+    /**
+     * Creates fixture for a new server-side world.
+     */
+    public static Fixture create()
+    {
+        return new Fixture(FakeWorld.create());
+    }
+
+    /**
+     * Creates fixture for a new world.
+     *
+     * @param isRemote whether world is client-side
+     */
+    public static Fixture create(boolean isRemote)
+    {
+        return new Fixture(FakeWorld.create(isRemote));
+    }
+
+    public FakeWorld getWorld()
+    {
+        return world;
+    }
+
+    /**
+     * Returns tile entities placed so far, in placement order.
+     */
+    public List<TEBase> getPieces()
+    {
+        return pieces;
+    }
+
+    /**
+     * Returns tiles placed so far, in placement order.
+     */
+    public List<EntityCarpentersTile> getTiles()
+    {
+        return tiles;
+    }
+
+    /**
+     * Returns tile entity at coordinates.
+     */
+    public TEBase get(int x, int y, int z)
+    {
+        return (TEBase) world.getTileEntity(x, y, z);
+    }
+
+    /**
+     * Sets cover applied to blocks placed after this call.
+     *
+     * @param itemStack the cover, or null for none
+     */
+    public Fixture cover(ItemStack itemStack)
+    {
+        cover = itemStack;
+        return this;
+    }
+
+    /**
+     * Places a block, with cover if one is set.
+     *
+     * @return the {@link TEBase}, or null if block has none
+     */
+    public TEBase place(Block block, int x, int y, int z)
+    {
+        world.setBlock(x, y, z, block, 0, 2);
+
+        if (!(world.getTileEntity(x, y, z) instanceof TEBase)) {
+            return null;
+        }
+
+        TEBase TE = get(x, y, z);
+        if (cover != null) {
+            TE.addAttribute(TEBase.ATTR_COVER[6], cover);
+        }
+        pieces.add(TE);
+
+        return TE;
+    }
+
+    /**
+     * Fills a box with a vanilla or Carpenter's block.
+     */
+    public Fixture fill(Block block, int x1, int y1, int z1, int x2, int y2, int z2)
+    {
+        for (int x = Math.min(x1, x2); x <= Math.max(x1, x2); ++x) {
+            for (int y = Math.min(y1, y2); y <= Math.max(y1, y2); ++y) {
+                for (int z = Math.min(z1, z2); z <= Math.max(z1, z2); ++z) {
+                    place(block, x, y, z);
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Places a flat field of slopes sharing one slope type.
+     *
+     * @param width the size along x
+     * @param depth the size along z
+     * @param slopeID the {@link com.carpentersblocks.data.Slope} ID
+     */
+    public Fixture slopeField(int x, int y, int z, int width, int depth, int slopeID)
+    {
+        for (int dx = 0; dx < width; ++dx) {
+            for (int dz = 0; dz < depth; ++dz) {
+                place(BlockRegistry.blockCarpentersSlope, x + dx, y, z + dz).setData(slopeID);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Places a closed garage door, with its host pieces along the top.
+     * <p>
+     * Pieces run along the axis perpendicular to facing, starting at
+     * coordinates, and down from y.  A 25 by 20 door has 500 pieces.
+     *
+     * @param width the number of columns
+     * @param height the number of pieces per column
+     * @param facing the direction door faces
+     */
+    public Fixture garageDoor(int x, int y, int z, int width, int height, ForgeDirection facing)
+    {
+        ForgeDirection axis = facing.getRotation(ForgeDirection.UP);
+
+        for (int col = 0; col < width; ++col) {
+            for (int row = 0; row < height; ++row) {
+                TEBase TE = place(BlockRegistry.blockCarpentersGarageDoor, x + axis.offsetX * col, y - row, z + axis.offsetZ * col);
+                GarageDoor.INSTANCE.setDirection(TE, facing);
+                GarageDoor.INSTANCE.setState(TE, GarageDoor.STATE_CLOSED);
+                if (row == 0) {
+                    GarageDoor.INSTANCE.setHost(TE);
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Places daylight sensors facing up on a stone floor.
+     *
+     * @param width the size along x
+     * @param depth the size along z
+     * @param sensitivity the {@link DaylightSensor} sensitivity
+     */
+    public Fixture sensorField(int x, int y, int z, int width, int depth, int sensitivity)
+    {
+        for (int dx = 0; dx < width; ++dx) {
+            for (int dz = 0; dz < depth; ++dz) {
+                world.setBlock(x + dx, y - 1, z + dz, Blocks.stone, 0, 2);
+                TEBase TE = place(BlockRegistry.blockCarpentersDaylightSensor, x + dx, y, z + dz);
+                TE.setData(ForgeDirection.UP.ordinal() << 7 | sensitivity << 5);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Places tiles covering a wall, one per block face.
+     * <p>
+     * The wall lies in the plane perpendicular to facing, extending
+     * along the horizontal axis of that plane and up, or along x and z
+     * for a floor or ceiling.
+     *
+     * @param width the number of tiles across
+     * @param height the number of tiles up, or along z
+     * @param facing the direction tiles face
+     * @param design the tile design, or an empty string for none
+     */
+    public Fixture tileWall(int x, int y, int z, int width, int height, ForgeDirection facing, String design)
+    {
+        boolean isFloor = facing.offsetY != 0;
+        ForgeDirection across = isFloor ? ForgeDirection.EAST : facing.getRotation(ForgeDirection.UP);
+
+        for (int col = 0; col < width; ++col) {
+            for (int row = 0; row < height; ++row) {
+                EntityCarpentersTile tile = new EntityCarpentersTile(world);
+                tile.posX = x + across.offsetX * col;
+                tile.posY = y + (isFloor ? 0 : row);
+                tile.posZ = z + across.offsetZ * col + (isFloor ? row : 0);
+                tile.setDirection(facing);
+                tile.setDesign(design);
+                tile.setBoundingBox();
+                world.spawnEntityInWorld(tile);
+                tiles.add(tile);
+            }
+        }
+
+        return this;
+    }
+
+}
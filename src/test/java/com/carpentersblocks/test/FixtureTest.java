@@ -0,0 +1,121 @@
+package com.carpentersblocks.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.util.List;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraftforge.common.util.ForgeDirection;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import com.carpentersblocks.data.GarageDoor;
+import com.carpentersblocks.data.Slope;
+import com.carpentersblocks.entity.item.EntityCarpentersTile;
+import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+public class FixtureTest {
+
+    @BeforeClass
+    public static void init()
+    {
+        TestBootstrap.init();
+    }
+
+    @Test
+    public void storesOnlyPositionsSet()
+    {
+        FakeWorld world = FakeWorld.create();
+
+        assertSame(Blocks.air, world.getBlock(10, 64, 10));
+        assertEquals(15, world.getSavedLightValue(EnumSkyBlock.Sky, 10, 64, 10));
+        assertEquals(0, world.size());
+
+        world.setBlock(10, 64, 10, Blocks.stone, 3, 2);
+        world.setLight(10, 65, 10, 4, 7);
+
+        assertSame(Blocks.stone, world.getBlock(10, 64, 10));
+        assertEquals(3, world.getBlockMetadata(10, 64, 10));
+        assertNull(world.getTileEntity(10, 64, 10));
+        assertEquals(4, world.getSavedLightValue(EnumSkyBlock.Sky, 10, 65, 10));
+        assertEquals(7, world.getSavedLightValue(EnumSkyBlock.Block, 10, 65, 10));
+        assertEquals(2, world.size());
+    }
+
+    @Test
+    public void placesTileEntityAndCover()
+    {
+        ItemStack planks = new ItemStack(Blocks.planks);
+        Fixture fixture = Fixture.create().cover(planks);
+        TEBase TE = fixture.place(BlockRegistry.blockCarpentersBlock, -5, 70, 12);
+
+        assertSame(TE, fixture.getWorld().getTileEntity(-5, 70, 12));
+        assertSame(fixture.getWorld(), TE.getWorldObj());
+        assertSame(BlockRegistry.blockCarpentersBlock, TE.getBlockType());
+        assertTrue(TE.hasAttribute(TEBase.ATTR_COVER[6]));
+        assertSame(planks.getItem(), TE.getAttribute(TEBase.ATTR_COVER[6]).getItem());
+    }
+
+    @Test
+    public void countsNeighborNotifications()
+    {
+        FakeWorld world = FakeWorld.create();
+
+        world.setBlock(0, 64, 0, Blocks.stone, 0, 3);
+
+        assertEquals(1, world.neighborChanges);
+        assertEquals(6, world.blockNotifications);
+        assertEquals(1, world.blockUpdates);
+
+        world.resetCounters();
+
+        assertEquals(0, world.neighborChanges);
+        assertEquals(0, world.blockNotifications);
+        assertEquals(0, world.blockUpdates);
+    }
+
+    @Test
+    public void buildsGarageDoorOfFiveHundredPieces()
+    {
+        Fixture fixture = Fixture.create().garageDoor(0, 100, 0, 25, 20, ForgeDirection.NORTH);
+        List<TEBase> pieces = fixture.getPieces();
+
+        assertEquals(500, pieces.size());
+        assertTrue(GarageDoor.INSTANCE.isHost(pieces.get(0)));
+
+        TEBase first = pieces.get(0);
+        TEBase last = pieces.get(pieces.size() - 1);
+
+        assertEquals(500, GarageDoor.INSTANCE.getBlocks(first, BlockRegistry.blockCarpentersGarageDoor).size());
+        assertSame(GarageDoor.INSTANCE.getStructure(first, BlockRegistry.blockCarpentersGarageDoor), GarageDoor.INSTANCE.getStructure(last, BlockRegistry.blockCarpentersGarageDoor));
+    }
+
+    @Test
+    public void buildsSlopeField()
+    {
+        Fixture fixture = Fixture.create().slopeField(0, 64, 0, 16, 16, Slope.ID_WEDGE_POS_N);
+
+        assertEquals(256, fixture.getPieces().size());
+        for (TEBase TE : fixture.getPieces()) {
+            assertSame(Slope.WEDGE_POS_N, Slope.getSlope(TE));
+        }
+    }
+
+    @Test
+    public void buildsTileWall()
+    {
+        Fixture fixture = Fixture.create(true).tileWall(0, 64, 0, 10, 10, ForgeDirection.SOUTH, "");
+        List<EntityCarpentersTile> tiles = fixture.getTiles();
+
+        assertEquals(100, tiles.size());
+        assertEquals(100, fixture.getWorld().getEntities().size());
+
+        EntityCarpentersTile tile = tiles.get(0);
+        assertEquals(ForgeDirection.SOUTH, tile.getDirection());
+        assertSame(tile, fixture.getWorld().getEntitiesWithinAABB(EntityCarpentersTile.class, tile.boundingBox.copy().contract(0.1D, 0.1D, 0.1D)).get(0));
+    }
+
+}
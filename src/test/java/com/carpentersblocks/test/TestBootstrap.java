@@ -0,0 +1,366 @@
+package com.carpentersblocks.test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.block.Block;
+import net.minecraft.block.material.MapColor;
+import net.minecraft.block.material.Material;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.IIconRegister;
+import net.minecraft.client.settings.GameSettings;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemBlock;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.IIcon;
+import net.minecraft.util.ObjectIntIdentityMap;
+import net.minecraft.util.RegistryNamespaced;
+import net.minecraft.util.RegistrySimple;
+import org.objenesis.Objenesis;
+import org.objenesis.ObjenesisStd;
+import com.carpentersblocks.CarpentersBlocks;
+import com.carpentersblocks.block.BlockCarpentersBlock;
+import com.carpentersblocks.block.BlockCarpentersCollapsibleBlock;
+import com.carpentersblocks.block.BlockCarpentersDaylightSensor;
+import com.carpentersblocks.block.BlockCarpentersGarageDoor;
+import com.carpentersblocks.block.BlockCarpentersSlope;
+import com.carpentersblocks.block.BlockCarpentersStairs;
+import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.tileentity.TECarpentersDaylightSensor;
+import com.carpentersblocks.tileentity.TECarpentersGarageDoor;
+import com.carpentersblocks.util.BlockProperties;
+import com.carpentersblocks.util.handler.DesignHandler;
+import com.carpentersblocks.util.handler.OverlayHandler;
+import com.carpentersblocks.util.handler.OverlayHandler.Overlay;
+import com.carpentersblocks.util.registry.BlockRegistry;
+import com.carpentersblocks.util.registry.IconRegistry;
+import cpw.mods.fml.common.FMLCommonHandler;
+import cpw.mods.fml.common.IFMLSidedHandler;
+import cpw.mods.fml.common.registry.GameRegistry;
+import cpw.mods.fml.relauncher.Side;
+
+/**
+ * Prepares registries, icons and client settings so that blocks can be
+ * placed, saved and drawn without a running game.
+ * <p>
+ * FML registration needs a running loader, so blocks and items are
+ * written straight to the registry maps under fixed IDs instead.  Icons
+ * are placed on an imaginary 16x16 atlas in the order they are
+ * registered, so texture coordinates are stable between runs.
+ * <p>
+ * {@link #init} must be called before any class reading
+ * {@link net.minecraft.init.Blocks} is loaded, since that class resolves
+ * its fields once, when first used.
+ */
+public class TestBootstrap {
+
+    private static boolean initialized;
+
+    /** Vanilla blocks needed by renderers, covers and overlays, by block ID. */
+    private static final Object[][] vanilla = {
+        {  0, "air",           "net.minecraft.block.BlockAir",        new Class<?>[] {},                                  new Object[] {} },
+        {  1, "stone",         "net.minecraft.block.BlockStone",      new Class<?>[] {},                                  new Object[] {} },
+        {  2, "grass",         "net.minecraft.block.BlockGrass",      new Class<?>[] {},                                  new Object[] {} },
+        {  3, "dirt",          "net.minecraft.block.BlockDirt",       new Class<?>[] {},                                  new Object[] {} },
+        {  5, "planks",        "net.minecraft.block.BlockWood",       new Class<?>[] {},                                  new Object[] {} },
+        {  9, "water",         "net.minecraft.block.BlockStaticLiquid", new Class<?>[] { Material.class },                new Object[] { Material.water } },
+        { 20, "glass",         "net.minecraft.block.BlockGlass",      new Class<?>[] { Material.class, boolean.class },   new Object[] { Material.glass, false } },
+        { 30, "web",           "net.minecraft.block.BlockWeb",        new Class<?>[] {},                                  new Object[] {} },
+        { 35, "wool",          "net.minecraft.block.BlockColored",    new Class<?>[] { Material.class },                  new Object[] { Material.cloth } },
+        { 42, "iron_block",    "net.minecraft.block.BlockCompressed", new Class<?>[] { MapColor.class },                  new Object[] { MapColor.ironColor } },
+        { 55, "redstone_wire", "net.minecraft.block.BlockRedstoneWire", new Class<?>[] {},                                new Object[] {} },
+        { 80, "snow",          "net.minecraft.block.BlockSnowBlock",  new Class<?>[] {},                                  new Object[] {} },
+        {106, "vine",          "net.minecraft.block.BlockVine",       new Class<?>[] {},                                  new Object[] {} },
+        {110, "mycelium",      "net.minecraft.block.BlockMycelium",   new Class<?>[] {},                                  new Object[] {} },
+        {170, "hay_block",     "net.minecraft.block.BlockHay",        new Class<?>[] {},                                  new Object[] {} }
+    };
+
+    /** Chisel design available to tests, see {@link #registerDesigns}. */
+    public static final String CHISEL_DESIGN = "test";
+
+    /** First ID handed to mod blocks. */
+    private static final int MOD_BLOCK_ID = 200;
+
+    /** Creates game objects without running their constructors. */
+    private static final Objenesis objenesis = new ObjenesisStd();
+
+    /**
+     * Registers blocks, tile entities and icons, and installs client
+     * settings with ambient occlusion and fancy graphics enabled.
+     * <p>
+     * Safe to call more than once.
+     */
+    public static synchronized void init()
+    {
+        if (initialized) {
+            return;
+        }
+
+        try {
+            TestIconRegister iconRegister = new TestIconRegister();
+
+            for (Object[] entry : vanilla) {
+                Block block = construct(Class.forName((String) entry[2]).asSubclass(Block.class), (Class<?>[]) entry[3], (Object[]) entry[4]);
+                String name = (String) entry[1];
+                block.setBlockName(name).setBlockTextureName(name);
+                registerBlock((Integer) entry[0], "minecraft:" + name, block, !"air".equals(name));
+                block.registerBlockIcons(iconRegister);
+            }
+
+            int id = MOD_BLOCK_ID;
+
+            BlockRegistry.blockCarpentersBlock          = registerModBlock(id++, "blockCarpentersBlock",          new BlockCarpentersBlock(Material.wood), iconRegister);
+            BlockRegistry.blockCarpentersSlope          = registerModBlock(id++, "blockCarpentersSlope",          new BlockCarpentersSlope(Material.wood), iconRegister);
+            BlockRegistry.blockCarpentersStairs         = registerModBlock(id++, "blockCarpentersStairs",         new BlockCarpentersStairs(Material.wood), iconRegister);
+            BlockRegistry.blockCarpentersGarageDoor     = registerModBlock(id++, "blockCarpentersGarageDoor",     new BlockCarpentersGarageDoor(Material.wood), iconRegister);
+            BlockRegistry.blockCarpentersDaylightSensor = registerModBlock(id++, "blockCarpentersDaylightSensor", new BlockCarpentersDaylightSensor(Material.wood), iconRegister);
+            BlockRegistry.blockCarpentersCollapsibleBlock = registerModBlock(id++, "blockCarpentersCollapsibleBlock", new BlockCarpentersCollapsibleBlock(Material.wood), iconRegister);
+
+            GameRegistry.registerTileEntity(TEBase.class, "TileEntityCarpentersBlock");
+            GameRegistry.registerTileEntity(TECarpentersDaylightSensor.class, "TileEntityCarpentersDaylightSensor");
+            GameRegistry.registerTileEntity(TECarpentersGarageDoor.class, "TileEntityCarpentersGarageDoor");
+
+            for (Field field : IconRegistry.class.getFields()) {
+                if (field.getType() == IIcon.class && Modifier.isStatic(field.getModifiers())) {
+                    field.set(null, iconRegister.registerIcon(CarpentersBlocks.MODID + ":" + field.getName()));
+                }
+            }
+
+            registerDesigns(iconRegister);
+            installClientSettings();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to bootstrap test environment", e);
+        }
+
+        initialized = true;
+    }
+
+    private static Block registerModBlock(int id, String name, Block block, IIconRegister iconRegister) throws ReflectiveOperationException
+    {
+        block.setBlockName(name).setHardness(0.2F).setStepSound(BlockProperties.stepSound);
+        registerBlock(id, CarpentersBlocks.MODID + ":" + name, block, true);
+        block.registerBlockIcons(iconRegister);
+        return block;
+    }
+
+    /**
+     * Adds {@link #CHISEL_DESIGN} as if found by design discovery, and
+     * maps grass block items to the grass overlay.
+     */
+    private static void registerDesigns(IIconRegister iconRegister) throws ReflectiveOperationException
+    {
+        Method addDesigns = DesignHandler.class.getDeclaredMethod("addDesigns", List.class, Map.class, List.class);
+        addDesigns.setAccessible(true);
+        Field indexChisel = DesignHandler.class.getDeclaredField("indexChisel");
+        indexChisel.setAccessible(true);
+        addDesigns.invoke(null, DesignHandler.listChisel, indexChisel.get(null), new ArrayList<String>(Collections.singletonList(CHISEL_DESIGN)));
+        DesignHandler.registerIcons(iconRegister);
+
+        OverlayHandler.overlayMap.put(new ItemStack(Blocks.grass).getDisplayName(), Overlay.GRASS);
+        OverlayHandler.postInit();
+    }
+
+    /**
+     * Adds block, and optionally an {@link ItemBlock} sharing its ID.
+     */
+    private static void registerBlock(int id, String name, Block block, boolean hasItem) throws ReflectiveOperationException
+    {
+        register(Block.blockRegistry, id, name, block);
+        if (hasItem) {
+            register(Item.itemRegistry, id, name, new ItemBlock(block));
+        }
+    }
+
+    /**
+     * Writes object to registry name and ID maps, bypassing the
+     * registration checks FML adds on top of them.
+     */
+    private static void register(RegistryNamespaced registry, int id, String name, Object object) throws ReflectiveOperationException
+    {
+        @SuppressWarnings("unchecked")
+        Map<Object, Object> names = (Map<Object, Object>) getField(RegistrySimple.class, Map.class).get(registry);
+        names.put(name, object);
+
+        Object ids = getField(RegistryNamespaced.class, ObjectIntIdentityMap.class).get(registry);
+        for (Method method : ObjectIntIdentityMap.class.getMethods()) {
+            Class<?>[] params = method.getParameterTypes();
+            if (params.length == 2 && params[0] == Object.class && params[1] == int.class) {
+                method.invoke(ids, object, id);
+                return;
+            }
+        }
+
+        throw new NoSuchMethodException("ObjectIntIdentityMap has no put method");
+    }
+
+    /**
+     * Installs settings read by {@link net.minecraft.client.renderer.RenderBlocks}
+     * and {@link Minecraft#isAmbientOcclusionEnabled}, and reports the
+     * physical side as client.  The client itself is never constructed.
+     */
+    private static void installClientSettings() throws ReflectiveOperationException
+    {
+        Object sidedHandler = Proxy.newProxyInstance(IFMLSidedHandler.class.getClassLoader(), new Class<?>[] { IFMLSidedHandler.class }, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args)
+            {
+                return "getSide".equals(method.getName()) ? Side.CLIENT : null;
+            }
+        });
+        setField(FMLCommonHandler.class, FMLCommonHandler.instance(), "sidedDelegate", sidedHandler);
+
+        Minecraft minecraft = allocate(Minecraft.class);
+        minecraft.gameSettings = allocate(GameSettings.class);
+        minecraft.gameSettings.ambientOcclusion = 2;
+        minecraft.gameSettings.fancyGraphics = true;
+
+        for (Field field : Minecraft.class.getDeclaredFields()) {
+            if (field.getType() == Minecraft.class && Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                field.set(null, minecraft);
+            }
+        }
+    }
+
+    /**
+     * Creates instance without running constructors, for classes whose
+     * constructors need a running game.
+     */
+    public static <T> T allocate(Class<T> type)
+    {
+        return objenesis.newInstance(type);
+    }
+
+    /**
+     * Sets field by name, including final fields.
+     */
+    public static void setField(Class<?> owner, Object instance, String name, Object value) throws ReflectiveOperationException
+    {
+        Field field = owner.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(instance, value);
+    }
+
+    private static Field getField(Class<?> owner, Class<?> type) throws NoSuchFieldException
+    {
+        for (Field field : owner.getDeclaredFields()) {
+            if (field.getType() == type && !Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                return field;
+            }
+        }
+
+        throw new NoSuchFieldException(owner.getName() + " has no field of type " + type.getName());
+    }
+
+    private static <T> T construct(Class<T> type, Class<?>[] params, Object[] args) throws ReflectiveOperationException
+    {
+        Constructor<T> constructor = type.getDeclaredConstructor(params);
+        constructor.setAccessible(true);
+        return constructor.newInstance(args);
+    }
+
+    /**
+     * Hands out icons in registration order, reusing icons by name.
+     */
+    private static class TestIconRegister implements IIconRegister {
+
+        private final Map<String, IIcon> icons = new HashMap<String, IIcon>();
+
+        @Override
+        public IIcon registerIcon(String name)
+        {
+            IIcon icon = icons.get(name);
+
+            if (icon == null) {
+                icon = new TestIcon(name, icons.size());
+                icons.put(name, icon);
+            }
+
+            return icon;
+        }
+
+    }
+
+    /**
+     * A 16x16 icon at a fixed cell of a 16x16 cell atlas.
+     */
+    private static class TestIcon implements IIcon {
+
+        private final String name;
+        private final float minU;
+        private final float minV;
+
+        private TestIcon(String name, int index)
+        {
+            this.name = name;
+            minU = (index & 15) / 16.0F;
+            minV = (index >> 4 & 15) / 16.0F;
+        }
+
+        @Override
+        public int getIconWidth()
+        {
+            return 16;
+        }
+
+        @Override
+        public int getIconHeight()
+        {
+            return 16;
+        }
+
+        @Override
+        public float getMinU()
+        {
+            return minU;
+        }
+
+        @Override
+        public float getMaxU()
+        {
+            return minU + 1.0F / 16.0F;
+        }
+
+        @Override
+        public float getInterpolatedU(double u)
+        {
+            return minU + (float) u / 256.0F;
+        }
+
+        @Override
+        public float getMinV()
+        {
+            return minV;
+        }
+
+        @Override
+        public float getMaxV()
+        {
+            return minV + 1.0F / 16.0F;
+        }
+
+        @Override
+        public float getInterpolatedV(double v)
+        {
+            return minV + (float) v / 256.0F;
+        }
+
+        @Override
+        public String getIconName()
+        {
+            return name;
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.carpentersblocks.test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import net.minecraft.client.renderer.Tessellator;
+
+/**
+ * Creates tessellators that collect vertices but are never drawn, so
+ * blocks can be rendered without a display.
+ * <p>
+ * Set one as {@link com.carpentersblocks.renderer.helper.RenderContext#tessellator}
+ * to have render helpers on the calling thread add vertices to it.
+ */
+public class TestTessellator {
+
+    private static final Field rawBuffer;
+    private static final Field rawBufferIndex;
+    private static final Field vertexCount;
+    private static final Field addedVertices;
+
+    static {
+        try {
+            rawBuffer = getField("rawBuffer");
+            rawBufferIndex = getField("rawBufferIndex");
+            vertexCount = getField("vertexCount");
+            addedVertices = getField("addedVertices");
+        } catch (NoSuchFieldException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Creates tessellator through its private constructor, ready for quads.
+     * <p>
+     * Forge grows the vertex buffer as needed, so the buffer size passed
+     * to the vanilla constructor, if present, is only a starting size.
+     */
+    public static Tessellator create()
+    {
+        try {
+            Constructor<?> constructor = null;
+            for (Constructor<?> candidate : Tessellator.class.getDeclaredConstructors()) {
+                if (constructor == null || candidate.getParameterTypes().length < constructor.getParameterTypes().length) {
+                    constructor = candidate;
+                }
+            }
+            constructor.setAccessible(true);
+
+            Tessellator tessellator = (Tessellator) (constructor.getParameterTypes().length == 0 ? constructor.newInstance() : constructor.newInstance(0x200000));
+            tessellator.startDrawingQuads();
+
+            return tessellator;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create tessellator", e);
+        }
+    }
+
+    /**
+     * Discards vertices added so far, keeping color, brightness and draw mode.
+     */
+    public static void rewind(Tessellator tessellator)
+    {
+        try {
+            rawBufferIndex.setInt(tessellator, 0);
+            vertexCount.setInt(tessellator, 0);
+            addedVertices.setInt(tessellator, 0);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns copy of vertex data added since tessellator was created or rewound.
+     */
+    public static int[] getVertexData(Tessellator tessellator)
+    {
+        try {
+            int[] buffer = (int[]) rawBuffer.get(tessellator);
+            return buffer == null ? new int[0] : Arrays.copyOf(buffer, rawBufferIndex.getInt(tessellator));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns number of vertices added since tessellator was created or rewound.
+     */
+    public static int getVertexCount(Tessellator tessellator)
+    {
+        try {
+            return vertexCount.getInt(tessellator);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Field getField(String name) throws NoSuchFieldException
+    {
+        Field field = Tessellator.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+
+}
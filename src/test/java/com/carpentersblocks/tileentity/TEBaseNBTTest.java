@@ -0,0 +1,283 @@
+package com.carpentersblocks.tileentity;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.util.Attribute;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+/**
+ * Reads and writes each NBT layout {@link TEBase} has used, and checks
+ * that every layout loads to the same state as the compact one.
+ */
+public class TEBaseNBTTest {
+
+    private static ItemStack planks;
+    private static ItemStack redWool;
+    private static ItemStack namedWool;
+    private static ItemStack glass;
+    private static ItemStack stone;
+
+    @BeforeClass
+    public static void init()
+    {
+        TestBootstrap.init();
+
+        planks = new ItemStack(Blocks.planks, 1, 2);
+        redWool = new ItemStack(Blocks.wool, 1, 14);
+        namedWool = new ItemStack(Blocks.wool, 1, 14);
+        namedWool.setStackDisplayName("Named");
+        glass = new ItemStack(Blocks.glass);
+        stone = new ItemStack(Blocks.stone);
+    }
+
+    @Test
+    public void compactRoundTripKeepsMaskGaps()
+    {
+        TEBase TE = createTE();
+        TE.addAttribute(TEBase.ATTR_COVER[6], planks);
+        TE.addAttribute(TEBase.ATTR_COVER[0], redWool);
+        TE.addAttribute(TEBase.ATTR_ILLUMINATOR, glass);
+        TE.addAttribute(TEBase.ATTR_UPGRADE, stone);
+        TE.cbChiselDesign[4] = "brick";
+        TE.cbMetadata = 0x12345;
+        TE.cbDesign = "flower";
+        TE.cbOwner = "owner-uuid";
+
+        NBTTagCompound nbt = write(TE);
+
+        assertEquals(TEBase.NBT_VERSION, nbt.getByte(TEBase.TAG_VERSION));
+        assertEquals(1 << 0 | 1 << 6 | 1 << 21 | 1 << 25, nbt.getInteger(TEBase.TAG_ATTR_MASK));
+        assertEquals(4, nbt.getIntArray(TEBase.TAG_ATTR_ITEMS).length);
+        assertFalse(nbt.hasKey(TEBase.TAG_CHISEL_DESIGN + "_0"));
+
+        assertSameState(TE, read(nbt));
+    }
+
+    @Test
+    public void compactWritesUniqueIdsOnce()
+    {
+        TEBase TE = createTE();
+        TE.addAttribute(TEBase.ATTR_COVER[6], planks);
+        TE.addAttribute(TEBase.ATTR_COVER[1], new ItemStack(Blocks.planks, 1, 0));
+        TE.addAttribute(TEBase.ATTR_COVER[2], new ItemStack(Blocks.planks, 1, 3));
+        TE.addAttribute(TEBase.ATTR_DYE[1], redWool);
+
+        NBTTagCompound nbt = write(TE);
+        NBTTagList names = nbt.getTagList(TEBase.TAG_ATTR_NAMES, 8);
+
+        assertEquals(2, names.tagCount());
+        assertEquals("minecraft:planks", names.getStringTagAt(0));
+        assertEquals("minecraft:wool", names.getStringTagAt(1));
+        assertArrayEquals(new byte[] { 0, 0, 0, 1 }, nbt.getByteArray(TEBase.TAG_ATTR_NAME_IDX));
+
+        assertSameState(TE, read(nbt));
+    }
+
+    @Test
+    public void compactKeepsItemNBTPerAttribute()
+    {
+        TEBase TE = createTE();
+        TE.addAttribute(TEBase.ATTR_COVER[3], namedWool);
+        TE.addAttribute(TEBase.ATTR_COVER[4], redWool);
+
+        NBTTagCompound nbt = write(TE);
+
+        assertTrue(nbt.hasKey(TEBase.TAG_ATTR_TAG + "_3"));
+        assertFalse(nbt.hasKey(TEBase.TAG_ATTR_TAG + "_4"));
+
+        TEBase result = read(nbt);
+
+        assertSameState(TE, result);
+        assertEquals("Named", result.getAttribute(TEBase.ATTR_COVER[3]).getDisplayName());
+        assertNull(result.getAttribute(TEBase.ATTR_COVER[4]).getTagCompound());
+    }
+
+    @Test
+    public void compactOmitsEmptyFields()
+    {
+        NBTTagCompound nbt = write(createTE());
+
+        assertFalse(nbt.hasKey(TEBase.TAG_ATTR_MASK));
+        assertFalse(nbt.hasKey(TEBase.TAG_METADATA));
+        assertFalse(nbt.hasKey(TEBase.TAG_DESIGN));
+        assertFalse(nbt.hasKey(TEBase.TAG_OWNER));
+        assertEquals(0, read(nbt).getAttributeMask());
+    }
+
+    @Test
+    public void readsAttributeListLayout()
+    {
+        TEBase TE = createTE();
+        NBTTagCompound nbt = write(TE);
+        nbt.removeTag(TEBase.TAG_VERSION);
+
+        NBTTagList list = new NBTTagList();
+        list.appendTag(legacyAttribute(TEBase.ATTR_COVER[6], new ItemStack(Blocks.planks, 64, 2)));
+        list.appendTag(legacyAttribute(TEBase.ATTR_OVERLAY[1], glass));
+        list.appendTag(legacyAttribute(TEBase.ATTR_ILLUMINATOR, namedWool));
+
+        /* Item ID no longer valid, recovered by unique identifier. */
+
+        NBTTagCompound moved = legacyAttribute(TEBase.ATTR_COVER[2], stone);
+        moved.setShort("id", (short) 4000);
+        list.appendTag(moved);
+
+        nbt.setTag(TEBase.TAG_ATTR_LIST, list);
+        nbt.setShort(TEBase.TAG_METADATA, (short) 0x1234);
+        nbt.setString(TEBase.TAG_CHISEL_DESIGN + "_6", "brick");
+        nbt.setString(TEBase.TAG_DESIGN, "flower");
+        nbt.setString(TEBase.TAG_OWNER, "owner-uuid");
+
+        TEBase result = read(nbt);
+
+        assertEquals(1 << 2 | 1 << 6 | 1 << 15 | 1 << 21, result.getAttributeMask());
+        assertSame(Attribute.get(planks), result.cbAttrs[TEBase.ATTR_COVER[6]]);
+        assertSame(Attribute.get(glass), result.cbAttrs[TEBase.ATTR_OVERLAY[1]]);
+        assertSame(Attribute.get(namedWool), result.cbAttrs[TEBase.ATTR_ILLUMINATOR]);
+        assertSame(Attribute.get(stone), result.cbAttrs[TEBase.ATTR_COVER[2]]);
+        assertEquals(1, result.getAttribute(TEBase.ATTR_COVER[6]).stackSize);
+        assertEquals(0x1234, result.getData());
+        assertEquals("brick", result.getChiselDesign(6));
+        assertEquals("flower", result.getDesign());
+        assertEquals("owner-uuid", result.getOwner());
+
+        assertSameState(result, read(write(result)));
+    }
+
+    @Test
+    public void readsOwnerLayout()
+    {
+        TEBase TE = createTE();
+        NBTTagCompound nbt = write(TE);
+        nbt.removeTag(TEBase.TAG_VERSION);
+
+        NBTTagList list = new NBTTagList();
+        list.appendTag(ownerLayoutItem("cover", 6, new ItemStack(Blocks.planks, 64, 2)));
+        list.appendTag(ownerLayoutItem("cover", 1, namedWool));
+        list.appendTag(ownerLayoutItem("dye", 3, redWool));
+        list.appendTag(ownerLayoutItem("overlay", 0, glass));
+        list.appendTag(ownerLayoutItem("illuminator", 0, stone));
+
+        nbt.setTag("itemstacks", list);
+        nbt.setShort("metadata", (short) 0x0321);
+        nbt.setString("chiselDesign_5", "brick");
+        nbt.setString("design", "flower");
+        nbt.setString("owner", "owner-uuid");
+
+        TEBase result = read(nbt);
+
+        assertEquals(1 << 1 | 1 << 6 | 1 << 10 | 1 << 14 | 1 << 21, result.getAttributeMask());
+        assertSame(Attribute.get(planks), result.cbAttrs[TEBase.ATTR_COVER[6]]);
+        assertSame(Attribute.get(namedWool), result.cbAttrs[TEBase.ATTR_COVER[1]]);
+        assertSame(Attribute.get(redWool), result.cbAttrs[TEBase.ATTR_DYE[3]]);
+        assertSame(Attribute.get(glass), result.cbAttrs[TEBase.ATTR_OVERLAY[0]]);
+        assertSame(Attribute.get(stone), result.cbAttrs[TEBase.ATTR_ILLUMINATOR]);
+        assertEquals(1, result.getAttribute(TEBase.ATTR_COVER[6]).stackSize);
+        assertEquals(0x0321, result.getData());
+        assertEquals("brick", result.getChiselDesign(5));
+        assertEquals("flower", result.getDesign());
+        assertEquals("owner-uuid", result.getOwner());
+
+        assertSameState(result, read(write(result)));
+    }
+
+    @Test
+    public void readsOwnerLayoutFlowerPot()
+    {
+        TEBase TE = createTE();
+        NBTTagCompound nbt = write(TE);
+        nbt.removeTag(TEBase.TAG_VERSION);
+
+        ItemStack dirt = new ItemStack(Blocks.dirt);
+        ItemStack vine = new ItemStack(Blocks.vine);
+
+        NBTTagList list = new NBTTagList();
+        list.appendTag(ownerLayoutItem("cover", 6, planks));
+        nbt.setTag("itemstacks", list);
+
+        NBTTagList potList = new NBTTagList();
+        potList.appendTag(ownerLayoutItem("soil", 0, new ItemStack(Blocks.dirt, 64)));
+        potList.appendTag(ownerLayoutItem("plant", 0, vine));
+        nbt.setTag("pot_property", potList);
+        nbt.setString("owner", "owner-uuid");
+
+        TEBase result = read(nbt);
+
+        assertEquals(1 << 6 | 1 << TEBase.ATTR_PLANT | 1 << TEBase.ATTR_SOIL, result.getAttributeMask());
+        assertSame(Attribute.get(planks), result.cbAttrs[TEBase.ATTR_COVER[6]]);
+        assertSame(Attribute.get(dirt), result.cbAttrs[TEBase.ATTR_SOIL]);
+        assertSame(Attribute.get(vine), result.cbAttrs[TEBase.ATTR_PLANT]);
+        assertEquals(1, result.getAttribute(TEBase.ATTR_SOIL).stackSize);
+        assertEquals("owner-uuid", result.getOwner());
+
+        assertSameState(result, read(write(result)));
+    }
+
+    /**
+     * Places a bare block and returns its tile entity, bound to a world
+     * since adding attributes notifies neighbors.
+     */
+    private static TEBase createTE()
+    {
+        return Fixture.create().place(BlockRegistry.blockCarpentersBlock, 8, 64, 8);
+    }
+
+    private static NBTTagCompound write(TEBase TE)
+    {
+        NBTTagCompound nbt = new NBTTagCompound();
+        TE.writeToNBT(nbt);
+        return nbt;
+    }
+
+    /**
+     * Reads NBT into tile entity of a new world, as on chunk load.
+     */
+    private static TEBase read(NBTTagCompound nbt)
+    {
+        TEBase TE = createTE();
+        TE.readFromNBT(nbt);
+        return TE;
+    }
+
+    private static NBTTagCompound legacyAttribute(byte attrId, ItemStack itemStack)
+    {
+        NBTTagCompound nbt = new NBTTagCompound();
+        itemStack.writeToNBT(nbt);
+        nbt.setString("cbUniqueId", Attribute.get(itemStack).getUniqueId());
+        nbt.setByte(TEBase.TAG_ATTR, attrId);
+        return nbt;
+    }
+
+    private static NBTTagCompound ownerLayoutItem(String key, int slot, ItemStack itemStack)
+    {
+        NBTTagCompound nbt = new NBTTagCompound();
+        itemStack.writeToNBT(nbt);
+        nbt.setByte(key, (byte) slot);
+        return nbt;
+    }
+
+    private static void assertSameState(TEBase expected, TEBase actual)
+    {
+        assertEquals(expected.getAttributeMask(), actual.getAttributeMask());
+        for (int attrId = 0; attrId < TEBase.ATTR_COUNT; ++attrId) {
+            assertSame("attribute " + attrId, expected.cbAttrs[attrId], actual.cbAttrs[attrId]);
+        }
+        assertArrayEquals(expected.cbChiselDesign, actual.cbChiselDesign);
+        assertEquals(expected.cbMetadata, actual.cbMetadata);
+        assertEquals(expected.cbDesign, actual.cbDesign);
+        assertEquals(expected.cbOwner, actual.cbOwner);
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.carpentersblocks.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.tileentity.TEBase;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+/**
+ * Checks that tile entities covered with the same material share one
+ * {@link Attribute} and {@link ItemStack}.
+ */
+public class AttributeTest {
+
+    @BeforeClass
+    public static void init()
+    {
+        TestBootstrap.init();
+    }
+
+    @Test
+    public void sharesCoverAcrossTileEntities()
+    {
+        Fixture fixture = Fixture.create();
+
+        /* A new stack per block, as when each is covered by a player. */
+
+        for (int x = 0; x < 16; ++x) {
+            for (int z = 0; z < 16; ++z) {
+                fixture.cover(new ItemStack(Blocks.planks, 1 + x, 2)).place(BlockRegistry.blockCarpentersBlock, x, 64, z);
+            }
+        }
+
+        ItemStack shared = fixture.getPieces().get(0).getAttribute(TEBase.ATTR_COVER[6]);
+        for (TEBase TE : fixture.getPieces()) {
+            assertSame(shared, TE.getAttribute(TEBase.ATTR_COVER[6]));
+        }
+        assertEquals(1, shared.stackSize);
+    }
+
+    @Test
+    public void sharesCoverReadFromNBT()
+    {
+        Fixture fixture = Fixture.create();
+        TEBase source = fixture.cover(new ItemStack(Blocks.wool, 1, 14)).place(BlockRegistry.blockCarpentersBlock, 0, 64, 0);
+        TEBase first = fixture.cover(null).place(BlockRegistry.blockCarpentersBlock, 1, 64, 0);
+        TEBase second = fixture.place(BlockRegistry.blockCarpentersBlock, 2, 64, 0);
+
+        NBTTagCompound nbt = new NBTTagCompound();
+        source.writeToNBT(nbt);
+        nbt.setInteger("x", first.xCoord);
+        first.readFromNBT(nbt);
+        nbt.setInteger("x", second.xCoord);
+        second.readFromNBT(nbt);
+
+        assertSame(source.getAttribute(TEBase.ATTR_COVER[6]), first.getAttribute(TEBase.ATTR_COVER[6]));
+        assertSame(source.getAttribute(TEBase.ATTR_COVER[6]), second.getAttribute(TEBase.ATTR_COVER[6]));
+    }
+
+    @Test
+    public void separatesDamageAndTag()
+    {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("name", "a");
+        ItemStack tagged = new ItemStack(Blocks.planks, 1, 2);
+        tagged.setTagCompound(tag);
+        ItemStack taggedAgain = new ItemStack(Blocks.planks, 1, 2);
+        taggedAgain.setTagCompound((NBTTagCompound) tag.copy());
+
+        Attribute plain = Attribute.get(new ItemStack(Blocks.planks, 1, 2));
+
+        assertNotSame(plain, Attribute.get(new ItemStack(Blocks.planks, 1, 3)));
+        assertNotSame(plain, Attribute.get(tagged));
+        assertSame(Attribute.get(tagged), Attribute.get(taggedAgain));
+    }
+
+    @Test
+    public void comparesByStackTag()
+    {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("name", "a");
+        ItemStack tagged = new ItemStack(Blocks.planks, 1, 2);
+        tagged.setTagCompound(tag);
+
+        Attribute.interning = false;
+        try {
+            Attribute first = Attribute.get(tagged);
+            Attribute second = Attribute.get(tagged);
+
+            assertNotSame(first, second);
+            assertEquals(first, second);
+            assertEquals(first.hashCode(), second.hashCode());
+            assertEquals(tag, first.getItemStack().getTagCompound());
+            assertNotSame(first.getItemStack().getTagCompound(), first.getTagCompound());
+        } finally {
+            Attribute.interning = true;
+        }
+    }
+
+    @Test
+    public void resolvesUniqueIdOnce()
+    {
+        Attribute attribute = Attribute.get(new ItemStack(Blocks.planks, 1, 2));
+
+        assertEquals("minecraft:planks", attribute.getUniqueId());
+        assertSame(attribute.getUniqueId(), attribute.getUniqueId());
+    }
+
+}
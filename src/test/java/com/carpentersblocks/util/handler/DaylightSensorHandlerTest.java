@@ -0,0 +1,139 @@
+package com.carpentersblocks.util.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.List;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import com.carpentersblocks.data.DaylightSensor;
+import com.carpentersblocks.test.FakeWorld;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.tileentity.TEBase;
+
+/**
+ * Counts neighbor notifications sent by a field of daylight sensors, which
+ * should notify only when their redstone output changes.
+ */
+public class DaylightSensorHandlerTest {
+
+    /** Ticks between updates of a single sensor. */
+    private static final int PERIOD = 20;
+
+    private static final DaylightSensor data = new DaylightSensor();
+
+    /** Neighbor changes sent by a single sensor when its output changes. */
+    private int perChange;
+
+    @BeforeClass
+    public static void init()
+    {
+        TestBootstrap.init();
+    }
+
+    @Before
+    public void measureSingleSensor()
+    {
+        Fixture fixture = Fixture.create().sensorField(0, 64, 0, 1, 1, DaylightSensor.SENSITIVITY_SLEEP);
+        FakeWorld world = fixture.getWorld();
+        world.resetCounters();
+
+        tickSecond(world);
+
+        perChange = world.neighborChanges;
+        assertTrue(perChange > 0);
+        assertEquals(15, data.getRedstoneOutput(fixture.getPieces().get(0)));
+    }
+
+    @Test
+    public void notifiesOnlyWhenOutputChanges()
+    {
+        Fixture fixture = Fixture.create().sensorField(0, 64, 0, 10, 10, DaylightSensor.SENSITIVITY_SLEEP);
+        FakeWorld world = fixture.getWorld();
+        List<TEBase> sensors = fixture.getPieces();
+        world.resetCounters();
+
+        /* Every sensor turns on. */
+
+        tickSecond(world);
+        assertEquals(100 * perChange, world.neighborChanges);
+
+        /* Nothing changed. */
+
+        world.resetCounters();
+        tickSecond(world);
+        assertEquals(0, world.neighborChanges);
+
+        /* Ten sensors shaded below the sleep threshold turn off. */
+
+        for (int idx = 0; idx < 10; ++idx) {
+            TEBase TE = sensors.get(idx);
+            world.setLight(TE.xCoord, TE.yCoord, TE.zCoord, 5, 0);
+        }
+
+        world.resetCounters();
+        tickSecond(world);
+        assertEquals(10 * perChange, world.neighborChanges);
+
+        /* Ten more dimmed, but still above threshold, keep their output. */
+
+        for (int idx = 10; idx < 20; ++idx) {
+            TEBase TE = sensors.get(idx);
+            world.setLight(TE.xCoord, TE.yCoord, TE.zCoord, 13, 0);
+        }
+
+        world.resetCounters();
+        tickSecond(world);
+        assertEquals(0, world.neighborChanges);
+        assertEquals(13, data.getLightLevel(sensors.get(10)));
+        assertEquals(15, data.getRedstoneOutput(sensors.get(10)));
+        assertEquals(0, data.getRedstoneOutput(sensors.get(0)));
+    }
+
+    @Test
+    public void spreadsUpdatesAcrossSecond()
+    {
+        Fixture fixture = Fixture.create().sensorField(0, 64, 0, 10, 10, DaylightSensor.SENSITIVITY_SLEEP);
+        FakeWorld world = fixture.getWorld();
+        world.resetCounters();
+
+        /*
+         * Sensors are bucketed by (x + 11y + z) mod 20 here, so no
+         * more than ten of the hundred share a tick.
+         */
+
+        int total = 0;
+        for (int tick = 0; tick < PERIOD; ++tick) {
+            world.resetCounters();
+            world.tick();
+            assertTrue("tick " + tick, world.neighborChanges <= 10 * perChange);
+            total += world.neighborChanges;
+        }
+
+        assertEquals(100 * perChange, total);
+    }
+
+    @Test
+    public void skipsRemovedSensors()
+    {
+        Fixture fixture = Fixture.create().sensorField(0, 64, 0, 10, 10, DaylightSensor.SENSITIVITY_SLEEP);
+        FakeWorld world = fixture.getWorld();
+
+        for (TEBase TE : fixture.getPieces().subList(0, 50)) {
+            world.removeTileEntity(TE.xCoord, TE.yCoord, TE.zCoord);
+        }
+
+        world.resetCounters();
+        tickSecond(world);
+        assertEquals(50 * perChange, world.neighborChanges);
+    }
+
+    private static void tickSecond(FakeWorld world)
+    {
+        for (int tick = 0; tick < PERIOD; ++tick) {
+            world.tick();
+        }
+    }
+
+}
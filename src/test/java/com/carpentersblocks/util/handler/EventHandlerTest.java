@@ -0,0 +1,140 @@
+package com.carpentersblocks.util.handler;
+
+import static org.junit.Assert.assertEquals;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.living.LivingEvent.LivingUpdateEvent;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import com.carpentersblocks.test.FakeWorld;
+import com.carpentersblocks.test.Fixture;
+import com.carpentersblocks.test.TestBootstrap;
+import com.carpentersblocks.util.registry.BlockRegistry;
+
+/**
+ * Counts tile entity lookups made by {@link EventHandler#onLivingUpdateEvent}
+ * for a crowd of mobs, of which only some stand on Carpenter's blocks.
+ */
+public class EventHandlerTest {
+
+    private FakeWorld world;
+    private List<Walker> walkers;
+    private EventHandler eventHandler;
+
+    @BeforeClass
+    public static void init()
+    {
+        TestBootstrap.init();
+    }
+
+    /**
+     * Places a 10x10 floor with a 4x4 patch of covered blocks, and
+     * one mob moving over each block of the floor.
+     */
+    @Before
+    public void setup()
+    {
+        Fixture fixture = Fixture.create()
+            .fill(Blocks.stone, 0, 63, 0, 9, 63, 9)
+            .cover(new ItemStack(Blocks.planks))
+            .fill(BlockRegistry.blockCarpentersBlock, 3, 63, 3, 6, 63, 6);
+
+        world = fixture.getWorld();
+        walkers = new ArrayList<Walker>();
+        eventHandler = new EventHandler();
+
+        for (int x = 0; x < 10; ++x) {
+            for (int z = 0; z < 10; ++z) {
+                Walker walker = new Walker(world);
+                walker.setPosition(x + 0.5D, 64.0D, z + 0.5D);
+                walker.onGround = true;
+                walker.motionX = 0.1D;
+                walkers.add(walker);
+            }
+        }
+    }
+
+    @Test
+    public void looksUpTileEntityOnlyOverCarpentersBlocks()
+    {
+        world.resetCounters();
+        tick();
+
+        assertEquals(16, world.tileEntityLookups);
+    }
+
+    @Test
+    public void skipsEntitiesStandingStill()
+    {
+        for (Walker walker : walkers) {
+            walker.motionX = 0.0D;
+        }
+
+        world.resetCounters();
+        tick();
+
+        assertEquals(0, world.tileEntityLookups);
+    }
+
+    @Test
+    public void skipsEntitiesInAir()
+    {
+        for (Walker walker : walkers) {
+            walker.onGround = false;
+        }
+
+        world.resetCounters();
+        tick();
+
+        assertEquals(0, world.tileEntityLookups);
+    }
+
+    /**
+     * Posts a living update for every mob, as once per tick.
+     */
+    private void tick()
+    {
+        for (Walker walker : walkers) {
+            eventHandler.onLivingUpdateEvent(new LivingUpdateEvent(walker));
+        }
+    }
+
+    /**
+     * A living entity with no equipment.
+     */
+    private static class Walker extends EntityLivingBase {
+
+        private Walker(World world)
+        {
+            super(world);
+        }
+
+        @Override
+        public ItemStack getHeldItem()
+        {
+            return null;
+        }
+
+        @Override
+        public ItemStack getEquipmentInSlot(int slot)
+        {
+            return null;
+        }
+
+        @Override
+        public void setCurrentItemOrArmor(int slot, ItemStack itemStack) { }
+
+        @Override
+        public ItemStack[] getLastActiveItems()
+        {
+            return new ItemStack[5];
+        }
+
+    }
+
+}